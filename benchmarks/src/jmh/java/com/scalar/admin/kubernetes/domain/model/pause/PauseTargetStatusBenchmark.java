@@ -0,0 +1,84 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures building the status of a pause target and comparing two statuses, which is done after
+ * every pause in the RELIST change detection mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PauseTargetStatusBenchmark {
+
+  @Param({"10", "100", "1000", "10000"})
+  public int podCount;
+
+  private PauseTarget target;
+  private PauseTarget.Status status;
+  private PauseTarget.Status sameStatus;
+
+  @Setup
+  public void setUp() {
+    target = createTarget(podCount);
+    status = target.toStatus();
+    // Build the other status from distinct objects, so that equals() compares the contents.
+    sameStatus = createTarget(podCount).toStatus();
+  }
+
+  @Benchmark
+  public PauseTarget.Status toStatus() {
+    return target.toStatus();
+  }
+
+  @Benchmark
+  public boolean statusEquals() {
+    return status.equals(sameStatus);
+  }
+
+  @Benchmark
+  public boolean toStatusAndEquals() {
+    return target.toStatus().equals(sameStatus);
+  }
+
+  static PauseTarget createTarget(int podCount) {
+    List<PausePod> pods = new ArrayList<>(podCount);
+    for (int i = 0; i < podCount; i++) {
+      pods.add(
+          PausePod.from(
+              new V1Pod()
+                  .metadata(
+                      new V1ObjectMeta()
+                          .name("scalardb-cluster-node-" + i)
+                          .resourceVersion(String.valueOf(100000 + i)))
+                  .status(
+                      new V1PodStatus()
+                          .podIP("10.0." + (i / 256) + "." + (i % 256))
+                          .addContainerStatusesItem(
+                              new V1ContainerStatus().name("scalardb-cluster").restartCount(i % 3))
+                          .addContainerStatusesItem(
+                              new V1ContainerStatus().name("envoy-sidecar").restartCount(0)))));
+    }
+    PauseDeployment deployment =
+        PauseDeployment.from(
+            new V1Deployment()
+                .metadata(
+                    new V1ObjectMeta().name("scalardb-cluster-node").resourceVersion("99999")));
+    return new PauseTarget(pods, deployment, 60053);
+  }
+}
@@ -0,0 +1,117 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.google.protobuf.Empty;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
+import com.scalar.admin.rpc.AdminGrpc;
+import com.scalar.admin.rpc.CheckPausedResponse;
+import com.scalar.admin.rpc.PauseRequest;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Measures sending the pause and unpause requests to all the target pods with {@link
+ * ParallelScalarAdminClient}. Each pod is an in-process fake admin server that takes {@code
+ * serverLatencyMicros} to respond, so the results show the overhead of the fan-out itself and how
+ * it grows with the number of pods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AdminFanOutBenchmark {
+
+  @Param({"1", "10", "50", "200"})
+  public int podCount;
+
+  @Param({"0", "1000"})
+  public int serverLatencyMicros;
+
+  private final List<Server> servers = new ArrayList<>();
+  private ParallelScalarAdminClient client;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    List<InetSocketAddress> addresses = new ArrayList<>();
+    for (int i = 0; i < podCount; i++) {
+      String name = "pod-" + i;
+      servers.add(
+          InProcessServerBuilder.forName(name).addService(new FakeAdmin()).build().start());
+      addresses.add(InetSocketAddress.createUnresolved(name, 60053));
+    }
+    client =
+        new ParallelScalarAdminClient(
+            address -> InProcessChannelBuilder.forName(address.getHostString()).build(),
+            addresses,
+            10000);
+    client.warmUp();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    client.close();
+    servers.forEach(Server::shutdownNow);
+    servers.clear();
+  }
+
+  @Benchmark
+  public void pause() {
+    client.pause(false, null);
+  }
+
+  @Benchmark
+  public AdminRequestResult unpause() {
+    return client.unpause();
+  }
+
+  @Benchmark
+  public AdminRequestResult pauseAndUnpause() {
+    client.pause(false, null);
+    return client.unpause();
+  }
+
+  private class FakeAdmin extends AdminGrpc.AdminImplBase {
+
+    @Override
+    public void pause(PauseRequest request, StreamObserver<Empty> responseObserver) {
+      respond(responseObserver, Empty.getDefaultInstance());
+    }
+
+    @Override
+    public void unpause(Empty request, StreamObserver<Empty> responseObserver) {
+      respond(responseObserver, Empty.getDefaultInstance());
+    }
+
+    @Override
+    public void checkPaused(Empty request, StreamObserver<CheckPausedResponse> responseObserver) {
+      respond(responseObserver, CheckPausedResponse.newBuilder().setPaused(false).build());
+    }
+
+    private <T> void respond(StreamObserver<T> responseObserver, T response) {
+      if (serverLatencyMicros > 0) {
+        try {
+          TimeUnit.MICROSECONDS.sleep(serverLatencyMicros);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      responseObserver.onNext(response);
+      responseObserver.onCompleted();
+    }
+  }
+}
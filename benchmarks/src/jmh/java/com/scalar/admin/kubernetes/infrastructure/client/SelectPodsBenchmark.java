@@ -0,0 +1,72 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_APP;
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_INSTANCE;
+
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.shared.Product;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Measures selecting the pods that run a Scalar product out of the pods of a Helm release, which
+ * contain pods of other applications such as Envoy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SelectPodsBenchmark {
+
+  private static final String RELEASE = "scalardb";
+
+  @Param({"10", "100", "1000", "10000"})
+  public int podCount;
+
+  /** The percentage of the pods that don't run a Scalar product, e.g., Envoy pods. */
+  @Param({"0", "20", "50"})
+  public int otherPodPercentage;
+
+  private List<V1Pod> pods;
+
+  @Setup
+  public void setUp() {
+    int otherPodCount = podCount * otherPodPercentage / 100;
+    pods = new ArrayList<>(podCount);
+    for (int i = 0; i < podCount; i++) {
+      String app = i < otherPodCount ? "envoy" : "scalardb-cluster";
+      pods.add(
+          new V1Pod()
+              .metadata(
+                  new V1ObjectMeta()
+                      .name(app + "-" + i)
+                      .labels(Map.of(LABEL_INSTANCE, RELEASE, LABEL_APP, app))));
+    }
+    // The API server doesn't return the pods grouped by application.
+    Collections.shuffle(pods, new Random(0));
+  }
+
+  @Benchmark
+  public List<V1Pod> selectPodsRunScalarProduct() throws PauserException {
+    return PauseTargetAssembler.selectPodsRunScalarProduct(pods).pods;
+  }
+
+  @Benchmark
+  public List<V1Pod> filterByAppLabel() {
+    return PauseTargetAssembler.filterByAppLabel(
+        pods, V1Pod::getMetadata, Product.SCALARDB_CLUSTER);
+  }
+}
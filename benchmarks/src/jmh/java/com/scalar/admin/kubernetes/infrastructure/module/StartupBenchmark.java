@@ -0,0 +1,57 @@
+package com.scalar.admin.kubernetes.infrastructure.module;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.presentation.PauseController;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cold start of a pause operation, that is, the time from creating the injector in a
+ * fresh JVM to the point where the controller is wired and the Kubernetes client is ready to send
+ * the first API call. Each measurement runs in its own fork without warmup, so the time includes
+ * the class loading and the initialization that the CLI tool pays on every run.
+ *
+ * <p>The Kubernetes client is created from the local Kubernetes configuration, or from the default
+ * of the Kubernetes client if there is none, but no API call is sent.
+ *
+ * <p>To measure the effect of the AppCDS archive, run the benchmark twice with {@code
+ * -PjmhJvmArgs='-XX:SharedArchiveFile=build/startup.jsa -XX:+AutoCreateSharedArchive'}. The first
+ * run creates the archive and the second one uses it.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+  /** Wires the module with the default settings of Guice. */
+  @Benchmark
+  public void wireUntilFirstApiCall(Blackhole blackhole) {
+    wire(blackhole);
+  }
+
+  /** Wires the module with the Guice settings that the CLI tool uses. */
+  @Benchmark
+  @Fork(
+      value = 10,
+      jvmArgsAppend = {"-Dguice_bytecode_gen_option=DISABLED", "-Dguice_include_stack_traces=OFF"})
+  public void wireUntilFirstApiCallWithCliGuiceSettings(Blackhole blackhole) {
+    wire(blackhole);
+  }
+
+  private static void wire(Blackhole blackhole) {
+    Injector injector = Guice.createInjector(PauseModule.builder().build());
+    blackhole.consume(injector.getInstance(PauseController.class));
+    blackhole.consume(injector.getInstance(KubernetesClient.class));
+  }
+}
@@ -4,21 +4,37 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.scalar.admin.kubernetes.application.ChangeDetectionMode;
 import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
+import com.scalar.admin.kubernetes.domain.service.PauseHandle;
+import com.scalar.admin.kubernetes.infrastructure.client.AdminClientMode;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesHttpSettings;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesRateLimiter;
+import com.scalar.admin.kubernetes.infrastructure.client.ResolutionMode;
+import com.scalar.admin.kubernetes.infrastructure.client.WireFormat;
 import com.scalar.admin.kubernetes.infrastructure.module.PauseModule;
 import com.scalar.admin.kubernetes.presentation.PauseController;
+import com.scalar.admin.kubernetes.presentation.dto.PauseLabelSelectorRequest;
+import com.scalar.admin.kubernetes.presentation.dto.PauseNamespaceRequest;
+import com.scalar.admin.kubernetes.presentation.dto.PauseReleasesRequest;
 import com.scalar.admin.kubernetes.presentation.dto.PauseRequest;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine;
+import picocli.CommandLine.ArgGroup;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 
@@ -27,6 +43,8 @@ import picocli.CommandLine.Option;
     description = "Scalar Admin pause tool for the Kubernetes environment")
 class Cli implements Callable<Integer> {
 
+  private static final long SHUTDOWN_UNPAUSE_TIMEOUT_SECONDS = 60;
+
   private final Logger logger = LoggerFactory.getLogger(Cli.class);
 
   @Option(
@@ -36,14 +54,34 @@ class Cli implements Callable<Integer> {
       defaultValue = "default")
   private String namespace;
 
+  @ArgGroup(exclusive = true, multiplicity = "1")
+  private Targets targets;
+
+  @Option(
+      names = {"--field-selector"},
+      description =
+          "A field selector, e.g., status.phase=Running, to narrow down the pods selected by"
+              + " --label-selector.")
+  @Nullable
+  private String fieldSelector;
+
+  @Option(
+      names = {"--admin-port"},
+      description =
+          "The port number of the Scalar Admin interface of the pods selected by"
+              + " --label-selector. Either this or --admin-port-name is required when"
+              + " --label-selector is specified.")
+  @Nullable
+  private Integer adminPort;
+
   @Option(
-      names = {"--release-name", "-r"},
+      names = {"--admin-port-name"},
       description =
-          "Required. The helm release name that you specify when you run the `helm install"
-              + " <RELEASE_NAME>` command. You can see the <RELEASE_NAME> by using the `helm list`"
-              + " command.",
-      required = true)
-  private String helmReleaseName;
+          "The name of the container port of the Scalar Admin interface of the pods selected by"
+              + " --label-selector. Either this or --admin-port is required when --label-selector"
+              + " is specified.")
+  @Nullable
+  private String adminPortName;
 
   @Option(
       names = {"--pause-duration", "-d"},
@@ -97,6 +135,153 @@ class Cli implements Callable<Integer> {
               + " Required when --tls is enabled.")
   private String overrideAuthority;
 
+  @Option(
+      names = {"--resolution-mode"},
+      description =
+          "How to look up the pods, deployment, and service of the Helm release. SEQUENTIAL looks"
+              + " them up one after another, and CONCURRENT looks them up at the same time."
+              + " INFORMER looks them up in a cache kept by informers, which suits long-running"
+              + " processes rather than a single pause. SEQUENTIAL by default.",
+      defaultValue = "SEQUENTIAL")
+  private ResolutionMode resolutionMode;
+
+  @Option(
+      names = {"--change-detection"},
+      description =
+          "How to detect updates to the target pods during the pause. RELIST examines the target"
+              + " pods again after the pause. WATCH watches the target pods during the pause and"
+              + " ends the pause as soon as they are updated. RELIST by default.",
+      defaultValue = "RELIST")
+  private ChangeDetectionMode changeDetectionMode;
+
+  @Option(
+      names = {"--admin-client-mode"},
+      description =
+          "How to send the pause and unpause requests to the target pods. COORDINATOR uses the"
+              + " request coordinator of scalar-admin. PARALLEL sends the requests to all the pods"
+              + " at the same time, each with its own deadline. COORDINATOR by default.",
+      defaultValue = "COORDINATOR")
+  private AdminClientMode adminClientMode;
+
+  @Option(
+      names = {"--admin-request-deadline"},
+      description =
+          "The deadline (in milliseconds) of each request to a pod in the PARALLEL admin client"
+              + " mode. A pause request gets the max pause wait time on top of it. 10000 (10"
+              + " seconds) by default.",
+      defaultValue = "10000")
+  private Long adminRequestDeadline;
+
+  @Option(
+      names = {"--pod-list-page-size"},
+      description =
+          "The max number of pods listed in a single request to the Kubernetes API. The pods of a"
+              + " target that has more pods are listed in several pages. 0 lists all the pods in a"
+              + " single request. 500 by default.",
+      defaultValue = "500")
+  private Integer podListPageSize;
+
+  @Option(
+      names = {"--metadata-only-lists"},
+      negatable = true,
+      description =
+          "Whether to list only the metadata of the deployments of Helm releases, which is much"
+              + " smaller than the whole deployments. Specify --no-metadata-only-lists for an API"
+              + " server that doesn't support PartialObjectMetadataList. Enabled by default.",
+      defaultValue = "true",
+      fallbackValue = "true")
+  private boolean metadataOnlyLists;
+
+  @Option(
+      names = {"--wire-format"},
+      description =
+          "The format in which the pods, deployments, and services are listed from the Kubernetes"
+              + " API. PROTOBUF takes less CPU and memory than JSON to parse the lists. JSON by"
+              + " default.",
+      defaultValue = "JSON")
+  private WireFormat wireFormat;
+
+  @Option(
+      names = {"--discovery-consistency"},
+      description =
+          "How up to date the pods, deployments, and services must be when the targets are"
+              + " discovered before the pause. LATEST reads them from etcd. CACHED reads them from"
+              + " the watch cache of the Kubernetes API server, which takes load off etcd. The"
+              + " targets are always examined after the pause with LATEST. LATEST by default.",
+      defaultValue = "LATEST")
+  private ReadConsistency discoveryConsistency;
+
+  @Option(
+      names = {"--kubernetes-qps"},
+      description =
+          "The max number of calls per second to the Kubernetes API. The calls to examine the"
+              + " targets after the pause take precedence over the others, and the calls rejected"
+              + " with 429 Too Many Requests are retried after the time that the API server asks"
+              + " for. 0 disables the rate limit. 50 by default.",
+      defaultValue = "50")
+  private Double kubernetesQps;
+
+  @Option(
+      names = {"--kubernetes-burst"},
+      description =
+          "The max number of calls to the Kubernetes API in a burst above --kubernetes-qps. 100"
+              + " by default.",
+      defaultValue = "100")
+  private Integer kubernetesBurst;
+
+  @Option(
+      names = {"--http-max-idle-connections"},
+      description =
+          "The max number of idle connections to the Kubernetes API server kept for reuse. 5 by"
+              + " default.",
+      defaultValue = "5")
+  private Integer httpMaxIdleConnections;
+
+  @Option(
+      names = {"--http-keep-alive"},
+      description =
+          "How long (in milliseconds) an idle connection to the Kubernetes API server is kept for"
+              + " reuse. 300000 (5 minutes) by default.",
+      defaultValue = "300000")
+  private Long httpKeepAlive;
+
+  @Option(
+      names = {"--http2"},
+      negatable = true,
+      description =
+          "Whether to use HTTP/2 to call the Kubernetes API if the API server supports it, so"
+              + " that the API calls are multiplexed over a single connection. Enabled by"
+              + " default.",
+      defaultValue = "true",
+      fallbackValue = "true")
+  private boolean http2;
+
+  @Option(
+      names = {"--http-connect-timeout"},
+      description =
+          "The timeout (in milliseconds) of connecting to the Kubernetes API server. 10000 (10"
+              + " seconds) by default.",
+      defaultValue = "10000")
+  private Long httpConnectTimeout;
+
+  @Option(
+      names = {"--http-read-timeout"},
+      description =
+          "The timeout (in milliseconds) of reading a response from the Kubernetes API server."
+              + " 10000 (10 seconds) by default.",
+      defaultValue = "10000")
+  private Long httpReadTimeout;
+
+  @Option(
+      names = {"--preconnect"},
+      negatable = true,
+      description =
+          "Whether to connect to the Kubernetes API server in the background at startup, so that"
+              + " the first API call doesn't wait for the connection. Enabled by default.",
+      defaultValue = "true",
+      fallbackValue = "true")
+  private boolean preconnect;
+
   @Option(
       names = {"-h", "--help"},
       usageHelp = true,
@@ -104,6 +289,7 @@ class Cli implements Callable<Integer> {
   boolean helpRequested;
 
   public static void main(String[] args) {
+    configureGuiceForStartup();
     int exitCode =
         new CommandLine(new Cli()).setCaseInsensitiveEnumValuesAllowed(true).execute(args);
     System.exit(exitCode);
@@ -113,27 +299,101 @@ class Cli implements Callable<Integer> {
   public Integer call() {
     Result result = null;
 
+    // Cut the pause short and unpause the pods if the process is terminated, for example, when the
+    // pod of the Job is deleted, instead of leaving the pods paused.
+    PauseHandle handle = new PauseHandle();
+    CountDownLatch finished = new CountDownLatch(1);
+    Runtime.getRuntime()
+        .addShutdownHook(new Thread(() -> cancelAndAwait(handle, finished), "pause-canceller"));
+
     try {
       // Create controller
-      Injector injector = Guice.createInjector(new PauseModule());
+      Injector injector =
+          Guice.createInjector(
+              PauseModule.builder()
+                  .resolutionMode(resolutionMode)
+                  .changeDetectionMode(changeDetectionMode)
+                  .watchedNamespaces(List.of(namespace))
+                  .adminClientMode(adminClientMode)
+                  .adminRequestDeadlineMillis(adminRequestDeadline)
+                  .podListPageSize(podListPageSize)
+                  .metadataOnlyLists(metadataOnlyLists)
+                  .wireFormat(wireFormat)
+                  .httpSettings(
+                      new KubernetesHttpSettings(
+                          httpMaxIdleConnections,
+                          Duration.ofMillis(httpKeepAlive),
+                          http2,
+                          Duration.ofMillis(httpConnectTimeout),
+                          Duration.ofMillis(httpReadTimeout),
+                          preconnect))
+                  .discoveryConsistency(discoveryConsistency)
+                  .rateLimiter(
+                      kubernetesQps > 0
+                          ? new KubernetesRateLimiter(kubernetesQps, kubernetesBurst)
+                          : null)
+                  .build());
       PauseController controller = injector.getInstance(PauseController.class);
 
-      // Build PauseRequest
-      PauseRequest request =
-          new PauseRequest(
-              namespace,
-              helmReleaseName,
-              pauseDuration,
-              maxPauseWaitTime,
-              tlsEnabled,
-              getCaRootCert(),
-              overrideAuthority);
-
-      // Execute pause operation
-      PauseDurationDto durationDto = controller.pause(request);
+      // Build the request and execute pause operation
+      PauseDurationDto durationDto;
+      List<String> helmReleaseNames = targets.helmReleaseNames;
+      if (targets.allReleases) {
+        PauseNamespaceRequest request =
+            new PauseNamespaceRequest(
+                namespace,
+                pauseDuration,
+                maxPauseWaitTime,
+                tlsEnabled,
+                getCaRootCert(),
+                overrideAuthority);
+        durationDto = controller.pause(request, null, handle);
+      } else if (targets.labelSelector != null) {
+        PauseLabelSelectorRequest request =
+            new PauseLabelSelectorRequest(
+                namespace,
+                targets.labelSelector,
+                fieldSelector,
+                adminPort,
+                adminPortName,
+                pauseDuration,
+                maxPauseWaitTime,
+                tlsEnabled,
+                getCaRootCert(),
+                overrideAuthority);
+        durationDto = controller.pause(request, null, handle);
+      } else if (helmReleaseNames.size() == 1) {
+        PauseRequest request =
+            new PauseRequest(
+                namespace,
+                helmReleaseNames.get(0),
+                pauseDuration,
+                maxPauseWaitTime,
+                tlsEnabled,
+                getCaRootCert(),
+                overrideAuthority);
+        durationDto = controller.pause(request, null, handle);
+      } else {
+        PauseReleasesRequest request =
+            new PauseReleasesRequest(
+                namespace,
+                helmReleaseNames,
+                pauseDuration,
+                maxPauseWaitTime,
+                tlsEnabled,
+                getCaRootCert(),
+                overrideAuthority);
+        durationDto = controller.pause(request, null, handle);
+      }
 
       // Build result
-      result = new Result(namespace, helmReleaseName, durationDto, zoneId);
+      result =
+          new Result(
+              namespace,
+              helmReleaseNames != null ? String.join(",", helmReleaseNames) : null,
+              targets.labelSelector,
+              durationDto,
+              zoneId);
       ObjectMapper mapper = new ObjectMapper();
       System.out.println(mapper.writeValueAsString(result));
     } catch (JsonProcessingException e) {
@@ -148,11 +408,50 @@ class Cli implements Callable<Integer> {
     } catch (Exception e) {
       logger.error("Failed to pause Scalar products.", e);
       return 1;
+    } finally {
+      finished.countDown();
     }
 
     return 0;
   }
 
+  /**
+   * Cancels the pause operation in progress, if any, and waits for it to unpause the pods, because
+   * the JVM halts as soon as the shutdown hooks return.
+   */
+  private void cancelAndAwait(PauseHandle handle, CountDownLatch finished) {
+    if (finished.getCount() == 0) {
+      return;
+    }
+    logger.warn("The process is terminating. Cancelling the pause operation.");
+    handle.cancel();
+    try {
+      if (!finished.await(SHUTDOWN_UNPAUSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        logger.error(
+            "The pause operation didn't end within {} seconds after it was cancelled. Scalar"
+                + " products might still be in a paused state.",
+            SHUTDOWN_UNPAUSE_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Turns off the Guice features that slow down the injector creation of a one-shot process unless
+   * they are set explicitly: the bytecode generation for the injected constructors, which pays off
+   * only in a long-running process, and the stack traces recorded for each binding to locate
+   * configuration errors.
+   */
+  private static void configureGuiceForStartup() {
+    if (System.getProperty("guice_bytecode_gen_option") == null) {
+      System.setProperty("guice_bytecode_gen_option", "DISABLED");
+    }
+    if (System.getProperty("guice_include_stack_traces") == null) {
+      System.setProperty("guice_include_stack_traces", "OFF");
+    }
+  }
+
   private String getCaRootCert() {
     String caRootCert = null;
 
@@ -170,4 +469,40 @@ class Cli implements Callable<Integer> {
 
     return caRootCert;
   }
+
+  /** The options that specify the target pods, only one of which can be given. */
+  static class Targets {
+
+    @Option(
+        names = {"--release-name", "-r"},
+        description =
+            "The helm release name that you specify when you run the `helm install"
+                + " <RELEASE_NAME>` command. You can see the <RELEASE_NAME> by using the `helm"
+                + " list` command. Specify this option multiple times to pause several releases,"
+                + " e.g., ScalarDL Ledger and Auditor, in a single pause window. One of this,"
+                + " --label-selector, or --all-releases is required.",
+        required = true)
+    @Nullable
+    List<String> helmReleaseNames;
+
+    @Option(
+        names = {"--label-selector", "-l"},
+        description =
+            "A label selector, e.g., app.kubernetes.io/name=ledger, of the pods to pause, for"
+                + " Scalar products that are not deployed by Scalar Helm Charts. The selected pods"
+                + " of all the deployments that match the selector are paused in a single pause"
+                + " window. One of this, --release-name, or --all-releases is required.",
+        required = true)
+    @Nullable
+    String labelSelector;
+
+    @Option(
+        names = {"--all-releases"},
+        description =
+            "Pause all the Helm releases of Scalar products in the namespace in a single pause"
+                + " window. The releases that don't run any Scalar product are ignored. One of"
+                + " this, --release-name, or --label-selector is required.",
+        required = true)
+    boolean allReleases;
+  }
 }
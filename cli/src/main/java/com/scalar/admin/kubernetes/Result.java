@@ -1,9 +1,15 @@
 package com.scalar.admin.kubernetes;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.application.dto.PauseTimingsDto;
+import com.scalar.admin.kubernetes.application.dto.PhaseTimingDto;
+import com.scalar.admin.kubernetes.application.dto.PodRequestTimingDto;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 @Immutable
@@ -12,8 +18,15 @@ class Result {
   public final String namespace;
 
   @JsonProperty("helm_release_name")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Nullable
   public final String helmReleaseName;
 
+  @JsonProperty("label_selector")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Nullable
+  public final String labelSelector;
+
   @JsonProperty("pause_start_timestamp_ms")
   public final long pauseStartTimestampMs;
 
@@ -28,10 +41,28 @@ class Result {
 
   public final String timezone;
 
+  @JsonProperty("pause_skew_ns")
+  @Nullable
+  public final Long pauseSkewNs;
+
+  @JsonProperty("unpause_skew_ns")
+  @Nullable
+  public final Long unpauseSkewNs;
+
+  public final List<Phase> phases;
+
+  @JsonProperty("pod_requests")
+  public final List<PodRequest> podRequests;
+
   Result(
-      String namespace, String helmReleaseName, PauseDurationDto pauseDurationDto, ZoneId zoneId) {
+      String namespace,
+      @Nullable String helmReleaseName,
+      @Nullable String labelSelector,
+      PauseDurationDto pauseDurationDto,
+      ZoneId zoneId) {
     this.namespace = namespace;
     this.helmReleaseName = helmReleaseName;
+    this.labelSelector = labelSelector;
     this.pauseStartTimestampMs = pauseDurationDto.startTimeEpochMilli();
     this.pauseEndTimestampMs = pauseDurationDto.endTimeEpochMilli();
     this.pauseStartDateTime =
@@ -45,5 +76,54 @@ class Result {
             .toLocalDateTime()
             .toString();
     this.timezone = zoneId.toString();
+    this.pauseSkewNs = pauseDurationDto.pauseSkewNanos();
+    this.unpauseSkewNs = pauseDurationDto.unpauseSkewNanos();
+    PauseTimingsDto timings = pauseDurationDto.timings();
+    this.phases =
+        timings == null ? List.of() : timings.phases().stream().map(Phase::new).toList();
+    this.podRequests =
+        timings == null ? List.of() : timings.podRequests().stream().map(PodRequest::new).toList();
+  }
+
+  @Immutable
+  static class Phase {
+
+    public final String phase;
+
+    @JsonProperty("start_offset_ns")
+    public final long startOffsetNs;
+
+    @JsonProperty("duration_ns")
+    public final long durationNs;
+
+    Phase(PhaseTimingDto dto) {
+      this.phase = dto.phase();
+      this.startOffsetNs = dto.startOffsetNanos();
+      this.durationNs = dto.durationNanos();
+    }
+  }
+
+  @Immutable
+  static class PodRequest {
+
+    public final String phase;
+
+    public final String address;
+
+    @JsonProperty("start_offset_ns")
+    public final long startOffsetNs;
+
+    @JsonProperty("duration_ns")
+    public final long durationNs;
+
+    public final boolean succeeded;
+
+    PodRequest(PodRequestTimingDto dto) {
+      this.phase = dto.phase();
+      this.address = dto.address();
+      this.startOffsetNs = dto.startOffsetNanos();
+      this.durationNs = dto.durationNanos();
+      this.succeeded = dto.succeeded();
+    }
   }
 }
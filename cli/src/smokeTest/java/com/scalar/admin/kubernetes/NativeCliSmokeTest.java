@@ -0,0 +1,210 @@
+package com.scalar.admin.kubernetes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Empty;
+import com.scalar.admin.rpc.AdminGrpc;
+import com.scalar.admin.rpc.CheckPausedResponse;
+import com.scalar.admin.rpc.PauseRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.grpc.Server;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Runs the native executable of the CLI tool against a fake Kubernetes API server that returns a
+ * ScalarDL Ledger release with a single pod, and a fake Scalar Admin server that plays the pod. The
+ * path of the executable is given by the {@code smokeTest.executable} system property.
+ */
+class NativeCliSmokeTest {
+
+  private static final String NAMESPACE = "smoke";
+  private static final String RELEASE = "smoke";
+
+  private final List<String> received = new CopyOnWriteArrayList<>();
+  private HttpServer apiServer;
+  private Server adminServer;
+
+  @TempDir Path tempDir;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    InetAddress loopback = InetAddress.getLoopbackAddress();
+    adminServer =
+        NettyServerBuilder.forAddress(new InetSocketAddress(loopback, 0))
+            .addService(new FakeAdmin())
+            .build()
+            .start();
+    int adminPort = adminServer.getPort();
+
+    apiServer = HttpServer.create(new InetSocketAddress(loopback, 0), 0);
+    apiServer.createContext(
+        "/api/v1/namespaces/" + NAMESPACE + "/pods",
+        exchange -> respond(exchange, podList(loopback.getHostAddress())));
+    apiServer.createContext(
+        "/apis/apps/v1/namespaces/" + NAMESPACE + "/deployments",
+        exchange -> respond(exchange, deploymentList()));
+    apiServer.createContext(
+        "/api/v1/namespaces/" + NAMESPACE + "/services",
+        exchange -> respond(exchange, serviceList(adminPort)));
+    apiServer.start();
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    apiServer.stop(0);
+    adminServer.shutdownNow().awaitTermination(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void run_WithFakeCluster_PauseAndUnpauseThePodAndOutputPausedPeriod() throws Exception {
+    // Arrange
+    Path kubeconfig = writeKubeconfig(apiServer.getAddress());
+    ProcessBuilder builder =
+        new ProcessBuilder(
+            System.getProperty("smokeTest.executable"),
+            "--namespace",
+            NAMESPACE,
+            "--release-name",
+            RELEASE,
+            "--pause-duration",
+            "100");
+    builder.environment().put("KUBECONFIG", kubeconfig.toString());
+    builder.redirectOutput(tempDir.resolve("stdout.log").toFile());
+    builder.redirectError(tempDir.resolve("stderr.log").toFile());
+
+    // Act
+    Process process = builder.start();
+    boolean exited = process.waitFor(60, TimeUnit.SECONDS);
+    if (!exited) {
+      process.destroyForcibly();
+    }
+
+    // Assert
+    assertThat(exited).isTrue();
+    assertThat(process.exitValue())
+        .as(Files.readString(tempDir.resolve("stderr.log")))
+        .isEqualTo(0);
+    JsonNode result = new ObjectMapper().readTree(tempDir.resolve("stdout.log").toFile());
+    assertThat(result.get("namespace").asText()).isEqualTo(NAMESPACE);
+    assertThat(result.get("pause_end_timestamp_ms").asLong())
+        .isGreaterThanOrEqualTo(result.get("pause_start_timestamp_ms").asLong());
+    assertThat(received).containsSubsequence("pause", "unpause");
+  }
+
+  private Path writeKubeconfig(InetSocketAddress address) throws IOException {
+    String server = "http://" + address.getHostString() + ":" + address.getPort();
+    String kubeconfig =
+        String.join(
+            "\n",
+            "apiVersion: v1",
+            "kind: Config",
+            "clusters:",
+            "  - name: smoke",
+            "    cluster:",
+            "      server: " + server,
+            "contexts:",
+            "  - name: smoke",
+            "    context:",
+            "      cluster: smoke",
+            "      user: smoke",
+            "current-context: smoke",
+            "users:",
+            "  - name: smoke",
+            "    user:",
+            "      token: smoke",
+            "");
+    return Files.writeString(tempDir.resolve("kubeconfig.yaml"), kubeconfig);
+  }
+
+  private static String podList(String podIp) {
+    return "{\"apiVersion\": \"v1\", \"kind\": \"PodList\", \"metadata\": {\"resourceVersion\":"
+        + " \"100\"}, \"items\": [{\"metadata\": {\"name\": \"smoke-ledger-0\", \"namespace\": \""
+        + NAMESPACE
+        + "\", \"resourceVersion\": \"10\", \"labels\": "
+        + labels()
+        + "}, \"status\": {\"podIP\": \""
+        + podIp
+        + "\", \"containerStatuses\": [{\"name\": \"ledger\", \"image\": \"ledger\", \"imageID\":"
+        + " \"ledger\", \"ready\": true, \"restartCount\": 0}]}}]}";
+  }
+
+  private static String deploymentList() {
+    return "{\"apiVersion\": \"apps/v1\", \"kind\": \"DeploymentList\", \"metadata\": {},"
+        + " \"items\": [{\"metadata\": {\"name\": \"smoke-ledger\", \"namespace\": \""
+        + NAMESPACE
+        + "\", \"resourceVersion\": \"20\", \"labels\": "
+        + labels()
+        + "}}]}";
+  }
+
+  private static String serviceList(int adminPort) {
+    return "{\"apiVersion\": \"v1\", \"kind\": \"ServiceList\", \"metadata\": {}, \"items\":"
+        + " [{\"metadata\": {\"name\": \"smoke-ledger-headless\", \"namespace\": \""
+        + NAMESPACE
+        + "\", \"labels\": "
+        + labels()
+        + "}, \"spec\": {\"ports\": [{\"name\": \"scalardl-admin\", \"port\": "
+        + adminPort
+        + ", \"targetPort\": "
+        + adminPort
+        + "}]}}]}";
+  }
+
+  private static String labels() {
+    return "{\"app.kubernetes.io/instance\": \""
+        + RELEASE
+        + "\", \"app.kubernetes.io/app\": \"ledger\"}";
+  }
+
+  private static void respond(HttpExchange exchange, String body) throws IOException {
+    try (exchange) {
+      byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, bytes.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(bytes);
+      }
+    }
+  }
+
+  private class FakeAdmin extends AdminGrpc.AdminImplBase {
+
+    @Override
+    public void pause(PauseRequest request, StreamObserver<Empty> responseObserver) {
+      received.add("pause");
+      responseObserver.onNext(Empty.getDefaultInstance());
+      responseObserver.onCompleted();
+    }
+
+    @Override
+    public void checkPaused(Empty request, StreamObserver<CheckPausedResponse> responseObserver) {
+      responseObserver.onNext(CheckPausedResponse.newBuilder().setPaused(false).build());
+      responseObserver.onCompleted();
+    }
+
+    @Override
+    public void unpause(Empty request, StreamObserver<Empty> responseObserver) {
+      received.add("unpause");
+      responseObserver.onNext(Empty.getDefaultInstance());
+      responseObserver.onCompleted();
+    }
+  }
+}
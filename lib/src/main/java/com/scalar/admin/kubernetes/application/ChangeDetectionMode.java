@@ -0,0 +1,23 @@
+package com.scalar.admin.kubernetes.application;
+
+/**
+ * Modes of detecting whether a pause target was updated during a pause operation.
+ *
+ * <p>A backup taken during a pause operation cannot be used if the target pods were updated, for
+ * example, restarted, during the pause. This enum controls how such updates are detected.
+ */
+public enum ChangeDetectionMode {
+  /**
+   * Resolves the target again after the unpause operation and compares its status with the status
+   * before the pause operation.
+   */
+  RELIST,
+
+  /**
+   * Watches the target pods and deployment during the pause operation and ends the pause as soon
+   * as an update is observed. If the watch cannot be started or fails during the pause, this mode
+   * falls back to {@link #RELIST}. The targets selected by label selectors are always examined as
+   * in {@link #RELIST} mode.
+   */
+  WATCH
+}
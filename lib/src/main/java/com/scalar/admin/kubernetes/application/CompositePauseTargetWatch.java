@@ -0,0 +1,72 @@
+package com.scalar.admin.kubernetes.application;
+
+import com.google.common.collect.ImmutableList;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTargetChange;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * PauseTargetWatch that combines the watches on several pause targets.
+ *
+ * <p>It reports the first change observed by any of the watches, and it is failed if any of the
+ * watches is failed, so that the targets are examined after the pause. Since a thread can't wait
+ * on several watches at once, {@link #awaitChange(long)} waits on the first watch in short slices
+ * and checks the others between them, so a change to the other targets may be noticed up to {@link
+ * #POLL_INTERVAL_MILLIS} late.
+ */
+@ThreadSafe
+class CompositePauseTargetWatch implements PauseTargetWatch {
+
+  static final long POLL_INTERVAL_MILLIS = 50;
+
+  private final List<PauseTargetWatch> watches;
+
+  CompositePauseTargetWatch(List<PauseTargetWatch> watches) {
+    if (watches == null || watches.isEmpty()) {
+      throw new IllegalArgumentException("watches must not be empty");
+    }
+    this.watches = ImmutableList.copyOf(watches);
+  }
+
+  @Nullable
+  @Override
+  public PauseTargetChange awaitChange(long timeoutMillis) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    while (true) {
+      PauseTargetChange change = getChange();
+      if (change != null) {
+        return change;
+      }
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remainingMillis <= 0 || isFailed()) {
+        return null;
+      }
+      watches.get(0).awaitChange(Math.min(remainingMillis, POLL_INTERVAL_MILLIS));
+    }
+  }
+
+  @Nullable
+  @Override
+  public PauseTargetChange getChange() {
+    for (PauseTargetWatch watch : watches) {
+      PauseTargetChange change = watch.getChange();
+      if (change != null) {
+        return change;
+      }
+    }
+    return null;
+  }
+
+  @Override
+  public boolean isFailed() {
+    return watches.stream().anyMatch(PauseTargetWatch::isFailed);
+  }
+
+  @Override
+  public void close() {
+    watches.forEach(PauseTargetWatch::close);
+  }
+}
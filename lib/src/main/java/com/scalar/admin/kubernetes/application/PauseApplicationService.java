@@ -1,17 +1,40 @@
 package com.scalar.admin.kubernetes.application;
 
+import com.google.common.util.concurrent.Futures;
+import com.scalar.admin.kubernetes.application.PauseTimingRecorder.TimedAction;
 import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
 import com.scalar.admin.kubernetes.domain.exception.PauserException;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseByHelmReleaseCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByHelmReleasesCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByLabelSelectorCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByNamespaceCommand;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseCommand;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseDuration;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
 import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.domain.service.PauseHandle;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
 import com.scalar.admin.kubernetes.domain.service.PauseService;
+import com.scalar.admin.kubernetes.domain.service.PauseService.PauseTargetsSupplier;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClientFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
 import javax.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Application service for pause operations.
@@ -24,14 +47,36 @@ import javax.inject.Inject;
  *   <li>Delegating to the domain service for business logic execution
  * </ol>
  *
+ * <p>The time spent in each phase of the operation and in each request to a pod is returned with
+ * the pause duration and reported to the {@link PauseLifecycleListener}s given to this service.
+ *
  * <p>This class is not thread-safe because it causes side effects in the states of target pods.
  */
 @NotThreadSafe
 public class PauseApplicationService {
 
+  private static final Logger logger = LoggerFactory.getLogger(PauseApplicationService.class);
+
   private final KubernetesClient kubernetesClient;
   private final ScalarAdminClientFactory clientFactory;
   private final PauseService pauseService;
+  private final ChangeDetectionMode changeDetectionMode;
+  private final Set<PauseLifecycleListener> listeners;
+
+  /**
+   * Creates a PauseApplicationService with the given dependencies that detects updates to the
+   * target in {@link ChangeDetectionMode#RELIST} mode.
+   *
+   * @param kubernetesClient client for resolving pause targets from Kubernetes
+   * @param clientFactory factory for creating Scalar Admin clients
+   * @param pauseService domain service for pause business logic
+   */
+  public PauseApplicationService(
+      KubernetesClient kubernetesClient,
+      ScalarAdminClientFactory clientFactory,
+      PauseService pauseService) {
+    this(kubernetesClient, clientFactory, pauseService, ChangeDetectionMode.RELIST);
+  }
 
   /**
    * Creates a PauseApplicationService with the given dependencies.
@@ -39,12 +84,32 @@ public class PauseApplicationService {
    * @param kubernetesClient client for resolving pause targets from Kubernetes
    * @param clientFactory factory for creating Scalar Admin clients
    * @param pauseService domain service for pause business logic
+   * @param changeDetectionMode how to detect updates to the target during the pause
+   */
+  public PauseApplicationService(
+      KubernetesClient kubernetesClient,
+      ScalarAdminClientFactory clientFactory,
+      PauseService pauseService,
+      ChangeDetectionMode changeDetectionMode) {
+    this(kubernetesClient, clientFactory, pauseService, changeDetectionMode, Set.of());
+  }
+
+  /**
+   * Creates a PauseApplicationService with the given dependencies and listeners.
+   *
+   * @param kubernetesClient client for resolving pause targets from Kubernetes
+   * @param clientFactory factory for creating Scalar Admin clients
+   * @param pauseService domain service for pause business logic
+   * @param changeDetectionMode how to detect updates to the target during the pause
+   * @param listeners listeners to notify of the time spent in each phase of the operation
    */
   @Inject
   public PauseApplicationService(
       KubernetesClient kubernetesClient,
       ScalarAdminClientFactory clientFactory,
-      PauseService pauseService) {
+      PauseService pauseService,
+      ChangeDetectionMode changeDetectionMode,
+      Set<PauseLifecycleListener> listeners) {
     if (kubernetesClient == null) {
       throw new IllegalArgumentException("kubernetesClient is required");
     }
@@ -54,56 +119,404 @@ public class PauseApplicationService {
     if (pauseService == null) {
       throw new IllegalArgumentException("pauseService is required");
     }
+    if (changeDetectionMode == null) {
+      throw new IllegalArgumentException("changeDetectionMode is required");
+    }
+    if (listeners == null) {
+      throw new IllegalArgumentException("listeners must not be null");
+    }
     this.kubernetesClient = kubernetesClient;
     this.clientFactory = clientFactory;
     this.pauseService = pauseService;
+    this.changeDetectionMode = changeDetectionMode;
+    this.listeners = Set.copyOf(listeners);
   }
 
   /**
    * Executes a pause operation based on the given command.
    *
    * @param command the pause command specifying the operation details
-   * @return DTO containing the start and end time of the pause operation
+   * @return DTO containing the start and end time of the pause operation and the time spent in
+   *     each phase
    * @throws PauserException when the pause operation fails
    */
   public PauseDurationDto execute(PauseCommand command) throws PauserException {
+    return execute(command, null);
+  }
+
+  /**
+   * Executes a pause operation based on the given command, and reports the progress of the
+   * operation to the given listener in addition to the listeners given to this service.
+   *
+   * @param command the pause command specifying the operation details
+   * @param listener the listener to notify of the progress of this operation, null for none
+   * @return DTO containing the start and end time of the pause operation and the time spent in
+   *     each phase
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto execute(PauseCommand command, @Nullable PauseLifecycleListener listener)
+      throws PauserException {
+    return execute(command, listener, null);
+  }
+
+  /**
+   * Executes a pause operation based on the given command, which can be cancelled through the given
+   * handle. Otherwise, this method behaves like {@link #execute(PauseCommand,
+   * PauseLifecycleListener)}.
+   *
+   * @param command the pause command specifying the operation details
+   * @param listener the listener to notify of the progress of this operation, null for none
+   * @param handle the handle to cancel this operation with, null if the operation is not cancelled
+   * @return DTO containing the start and end time of the pause operation and the time spent in
+   *     each phase
+   * @throws PauserException when the pause operation fails or is cancelled
+   */
+  public PauseDurationDto execute(
+      PauseCommand command,
+      @Nullable PauseLifecycleListener listener,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+    List<PauseLifecycleListener> executionListeners = new ArrayList<>(listeners);
+    if (listener != null) {
+      executionListeners.add(listener);
+    }
+    PauseTimingRecorder recorder = new PauseTimingRecorder(executionListeners);
     return switch (command) {
-      case PauseByHelmReleaseCommand cmd -> executePauseByHelmRelease(cmd);
+      case PauseByHelmReleaseCommand cmd -> executePauseByHelmRelease(cmd, recorder, handle);
+      case PauseByHelmReleasesCommand cmd -> executePauseByHelmReleases(cmd, recorder, handle);
+      case PauseByLabelSelectorCommand cmd -> executePauseByLabelSelector(cmd, recorder, handle);
+      case PauseByNamespaceCommand cmd -> executePauseByNamespace(cmd, recorder, handle);
     };
   }
 
-  private PauseDurationDto executePauseByHelmRelease(PauseByHelmReleaseCommand command)
+  private PauseDurationDto executePauseByHelmRelease(
+      PauseByHelmReleaseCommand command,
+      PauseTimingRecorder recorder,
+      @Nullable PauseHandle handle)
       throws PauserException {
+
     // Get the pause target before pause
     PauseTarget targetBeforePause =
-        kubernetesClient.resolvePauseTargetByHelmRelease(
-            command.namespace(), command.helmReleaseName());
+        recorder.time(
+            PausePhase.RESOLVE_TARGET,
+            () ->
+                kubernetesClient.resolvePauseTargetByHelmRelease(
+                    command.namespace(), command.helmReleaseName()));
 
-    // Create the appropriate client (with or without TLS)
+    ScalarAdminClient client = connect(targetBeforePause, command.tlsConfig(), recorder);
+
+    // Execute the pause operation through the domain service. The target after the pause is read
+    // with a quorum read even if the one before the pause was read from the cache of the API
+    // server.
+    PauseTargetsSupplier targetAfterPauseSupplier =
+        () ->
+            List.of(
+                kubernetesClient.resolvePauseTargetByHelmRelease(
+                    command.namespace(), command.helmReleaseName(), ReadConsistency.LATEST));
+    PauseDuration pauseDuration;
+    try (client;
+        PauseTargetWatch watch = startWatch(command, targetBeforePause, recorder)) {
+      pauseDuration =
+          pauseService.pauseAll(
+              List.of(targetBeforePause),
+              watch,
+              targetAfterPauseSupplier,
+              client,
+              command.pauseDuration(),
+              command.maxPauseWaitTime(),
+              recorder,
+              handle);
+    }
+
+    // Convert domain object to DTO
+    return toDto(pauseDuration, recorder);
+  }
+
+  private PauseDurationDto executePauseByHelmReleases(
+      PauseByHelmReleasesCommand command,
+      PauseTimingRecorder recorder,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+
+    // Get the pause targets before pause
+    List<PauseTarget> targetsBeforePause =
+        recorder.time(PausePhase.RESOLVE_TARGET, () -> resolvePauseTargets(command, null));
+
+    // Create a client that sends the requests to the pods of all the releases together, and connect
+    // to the pods
+    ScalarAdminClient client = connect(targetsBeforePause, command.tlsConfig(), recorder);
+
+    // Execute the pause operation through the domain service
+    PauseDuration pauseDuration;
+    try (client;
+        PauseTargetWatch watch =
+            startWatch(
+                command.namespace(), command.helmReleaseNames(), targetsBeforePause, recorder)) {
+      pauseDuration =
+          pauseService.pauseAll(
+              targetsBeforePause,
+              watch,
+              () -> resolvePauseTargets(command, ReadConsistency.LATEST),
+              client,
+              command.pauseDuration(),
+              command.maxPauseWaitTime(),
+              recorder,
+              handle);
+    }
+
+    // Convert domain object to DTO
+    return toDto(pauseDuration, recorder);
+  }
+
+  private PauseDurationDto executePauseByLabelSelector(
+      PauseByLabelSelectorCommand command,
+      PauseTimingRecorder recorder,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+
+    // Get the pause targets of all the deployments that the selected pods belong to
+    List<PauseTarget> targetsBeforePause =
+        recorder.time(
+            PausePhase.RESOLVE_TARGET,
+            () ->
+                kubernetesClient.resolvePauseTargetsBySelector(
+                    command.namespace(), command.selector()));
+
+    // Create a client that sends the requests to the pods of all the deployments together, and
+    // connect to the pods
+    ScalarAdminClient client = connect(targetsBeforePause, command.tlsConfig(), recorder);
+
+    // Execute the pause operation through the domain service. The targets are always examined
+    // after the pause because only the targets of Helm releases can be watched.
+    PauseDuration pauseDuration;
+    try (client) {
+      pauseDuration =
+          pauseService.pauseAll(
+              targetsBeforePause,
+              null,
+              () ->
+                  kubernetesClient.resolvePauseTargetsBySelector(
+                      command.namespace(), command.selector(), ReadConsistency.LATEST),
+              client,
+              command.pauseDuration(),
+              command.maxPauseWaitTime(),
+              recorder,
+              handle);
+    }
+
+    // Convert domain object to DTO
+    return toDto(pauseDuration, recorder);
+  }
+
+  private PauseDurationDto executePauseByNamespace(
+      PauseByNamespaceCommand command,
+      PauseTimingRecorder recorder,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+
+    // Get the pause targets of all the Helm releases in the namespace
+    Map<String, PauseTarget> targetsByRelease =
+        recorder.time(
+            PausePhase.RESOLVE_TARGET,
+            () -> kubernetesClient.resolvePauseTargetsInNamespace(command.namespace()));
+    List<String> helmReleaseNames = List.copyOf(targetsByRelease.keySet());
+    List<PauseTarget> targetsBeforePause = List.copyOf(targetsByRelease.values());
+    logger.info(
+        "Pausing the Helm releases {} in the namespace {}.", helmReleaseNames, command.namespace());
+
+    // Create a client that sends the requests to the pods of all the releases together, and connect
+    // to the pods
+    ScalarAdminClient client = connect(targetsBeforePause, command.tlsConfig(), recorder);
+
+    // Execute the pause operation through the domain service. A release deployed or removed during
+    // the pause makes the targets after the pause differ from the ones before it. The watches of
+    // the targets can't see a release deployed during the pause, so the namespace is always listed
+    // again after the pause, even in the WATCH mode.
+    PauseDuration pauseDuration;
+    try (client) {
+      pauseDuration =
+          pauseService.pauseAll(
+              targetsBeforePause,
+              null,
+              () -> resolvePauseTargets(command, ReadConsistency.LATEST),
+              client,
+              command.pauseDuration(),
+              command.maxPauseWaitTime(),
+              recorder,
+              handle);
+    }
+
+    // Convert domain object to DTO
+    return toDto(pauseDuration, recorder);
+  }
+
+  /**
+   * Creates a client that sends the requests to the pods of the given target, and connects to the
+   * pods before the pause so that a connection failure aborts the operation before any pod is
+   * paused.
+   */
+  private ScalarAdminClient connect(
+      PauseTarget target, @Nullable TlsConfig tlsConfig, PauseTimingRecorder recorder)
+      throws PauserException {
+    return connect(
+        () ->
+            tlsConfig != null
+                ? clientFactory.createClient(target, tlsConfig)
+                : clientFactory.createClient(target),
+        recorder);
+  }
+
+  /**
+   * Creates a client that sends the requests to the pods of all the given targets together, and
+   * connects to the pods before the pause so that a connection failure aborts the operation before
+   * any pod is paused.
+   */
+  private ScalarAdminClient connect(
+      List<PauseTarget> targets, @Nullable TlsConfig tlsConfig, PauseTimingRecorder recorder)
+      throws PauserException {
+    return connect(
+        () ->
+            tlsConfig != null
+                ? clientFactory.createClient(targets, tlsConfig)
+                : clientFactory.createClient(targets),
+        recorder);
+  }
+
+  private ScalarAdminClient connect(
+      TimedAction<ScalarAdminClient, RuntimeException> createClient, PauseTimingRecorder recorder)
+      throws PauserException {
     ScalarAdminClient client;
     try {
-      if (command.tlsConfig() != null) {
-        client = clientFactory.createClient(targetBeforePause, command.tlsConfig());
-      } else {
-        client = clientFactory.createClient(targetBeforePause);
-      }
+      client = recorder.time(PausePhase.CREATE_CLIENT, createClient);
     } catch (Exception e) {
       throw new PauserException("Failed to initialize the Scalar Admin client.", e);
     }
+    client.addListener(recorder);
 
-    // Execute the pause operation through the domain service
-    PauseDuration pauseDuration =
-        pauseService.pause(
-            targetBeforePause,
-            () ->
-                kubernetesClient.resolvePauseTargetByHelmRelease(
-                    command.namespace(), command.helmReleaseName()),
-            client,
-            command.pauseDuration(),
-            command.maxPauseWaitTime());
+    try {
+      recorder.time(
+          PausePhase.WARM_UP,
+          () -> {
+            client.warmUp();
+            return null;
+          });
+    } catch (Exception e) {
+      client.close();
+      throw new PauserException(
+          "Failed to connect to the target pods. No pods have been paused.", e);
+    }
+    return client;
+  }
 
-    // Convert domain object to DTO
+  private static PauseDurationDto toDto(
+      PauseDuration pauseDuration, PauseTimingRecorder recorder) {
     return new PauseDurationDto(
-        pauseDuration.startTime().toEpochMilli(), pauseDuration.endTime().toEpochMilli());
+        pauseDuration.startTime().toEpochMilli(),
+        pauseDuration.endTime().toEpochMilli(),
+        pauseDuration.pauseSkew() != null ? pauseDuration.pauseSkew().toNanos() : null,
+        pauseDuration.unpauseSkew() != null ? pauseDuration.unpauseSkew().toNanos() : null,
+        recorder.toDto());
+  }
+
+  /**
+   * Resolves the targets of all the releases in parallel, in the order of the release names. A null
+   * consistency reads the resources with the one that the client is configured with for discovery.
+   */
+  private List<PauseTarget> resolvePauseTargets(
+      PauseByHelmReleasesCommand command, @Nullable ReadConsistency consistency)
+      throws PauserException {
+    List<Future<PauseTarget>> futures = new ArrayList<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (String helmReleaseName : command.helmReleaseNames()) {
+        futures.add(
+            executor.submit(
+                () ->
+                    consistency == null
+                        ? kubernetesClient.resolvePauseTargetByHelmRelease(
+                            command.namespace(), helmReleaseName)
+                        : kubernetesClient.resolvePauseTargetByHelmRelease(
+                            command.namespace(), helmReleaseName, consistency)));
+      }
+    }
+
+    List<PauseTarget> targets = new ArrayList<>();
+    for (Future<PauseTarget> future : futures) {
+      try {
+        targets.add(Futures.getDone(future));
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof PauserException) {
+          throw (PauserException) e.getCause();
+        }
+        throw new PauserException("Failed to resolve the pause targets.", e.getCause());
+      }
+    }
+    return targets;
+  }
+
+  /** Resolves the targets of all the releases in the namespace, in the order of the names. */
+  private List<PauseTarget> resolvePauseTargets(
+      PauseByNamespaceCommand command, ReadConsistency consistency) throws PauserException {
+    Map<String, PauseTarget> targets =
+        kubernetesClient.resolvePauseTargetsInNamespace(command.namespace(), consistency);
+    return List.copyOf(targets.values());
+  }
+
+  /**
+   * Starts watching all the targets, or returns null if any of them can't be watched, because the
+   * targets must be examined after the pause anyway in that case.
+   */
+  @Nullable
+  private PauseTargetWatch startWatch(
+      String namespace,
+      List<String> helmReleaseNames,
+      List<PauseTarget> targetsBeforePause,
+      PauseTimingRecorder recorder) {
+    if (changeDetectionMode != ChangeDetectionMode.WATCH) {
+      return null;
+    }
+    return recorder.time(
+        PausePhase.START_WATCH,
+        () -> {
+          List<PauseTargetWatch> watches = new ArrayList<>();
+          try {
+            for (int i = 0; i < targetsBeforePause.size(); i++) {
+              watches.add(
+                  kubernetesClient.watchPauseTarget(
+                      namespace, helmReleaseNames.get(i), targetsBeforePause.get(i)));
+            }
+          } catch (PauserException e) {
+            watches.forEach(PauseTargetWatch::close);
+            logger.warn(
+                "Failed to start watching the targets. The targets will be examined after the"
+                    + " pause.",
+                e);
+            return null;
+          }
+          return new CompositePauseTargetWatch(watches);
+        });
+  }
+
+  @Nullable
+  private PauseTargetWatch startWatch(
+      PauseByHelmReleaseCommand command,
+      PauseTarget targetBeforePause,
+      PauseTimingRecorder recorder) {
+    if (changeDetectionMode != ChangeDetectionMode.WATCH) {
+      return null;
+    }
+    return recorder.time(
+        PausePhase.START_WATCH,
+        () -> {
+          try {
+            return kubernetesClient.watchPauseTarget(
+                command.namespace(), command.helmReleaseName(), targetBeforePause);
+          } catch (PauserException e) {
+            logger.warn(
+                "Failed to start watching the target. The target will be examined after the"
+                    + " pause.",
+                e);
+            return null;
+          }
+        });
   }
 }
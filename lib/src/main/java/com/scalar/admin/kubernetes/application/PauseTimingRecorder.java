@@ -0,0 +1,113 @@
+package com.scalar.admin.kubernetes.application;
+
+import com.scalar.admin.kubernetes.application.dto.PauseTimingsDto;
+import com.scalar.admin.kubernetes.application.dto.PhaseTimingDto;
+import com.scalar.admin.kubernetes.application.dto.PodRequestTimingDto;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
+import com.scalar.admin.kubernetes.domain.model.pause.PhaseSpan;
+import com.scalar.admin.kubernetes.domain.model.pause.PodRequestSpan;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Listener that records the spans of a single pause operation and forwards them to other
+ * listeners.
+ *
+ * <p>A failure of the other listeners is logged and ignored, so that it doesn't break the pause.
+ */
+@ThreadSafe
+class PauseTimingRecorder implements PauseLifecycleListener {
+
+  private static final Logger logger = LoggerFactory.getLogger(PauseTimingRecorder.class);
+
+  private final long originNanos = System.nanoTime();
+  private final List<PauseLifecycleListener> listeners;
+
+  @GuardedBy("this")
+  private final List<PhaseSpan> phases = new ArrayList<>();
+
+  @GuardedBy("this")
+  private final List<PodRequestSpan> podRequests = new ArrayList<>();
+
+  PauseTimingRecorder(Collection<PauseLifecycleListener> listeners) {
+    this.listeners = List.copyOf(listeners);
+  }
+
+  /**
+   * Runs the given action and records the time spent in it as the given phase, whether it succeeds
+   * or not.
+   */
+  <T, E extends Exception> T time(PausePhase phase, TimedAction<T, E> action) throws E {
+    onPhaseStarted(phase);
+    long startNanos = System.nanoTime();
+    try {
+      return action.run();
+    } finally {
+      onPhase(new PhaseSpan(phase, startNanos, System.nanoTime()));
+    }
+  }
+
+  @Override
+  public void onPhaseStarted(PausePhase phase) {
+    notifyListeners(listener -> listener.onPhaseStarted(phase));
+  }
+
+  @Override
+  public void onPhase(PhaseSpan span) {
+    synchronized (this) {
+      phases.add(span);
+    }
+    notifyListeners(listener -> listener.onPhase(span));
+  }
+
+  @Override
+  public void onPodRequest(PodRequestSpan span) {
+    synchronized (this) {
+      podRequests.add(span);
+    }
+    notifyListeners(listener -> listener.onPodRequest(span));
+  }
+
+  private void notifyListeners(Consumer<PauseLifecycleListener> notification) {
+    for (PauseLifecycleListener listener : listeners) {
+      try {
+        notification.accept(listener);
+      } catch (RuntimeException e) {
+        logger.warn("A pause lifecycle listener failed. The failure is ignored.", e);
+      }
+    }
+  }
+
+  synchronized PauseTimingsDto toDto() {
+    List<PhaseTimingDto> phaseDtos = new ArrayList<>();
+    for (PhaseSpan span : phases) {
+      phaseDtos.add(
+          new PhaseTimingDto(
+              span.phase().name(), span.startNanos() - originNanos, span.durationNanos()));
+    }
+    List<PodRequestTimingDto> podRequestDtos = new ArrayList<>();
+    for (PodRequestSpan span : podRequests) {
+      podRequestDtos.add(
+          new PodRequestTimingDto(
+              span.phase().name(),
+              span.address().getHostString() + ":" + span.address().getPort(),
+              span.startNanos() - originNanos,
+              span.durationNanos(),
+              span.succeeded()));
+    }
+    return new PauseTimingsDto(List.copyOf(phaseDtos), List.copyOf(podRequestDtos));
+  }
+
+  /** An action whose time is recorded as a phase. */
+  @FunctionalInterface
+  interface TimedAction<T, E extends Exception> {
+    T run() throws E;
+  }
+}
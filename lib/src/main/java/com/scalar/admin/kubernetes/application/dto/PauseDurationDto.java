@@ -1,5 +1,7 @@
 package com.scalar.admin.kubernetes.application.dto;
 
+import javax.annotation.Nullable;
+
 /**
  * DTO representing the duration of a pause operation.
  *
@@ -9,5 +11,26 @@ package com.scalar.admin.kubernetes.application.dto;
  *
  * @param startTimeEpochMilli the start time as epoch milliseconds
  * @param endTimeEpochMilli the end time as epoch milliseconds
+ * @param pauseSkewNanos the time between the first and the last acknowledgements of the pause
+ *     request in nanoseconds, null if unknown
+ * @param unpauseSkewNanos the time between the first and the last unpause requests in nanoseconds,
+ *     null if unknown
+ * @param timings the time spent in each phase of the pause operation, null if not recorded
  */
-public record PauseDurationDto(long startTimeEpochMilli, long endTimeEpochMilli) {}
+public record PauseDurationDto(
+    long startTimeEpochMilli,
+    long endTimeEpochMilli,
+    @Nullable Long pauseSkewNanos,
+    @Nullable Long unpauseSkewNanos,
+    @Nullable PauseTimingsDto timings) {
+
+  /**
+   * Creates a PauseDurationDto without the skews and the timings of the phases.
+   *
+   * @param startTimeEpochMilli the start time as epoch milliseconds
+   * @param endTimeEpochMilli the end time as epoch milliseconds
+   */
+  public PauseDurationDto(long startTimeEpochMilli, long endTimeEpochMilli) {
+    this(startTimeEpochMilli, endTimeEpochMilli, null, null, null);
+  }
+}
@@ -0,0 +1,14 @@
+package com.scalar.admin.kubernetes.application.dto;
+
+import java.util.List;
+
+/**
+ * DTO representing the time spent in each phase of a pause operation and in each request to a pod.
+ *
+ * <p>The times are measured with a monotonic clock and given as offsets from the start of the
+ * operation, because the clock has no meaning outside the process.
+ *
+ * @param phases the phases in the order in which they ended
+ * @param podRequests the requests to the pods in the order in which they were reported
+ */
+public record PauseTimingsDto(List<PhaseTimingDto> phases, List<PodRequestTimingDto> podRequests) {}
@@ -0,0 +1,10 @@
+package com.scalar.admin.kubernetes.application.dto;
+
+/**
+ * DTO representing the time spent in a phase of a pause operation.
+ *
+ * @param phase the name of the phase, e.g., PAUSE_REQUEST
+ * @param startOffsetNanos the start of the phase in nanoseconds from the start of the operation
+ * @param durationNanos the time spent in the phase in nanoseconds
+ */
+public record PhaseTimingDto(String phase, long startOffsetNanos, long durationNanos) {}
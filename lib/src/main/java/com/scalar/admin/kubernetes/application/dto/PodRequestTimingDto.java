@@ -0,0 +1,13 @@
+package com.scalar.admin.kubernetes.application.dto;
+
+/**
+ * DTO representing the time spent in a request to a single pod.
+ *
+ * @param phase the name of the phase in which the request was sent, e.g., PAUSE_REQUEST
+ * @param address the address of the pod in the form of host:port
+ * @param startOffsetNanos the start of the request in nanoseconds from the start of the operation
+ * @param durationNanos the time spent in the request in nanoseconds
+ * @param succeeded whether the pod acknowledged the request
+ */
+public record PodRequestTimingDto(
+    String phase, String address, long startOffsetNanos, long durationNanos, boolean succeeded) {}
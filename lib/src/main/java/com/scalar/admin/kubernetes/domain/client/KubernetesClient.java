@@ -2,6 +2,9 @@ package com.scalar.admin.kubernetes.domain.client;
 
 import com.scalar.admin.kubernetes.domain.exception.PauserException;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Client interface for interacting with Kubernetes cluster to resolve pause targets.
@@ -26,4 +29,101 @@ public interface KubernetesClient {
    */
   PauseTarget resolvePauseTargetByHelmRelease(String namespace, String helmReleaseName)
       throws PauserException;
+
+  /**
+   * Resolves a pause target from a Helm release, reading the resources with the given consistency.
+   *
+   * <p>The method without the consistency reads the resources with the consistency that the client
+   * is configured with for discovering targets. This method is used to examine the target again
+   * after the pause, which requires {@link ReadConsistency#LATEST}. An implementation must not
+   * answer a read of {@link ReadConsistency#LATEST} from a cache of its own, such as the cache of
+   * informers, because the cache may not have received a change made during the pause yet.
+   *
+   * @param namespace the Kubernetes namespace where the Helm release is deployed
+   * @param helmReleaseName the name of the Helm release
+   * @param consistency how up to date the resources must be
+   * @return a PauseTarget aggregate containing pods, deployment, and admin port information
+   * @throws PauserException if the target cannot be resolved or if there are issues with the
+   *     Kubernetes API
+   */
+  PauseTarget resolvePauseTargetByHelmRelease(
+      String namespace, String helmReleaseName, ReadConsistency consistency)
+      throws PauserException;
+
+  /**
+   * Resolves the pause targets of all the Helm releases of Scalar products in a namespace.
+   *
+   * <p>This method looks up the pods, deployments, and services of the namespace once each, groups
+   * them by Helm release, and constructs a {@link PauseTarget} for each release whose pods run a
+   * Scalar product. The releases that don't run any Scalar product are ignored.
+   *
+   * @param namespace the Kubernetes namespace where the Helm releases are deployed
+   * @return the PauseTargets keyed by the names of the Helm releases, in the order of the names
+   * @throws PauserException if no Scalar product is deployed in the namespace, if any of the
+   *     releases is not deployed as expected, or if there are issues with the Kubernetes API
+   */
+  Map<String, PauseTarget> resolvePauseTargetsInNamespace(String namespace) throws PauserException;
+
+  /**
+   * Resolves the pause targets of all the Helm releases of Scalar products in a namespace, reading
+   * the resources with the given consistency.
+   *
+   * @param namespace the Kubernetes namespace where the Helm releases are deployed
+   * @param consistency how up to date the resources must be
+   * @return the PauseTargets keyed by the names of the Helm releases, in the order of the names
+   * @throws PauserException if no Scalar product is deployed in the namespace, if any of the
+   *     releases is not deployed as expected, or if there are issues with the Kubernetes API
+   * @see #resolvePauseTargetByHelmRelease(String, String, ReadConsistency)
+   */
+  Map<String, PauseTarget> resolvePauseTargetsInNamespace(
+      String namespace, ReadConsistency consistency) throws PauserException;
+
+  /**
+   * Resolves the pause targets of the pods that match the given selector.
+   *
+   * <p>This method lists the pods that match the selector and the deployments in the namespace,
+   * and returns a {@link PauseTarget} for each deployment whose selector matches any of the pods,
+   * in the order of the deployment names.
+   *
+   * @param namespace the Kubernetes namespace where the pods are deployed
+   * @param selector the selectors of the pods and the admin port of them
+   * @return the PauseTargets of the deployments that have the selected pods
+   * @throws PauserException if no targets are found, if any of the selected pods doesn't belong to
+   *     exactly one deployment, if the admin port can't be resolved, or if there are issues with
+   *     the Kubernetes API
+   */
+  List<PauseTarget> resolvePauseTargetsBySelector(String namespace, TargetSelector selector)
+      throws PauserException;
+
+  /**
+   * Resolves the pause targets of the pods that match the given selector, reading the resources
+   * with the given consistency.
+   *
+   * @param namespace the Kubernetes namespace where the pods are deployed
+   * @param selector the selectors of the pods and the admin port of them
+   * @param consistency how up to date the resources must be
+   * @return the PauseTargets of the deployments that have the selected pods
+   * @throws PauserException if no targets are found, if the admin port can't be resolved, or if
+   *     there are issues with the Kubernetes API
+   * @see #resolvePauseTargetByHelmRelease(String, String, ReadConsistency)
+   */
+  List<PauseTarget> resolvePauseTargetsBySelector(
+      String namespace, TargetSelector selector, ReadConsistency consistency)
+      throws PauserException;
+
+  /**
+   * Starts watching the pods and deployment of a pause target resolved from a Helm release.
+   *
+   * <p>The watch starts from the resource versions captured in the given target, so that any
+   * change made after the target was resolved is reported by the returned watch. The caller is
+   * responsible for closing the returned watch.
+   *
+   * @param namespace the Kubernetes namespace where the Helm release is deployed
+   * @param helmReleaseName the name of the Helm release
+   * @param target the pause target previously resolved from the Helm release
+   * @return a watch that reports changes to the target
+   * @throws PauserException if the watch cannot be started
+   */
+  PauseTargetWatch watchPauseTarget(String namespace, String helmReleaseName, PauseTarget target)
+      throws PauserException;
 }
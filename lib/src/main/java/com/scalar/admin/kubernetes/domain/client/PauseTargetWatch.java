@@ -0,0 +1,48 @@
+package com.scalar.admin.kubernetes.domain.client;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTargetChange;
+import javax.annotation.Nullable;
+
+/**
+ * A watch on the resources of a {@link PauseTarget} that detects changes as they happen.
+ *
+ * <p>A watch starts from the state that the pause target was read at, so any change reported by
+ * the watch was made after the pause target was resolved. Once a change is observed, the watch
+ * keeps reporting the first observed change until it is closed.
+ *
+ * <p>A watch can fail, for example, when the Kubernetes API server closes the connection or the
+ * starting resource version is too old. A failed watch cannot tell whether the target changed or
+ * not, so callers must examine the target by other means in that case.
+ */
+public interface PauseTargetWatch extends AutoCloseable {
+
+  /**
+   * Waits until a change is observed, the watch fails, or the given timeout elapses.
+   *
+   * @param timeoutMillis the maximum time to wait in milliseconds
+   * @return the first observed change, or null if no change was observed
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  @Nullable
+  PauseTargetChange awaitChange(long timeoutMillis) throws InterruptedException;
+
+  /**
+   * Returns the first observed change.
+   *
+   * @return the first observed change, or null if no change has been observed so far
+   */
+  @Nullable
+  PauseTargetChange getChange();
+
+  /**
+   * Returns whether the watch failed and can no longer detect changes.
+   *
+   * @return true if the watch failed
+   */
+  boolean isFailed();
+
+  /** Stops watching the target. */
+  @Override
+  void close();
+}
@@ -0,0 +1,24 @@
+package com.scalar.admin.kubernetes.domain.client;
+
+/**
+ * How up to date the state of the Kubernetes resources must be when a pause target is resolved.
+ *
+ * <p>A pause target is resolved twice: once to discover the pods before the pause, and once to
+ * examine them after the pause. The discovery may read a slightly stale state, because a change
+ * made between the discovery and the pause is detected by the examination after the pause. The
+ * examination must read the latest state.
+ */
+public enum ReadConsistency {
+  /**
+   * Reads the latest state. The Kubernetes API server reads it from etcd with a quorum read, so
+   * the read is consistent with every change made before it. A state kept by watches, for example,
+   * by informers, doesn't satisfy this consistency.
+   */
+  LATEST,
+
+  /**
+   * Reads the state that the Kubernetes API server keeps in its watch cache, which may be slightly
+   * behind the latest state but doesn't load etcd.
+   */
+  CACHED
+}
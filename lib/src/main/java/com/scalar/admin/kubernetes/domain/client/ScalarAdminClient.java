@@ -1,5 +1,9 @@
 package com.scalar.admin.kubernetes.domain.client;
 
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import java.net.InetSocketAddress;
+import java.util.List;
 import javax.annotation.Nullable;
 
 /**
@@ -9,11 +13,23 @@ import javax.annotation.Nullable;
  * pause and unpause operations. Implementations may use different communication protocols (e.g.,
  * standard gRPC or TLS-enabled gRPC).
  */
-public interface ScalarAdminClient {
+public interface ScalarAdminClient extends AutoCloseable {
+
+  /**
+   * Opens the connections to all pods and confirms that every pod can serve requests, so that the
+   * pause request doesn't pay for the connection setup. It does nothing by default.
+   *
+   * <p>This method must be called before {@link #pause(boolean, Long)}. Nothing is paused when it
+   * fails.
+   */
+  default void warmUp() {}
 
   /**
    * Pauses all pods.
    *
+   * <p>A pause is only useful if all pods are paused, so this method throws an exception if any
+   * pod fails to be paused.
+   *
    * @param waitOutstandingRequests whether to wait for outstanding requests to complete
    * @param maxPauseWaitTime the maximum wait time in milliseconds, null for default
    */
@@ -21,6 +37,31 @@ public interface ScalarAdminClient {
 
   /**
    * Unpauses all pods.
+   *
+   * @return the outcome of the unpause request for each pod
+   */
+  AdminRequestResult unpause();
+
+  /**
+   * Unpauses the given pods, for example, to retry the pods that failed to be unpaused.
+   *
+   * @param addresses the addresses of the pods to unpause, which must be some of the target pods
+   * @return the outcome of the unpause request for each of the given pods
+   */
+  AdminRequestResult unpause(List<InetSocketAddress> addresses);
+
+  /**
+   * Registers a listener that is notified of the time spent in the request to each pod. It does
+   * nothing by default, because not all clients send a request to each pod on their own.
+   *
+   * @param listener the listener to notify of {@link PauseLifecycleListener#onPodRequest}
+   */
+  default void addListener(PauseLifecycleListener listener) {}
+
+  /**
+   * Releases the resources held by this client, such as the connections to the pods. It does
+   * nothing by default.
    */
-  void unpause();
+  @Override
+  default void close() {}
 }
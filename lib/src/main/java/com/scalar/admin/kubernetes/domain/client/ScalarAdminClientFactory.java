@@ -2,6 +2,7 @@ package com.scalar.admin.kubernetes.domain.client;
 
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
 import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
+import java.util.List;
 
 /**
  * Factory interface for creating ScalarAdminClient instances.
@@ -27,4 +28,23 @@ public interface ScalarAdminClientFactory {
    * @return a new ScalarAdminClient instance with TLS enabled
    */
   ScalarAdminClient createClient(PauseTarget target, TlsConfig tlsConfig);
+
+  /**
+   * Creates a standard (non-TLS) ScalarAdminClient that sends the requests to the pods of all the
+   * given targets together.
+   *
+   * @param targets the pause targets containing pods to communicate with
+   * @return a new ScalarAdminClient instance without TLS
+   */
+  ScalarAdminClient createClient(List<PauseTarget> targets);
+
+  /**
+   * Creates a TLS-enabled ScalarAdminClient that sends the requests to the pods of all the given
+   * targets together.
+   *
+   * @param targets the pause targets containing pods to communicate with
+   * @param tlsConfig the TLS configuration for secure communication
+   * @return a new ScalarAdminClient instance with TLS enabled
+   */
+  ScalarAdminClient createClient(List<PauseTarget> targets, TlsConfig tlsConfig);
 }
@@ -0,0 +1,105 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents the outcome of a request sent to the Scalar Admin interfaces of the target pods.
+ *
+ * <p>This is an immutable value object that tells which pods acknowledged the request and why the
+ * others didn't, so that a retry can be sent only to the pods that didn't acknowledge it.
+ *
+ * @param acknowledged the addresses of the pods that acknowledged the request
+ * @param failures the addresses of the pods that didn't acknowledge the request, with the causes
+ */
+public record AdminRequestResult(
+    List<InetSocketAddress> acknowledged, Map<InetSocketAddress, Exception> failures) {
+
+  /**
+   * Constructs a new result with immutability enforcement.
+   *
+   * @param acknowledged the addresses of the pods that acknowledged the request
+   * @param failures the addresses of the pods that didn't acknowledge the request, with the causes
+   * @throws IllegalArgumentException if either parameter is null
+   */
+  public AdminRequestResult {
+    if (acknowledged == null) {
+      throw new IllegalArgumentException("acknowledged must not be null");
+    }
+    if (failures == null) {
+      throw new IllegalArgumentException("failures must not be null");
+    }
+    acknowledged = ImmutableList.copyOf(acknowledged);
+    failures = ImmutableMap.copyOf(failures);
+  }
+
+  /**
+   * Creates a result in which all the given pods acknowledged the request.
+   *
+   * @param addresses the addresses of the pods
+   * @return a successful result
+   */
+  public static AdminRequestResult allAcknowledged(List<InetSocketAddress> addresses) {
+    return new AdminRequestResult(addresses, Map.of());
+  }
+
+  /**
+   * Creates a result in which none of the given pods acknowledged the request for the same cause.
+   *
+   * @param addresses the addresses of the pods
+   * @param cause the cause of the failure
+   * @return a failed result
+   */
+  public static AdminRequestResult allFailed(List<InetSocketAddress> addresses, Exception cause) {
+    ImmutableMap.Builder<InetSocketAddress, Exception> failures = ImmutableMap.builder();
+    addresses.forEach(address -> failures.put(address, cause));
+    return new AdminRequestResult(List.of(), failures.build());
+  }
+
+  /**
+   * Returns whether all the pods acknowledged the request.
+   *
+   * @return true if no pod failed
+   */
+  public boolean isSuccessful() {
+    return failures.isEmpty();
+  }
+
+  /**
+   * Returns the addresses of the pods that didn't acknowledge the request.
+   *
+   * @return the addresses of the failed pods
+   */
+  public List<InetSocketAddress> failedAddresses() {
+    return ImmutableList.copyOf(failures.keySet());
+  }
+
+  /**
+   * Builds an exception that describes the failed pods. The cause of the first failed pod becomes
+   * the cause of the exception, and the other distinct causes are suppressed.
+   *
+   * @param operation the name of the operation, e.g., "unpause"
+   * @return an exception describing the failure
+   * @throws IllegalStateException if the result is successful
+   */
+  public RuntimeException toException(String operation) {
+    if (isSuccessful()) {
+      throw new IllegalStateException("The request succeeded on all pods.");
+    }
+    List<Exception> causes = failures.values().stream().distinct().toList();
+    RuntimeException exception =
+        new RuntimeException(
+            String.format(
+                "Failed to %s %d of %d pods: %s",
+                operation,
+                failures.size(),
+                acknowledged.size() + failures.size(),
+                failures.keySet()),
+            causes.get(0));
+    causes.stream().skip(1).forEach(exception::addSuppressed);
+    return exception;
+  }
+}
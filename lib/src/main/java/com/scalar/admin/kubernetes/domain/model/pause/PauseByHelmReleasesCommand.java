@@ -0,0 +1,63 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import com.google.common.collect.ImmutableList;
+import java.util.HashSet;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Command to pause the pods of several Helm releases in a single pause window.
+ *
+ * <p>This command represents the use case of pausing Scalar products that are backed up together,
+ * for example, ScalarDL Ledger and Auditor. All the pods of all the releases are paused and
+ * unpaused together, so the resulting pause duration is valid for every release. All the releases
+ * must be deployed in the same namespace and use the same TLS configuration.
+ *
+ * @param namespace the Kubernetes namespace where the Helm releases are deployed
+ * @param helmReleaseNames the names of the Helm releases
+ * @param pauseDuration the duration to pause in milliseconds
+ * @param maxPauseWaitTime the maximum wait time (in milliseconds) for pause operation to complete,
+ *     null for default
+ * @param tlsConfig the TLS configuration for secure communication, null for non-TLS communication
+ */
+public record PauseByHelmReleasesCommand(
+    String namespace,
+    List<String> helmReleaseNames,
+    int pauseDuration,
+    @Nullable Long maxPauseWaitTime,
+    @Nullable TlsConfig tlsConfig)
+    implements PauseCommand {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param namespace the Kubernetes namespace (required)
+   * @param helmReleaseNames the Helm release names (required, not empty, no duplicates)
+   * @param pauseDuration the pause duration in milliseconds (must be positive)
+   * @param maxPauseWaitTime the maximum wait time (optional)
+   * @param tlsConfig the TLS configuration (optional)
+   * @throws IllegalArgumentException if required parameters are null or invalid
+   */
+  public PauseByHelmReleasesCommand {
+    if (namespace == null || namespace.isBlank()) {
+      throw new IllegalArgumentException("namespace is required");
+    }
+    if (helmReleaseNames == null || helmReleaseNames.isEmpty()) {
+      throw new IllegalArgumentException("helmReleaseNames is required");
+    }
+    for (String helmReleaseName : helmReleaseNames) {
+      if (helmReleaseName == null || helmReleaseName.isBlank()) {
+        throw new IllegalArgumentException("helmReleaseNames must not contain a blank name");
+      }
+    }
+    if (new HashSet<>(helmReleaseNames).size() != helmReleaseNames.size()) {
+      throw new IllegalArgumentException(
+          "helmReleaseNames must not contain duplicates, but was: " + helmReleaseNames);
+    }
+    if (pauseDuration < 1) {
+      throw new IllegalArgumentException(
+          "pauseDuration must be greater than 0 millisecond, but was: " + pauseDuration);
+    }
+    helmReleaseNames = ImmutableList.copyOf(helmReleaseNames);
+  }
+}
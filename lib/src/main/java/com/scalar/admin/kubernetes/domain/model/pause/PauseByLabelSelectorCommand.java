@@ -0,0 +1,49 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import javax.annotation.Nullable;
+
+/**
+ * Command to pause the pods selected by Kubernetes label and field selectors.
+ *
+ * <p>This command represents the use case of pausing Scalar products that are not deployed by
+ * Scalar Helm Charts. The selected pods may belong to several deployments, in which case all of
+ * them are paused and unpaused together, like {@link PauseByHelmReleasesCommand} does.
+ *
+ * @param namespace the Kubernetes namespace where the pods are deployed
+ * @param selector the selectors of the pods and the admin port of them
+ * @param pauseDuration the duration to pause in milliseconds
+ * @param maxPauseWaitTime the maximum wait time (in milliseconds) for pause operation to complete,
+ *     null for default
+ * @param tlsConfig the TLS configuration for secure communication, null for non-TLS communication
+ */
+public record PauseByLabelSelectorCommand(
+    String namespace,
+    TargetSelector selector,
+    int pauseDuration,
+    @Nullable Long maxPauseWaitTime,
+    @Nullable TlsConfig tlsConfig)
+    implements PauseCommand {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param namespace the Kubernetes namespace (required)
+   * @param selector the selectors of the pods (required)
+   * @param pauseDuration the pause duration in milliseconds (must be positive)
+   * @param maxPauseWaitTime the maximum wait time (optional)
+   * @param tlsConfig the TLS configuration (optional)
+   * @throws IllegalArgumentException if required parameters are null or invalid
+   */
+  public PauseByLabelSelectorCommand {
+    if (namespace == null || namespace.isBlank()) {
+      throw new IllegalArgumentException("namespace is required");
+    }
+    if (selector == null) {
+      throw new IllegalArgumentException("selector is required");
+    }
+    if (pauseDuration < 1) {
+      throw new IllegalArgumentException(
+          "pauseDuration must be greater than 0 millisecond, but was: " + pauseDuration);
+    }
+  }
+}
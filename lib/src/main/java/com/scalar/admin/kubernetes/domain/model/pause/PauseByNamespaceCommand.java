@@ -0,0 +1,44 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import javax.annotation.Nullable;
+
+/**
+ * Command to pause all the Scalar products deployed in a namespace.
+ *
+ * <p>This command represents the use case of pausing every Helm release of Scalar products in a
+ * namespace without naming them. The releases are discovered when the command is executed, and all
+ * of their pods are paused and unpaused together, like {@link PauseByHelmReleasesCommand} does.
+ * All the releases must use the same TLS configuration.
+ *
+ * @param namespace the Kubernetes namespace to pause
+ * @param pauseDuration the duration to pause in milliseconds
+ * @param maxPauseWaitTime the maximum wait time (in milliseconds) for pause operation to complete,
+ *     null for default
+ * @param tlsConfig the TLS configuration for secure communication, null for non-TLS communication
+ */
+public record PauseByNamespaceCommand(
+    String namespace,
+    int pauseDuration,
+    @Nullable Long maxPauseWaitTime,
+    @Nullable TlsConfig tlsConfig)
+    implements PauseCommand {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param namespace the Kubernetes namespace (required)
+   * @param pauseDuration the pause duration in milliseconds (must be positive)
+   * @param maxPauseWaitTime the maximum wait time (optional)
+   * @param tlsConfig the TLS configuration (optional)
+   * @throws IllegalArgumentException if required parameters are null or invalid
+   */
+  public PauseByNamespaceCommand {
+    if (namespace == null || namespace.isBlank()) {
+      throw new IllegalArgumentException("namespace is required");
+    }
+    if (pauseDuration < 1) {
+      throw new IllegalArgumentException(
+          "pauseDuration must be greater than 0 millisecond, but was: " + pauseDuration);
+    }
+  }
+}
@@ -9,8 +9,11 @@ package com.scalar.admin.kubernetes.domain.model.pause;
  * <p>Each implementation represents a specific way to identify and pause target pods in a
  * Kubernetes cluster.
  */
-public sealed interface PauseCommand permits PauseByHelmReleaseCommand {
+public sealed interface PauseCommand
+    permits PauseByHelmReleaseCommand,
+        PauseByHelmReleasesCommand,
+        PauseByLabelSelectorCommand,
+        PauseByNamespaceCommand {
   // Future implementations might include:
   // - PauseByDeploymentCommand
-  // - PauseByLabelSelectorCommand
 }
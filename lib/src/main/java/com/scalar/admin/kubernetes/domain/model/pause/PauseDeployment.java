@@ -0,0 +1,46 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import io.kubernetes.client.openapi.models.V1Deployment;
+
+/**
+ * Represents the deployment of a pause target.
+ *
+ * <p>This value object keeps only the fields of a Kubernetes deployment that a pause operation
+ * reads.
+ *
+ * @param name the name of the deployment
+ * @param resourceVersion the resource version of the deployment
+ */
+public record PauseDeployment(String name, String resourceVersion) {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param name the name of the deployment (required)
+   * @param resourceVersion the resource version of the deployment (required)
+   * @throws IllegalArgumentException if required parameters are null or invalid
+   */
+  public PauseDeployment {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("name is required");
+    }
+    if (resourceVersion == null || resourceVersion.isBlank()) {
+      throw new IllegalArgumentException("resourceVersion is required");
+    }
+  }
+
+  /**
+   * Creates a pause deployment from a Kubernetes deployment.
+   *
+   * @param deployment the Kubernetes deployment
+   * @return the pause deployment
+   * @throws IllegalArgumentException if the deployment lacks the metadata
+   */
+  public static PauseDeployment from(V1Deployment deployment) {
+    if (deployment == null || deployment.getMetadata() == null) {
+      throw new IllegalArgumentException("deployment metadata is required");
+    }
+    return new PauseDeployment(
+        deployment.getMetadata().getName(), deployment.getMetadata().getResourceVersion());
+  }
+}
@@ -1,6 +1,8 @@
 package com.scalar.admin.kubernetes.domain.model.pause;
 
+import java.time.Duration;
 import java.time.Instant;
+import javax.annotation.Nullable;
 
 /**
  * Represents the duration of a pause operation with start and end times.
@@ -9,18 +11,33 @@ import java.time.Instant;
  * operation was active. The start time represents when the pause began, and the end time
  * represents when the pause ended.
  *
+ * <p>When the time of the request to each pod is known, the start time is when the last pod
+ * acknowledged the pause request and the end time is when the first unpause request was sent, so
+ * that all the pods are paused throughout the period. The skews tell how far apart the pods
+ * entered and left the pause.
+ *
  * @param startTime the instant when the pause operation started
  * @param endTime the instant when the pause operation ended
+ * @param pauseSkew the time between the first and the last acknowledgements of the pause request,
+ *     null if unknown
+ * @param unpauseSkew the time between the first and the last unpause requests, null if unknown
  */
-public record PauseDuration(Instant startTime, Instant endTime) {
+public record PauseDuration(
+    Instant startTime,
+    Instant endTime,
+    @Nullable Duration pauseSkew,
+    @Nullable Duration unpauseSkew) {
 
   /**
    * Constructs a new pause duration with validation.
    *
    * @param startTime the instant when the pause operation started
    * @param endTime the instant when the pause operation ended
-   * @throws IllegalArgumentException if startTime or endTime is null, or if endTime is before
-   *     startTime
+   * @param pauseSkew the time between the first and the last acknowledgements of the pause
+   *     request, null if unknown
+   * @param unpauseSkew the time between the first and the last unpause requests, null if unknown
+   * @throws IllegalArgumentException if startTime or endTime is null, if endTime is before
+   *     startTime, or if either skew is negative
    */
   public PauseDuration {
     if (startTime == null) {
@@ -32,5 +49,23 @@ public record PauseDuration(Instant startTime, Instant endTime) {
     if (endTime.isBefore(startTime)) {
       throw new IllegalArgumentException("endTime must not be before startTime");
     }
+    if (pauseSkew != null && pauseSkew.isNegative()) {
+      throw new IllegalArgumentException("pauseSkew must not be negative");
+    }
+    if (unpauseSkew != null && unpauseSkew.isNegative()) {
+      throw new IllegalArgumentException("unpauseSkew must not be negative");
+    }
+  }
+
+  /**
+   * Constructs a new pause duration whose skews are unknown.
+   *
+   * @param startTime the instant when the pause operation started
+   * @param endTime the instant when the pause operation ended
+   * @throws IllegalArgumentException if startTime or endTime is null, or if endTime is before
+   *     startTime
+   */
+  public PauseDuration(Instant startTime, Instant endTime) {
+    this(startTime, endTime, null, null);
   }
 }
@@ -0,0 +1,36 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+/**
+ * Phases of a pause operation, in the order in which they run.
+ *
+ * <p>The time spent in each phase is reported to a {@code PauseLifecycleListener}, so that the
+ * pause duration and the max pause wait time can be tuned with the actual numbers.
+ */
+public enum PausePhase {
+  /** Resolving the pods, deployment, and service of the pause targets before the pause. */
+  RESOLVE_TARGET,
+
+  /** Creating the Scalar Admin client for the target pods. */
+  CREATE_CLIENT,
+
+  /** Connecting to the target pods and confirming that they can serve requests. */
+  WARM_UP,
+
+  /** Starting to watch the pause targets for updates during the pause. */
+  START_WATCH,
+
+  /**
+   * Sending the pause request until all the pods acknowledge it, which includes draining the
+   * outstanding requests in the pods.
+   */
+  PAUSE_REQUEST,
+
+  /** From the acknowledgement of the pause request until the unpause request is sent. */
+  PAUSE_WINDOW,
+
+  /** Sending an unpause request, once for each attempt. */
+  UNPAUSE_REQUEST,
+
+  /** Resolving the pause targets again and comparing them with the targets before the pause. */
+  POST_CHECK
+}
@@ -0,0 +1,76 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Pod;
+import javax.annotation.Nullable;
+
+/**
+ * Represents a pod of a pause target.
+ *
+ * <p>This value object keeps only the fields of a Kubernetes pod that a pause operation reads, so
+ * that a pause target stays small even if many targets are kept in memory, for example, in a
+ * long-running server. The restart counts of the containers are summed up when it is created,
+ * because only the total is compared.
+ *
+ * @param name the name of the pod
+ * @param podIp the IP address of the pod, null if not assigned yet
+ * @param resourceVersion the resource version of the pod
+ * @param restartCount the total restart count of the containers of the pod
+ */
+public record PausePod(
+    String name, @Nullable String podIp, String resourceVersion, int restartCount) {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param name the name of the pod (required)
+   * @param podIp the IP address of the pod (optional)
+   * @param resourceVersion the resource version of the pod (required)
+   * @param restartCount the total restart count (must not be negative)
+   * @throws IllegalArgumentException if required parameters are null or invalid
+   */
+  public PausePod {
+    if (name == null || name.isBlank()) {
+      throw new IllegalArgumentException("name is required");
+    }
+    if (resourceVersion == null || resourceVersion.isBlank()) {
+      throw new IllegalArgumentException("resourceVersion is required");
+    }
+    if (restartCount < 0) {
+      throw new IllegalArgumentException(
+          "restartCount must not be negative, but was: " + restartCount);
+    }
+  }
+
+  /**
+   * Creates a pause pod from a Kubernetes pod.
+   *
+   * <p>A pod whose metadata or container statuses are missing is rejected rather than treated as a
+   * pod without restarts, so that an incomplete snapshot is never compared as "unchanged".
+   *
+   * @param pod the Kubernetes pod
+   * @return the pause pod
+   * @throws IllegalArgumentException if the pod lacks the metadata or the container statuses
+   */
+  public static PausePod from(V1Pod pod) {
+    if (pod == null || pod.getMetadata() == null) {
+      throw new IllegalArgumentException("pod metadata is required");
+    }
+    String name = pod.getMetadata().getName();
+    if (pod.getStatus() == null || pod.getStatus().getContainerStatuses() == null) {
+      throw new IllegalArgumentException("container statuses of the pod " + name + " are required");
+    }
+
+    int restartCount = 0;
+    for (V1ContainerStatus containerStatus : pod.getStatus().getContainerStatuses()) {
+      if (containerStatus.getRestartCount() == null) {
+        throw new IllegalArgumentException(
+            "restart counts of the containers of the pod " + name + " are required");
+      }
+      restartCount += containerStatus.getRestartCount();
+    }
+
+    return new PausePod(
+        name, pod.getStatus().getPodIP(), pod.getMetadata().getResourceVersion(), restartCount);
+  }
+}
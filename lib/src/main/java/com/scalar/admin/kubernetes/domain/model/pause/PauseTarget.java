@@ -2,13 +2,12 @@ package com.scalar.admin.kubernetes.domain.model.pause;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import io.kubernetes.client.openapi.models.V1Deployment;
-import io.kubernetes.client.openapi.models.V1Pod;
+import com.scalar.admin.kubernetes.domain.model.shared.Product;
 import java.net.InetSocketAddress;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * Represents a pause target in the Kubernetes cluster.
@@ -17,16 +16,25 @@ import java.util.stream.Collectors;
  * including the pods, deployment, and admin port. It provides methods to extract status information
  * for comparison purposes.
  *
- * <p>Note: This record deliberately uses Kubernetes SDK types (V1Pod, V1Deployment) rather than
- * custom domain models. Since this project is a Kubernetes-specific tool, the SDK types are treated
- * as part of the domain vocabulary. A future refactoring may introduce domain-specific models (e.g.
- * PausePod) to decouple from the SDK and enable validation at construction time.
+ * <p>The pods and the deployment are kept as {@link PausePod} and {@link PauseDeployment}, which
+ * hold only the fields that a pause operation reads, rather than the Kubernetes SDK types with all
+ * their specs, annotations, and managed fields. The Kubernetes resources are validated when they
+ * are converted, so building the status or the addresses never walks the SDK object graphs.
  *
  * @param pods the list of pods that are part of this pause target
  * @param deployment the deployment associated with this pause target
  * @param adminPort the admin port number used for pause operations
+ * @param product the Scalar product that the pods run, null if unknown, for example, when the pods
+ *     are selected by a label selector
+ * @param podsResourceVersion the resource version of the pod list that the pods were read from,
+ *     null if unknown. It can be used to watch for changes made after the pods were read.
  */
-public record PauseTarget(List<V1Pod> pods, V1Deployment deployment, int adminPort) {
+public record PauseTarget(
+    List<PausePod> pods,
+    PauseDeployment deployment,
+    int adminPort,
+    @Nullable Product product,
+    @Nullable String podsResourceVersion) {
 
   /**
    * Compact constructor with immutability enforcement.
@@ -34,6 +42,8 @@ public record PauseTarget(List<V1Pod> pods, V1Deployment deployment, int adminPo
    * @param pods the list of pods that are part of this pause target
    * @param deployment the deployment associated with this pause target
    * @param adminPort the admin port number used for pause operations
+   * @param product the Scalar product that the pods run, null if unknown
+   * @param podsResourceVersion the resource version of the pod list, null if unknown
    */
   public PauseTarget {
     if (pods == null) {
@@ -48,6 +58,17 @@ public record PauseTarget(List<V1Pod> pods, V1Deployment deployment, int adminPo
     pods = ImmutableList.copyOf(pods);
   }
 
+  /**
+   * Creates a pause target whose product and pod list resource version are unknown.
+   *
+   * @param pods the list of pods that are part of this pause target
+   * @param deployment the deployment associated with this pause target
+   * @param adminPort the admin port number used for pause operations
+   */
+  public PauseTarget(List<PausePod> pods, PauseDeployment deployment, int adminPort) {
+    this(pods, deployment, adminPort, null, null);
+  }
+
   /**
    * Converts this pause target to its status representation.
    *
@@ -58,39 +79,38 @@ public record PauseTarget(List<V1Pod> pods, V1Deployment deployment, int adminPo
    * @return a Status object containing the current status information
    */
   public Status toStatus() {
-    Map<String, Integer> podRestartCounts = new HashMap<>();
-    Map<String, String> podResourceVersions = new HashMap<>();
-
-    for (V1Pod pod : pods) {
-      String podName = pod.getMetadata().getName();
-      Integer restartCount =
-          pod.getStatus().getContainerStatuses().stream().mapToInt(c -> c.getRestartCount()).sum();
-      String resourceVersion = pod.getMetadata().getResourceVersion();
+    ImmutableMap.Builder<String, Integer> podRestartCounts =
+        ImmutableMap.builderWithExpectedSize(pods.size());
+    ImmutableMap.Builder<String, String> podResourceVersions =
+        ImmutableMap.builderWithExpectedSize(pods.size());
 
-      podRestartCounts.put(podName, restartCount);
-      podResourceVersions.put(podName, resourceVersion);
+    for (PausePod pod : pods) {
+      podRestartCounts.put(pod.name(), pod.restartCount());
+      podResourceVersions.put(pod.name(), pod.resourceVersion());
     }
 
-    String deploymentResourceVersion = deployment.getMetadata().getResourceVersion();
-
-    return new Status(podRestartCounts, podResourceVersions, deploymentResourceVersion);
+    return new Status(
+        podRestartCounts.buildKeepingLast(),
+        podResourceVersions.buildKeepingLast(),
+        deployment.resourceVersion());
   }
 
   /**
    * Builds a list of socket addresses from the pods' IPs and the admin port.
    *
-   * <p>Pods without a reachable IP (null status or null pod IP) are filtered out. If no pods have a
-   * reachable IP, an {@link IllegalStateException} is thrown.
+   * <p>Pods without a reachable IP are filtered out. If no pods have a reachable IP, an {@link
+   * IllegalStateException} is thrown.
    *
    * @return list of socket addresses for communicating with the target pods
    * @throws IllegalStateException if no target pods have a reachable IP
    */
   public List<InetSocketAddress> toAddressList() {
-    List<InetSocketAddress> addresses =
-        pods.stream()
-            .filter(pod -> pod.getStatus() != null && pod.getStatus().getPodIP() != null)
-            .map(pod -> new InetSocketAddress(pod.getStatus().getPodIP(), adminPort))
-            .collect(Collectors.toList());
+    List<InetSocketAddress> addresses = new ArrayList<>(pods.size());
+    for (PausePod pod : pods) {
+      if (pod.podIp() != null) {
+        addresses.add(new InetSocketAddress(pod.podIp(), adminPort));
+      }
+    }
     if (addresses.isEmpty()) {
       throw new IllegalStateException("No target pods have a reachable IP.");
     }
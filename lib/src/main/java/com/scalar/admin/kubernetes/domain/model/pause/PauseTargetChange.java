@@ -0,0 +1,46 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import java.time.Instant;
+
+/**
+ * Represents a change made to a pause target that was observed while the target was being watched.
+ *
+ * <p>This is an immutable value object that tells which resource of the pause target changed, how
+ * it changed, and when the change was observed.
+ *
+ * @param kind the kind of the changed resource, e.g., Pod or Deployment
+ * @param name the name of the changed resource
+ * @param type the type of the change, e.g., ADDED, MODIFIED, or DELETED
+ * @param observedAt the instant when the change was observed
+ */
+public record PauseTargetChange(String kind, String name, String type, Instant observedAt) {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param kind the kind of the changed resource (required)
+   * @param name the name of the changed resource (required)
+   * @param type the type of the change (required)
+   * @param observedAt the instant when the change was observed (required)
+   * @throws IllegalArgumentException if any parameter is null
+   */
+  public PauseTargetChange {
+    if (kind == null) {
+      throw new IllegalArgumentException("kind must not be null");
+    }
+    if (name == null) {
+      throw new IllegalArgumentException("name must not be null");
+    }
+    if (type == null) {
+      throw new IllegalArgumentException("type must not be null");
+    }
+    if (observedAt == null) {
+      throw new IllegalArgumentException("observedAt must not be null");
+    }
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s %s %s at %s", type, kind, name, observedAt);
+  }
+}
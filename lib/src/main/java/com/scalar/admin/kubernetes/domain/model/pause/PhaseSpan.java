@@ -0,0 +1,40 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+/**
+ * Represents the time spent in a phase of a pause operation.
+ *
+ * <p>The times are values of {@link System#nanoTime()}, so they are only meaningful relative to
+ * other times taken in the same process.
+ *
+ * @param phase the phase
+ * @param startNanos the time when the phase started
+ * @param endNanos the time when the phase ended
+ */
+public record PhaseSpan(PausePhase phase, long startNanos, long endNanos) {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param phase the phase (required)
+   * @param startNanos the time when the phase started
+   * @param endNanos the time when the phase ended, not before startNanos
+   * @throws IllegalArgumentException if phase is null or if endNanos is before startNanos
+   */
+  public PhaseSpan {
+    if (phase == null) {
+      throw new IllegalArgumentException("phase must not be null");
+    }
+    if (endNanos - startNanos < 0) {
+      throw new IllegalArgumentException("endNanos must not be before startNanos");
+    }
+  }
+
+  /**
+   * Returns the time spent in the phase.
+   *
+   * @return the duration in nanoseconds
+   */
+  public long durationNanos() {
+    return endNanos - startNanos;
+  }
+}
@@ -0,0 +1,55 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Represents the time spent in a request to the Scalar Admin interface of a single pod.
+ *
+ * <p>The times are values of {@link System#nanoTime()}, so they are only meaningful relative to
+ * other times taken in the same process.
+ *
+ * @param phase the phase in which the request was sent, e.g., {@link PausePhase#PAUSE_REQUEST}
+ * @param address the address of the pod
+ * @param startNanos the time when the request was sent
+ * @param endNanos the time when the response or the error was received
+ * @param succeeded whether the pod acknowledged the request
+ */
+public record PodRequestSpan(
+    PausePhase phase,
+    InetSocketAddress address,
+    long startNanos,
+    long endNanos,
+    boolean succeeded) {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @param phase the phase in which the request was sent (required)
+   * @param address the address of the pod (required)
+   * @param startNanos the time when the request was sent
+   * @param endNanos the time when the response or the error was received, not before startNanos
+   * @param succeeded whether the pod acknowledged the request
+   * @throws IllegalArgumentException if phase or address is null, or if endNanos is before
+   *     startNanos
+   */
+  public PodRequestSpan {
+    if (phase == null) {
+      throw new IllegalArgumentException("phase must not be null");
+    }
+    if (address == null) {
+      throw new IllegalArgumentException("address must not be null");
+    }
+    if (endNanos - startNanos < 0) {
+      throw new IllegalArgumentException("endNanos must not be before startNanos");
+    }
+  }
+
+  /**
+   * Returns the time spent in the request.
+   *
+   * @return the duration in nanoseconds
+   */
+  public long durationNanos() {
+    return endNanos - startNanos;
+  }
+}
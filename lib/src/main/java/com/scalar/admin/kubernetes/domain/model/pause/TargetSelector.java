@@ -0,0 +1,77 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import javax.annotation.Nullable;
+
+/**
+ * Selects the pods to pause by Kubernetes label and field selectors instead of a Helm release.
+ *
+ * <p>This value object is used for Scalar products that are not deployed by Scalar Helm Charts,
+ * for example, the ones deployed by an operator. The selectors are evaluated by the Kubernetes API
+ * server. The pods that match them are grouped by the deployments that match the label selector,
+ * and each group becomes a {@link PauseTarget}.
+ *
+ * <p>Since there is no Helm release to find the admin service of, the admin port is given either
+ * as a port number or as the name of a container port of the pods.
+ *
+ * @param labelSelector the label selector for the pods and deployments, e.g., {@code
+ *     app.kubernetes.io/name=ledger}
+ * @param fieldSelector the field selector for the pods, e.g., {@code status.phase=Running}, null
+ *     for none
+ * @param adminPort the port number of the Scalar Admin interface, null if adminPortName is given
+ * @param adminPortName the name of the container port of the Scalar Admin interface, null if
+ *     adminPort is given
+ */
+public record TargetSelector(
+    String labelSelector,
+    @Nullable String fieldSelector,
+    @Nullable Integer adminPort,
+    @Nullable String adminPortName) {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @throws IllegalArgumentException if the label selector is blank, or if not exactly one of
+   *     adminPort and adminPortName is given
+   */
+  public TargetSelector {
+    if (labelSelector == null || labelSelector.isBlank()) {
+      throw new IllegalArgumentException("labelSelector is required");
+    }
+    if (fieldSelector != null && fieldSelector.isBlank()) {
+      fieldSelector = null;
+    }
+    if ((adminPort == null) == (adminPortName == null || adminPortName.isBlank())) {
+      throw new IllegalArgumentException("Either adminPort or adminPortName is required");
+    }
+    if (adminPort != null && (adminPort < 1 || adminPort > 65535)) {
+      throw new IllegalArgumentException(
+          "adminPort must be between 1 and 65535, but was: " + adminPort);
+    }
+  }
+
+  /**
+   * Creates a selector whose admin port is the given port number.
+   *
+   * @param labelSelector the label selector for the pods and deployments
+   * @param fieldSelector the field selector for the pods, null for none
+   * @param adminPort the port number of the Scalar Admin interface
+   * @return a new TargetSelector
+   */
+  public static TargetSelector withAdminPort(
+      String labelSelector, @Nullable String fieldSelector, int adminPort) {
+    return new TargetSelector(labelSelector, fieldSelector, adminPort, null);
+  }
+
+  /**
+   * Creates a selector whose admin port is looked up by name in the container ports of the pods.
+   *
+   * @param labelSelector the label selector for the pods and deployments
+   * @param fieldSelector the field selector for the pods, null for none
+   * @param adminPortName the name of the container port of the Scalar Admin interface
+   * @return a new TargetSelector
+   */
+  public static TargetSelector withAdminPortName(
+      String labelSelector, @Nullable String fieldSelector, String adminPortName) {
+    return new TargetSelector(labelSelector, fieldSelector, null, adminPortName);
+  }
+}
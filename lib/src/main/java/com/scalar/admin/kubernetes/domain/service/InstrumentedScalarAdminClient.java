@@ -0,0 +1,81 @@
+package com.scalar.admin.kubernetes.domain.service;
+
+import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
+import com.scalar.admin.kubernetes.domain.model.pause.PhaseSpan;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * ScalarAdminClient that reports the start of and the time spent in the pause and unpause requests
+ * of the given client, and the pause window between them, to a listener.
+ */
+@NotThreadSafe
+class InstrumentedScalarAdminClient implements ScalarAdminClient {
+
+  private final ScalarAdminClient delegate;
+  private final PauseLifecycleListener listener;
+  @Nullable private Long pausedAtNanos;
+
+  InstrumentedScalarAdminClient(ScalarAdminClient delegate, PauseLifecycleListener listener) {
+    this.delegate = delegate;
+    this.listener = listener;
+  }
+
+  @Override
+  public void warmUp() {
+    delegate.warmUp();
+  }
+
+  @Override
+  public void pause(boolean waitOutstandingRequests, @Nullable Long maxPauseWaitTime) {
+    listener.onPhaseStarted(PausePhase.PAUSE_REQUEST);
+    long startNanos = System.nanoTime();
+    try {
+      delegate.pause(waitOutstandingRequests, maxPauseWaitTime);
+      pausedAtNanos = System.nanoTime();
+    } finally {
+      listener.onPhase(new PhaseSpan(PausePhase.PAUSE_REQUEST, startNanos, System.nanoTime()));
+    }
+    listener.onPhaseStarted(PausePhase.PAUSE_WINDOW);
+  }
+
+  @Override
+  public AdminRequestResult unpause() {
+    return timeUnpause(delegate::unpause);
+  }
+
+  @Override
+  public AdminRequestResult unpause(List<InetSocketAddress> addresses) {
+    return timeUnpause(() -> delegate.unpause(addresses));
+  }
+
+  @Override
+  public void addListener(PauseLifecycleListener listener) {
+    delegate.addListener(listener);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  private AdminRequestResult timeUnpause(Supplier<AdminRequestResult> unpause) {
+    long startNanos = System.nanoTime();
+    // Only the first attempt ends the pause window.
+    if (pausedAtNanos != null) {
+      listener.onPhase(new PhaseSpan(PausePhase.PAUSE_WINDOW, pausedAtNanos, startNanos));
+      pausedAtNanos = null;
+    }
+    listener.onPhaseStarted(PausePhase.UNPAUSE_REQUEST);
+    try {
+      return unpause.get();
+    } finally {
+      listener.onPhase(new PhaseSpan(PausePhase.UNPAUSE_REQUEST, startNanos, System.nanoTime()));
+    }
+  }
+}
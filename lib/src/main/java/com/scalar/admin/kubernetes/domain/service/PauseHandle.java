@@ -0,0 +1,93 @@
+package com.scalar.admin.kubernetes.domain.service;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Handle to cancel a pause operation from another thread, for example, a shutdown hook.
+ *
+ * <p>If the operation is cancelled before the pause request is sent, no pod is paused. If it is
+ * cancelled while the pods are being paused or are paused, the thread that runs the operation is
+ * interrupted, which cuts the pause short and moves straight to the unpause request. Once the
+ * unpause request has started, cancelling has no effect, because the pods must be unpaused anyway.
+ * A cancelled operation fails with {@link
+ * com.scalar.admin.kubernetes.domain.exception.PauseFailedException}, because a backup taken during
+ * the pause might not be consistent.
+ *
+ * <p>A handle can be used for a single pause operation.
+ */
+@ThreadSafe
+public class PauseHandle {
+
+  @GuardedBy("this")
+  private boolean cancelled;
+
+  @GuardedBy("this")
+  private boolean used;
+
+  @GuardedBy("this")
+  @Nullable
+  private Thread pausingThread;
+
+  @GuardedBy("this")
+  private boolean interruptedByCancel;
+
+  /**
+   * Cancels the pause operation. This method returns without waiting for the pods to be unpaused.
+   */
+  public synchronized void cancel() {
+    if (cancelled) {
+      return;
+    }
+    cancelled = true;
+    if (pausingThread != null) {
+      interruptedByCancel = true;
+      pausingThread.interrupt();
+    }
+  }
+
+  /**
+   * Returns whether the pause operation has been cancelled.
+   *
+   * @return true if {@link #cancel()} has been called
+   */
+  public synchronized boolean isCancelled() {
+    return cancelled;
+  }
+
+  /**
+   * Binds this handle to the current thread until {@link #exitPause(boolean)} is called, so that
+   * cancelling interrupts the thread.
+   *
+   * @return false if the operation has already been cancelled, in which case the operation must not
+   *     pause any pod
+   * @throws IllegalStateException if this handle has already been used for another operation
+   */
+  synchronized boolean enterPause() {
+    if (used) {
+      throw new IllegalStateException("The handle has already been used for a pause operation.");
+    }
+    used = true;
+    if (cancelled) {
+      return false;
+    }
+    pausingThread = Thread.currentThread();
+    return true;
+  }
+
+  /**
+   * Unbinds this handle from the current thread before the unpause request, and clears the
+   * interrupt status of the thread so that the unpause request is not interrupted.
+   *
+   * @param interruptConsumed whether the operation has already consumed an interrupt, for example,
+   *     by catching {@link InterruptedException}
+   * @return whether the thread was interrupted by something other than {@link #cancel()}, in which
+   *     case the caller must restore the interrupt status when the operation ends
+   */
+  synchronized boolean exitPause(boolean interruptConsumed) {
+    pausingThread = null;
+    boolean interrupted = Thread.interrupted() || interruptConsumed;
+    return interrupted && !interruptedByCancel;
+  }
+}
@@ -0,0 +1,38 @@
+package com.scalar.admin.kubernetes.domain.service;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
+import com.scalar.admin.kubernetes.domain.model.pause.PhaseSpan;
+import com.scalar.admin.kubernetes.domain.model.pause.PodRequestSpan;
+
+/**
+ * Listener that is notified of the time spent in each phase of a pause operation and in each
+ * request to a pod.
+ *
+ * <p>The listener is called on the thread that runs the pause operation, so it must return quickly
+ * and must not throw an exception, or it delays or breaks the pause. The methods do nothing by
+ * default.
+ */
+public interface PauseLifecycleListener {
+
+  /**
+   * Called when a phase of a pause operation starts.
+   *
+   * @param phase the phase
+   */
+  default void onPhaseStarted(PausePhase phase) {}
+
+  /**
+   * Called when a phase of a pause operation ends, whether it succeeded or not.
+   *
+   * @param span the phase and the time spent in it
+   */
+  default void onPhase(PhaseSpan span) {}
+
+  /**
+   * Called for each pod when a request to the pods completes. Only clients that send a request to
+   * each pod on their own report it.
+   *
+   * @param span the pod and the time spent in the request
+   */
+  default void onPodRequest(PodRequestSpan span) {}
+}
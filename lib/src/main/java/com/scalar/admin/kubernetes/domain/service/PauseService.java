@@ -2,6 +2,7 @@ package com.scalar.admin.kubernetes.domain.service;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.util.concurrent.Uninterruptibles;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
 import com.scalar.admin.kubernetes.domain.exception.GetTargetAfterPauseFailedException;
 import com.scalar.admin.kubernetes.domain.exception.PauseFailedException;
@@ -9,10 +10,18 @@ import com.scalar.admin.kubernetes.domain.exception.PauserException;
 import com.scalar.admin.kubernetes.domain.exception.StatusCheckFailedException;
 import com.scalar.admin.kubernetes.domain.exception.StatusUnmatchedException;
 import com.scalar.admin.kubernetes.domain.exception.UnpauseFailedException;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseDuration;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTargetChange;
+import com.scalar.admin.kubernetes.domain.model.pause.PhaseSpan;
+import java.net.InetSocketAddress;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.NotThreadSafe;
@@ -27,10 +36,23 @@ import javax.annotation.concurrent.NotThreadSafe;
  * <ol>
  *   <li>Pause the target pods using the provided client.
  *   <li>Wait for the specified duration.
- *   <li>Unpause the target pods (with retry).
+ *   <li>Unpause the target pods (with retry of the pods that failed).
  *   <li>Validate that the target pods were not updated during the pause operation.
  * </ol>
  *
+ * <p>When a {@link PauseTargetWatch} is given, the updates to the target pods are detected while
+ * waiting, and the wait ends as soon as an update is observed.
+ *
+ * <p>The wait also ends as soon as the operation is cancelled through a {@link PauseHandle} or the
+ * thread is interrupted, and the pods are unpaused right away. The unpause request itself is never
+ * interrupted, and the interrupt status of the thread is restored when the operation ends.
+ *
+ * <p>The returned pause duration starts when the client returns from the pause request and ends
+ * before the unpause request is sent. If the client reports the time of the request to each pod,
+ * the duration is narrowed to the period from the last acknowledgement of the pause request to the
+ * first unpause request, in which all the pods are known to be paused, and the skews between the
+ * pods are reported with it.
+ *
  * <p>This class is not thread-safe because the pause operation causes side effects in the states of
  * target pods.
  */
@@ -38,6 +60,8 @@ import javax.annotation.concurrent.NotThreadSafe;
 public class PauseService {
 
   @VisibleForTesting static final int MAX_UNPAUSE_RETRY_COUNT = 3;
+  @VisibleForTesting static final long INITIAL_UNPAUSE_BACKOFF_MILLIS = 100;
+  @VisibleForTesting static final long MAX_UNPAUSE_BACKOFF_MILLIS = 2000;
 
   @VisibleForTesting
   static final String UNPAUSE_ERROR_MESSAGE =
@@ -51,6 +75,14 @@ public class PauseService {
           + " duration. You need to retry the pause operation from the beginning to"
           + " take a backup.";
 
+  @VisibleForTesting
+  static final String PAUSE_CANCELLED_ERROR_MESSAGE =
+      "The pause operation was cancelled before any pod was paused.";
+
+  @VisibleForTesting
+  static final String PAUSE_CUT_SHORT_MESSAGE =
+      "The pause was cut short because the pause operation was cancelled or interrupted.";
+
   @VisibleForTesting
   static final String GET_TARGET_AFTER_PAUSE_ERROR_MESSAGE =
       "Failed to find the target pods to examine if the targets pods were updated during"
@@ -88,11 +120,81 @@ public class PauseService {
       throws PauserException {
     Objects.requireNonNull(targetBeforePause, "targetBeforePause is required");
     Objects.requireNonNull(targetAfterPauseSupplier, "targetAfterPauseSupplier is required");
+    return pauseAll(
+        List.of(targetBeforePause),
+        null,
+        () -> List.of(targetAfterPauseSupplier.get()),
+        client,
+        pauseDuration,
+        maxPauseWaitTime,
+        null,
+        null);
+  }
+
+  /**
+   * Executes a pause operation on the pods of several targets in a single pause window.
+   *
+   * <p>The given client must send the requests to the pods of all the targets, so that all of them
+   * are paused and unpaused together. The returned duration is valid for every target. Each target
+   * is compared with the one at the same index in the list returned by the supplier. Otherwise,
+   * this method behaves like {@link #pause(PauseTarget, PauseTargetSupplier, ScalarAdminClient,
+   * int, Long)}.
+   *
+   * <p>If a watch is given, this method waits on it instead of sleeping for the full pause
+   * duration, and ends the pause as soon as a change to the targets is observed, because a backup
+   * taken during this pause can no longer be used. In that case, a {@link
+   * StatusUnmatchedException} is thrown after the unpause operation. If the watch reports no
+   * change, the targets are not resolved again after the pause. If the watch fails, this method
+   * falls back to resolving the targets with the given supplier and comparing the statuses.
+   *
+   * <p>If a listener is given, it is notified of the start and the end of {@link
+   * PausePhase#PAUSE_REQUEST}, {@link PausePhase#PAUSE_WINDOW}, each attempt of {@link
+   * PausePhase#UNPAUSE_REQUEST}, and {@link PausePhase#POST_CHECK} unless the watch tells the
+   * result of the check.
+   *
+   * <p>If a handle is given, the operation can be cancelled through it.
+   *
+   * @param targetsBeforePause the pause targets before the pause operation
+   * @param watch the watch on all the pause targets, null to rely on the supplier only
+   * @param targetsAfterPauseSupplier supplier to get the targets after the pause operation
+   * @param client the Scalar Admin client for pause/unpause operations on all the targets
+   * @param pauseDuration the duration to pause in milliseconds
+   * @param maxPauseWaitTime the max wait time (in milliseconds) until Scalar products drain
+   *     outstanding requests, null for default
+   * @param listener the listener to notify of the phases, null to not report them
+   * @param handle the handle to cancel the operation with, null if the operation is not cancelled
+   * @return the start and end time of the pause operation
+   * @throws PauserException when the pause operation fails or is cancelled
+   */
+  public PauseDuration pauseAll(
+      List<PauseTarget> targetsBeforePause,
+      @Nullable PauseTargetWatch watch,
+      PauseTargetsSupplier targetsAfterPauseSupplier,
+      ScalarAdminClient client,
+      int pauseDuration,
+      @Nullable Long maxPauseWaitTime,
+      @Nullable PauseLifecycleListener listener,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+    Objects.requireNonNull(targetsBeforePause, "targetsBeforePause is required");
+    Objects.requireNonNull(targetsAfterPauseSupplier, "targetsAfterPauseSupplier is required");
     Objects.requireNonNull(client, "client is required");
+    if (targetsBeforePause.isEmpty()) {
+      throw new IllegalArgumentException("targetsBeforePause must not be empty.");
+    }
     if (pauseDuration < 1) {
       throw new IllegalArgumentException(
           "pauseDuration is required to be greater than 0 millisecond.");
     }
+    PauseHandle pauseHandle = handle != null ? handle : new PauseHandle();
+    if (!pauseHandle.enterPause()) {
+      throw new PauseFailedException(PAUSE_CANCELLED_ERROR_MESSAGE);
+    }
+    PodPauseTimes podPauseTimes = new PodPauseTimes();
+    client.addListener(podPauseTimes);
+    if (listener != null) {
+      client = new InstrumentedScalarAdminClient(client, listener);
+    }
 
     // From here, we cannot throw exceptions right after they occur because we need to take care of
     // the unpause operation failure. We will throw the exception after the unpause operation or at
@@ -102,11 +204,20 @@ public class PauseService {
     PauseDuration pausedDuration = null;
     PauseFailedException pauseFailedException = null;
     try {
-      pausedDuration = pauseInternal(client, pauseDuration, maxPauseWaitTime);
+      pausedDuration =
+          watch == null
+              ? pauseInternal(client, pauseDuration, maxPauseWaitTime)
+              : pauseInternal(client, watch, pauseDuration, maxPauseWaitTime);
     } catch (Exception e) {
       pauseFailedException = new PauseFailedException(PAUSE_ERROR_MESSAGE, e);
     }
 
+    // Don't let a cancellation or an interrupt abort the unpause operation.
+    boolean interrupted =
+        pauseHandle.exitPause(
+            pauseFailedException != null
+                && pauseFailedException.getCause() instanceof CancellationException);
+
     // Run an unpause operation.
     UnpauseFailedException unpauseFailedException = null;
     try {
@@ -114,27 +225,55 @@ public class PauseService {
     } catch (Exception e) {
       unpauseFailedException = new UnpauseFailedException(UNPAUSE_ERROR_MESSAGE, e);
     }
+    if (pausedDuration != null) {
+      pausedDuration = podPauseTimes.narrow(pausedDuration);
+    }
+
+    // If the watch has been working throughout the pause, it tells whether the target was updated
+    // without getting the target again.
+    StatusCheckFailedException statusCheckFailedException = null;
+    StatusUnmatchedException statusUnmatchedException = null;
+    boolean watchedThroughout = false;
+    if (watch != null) {
+      PauseTargetChange change = watch.getChange();
+      if (change != null) {
+        statusUnmatchedException =
+            new StatusUnmatchedException(
+                STATUS_UNMATCHED_ERROR_MESSAGE + " Observed change: " + change);
+        watchedThroughout = true;
+      } else {
+        watchedThroughout = !watch.isFailed();
+      }
+    }
 
     // Get pods and deployment information after pause.
-    PauseTarget targetAfterPause = null;
+    if (listener != null && !watchedThroughout) {
+      listener.onPhaseStarted(PausePhase.POST_CHECK);
+    }
+    long postCheckStartNanos = System.nanoTime();
+    List<PauseTarget> targetsAfterPause = null;
     GetTargetAfterPauseFailedException getTargetAfterPauseFailedException = null;
-    try {
-      targetAfterPause = targetAfterPauseSupplier.get();
-    } catch (Exception e) {
-      getTargetAfterPauseFailedException =
-          new GetTargetAfterPauseFailedException(GET_TARGET_AFTER_PAUSE_ERROR_MESSAGE, e);
+    if (!watchedThroughout) {
+      try {
+        targetsAfterPause = targetsAfterPauseSupplier.get();
+      } catch (Exception e) {
+        getTargetAfterPauseFailedException =
+            new GetTargetAfterPauseFailedException(GET_TARGET_AFTER_PAUSE_ERROR_MESSAGE, e);
+      }
     }
 
     // Check if pods and deployment information are the same between before pause and after pause.
-    StatusCheckFailedException statusCheckFailedException = null;
-    StatusUnmatchedException statusUnmatchedException = null;
-    if (targetAfterPause != null) {
+    if (targetsAfterPause != null) {
       try {
-        statusUnmatchedException = targetStatusEquals(targetBeforePause, targetAfterPause);
+        statusUnmatchedException = targetsStatusEqual(targetsBeforePause, targetsAfterPause);
       } catch (Exception e) {
         statusCheckFailedException = new StatusCheckFailedException(STATUS_CHECK_ERROR_MESSAGE, e);
       }
     }
+    if (listener != null && !watchedThroughout) {
+      listener.onPhase(
+          new PhaseSpan(PausePhase.POST_CHECK, postCheckStartNanos, System.nanoTime()));
+    }
 
     // We use the exceptions as conditions instead of using boolean flags like `isPauseOk`, etc. If
     // we use boolean flags, it might cause a bit large number of combinations. For example, if we
@@ -149,6 +288,10 @@ public class PauseService {
             statusCheckFailedException,
             statusUnmatchedException);
 
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+
     // Return the final result based on each process.
     if (pauserException != null) {
       // Some operations failed.
@@ -170,31 +313,147 @@ public class PauseService {
     PauseTarget get() throws PauserException;
   }
 
+  /**
+   * Functional interface for supplying the PauseTargets of a multi-target pause operation after
+   * the pause operation, in the same order as the targets before the pause.
+   */
+  @FunctionalInterface
+  public interface PauseTargetsSupplier {
+    List<PauseTarget> get() throws PauserException;
+  }
+
+  /**
+   * Unpauses the target pods. Each retry is sent only to the pods that didn't acknowledge the
+   * previous attempt, or to the same pods if the client couldn't tell which pods failed. The
+   * retries are spaced by {@link #unpauseBackoffMillis(int)}. Neither the requests nor the wait
+   * are interrupted because the pods must be unpaused anyway, and the interrupt status of the
+   * thread is restored when this method returns.
+   */
   @VisibleForTesting
   void unpauseWithRetry(ScalarAdminClient client, int maxRetryCount) {
+    // null means all the target pods.
+    List<InetSocketAddress> pendingAddresses = null;
     int retryCounter = 0;
-    while (true) {
-      try {
-        client.unpause();
-        return;
-      } catch (Exception e) {
+    boolean interrupted = false;
+    try {
+      while (true) {
+        // A blocking gRPC call is cancelled if the thread is interrupted.
+        interrupted |= Thread.interrupted();
+        RuntimeException failure;
+        try {
+          AdminRequestResult result =
+              pendingAddresses == null ? client.unpause() : client.unpause(pendingAddresses);
+          if (result.isSuccessful()) {
+            return;
+          }
+          pendingAddresses = result.failedAddresses();
+          failure = result.toException("unpause");
+        } catch (RuntimeException e) {
+          failure = e;
+        }
         if (++retryCounter >= maxRetryCount) {
-          throw e;
+          throw failure;
         }
+        Uninterruptibles.sleepUninterruptibly(
+            unpauseBackoffMillis(retryCounter), TimeUnit.MILLISECONDS);
+      }
+    } finally {
+      if (interrupted) {
+        Thread.currentThread().interrupt();
       }
     }
   }
 
+  /**
+   * Returns the wait time before the given retry of an unpause operation. The upper bound doubles
+   * from {@link #INITIAL_UNPAUSE_BACKOFF_MILLIS} with each retry up to {@link
+   * #MAX_UNPAUSE_BACKOFF_MILLIS}, and the wait time is picked at random between the half of the
+   * upper bound and the upper bound, so that the retries don't keep hitting a recovering pod at the
+   * same moments.
+   */
+  @VisibleForTesting
+  static long unpauseBackoffMillis(int retryCount) {
+    int exponent = Math.min(Math.max(retryCount - 1, 0), 16);
+    long upperBound =
+        Math.min(MAX_UNPAUSE_BACKOFF_MILLIS, INITIAL_UNPAUSE_BACKOFF_MILLIS << exponent);
+    return ThreadLocalRandom.current().nextLong(upperBound / 2, upperBound + 1);
+  }
+
+  /**
+   * Pauses the target pods and waits for the pause duration.
+   *
+   * @throws CancellationException if the wait is interrupted
+   */
   @VisibleForTesting
   PauseDuration pauseInternal(
       ScalarAdminClient client, int pauseDuration, @Nullable Long maxPauseWaitTime) {
     client.pause(true, maxPauseWaitTime);
     Instant startTime = Instant.now();
-    Uninterruptibles.sleepUninterruptibly(pauseDuration, TimeUnit.MILLISECONDS);
+    try {
+      sleep(pauseDuration);
+    } catch (InterruptedException e) {
+      throw new CancellationException(PAUSE_CUT_SHORT_MESSAGE);
+    }
     Instant endTime = Instant.now();
     return new PauseDuration(startTime, endTime);
   }
 
+  /**
+   * Pauses the target pods and waits for the pause duration or until the watch observes a change,
+   * whichever comes first. If the watch fails, this method waits for the rest of the pause
+   * duration.
+   *
+   * @throws CancellationException if the wait is interrupted
+   */
+  @VisibleForTesting
+  PauseDuration pauseInternal(
+      ScalarAdminClient client,
+      PauseTargetWatch watch,
+      int pauseDuration,
+      @Nullable Long maxPauseWaitTime) {
+    client.pause(true, maxPauseWaitTime);
+    Instant startTime = Instant.now();
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pauseDuration);
+    try {
+      while (true) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMillis <= 0) {
+          break;
+        }
+        if (watch.isFailed()) {
+          sleep(remainingMillis);
+        } else if (watch.awaitChange(remainingMillis) != null) {
+          break;
+        }
+      }
+    } catch (InterruptedException e) {
+      throw new CancellationException(PAUSE_CUT_SHORT_MESSAGE);
+    }
+    Instant endTime = Instant.now();
+    return new PauseDuration(startTime, endTime);
+  }
+
+  /** Waits in the pause window. Unlike the other waits, this one ends when interrupted. */
+  @VisibleForTesting
+  void sleep(long millis) throws InterruptedException {
+    TimeUnit.MILLISECONDS.sleep(millis);
+  }
+
+  @Nullable
+  private StatusUnmatchedException targetsStatusEqual(
+      List<PauseTarget> before, List<PauseTarget> after) {
+    if (before.size() != after.size()) {
+      return new StatusUnmatchedException(STATUS_UNMATCHED_ERROR_MESSAGE);
+    }
+    for (int i = 0; i < before.size(); i++) {
+      StatusUnmatchedException e = targetStatusEquals(before.get(i), after.get(i));
+      if (e != null) {
+        return e;
+      }
+    }
+    return null;
+  }
+
   @VisibleForTesting
   @Nullable
   StatusUnmatchedException targetStatusEquals(PauseTarget before, PauseTarget after) {
@@ -0,0 +1,65 @@
+package com.scalar.admin.kubernetes.domain.service;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDuration;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
+import com.scalar.admin.kubernetes.domain.model.pause.PodRequestSpan;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Listener that collects when each pod acknowledged the pause request and when the unpause request
+ * was sent to each pod, to narrow a pause duration down to the period in which all the pods were
+ * paused.
+ *
+ * <p>Only the first unpause request to each pod counts, because a retry is sent after the first
+ * request to the pod and doesn't move the end of the period.
+ */
+@ThreadSafe
+class PodPauseTimes implements PauseLifecycleListener {
+
+  @GuardedBy("this")
+  private final List<Long> pauseAckNanos = new ArrayList<>();
+
+  @GuardedBy("this")
+  private final List<Long> unpauseSendNanos = new ArrayList<>();
+
+  @Override
+  public synchronized void onPodRequest(PodRequestSpan span) {
+    if (span.phase() == PausePhase.PAUSE_REQUEST && span.succeeded()) {
+      pauseAckNanos.add(span.endNanos());
+    } else if (span.phase() == PausePhase.UNPAUSE_REQUEST
+        && unpauseSendNanos.size() < pauseAckNanos.size()) {
+      // The first unpause request is sent to all the pods, and the requests of each attempt are
+      // reported together, so the first requests are as many as the acknowledgements.
+      unpauseSendNanos.add(span.startNanos());
+    }
+  }
+
+  /**
+   * Returns the period from the last acknowledgement of the pause request to the first unpause
+   * request with the skews, or the given duration if the times of the pods are not known.
+   */
+  synchronized PauseDuration narrow(PauseDuration duration) {
+    if (pauseAckNanos.isEmpty() || unpauseSendNanos.isEmpty()) {
+      return duration;
+    }
+    long firstAck = Collections.min(pauseAckNanos);
+    long lastAck = Collections.max(pauseAckNanos);
+    long firstUnpause = Collections.min(unpauseSendNanos);
+    long lastUnpause = Collections.max(unpauseSendNanos);
+
+    // Convert the monotonic times to wall-clock times with a single reading of both clocks.
+    long nowNanos = System.nanoTime();
+    Instant now = Instant.now();
+    return new PauseDuration(
+        now.minusNanos(nowNanos - lastAck),
+        now.minusNanos(nowNanos - firstUnpause),
+        Duration.ofNanos(lastAck - firstAck),
+        Duration.ofNanos(lastUnpause - firstUnpause));
+  }
+}
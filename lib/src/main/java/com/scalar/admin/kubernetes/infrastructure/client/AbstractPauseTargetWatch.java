@@ -0,0 +1,74 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTargetChange;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base implementation of {@link PauseTargetWatch} that keeps track of the first observed change
+ * and whether the watch failed. Subclasses report what they observe through {@link
+ * #markChanged(PauseTargetChange)} and {@link #markFailed(String, Exception)}.
+ */
+@ThreadSafe
+abstract class AbstractPauseTargetWatch implements PauseTargetWatch {
+
+  private static final Logger logger = LoggerFactory.getLogger(AbstractPauseTargetWatch.class);
+
+  private final AtomicReference<PauseTargetChange> change = new AtomicReference<>();
+  private final CountDownLatch changedOrFailed = new CountDownLatch(1);
+  private volatile boolean failed;
+  private volatile boolean closed;
+
+  @Override
+  @Nullable
+  public PauseTargetChange awaitChange(long timeoutMillis) throws InterruptedException {
+    changedOrFailed.await(timeoutMillis, TimeUnit.MILLISECONDS);
+    return change.get();
+  }
+
+  @Override
+  @Nullable
+  public PauseTargetChange getChange() {
+    return change.get();
+  }
+
+  @Override
+  public boolean isFailed() {
+    return failed;
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    doClose();
+  }
+
+  /** Releases the resources used for watching the target. */
+  protected abstract void doClose();
+
+  protected boolean isClosed() {
+    return closed;
+  }
+
+  protected void markChanged(PauseTargetChange observed) {
+    if (change.compareAndSet(null, observed)) {
+      logger.warn("The target was updated during the pause: {}", observed);
+    }
+    changedOrFailed.countDown();
+  }
+
+  protected void markFailed(String message, @Nullable Exception cause) {
+    if (closed) {
+      return;
+    }
+    logger.warn(message, cause);
+    failed = true;
+    changedOrFailed.countDown();
+  }
+}
@@ -0,0 +1,19 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+/**
+ * Modes of sending the pause and unpause requests to the Scalar Admin interfaces of the target
+ * pods.
+ */
+public enum AdminClientMode {
+  /** Sends the requests through the request coordinators of the scalar-admin library. */
+  COORDINATOR,
+
+  /**
+   * Sends the requests to all the target pods at the same time, each on its own virtual thread and
+   * with its own deadline. The gap between the first and the last pod entering the pause doesn't
+   * grow with the number of pods.
+   *
+   * @see ParallelScalarAdminClient
+   */
+  PARALLEL
+}
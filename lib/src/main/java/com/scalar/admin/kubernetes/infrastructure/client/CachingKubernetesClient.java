@@ -0,0 +1,149 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.ResolvedRelease;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesRateLimiter.Priority;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Decorator of {@link KubernetesClientImpl} that reuses the pause target of a Helm release resolved
+ * last time as long as the resources of the release are unchanged.
+ *
+ * <p>This client keeps the last resolved target of each Helm release together with the resource
+ * versions of the pods, deployments, and services of its product. When the target of the release
+ * is resolved again, only the metadata of those resources is listed, and the kept target is
+ * returned if none of the resource versions has moved. Otherwise, the target is resolved from
+ * scratch by the underlying client. So a process that pauses the same releases repeatedly lists
+ * the whole resources only when they have been updated.
+ *
+ * <p>The examination of a target after the pause is revalidated in the same way with the requested
+ * consistency, so the pause is judged by the resource versions listed after the pause. A target is
+ * kept with the resource versions of the resources in the very lists that it was built from, so
+ * that a target is never reused for a state newer than the one it was read from.
+ *
+ * <p>The targets of a namespace or of a {@link TargetSelector} are always resolved by the
+ * underlying client. The underlying client must list the metadata as a {@code
+ * PartialObjectMetadataList}, which the Kubernetes API server supports since Kubernetes 1.15.
+ */
+@ThreadSafe
+public class CachingKubernetesClient implements KubernetesClient {
+
+  private static final Logger logger = LoggerFactory.getLogger(CachingKubernetesClient.class);
+
+  private final KubernetesClientImpl delegate;
+  private final Map<ReleaseKey, CachedTarget> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a CachingKubernetesClient.
+   *
+   * @param delegate the client that resolves the targets from scratch
+   */
+  public CachingKubernetesClient(KubernetesClientImpl delegate) {
+    if (delegate == null) {
+      throw new IllegalArgumentException("delegate is required");
+    }
+    this.delegate = delegate;
+  }
+
+  @Override
+  public PauseTarget resolvePauseTargetByHelmRelease(String namespace, String helmReleaseName)
+      throws PauserException {
+    return resolve(namespace, helmReleaseName, delegate.discoveryConsistency(), Priority.LOW);
+  }
+
+  @Override
+  public PauseTarget resolvePauseTargetByHelmRelease(
+      String namespace, String helmReleaseName, ReadConsistency consistency)
+      throws PauserException {
+    return resolve(namespace, helmReleaseName, consistency, Priority.HIGH);
+  }
+
+  @Override
+  public Map<String, PauseTarget> resolvePauseTargetsInNamespace(String namespace)
+      throws PauserException {
+    return delegate.resolvePauseTargetsInNamespace(namespace);
+  }
+
+  @Override
+  public Map<String, PauseTarget> resolvePauseTargetsInNamespace(
+      String namespace, ReadConsistency consistency) throws PauserException {
+    return delegate.resolvePauseTargetsInNamespace(namespace, consistency);
+  }
+
+  @Override
+  public List<PauseTarget> resolvePauseTargetsBySelector(String namespace, TargetSelector selector)
+      throws PauserException {
+    return delegate.resolvePauseTargetsBySelector(namespace, selector);
+  }
+
+  @Override
+  public List<PauseTarget> resolvePauseTargetsBySelector(
+      String namespace, TargetSelector selector, ReadConsistency consistency)
+      throws PauserException {
+    return delegate.resolvePauseTargetsBySelector(namespace, selector, consistency);
+  }
+
+  @Override
+  public PauseTargetWatch watchPauseTarget(
+      String namespace, String helmReleaseName, PauseTarget target) throws PauserException {
+    return delegate.watchPauseTarget(namespace, helmReleaseName, target);
+  }
+
+  private PauseTarget resolve(
+      String namespace, String helmReleaseName, ReadConsistency consistency, Priority priority)
+      throws PauserException {
+    ReleaseKey key = new ReleaseKey(namespace, helmReleaseName);
+
+    CachedTarget cached = cache.get(key);
+    if (cached != null) {
+      try {
+        ReleaseResourceVersions current =
+            delegate.listReleaseResourceVersions(
+                namespace, helmReleaseName, cached.target().product(), consistency, priority);
+        if (current.isSameAs(cached.resourceVersions())) {
+          // The pod list has a newer resource version, from which the target can be watched.
+          PauseTarget target = cached.target();
+          return new PauseTarget(
+              target.pods(),
+              target.deployment(),
+              target.adminPort(),
+              target.product(),
+              current.podsResourceVersion() != null
+                  ? current.podsResourceVersion()
+                  : target.podsResourceVersion());
+        }
+      } catch (PauserException e) {
+        logger.warn(
+            "Failed to revalidate the target of the Helm release {}. Resolving it again.",
+            helmReleaseName,
+            e);
+      }
+    }
+
+    // The resource versions are taken from the lists that the target is built from, so that the
+    // target is never kept with the resource versions of a newer state.
+    ResolvedRelease resolved;
+    try {
+      resolved = delegate.resolveRelease(namespace, helmReleaseName, consistency, priority);
+    } catch (PauserException e) {
+      cache.remove(key);
+      throw e;
+    }
+    cache.put(key, new CachedTarget(resolved.target(), resolved.resourceVersions()));
+    return resolved.target();
+  }
+
+  private record ReleaseKey(String namespace, String helmReleaseName) {}
+
+  private record CachedTarget(PauseTarget target, ReleaseResourceVersions resourceVersions) {}
+}
@@ -0,0 +1,489 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_APP;
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_INSTANCE;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.assembleTargetsByHelmRelease;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.findAdminPortInService;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.newPauseTarget;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.selectDeploymentForProduct;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.selectPodsRunScalarProduct;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.selectServiceRunsScalarAdmin;
+
+import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
+import com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.PodsWithSameProduct;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ResourceEventHandler;
+import io.kubernetes.client.informer.SharedIndexInformer;
+import io.kubernetes.client.informer.SharedInformerFactory;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Implementation of {@link KubernetesClient} that resolves pause targets from an in-memory cache.
+ *
+ * <p>This client keeps a {@link SharedIndexInformer} for each of pods, deployments, and services in
+ * every watched namespace. The informers index the resources by the app.kubernetes.io/instance
+ * label and by the pair of the app.kubernetes.io/instance and app.kubernetes.io/app labels, so a
+ * pause target is resolved by index lookups without calling the Kubernetes API. It is intended for
+ * a long-running process that pauses targets repeatedly.
+ *
+ * <p>The namespaces given to the constructor are watched from the beginning. Any other namespace
+ * starts to be watched the first time a target in it is resolved, so that call waits until the
+ * informers of the namespace are synced. The informers of each namespace are started on a thread of
+ * their own, so a namespace that is slow to sync doesn't hold up the targets in other namespaces,
+ * and a waiting call returns as soon as its thread is interrupted.
+ *
+ * <p>The targets selected by a {@link TargetSelector} are resolved by the given {@link
+ * KubernetesClientImpl}, which calls the Kubernetes API with its own settings, because the
+ * informers index the resources only by the labels of Scalar Helm Charts.
+ *
+ * <p>The targets requested with {@link ReadConsistency#LATEST}, that is, the targets examined after
+ * the pause, are not resolved from the cache. The cache sees a change only after its watch delivers
+ * the change, so a pod restarted during the pause could still look unchanged there. These targets
+ * are listed by the given {@link KubernetesClientImpl} with a quorum read instead.
+ *
+ * <p>A watch on a target is fed by the pod and deployment informers. It fails whenever one of those
+ * informers stops watching, so that the target is examined with a quorum read after the pause
+ * unless the informers have been watching throughout.
+ *
+ * <p>The underlying API client must not have a read timeout because the informers keep watch
+ * connections that stay idle while nothing changes.
+ */
+@ThreadSafe
+public class InformerKubernetesClient implements KubernetesClient, AutoCloseable {
+
+  static final String INDEX_BY_INSTANCE = "byInstance";
+  static final String INDEX_BY_INSTANCE_AND_APP = "byInstanceAndApp";
+  private static final long DEFAULT_SYNC_TIMEOUT_MILLIS = 60000;
+
+  private final CoreV1Api coreApi;
+  private final AppsV1Api appsApi;
+  private final long syncTimeoutMillis;
+  private final KubernetesClientImpl directClient;
+  private final Map<String, CompletableFuture<NamespaceCache>> caches = new ConcurrentHashMap<>();
+
+  /**
+   * Creates an InformerKubernetesClient and starts watching the given namespaces.
+   *
+   * @param coreApi the API for pods and services, whose client has no read timeout
+   * @param appsApi the API for deployments, whose client has no read timeout
+   * @param directClient the client that calls the Kubernetes API for the targets selected by a
+   *     {@link TargetSelector} and the targets that must be read with a quorum read
+   * @param watchedNamespaces the namespaces to watch from the beginning
+   * @throws PauserException if the informers of the namespaces can't be synced
+   */
+  public InformerKubernetesClient(
+      CoreV1Api coreApi,
+      AppsV1Api appsApi,
+      KubernetesClientImpl directClient,
+      Collection<String> watchedNamespaces)
+      throws PauserException {
+    this(coreApi, appsApi, directClient, watchedNamespaces, DEFAULT_SYNC_TIMEOUT_MILLIS);
+  }
+
+  InformerKubernetesClient(
+      CoreV1Api coreApi,
+      AppsV1Api appsApi,
+      KubernetesClientImpl directClient,
+      Collection<String> watchedNamespaces,
+      long syncTimeoutMillis)
+      throws PauserException {
+    if (coreApi == null) {
+      throw new IllegalArgumentException("coreApi is required");
+    }
+    if (appsApi == null) {
+      throw new IllegalArgumentException("appsApi is required");
+    }
+    if (directClient == null) {
+      throw new IllegalArgumentException("directClient is required");
+    }
+    this.coreApi = coreApi;
+    this.appsApi = appsApi;
+    this.directClient = directClient;
+    this.syncTimeoutMillis = syncTimeoutMillis;
+    // The namespaces are synced at the same time.
+    List<String> namespaces = List.copyOf(watchedNamespaces);
+    namespaces.forEach(this::startCacheIfAbsent);
+    try {
+      for (String namespace : namespaces) {
+        cacheFor(namespace);
+      }
+    } catch (PauserException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  public PauseTarget resolvePauseTargetByHelmRelease(String namespace, String helmReleaseName)
+      throws PauserException {
+    try {
+      NamespaceCache cache = cacheFor(namespace);
+
+      List<V1Pod> podsCreatedByHelmRelease =
+          cache.pods.getIndexer().byIndex(INDEX_BY_INSTANCE, helmReleaseName);
+      if (podsCreatedByHelmRelease.isEmpty()) {
+        String m = String.format("Helm release %s didn't create any pod.", helmReleaseName);
+        throw new PauserException(m);
+      }
+
+      PodsWithSameProduct podsWithSameProduct =
+          selectPodsRunScalarProduct(podsCreatedByHelmRelease);
+      String key = instanceAndAppKey(helmReleaseName, podsWithSameProduct.product.getAppLabelValue());
+
+      V1Deployment deployment =
+          selectDeploymentForProduct(
+              cache.deployments.getIndexer().byIndex(INDEX_BY_INSTANCE_AND_APP, key),
+              helmReleaseName);
+
+      V1Service service =
+          selectServiceRunsScalarAdmin(
+              cache.services.getIndexer().byIndex(INDEX_BY_INSTANCE_AND_APP, key),
+              helmReleaseName);
+
+      int adminPort =
+          findAdminPortInService(service, podsWithSameProduct.product.getAdminPortName());
+
+      return newPauseTarget(
+          podsWithSameProduct.pods,
+          deployment,
+          adminPort,
+          podsWithSameProduct.product,
+          cache.pods.lastSyncResourceVersion());
+    } catch (Exception e) {
+      throw new PauserException("Can not find any target pods.", e);
+    }
+  }
+
+  @Override
+  public PauseTarget resolvePauseTargetByHelmRelease(
+      String namespace, String helmReleaseName, ReadConsistency consistency)
+      throws PauserException {
+    if (consistency == ReadConsistency.LATEST) {
+      return directClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName, consistency);
+    }
+    return resolvePauseTargetByHelmRelease(namespace, helmReleaseName);
+  }
+
+  @Override
+  public Map<String, PauseTarget> resolvePauseTargetsInNamespace(String namespace)
+      throws PauserException {
+    try {
+      NamespaceCache cache = cacheFor(namespace);
+
+      Map<String, PauseTarget> targets =
+          assembleTargetsByHelmRelease(
+              cache.pods.getIndexer().list(),
+              cache.deployments.getIndexer().list(),
+              cache.services.getIndexer().list(),
+              cache.pods.lastSyncResourceVersion());
+      if (targets.isEmpty()) {
+        String m = String.format("No Scalar product is deployed in the namespace %s.", namespace);
+        throw new PauserException(m);
+      }
+      return targets;
+    } catch (Exception e) {
+      throw new PauserException("Can not find any target pods.", e);
+    }
+  }
+
+  @Override
+  public Map<String, PauseTarget> resolvePauseTargetsInNamespace(
+      String namespace, ReadConsistency consistency) throws PauserException {
+    if (consistency == ReadConsistency.LATEST) {
+      return directClient.resolvePauseTargetsInNamespace(namespace, consistency);
+    }
+    return resolvePauseTargetsInNamespace(namespace);
+  }
+
+  @Override
+  public List<PauseTarget> resolvePauseTargetsBySelector(String namespace, TargetSelector selector)
+      throws PauserException {
+    return directClient.resolvePauseTargetsBySelector(namespace, selector);
+  }
+
+  @Override
+  public List<PauseTarget> resolvePauseTargetsBySelector(
+      String namespace, TargetSelector selector, ReadConsistency consistency)
+      throws PauserException {
+    return directClient.resolvePauseTargetsBySelector(namespace, selector, consistency);
+  }
+
+  @Override
+  public PauseTargetWatch watchPauseTarget(
+      String namespace, String helmReleaseName, PauseTarget target) throws PauserException {
+    NamespaceCache cache = cacheFor(namespace);
+    InformerPauseTargetWatch[] holder = new InformerPauseTargetWatch[1];
+    InformerPauseTargetWatch watch =
+        new InformerPauseTargetWatch(
+            helmReleaseName, target, () -> cache.watches.unregister(holder[0]));
+    holder[0] = watch;
+    cache.watches.register(watch);
+
+    // Catch the changes made before the watch was registered.
+    watch.checkCurrentState(
+        cache.pods.getIndexer().byIndex(INDEX_BY_INSTANCE, helmReleaseName),
+        cache.deployments.getIndexer().byIndex(INDEX_BY_INSTANCE, helmReleaseName));
+    return watch;
+  }
+
+  /** Stops all the informers, including the ones still being synced. */
+  @Override
+  public void close() {
+    for (CompletableFuture<NamespaceCache> future : caches.values()) {
+      // The informers being synced are stopped by their thread once it fails to complete this.
+      future.completeExceptionally(new PauserException("The Kubernetes client is closed."));
+      future.thenAccept(cache -> cache.factory.stopAllInformers());
+    }
+    caches.clear();
+  }
+
+  private NamespaceCache cacheFor(String namespace) throws PauserException {
+    try {
+      return startCacheIfAbsent(namespace).get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      String m =
+          String.format(
+              "Interrupted while waiting for the informers in the namespace %s to be synced.",
+              namespace);
+      throw new PauserException(m, e);
+    } catch (ExecutionException e) {
+      throw new PauserException(e.getCause().getMessage(), e.getCause());
+    }
+  }
+
+  private CompletableFuture<NamespaceCache> startCacheIfAbsent(String namespace) {
+    CompletableFuture<NamespaceCache> created = new CompletableFuture<>();
+    CompletableFuture<NamespaceCache> future = caches.computeIfAbsent(namespace, key -> created);
+    if (future == created) {
+      Thread.ofVirtual()
+          .name("informer-sync-" + namespace)
+          .start(() -> syncCache(namespace, created));
+    }
+    return future;
+  }
+
+  /**
+   * Starts the informers of the namespace and completes the given future with them once they are
+   * synced. If they fail to sync, the future is removed so that the next call tries again, for
+   * example, after the permissions to watch the namespace are granted.
+   */
+  private void syncCache(String namespace, CompletableFuture<NamespaceCache> future) {
+    try {
+      NamespaceCache cache = startCache(namespace);
+      if (!future.complete(cache)) {
+        // The client was closed while the informers were being synced.
+        cache.factory.stopAllInformers();
+      }
+    } catch (PauserException | RuntimeException e) {
+      caches.remove(namespace, future);
+      future.completeExceptionally(e);
+    }
+  }
+
+  private NamespaceCache startCache(String namespace) throws PauserException {
+    // A factory holds only one informer for each resource type, so each namespace needs its own.
+    SharedInformerFactory factory = new SharedInformerFactory(coreApi.getApiClient());
+
+    // The watches on the targets are fed by the pod and deployment informers, so they are told
+    // when those informers stop watching.
+    InformerWatchRegistry watches = new InformerWatchRegistry();
+    SharedIndexInformer<V1Pod> pods =
+        factory.sharedIndexInformerFor(
+            watches.listerWatcher(
+                "Pod",
+                coreApi.getApiClient(),
+                params ->
+                    coreApi.listNamespacedPodCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        params.resourceVersion,
+                        null,
+                        params.timeoutSeconds,
+                        params.watch,
+                        null),
+                V1Pod.class,
+                V1PodList.class),
+            V1Pod.class,
+            0);
+    SharedIndexInformer<V1Deployment> deployments =
+        factory.sharedIndexInformerFor(
+            watches.listerWatcher(
+                "Deployment",
+                appsApi.getApiClient(),
+                params ->
+                    appsApi.listNamespacedDeploymentCall(
+                        namespace,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        null,
+                        params.resourceVersion,
+                        null,
+                        params.timeoutSeconds,
+                        params.watch,
+                        null),
+                V1Deployment.class,
+                V1DeploymentList.class),
+            V1Deployment.class,
+            0);
+    SharedIndexInformer<V1Service> services =
+        factory.sharedIndexInformerFor(
+            params ->
+                coreApi.listNamespacedServiceCall(
+                    namespace,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    params.resourceVersion,
+                    null,
+                    params.timeoutSeconds,
+                    params.watch,
+                    null),
+            V1Service.class,
+            V1ServiceList.class);
+
+    pods.addIndexers(labelIndexers());
+    deployments.addIndexers(labelIndexers());
+    services.addIndexers(labelIndexers());
+
+    NamespaceCache cache = new NamespaceCache(factory, pods, deployments, services, watches);
+    pods.addEventHandler(dispatcher(watches.watches(), InformerPauseTargetWatch::onPodEvent));
+    deployments.addEventHandler(
+        dispatcher(watches.watches(), InformerPauseTargetWatch::onDeploymentEvent));
+
+    factory.startAllInformers();
+
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(syncTimeoutMillis);
+    while (!(pods.hasSynced() && deployments.hasSynced() && services.hasSynced())) {
+      if (System.nanoTime() - deadline > 0) {
+        factory.stopAllInformers();
+        String m =
+            String.format(
+                "Timed out waiting for the informers in the namespace %s to be synced.",
+                namespace);
+        throw new PauserException(m);
+      }
+      try {
+        TimeUnit.MILLISECONDS.sleep(100);
+      } catch (InterruptedException e) {
+        factory.stopAllInformers();
+        Thread.currentThread().interrupt();
+        String m =
+            String.format(
+                "Interrupted while waiting for the informers in the namespace %s to be synced.",
+                namespace);
+        throw new PauserException(m, e);
+      }
+    }
+
+    return cache;
+  }
+
+  private static <T extends KubernetesObject>
+      Map<String, Function<T, List<String>>> labelIndexers() {
+    return Map.of(
+        INDEX_BY_INSTANCE,
+        object -> {
+          String instance = labelOf(object, LABEL_INSTANCE);
+          return instance == null ? List.of() : List.of(instance);
+        },
+        INDEX_BY_INSTANCE_AND_APP,
+        object -> {
+          String instance = labelOf(object, LABEL_INSTANCE);
+          String app = labelOf(object, LABEL_APP);
+          return instance == null || app == null
+              ? List.of()
+              : List.of(instanceAndAppKey(instance, app));
+        });
+  }
+
+  private static <T> ResourceEventHandler<T> dispatcher(
+      Set<InformerPauseTargetWatch> watches, EventConsumer<T> consumer) {
+    return new ResourceEventHandler<T>() {
+      @Override
+      public void onAdd(T object) {
+        watches.forEach(watch -> consumer.accept(watch, "ADDED", object));
+      }
+
+      @Override
+      public void onUpdate(T oldObject, T newObject) {
+        watches.forEach(watch -> consumer.accept(watch, "MODIFIED", newObject));
+      }
+
+      @Override
+      public void onDelete(T object, boolean deletedFinalStateUnknown) {
+        watches.forEach(watch -> consumer.accept(watch, "DELETED", object));
+      }
+    };
+  }
+
+  @Nullable
+  private static String labelOf(KubernetesObject object, String key) {
+    Map<String, String> labels = object.getMetadata().getLabels();
+    return labels == null ? null : labels.get(key);
+  }
+
+  private static String instanceAndAppKey(String instance, String app) {
+    return instance + "/" + app;
+  }
+
+  @FunctionalInterface
+  private interface EventConsumer<T> {
+    void accept(InformerPauseTargetWatch watch, String type, T object);
+  }
+
+  private static class NamespaceCache {
+    private final SharedInformerFactory factory;
+    private final SharedIndexInformer<V1Pod> pods;
+    private final SharedIndexInformer<V1Deployment> deployments;
+    private final SharedIndexInformer<V1Service> services;
+    private final InformerWatchRegistry watches;
+
+    NamespaceCache(
+        SharedInformerFactory factory,
+        SharedIndexInformer<V1Pod> pods,
+        SharedIndexInformer<V1Deployment> deployments,
+        SharedIndexInformer<V1Service> services,
+        InformerWatchRegistry watches) {
+      this.factory = factory;
+      this.pods = pods;
+      this.deployments = deployments;
+      this.services = services;
+      this.watches = watches;
+    }
+  }
+}
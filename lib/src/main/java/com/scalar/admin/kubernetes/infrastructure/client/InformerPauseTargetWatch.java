@@ -0,0 +1,119 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_APP;
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_INSTANCE;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTargetChange;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Implementation of {@link com.scalar.admin.kubernetes.domain.client.PauseTargetWatch} that is fed
+ * by the event handlers of the informers in {@link InformerKubernetesClient}.
+ *
+ * <p>Events whose resource version is the one captured in the target are ignored because they
+ * don't change anything, for example, the events delivered when an informer relists the resources.
+ * Although the informers recover from disconnections by themselves, the changes made while an
+ * informer is not watching are delivered late, so this watch fails once the pod or deployment
+ * informer loses its watch, as told by {@link InformerWatchRegistry}.
+ */
+@ThreadSafe
+class InformerPauseTargetWatch extends AbstractPauseTargetWatch {
+
+  private final String helmReleaseName;
+  @Nullable private final String appLabelValue;
+  private final Map<String, String> podResourceVersions;
+  private final String deploymentName;
+  private final String deploymentResourceVersion;
+  private final Runnable onClose;
+
+  InformerPauseTargetWatch(String helmReleaseName, PauseTarget target, Runnable onClose) {
+    this.helmReleaseName = helmReleaseName;
+    this.appLabelValue = target.product() == null ? null : target.product().getAppLabelValue();
+    this.podResourceVersions = new HashMap<>();
+    for (PausePod pod : target.pods()) {
+      podResourceVersions.put(pod.name(), pod.resourceVersion());
+    }
+    this.deploymentName = target.deployment().name();
+    this.deploymentResourceVersion = target.deployment().resourceVersion();
+    this.onClose = onClose;
+  }
+
+  /**
+   * Compares the given cached pods and deployment with the target to catch the changes made
+   * between the target was resolved and this watch started receiving events.
+   */
+  void checkCurrentState(List<V1Pod> podsOfRelease, List<V1Deployment> deploymentsOfRelease) {
+    Set<String> remainingPods = new HashSet<>(podResourceVersions.keySet());
+    for (V1Pod pod : podsOfRelease) {
+      if (!isTargetPod(pod)) {
+        continue;
+      }
+      remainingPods.remove(pod.getMetadata().getName());
+      onPodEvent("MODIFIED", pod);
+    }
+    for (String podName : remainingPods) {
+      markChanged(new PauseTargetChange("Pod", podName, "DELETED", Instant.now()));
+    }
+    for (V1Deployment deployment : deploymentsOfRelease) {
+      onDeploymentEvent("MODIFIED", deployment);
+    }
+  }
+
+  void onPodEvent(String type, V1Pod pod) {
+    if (!isTargetPod(pod)) {
+      return;
+    }
+    V1ObjectMeta metadata = pod.getMetadata();
+    if (!"DELETED".equals(type)
+        && Objects.equals(
+            podResourceVersions.get(metadata.getName()), metadata.getResourceVersion())) {
+      return;
+    }
+    markChanged(new PauseTargetChange("Pod", metadata.getName(), type, Instant.now()));
+  }
+
+  void onDeploymentEvent(String type, V1Deployment deployment) {
+    V1ObjectMeta metadata = deployment.getMetadata();
+    if (!deploymentName.equals(metadata.getName())) {
+      return;
+    }
+    if (!"DELETED".equals(type)
+        && deploymentResourceVersion.equals(metadata.getResourceVersion())) {
+      return;
+    }
+    markChanged(new PauseTargetChange("Deployment", metadata.getName(), type, Instant.now()));
+  }
+
+  void onWatchLost(String kind) {
+    markFailed(String.format("The %s informer stopped watching during the pause.", kind), null);
+  }
+
+  @Override
+  protected void doClose() {
+    onClose.run();
+  }
+
+  private boolean isTargetPod(V1Pod pod) {
+    V1ObjectMeta metadata = pod.getMetadata();
+    return helmReleaseName.equals(labelOf(metadata, LABEL_INSTANCE))
+        && (appLabelValue == null || appLabelValue.equals(labelOf(metadata, LABEL_APP)));
+  }
+
+  @Nullable
+  private static String labelOf(V1ObjectMeta metadata, String key) {
+    return metadata.getLabels() == null ? null : metadata.getLabels().get(key);
+  }
+}
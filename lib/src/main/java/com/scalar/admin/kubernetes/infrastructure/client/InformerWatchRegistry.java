@@ -0,0 +1,158 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.google.gson.reflect.TypeToken;
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.informer.ListerWatcher;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.util.CallGenerator;
+import io.kubernetes.client.util.CallGeneratorParams;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Registry of the {@link InformerPauseTargetWatch}es in a namespace that fails them when an
+ * informer loses its watch on the Kubernetes API server.
+ *
+ * <p>An informer recovers from a disconnection or an expired resource version by watching again,
+ * after listing the resources again if needed. The changes made in the meantime are delivered only
+ * after the informer has caught up, which can be after the pause has been judged. So each watch
+ * registered while an informer is not watching, or while an informer stops watching for any reason,
+ * is marked as failed, and the target is examined with a quorum read after the pause instead.
+ */
+@ThreadSafe
+class InformerWatchRegistry {
+
+  private final Set<InformerPauseTargetWatch> watches = ConcurrentHashMap.newKeySet();
+  private final Map<String, Boolean> watching = new ConcurrentHashMap<>();
+
+  /**
+   * Registers the watch. The watch is marked as failed right away if any of the informers is not
+   * watching at the moment.
+   */
+  void register(InformerPauseTargetWatch watch) {
+    watches.add(watch);
+    // An informer that has never watched has no entry yet.
+    for (String kind : List.of("Pod", "Deployment")) {
+      if (!watching.getOrDefault(kind, false)) {
+        watch.onWatchLost(kind);
+      }
+    }
+  }
+
+  void unregister(InformerPauseTargetWatch watch) {
+    watches.remove(watch);
+  }
+
+  Set<InformerPauseTargetWatch> watches() {
+    return watches;
+  }
+
+  /**
+   * Returns a {@link ListerWatcher} for an informer of the given kind that lists and watches the
+   * resources with the calls of the given generator and reports when its watches end.
+   */
+  <T extends KubernetesObject, L extends KubernetesListObject> ListerWatcher<T, L> listerWatcher(
+      String kind,
+      ApiClient apiClient,
+      CallGenerator callGenerator,
+      Class<T> apiTypeClass,
+      Class<L> apiListTypeClass) {
+    return new ListerWatcher<>() {
+      @Override
+      public L list(CallGeneratorParams params) throws ApiException {
+        return apiClient.<L>execute(callGenerator.generate(params), apiListTypeClass).getData();
+      }
+
+      @Override
+      public Watchable<T> watch(CallGeneratorParams params) throws ApiException {
+        Watch<T> watch =
+            Watch.createWatch(
+                apiClient,
+                callGenerator.generate(params),
+                TypeToken.getParameterized(Watch.Response.class, apiTypeClass).getType());
+        return track(kind, watch);
+      }
+    };
+  }
+
+  /**
+   * Wraps the watch of an informer so that the registered watches are marked as failed once it
+   * returns an ERROR event, is disconnected, or is closed.
+   */
+  <T> Watchable<T> track(String kind, Watchable<T> watch) {
+    watching.put(kind, true);
+    return new TrackedWatch<>(kind, watch);
+  }
+
+  private void onWatchLost(String kind) {
+    // The flag is cleared first, so that a watch being registered is either seen here or sees it.
+    watching.put(kind, false);
+    watches.forEach(watch -> watch.onWatchLost(kind));
+  }
+
+  private class TrackedWatch<T> implements Watchable<T> {
+    private final String kind;
+    private final Watchable<T> delegate;
+    private final AtomicBoolean lost = new AtomicBoolean();
+
+    TrackedWatch(String kind, Watchable<T> delegate) {
+      this.kind = kind;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public Iterator<Watch.Response<T>> iterator() {
+      return this;
+    }
+
+    @Override
+    public boolean hasNext() {
+      try {
+        boolean hasNext = delegate.hasNext();
+        if (!hasNext) {
+          lose();
+        }
+        return hasNext;
+      } catch (RuntimeException e) {
+        lose();
+        throw e;
+      }
+    }
+
+    @Override
+    public Watch.Response<T> next() {
+      try {
+        Watch.Response<T> event = delegate.next();
+        if ("ERROR".equals(event.type)) {
+          lose();
+        }
+        return event;
+      } catch (RuntimeException e) {
+        lose();
+        throw e;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      lose();
+      delegate.close();
+    }
+
+    private void lose() {
+      if (lost.compareAndSet(false, true)) {
+        onWatchLost(kind);
+      }
+    }
+  }
+}
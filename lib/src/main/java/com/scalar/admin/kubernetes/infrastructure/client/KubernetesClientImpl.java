@@ -1,26 +1,96 @@
 package com.scalar.admin.kubernetes.infrastructure.client;
 
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.assembleTargetsByHelmRelease;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.assembleTargetsBySelector;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.filterByAppLabel;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.findAdminPortInService;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.newPauseTarget;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.selectDeploymentForProduct;
+import static com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.selectServiceRunsScalarAdmin;
+
+import com.google.gson.reflect.TypeToken;
 import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
 import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDeployment;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
 import com.scalar.admin.kubernetes.domain.model.shared.Product;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesRateLimiter.Priority;
+import com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.PodsWithSameProduct;
+import com.scalar.admin.kubernetes.infrastructure.client.PauseTargetAssembler.ScalarProductPodCollector;
+import io.kubernetes.client.ProtoClient;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.ApiResponse;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
 import io.kubernetes.client.openapi.models.V1Deployment;
 import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1PartialObjectMetadataList;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
-import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.util.Watch;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-/** Implementation of {@link KubernetesClient} using Kubernetes Java Client API. */
+/**
+ * Implementation of {@link KubernetesClient} using Kubernetes Java Client API.
+ *
+ * <p>How the pods, deployment, and service of a Helm release are looked up depends on the given
+ * {@link ResolutionMode}. See {@link ResolutionMode} for the details of each mode.
+ *
+ * <p>The pods and deployments selected by a {@link TargetSelector}, and the pods, deployments, and
+ * services of a whole namespace, are listed at the same time regardless of the mode, because the
+ * lists don't depend on each other.
+ *
+ * <p>The pods are listed in pages of the given size by using the {@code limit} and {@code
+ * continue} parameters of the list API, so that neither the responses of the API server nor the
+ * pods held in memory grow with the number of pods of a target. Each page is classified as soon as
+ * it is received, and only the fields of the pods that a {@link PauseTarget} reads are kept.
+ *
+ * <p>If metadata-only lists are enabled, the deployments of Helm releases are listed as a {@code
+ * PartialObjectMetadataList}, which has only the metadata of the deployments, because nothing but
+ * their names, labels, and resource versions is read. This makes the responses much smaller than
+ * the whole deployments with their pod templates. The deployments selected by a {@link
+ * TargetSelector} are always listed as a whole because their selectors are needed.
+ *
+ * <p>If a {@link ProtoClient} is given, the pods, deployments, and services are listed in the
+ * protobuf wire format instead of JSON, and only the fields that a pause target reads are
+ * converted into the Kubernetes Java models. See {@link ProtobufLists} for the details.
+ *
+ * <p>The targets are discovered with the given {@link ReadConsistency}. With {@link
+ * ReadConsistency#CACHED}, the resources are listed with {@code resourceVersion=0}, so that the API
+ * server answers from its watch cache instead of reading from etcd. The targets examined after the
+ * pause are always listed with a quorum read.
+ *
+ * <p>If a {@link KubernetesRateLimiter} is given, every list call takes a token from it. The calls
+ * to examine the targets after the pause, i.e., the ones given a {@link ReadConsistency}
+ * explicitly, take precedence over the calls to discover targets. A call rejected with 429 Too
+ * Many Requests is retried after the time in the {@code Retry-After} header of the response.
+ * Starting watches isn't rate-limited because a watch is started only once for each pause.
+ */
 @ThreadSafe
 public class KubernetesClientImpl implements KubernetesClient {
 
@@ -29,256 +99,989 @@ public class KubernetesClientImpl implements KubernetesClient {
   static final String LABEL_APP = "app.kubernetes.io/app";
   static final String ADMIN_SERVICE_NAME_SUFFIX = "-headless";
 
+  /** The number of pods in a page, which is the same as the default chunk size of kubectl. */
+  public static final int DEFAULT_POD_LIST_PAGE_SIZE = 500;
+
+  private static final String PARTIAL_OBJECT_METADATA_LIST =
+      "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1";
+  private static final int HTTP_TOO_MANY_REQUESTS = 429;
+  private static final int MAX_RETRIES_ON_TOO_MANY_REQUESTS = 5;
+  private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+  private static final Logger logger = LoggerFactory.getLogger(KubernetesClientImpl.class);
+
   private final CoreV1Api coreApi;
   private final AppsV1Api appsApi;
+  private final ResolutionMode resolutionMode;
+  private final int podListPageSize;
+  private final boolean metadataOnlyLists;
+  @Nullable private final ProtoClient protoClient;
+  private final ReadConsistency discoveryConsistency;
+  @Nullable private final KubernetesRateLimiter rateLimiter;
 
+  /**
+   * Creates a KubernetesClientImpl with the default settings, that is, {@link
+   * ResolutionMode#SEQUENTIAL} without paging, metadata-only lists, the protobuf wire format, and
+   * rate limiting.
+   *
+   * @param coreApi the API for pods and services
+   * @param appsApi the API for deployments
+   */
   public KubernetesClientImpl(CoreV1Api coreApi, AppsV1Api appsApi) {
-    this.coreApi = coreApi;
-    this.appsApi = appsApi;
+    this(builder(coreApi, appsApi));
+  }
+
+  private KubernetesClientImpl(Builder builder) {
+    this.coreApi = builder.coreApi;
+    this.appsApi = builder.appsApi;
+    this.resolutionMode = builder.resolutionMode;
+    this.podListPageSize = builder.podListPageSize;
+    this.metadataOnlyLists = builder.metadataOnlyLists;
+    this.protoClient = builder.protoClient;
+    this.discoveryConsistency = builder.discoveryConsistency;
+    this.rateLimiter = builder.rateLimiter;
+  }
+
+  /**
+   * Returns a builder for configuring a KubernetesClientImpl.
+   *
+   * @param coreApi the API for pods and services
+   * @param appsApi the API for deployments
+   * @return a new builder with the default settings
+   */
+  public static Builder builder(CoreV1Api coreApi, AppsV1Api appsApi) {
+    return new Builder(coreApi, appsApi);
   }
 
   @Override
   public PauseTarget resolvePauseTargetByHelmRelease(String namespace, String helmReleaseName)
       throws PauserException {
+    return resolvePauseTargetByHelmRelease(
+        namespace, helmReleaseName, new ListOptions(discoveryConsistency, Priority.LOW));
+  }
+
+  @Override
+  public PauseTarget resolvePauseTargetByHelmRelease(
+      String namespace, String helmReleaseName, ReadConsistency consistency)
+      throws PauserException {
+    return resolvePauseTargetByHelmRelease(
+        namespace, helmReleaseName, new ListOptions(consistency, Priority.HIGH));
+  }
+
+  private PauseTarget resolvePauseTargetByHelmRelease(
+      String namespace, String helmReleaseName, ListOptions options) throws PauserException {
+    return resolveRelease(namespace, helmReleaseName, options).target();
+  }
+
+  /**
+   * Resolves the target of a Helm release, and returns it with the resource versions of the
+   * resources in the lists that it was resolved from.
+   *
+   * @param namespace the Kubernetes namespace where the Helm release is deployed
+   * @param helmReleaseName the name of the Helm release
+   * @param consistency how up to date the resources must be
+   * @param priority the priority of the calls
+   * @return the target and the resource versions of its resources
+   * @throws PauserException if the target cannot be resolved or if there are issues with the
+   *     Kubernetes API
+   */
+  ResolvedRelease resolveRelease(
+      String namespace, String helmReleaseName, ReadConsistency consistency, Priority priority)
+      throws PauserException {
+    return resolveRelease(namespace, helmReleaseName, new ListOptions(consistency, priority));
+  }
+
+  private ResolvedRelease resolveRelease(
+      String namespace, String helmReleaseName, ListOptions options) throws PauserException {
     try {
-      List<V1Pod> podsCreatedByHelmRelease = findPodsCreatedByHelmRelease(namespace, helmReleaseName);
+      if (resolutionMode == ResolutionMode.CONCURRENT) {
+        return resolveConcurrently(namespace, helmReleaseName, options);
+      }
 
-      PodsWithSameProduct podsWithSameProduct = selectPodsRunScalarProduct(podsCreatedByHelmRelease);
+      ReleasePods releasePods =
+          findPodsCreatedByHelmRelease(namespace, helmReleaseName, options);
+      PodsWithSameProduct podsWithSameProduct = releasePods.podsWithSameProduct;
 
       V1Deployment deployment =
           findDeploymentCreatedByHelmReleaseForProduct(
-              namespace, helmReleaseName, podsWithSameProduct.product);
+              namespace, helmReleaseName, podsWithSameProduct.product, options);
 
-      V1Service service =
-          findServiceCreatedByHelmReleaseForProduct(
-              namespace, helmReleaseName, podsWithSameProduct.product);
+      List<V1Service> services =
+          listServicesCreatedByHelmReleaseForProduct(
+              namespace, helmReleaseName, podsWithSameProduct.product, options);
+      V1Service service = selectServiceRunsScalarAdmin(services, helmReleaseName);
 
       int adminPort =
           findAdminPortInService(service, podsWithSameProduct.product.getAdminPortName());
 
-      return new PauseTarget(podsWithSameProduct.pods, deployment, adminPort);
+      PauseTarget target =
+          newPauseTarget(
+              podsWithSameProduct.pods,
+              deployment,
+              adminPort,
+              podsWithSameProduct.product,
+              releasePods.resourceVersion);
+      return new ResolvedRelease(target, ReleaseResourceVersions.of(target, services));
     } catch (Exception e) {
       throw new PauserException("Can not find any target pods.", e);
     }
   }
 
-  private List<V1Pod> findPodsCreatedByHelmRelease(String namespace, String releaseName)
+  @Override
+  public Map<String, PauseTarget> resolvePauseTargetsInNamespace(String namespace)
       throws PauserException {
-    V1PodList podList;
-    try {
-      podList =
-          coreApi.listNamespacedPod(
+    return resolvePauseTargetsInNamespace(
+        namespace, new ListOptions(discoveryConsistency, Priority.LOW));
+  }
+
+  @Override
+  public Map<String, PauseTarget> resolvePauseTargetsInNamespace(
+      String namespace, ReadConsistency consistency) throws PauserException {
+    return resolvePauseTargetsInNamespace(namespace, new ListOptions(consistency, Priority.HIGH));
+  }
+
+  private Map<String, PauseTarget> resolvePauseTargetsInNamespace(
+      String namespace, ListOptions options) throws PauserException {
+    // Only the resources that have both labels can be part of a target, so the others, for
+    // example, the resources of databases deployed without Helm, are filtered on the server side.
+    String labelSelector = LABEL_INSTANCE + "," + LABEL_APP;
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<List<V1Deployment>> deploymentsFuture =
+          executor.submit(() -> listReleaseDeployments(namespace, labelSelector, options));
+      Future<List<V1Service>> servicesFuture =
+          executor.submit(() -> listServices(namespace, labelSelector, options));
+
+      // The pods that don't run any Scalar product, for example, Envoy pods, are dropped page by
+      // page because they are excluded from the targets anyway.
+      List<V1Pod> podsInNamespace = new ArrayList<>();
+      String podsResourceVersion =
+          listPods(
               namespace,
+              labelSelector,
               null,
-              null,
-              null,
-              null,
-              LABEL_INSTANCE + "=" + releaseName,
-              null,
-              null,
-              null,
-              null,
-              null);
+              options,
+              page ->
+                  page.stream()
+                      .filter(PauseTargetAssembler::runsScalarProduct)
+                      .forEach(podsInNamespace::add));
+
+      Map<String, PauseTarget> targets =
+          assembleTargetsByHelmRelease(
+              podsInNamespace,
+              await(deploymentsFuture),
+              await(servicesFuture),
+              podsResourceVersion);
+      if (targets.isEmpty()) {
+        String m = String.format("No Scalar product is deployed in the namespace %s.", namespace);
+        throw new PauserException(m);
+      }
+      return targets;
+    } catch (Exception e) {
+      throw new PauserException("Can not find any target pods.", e);
+    }
+  }
+
+  @Override
+  public List<PauseTarget> resolvePauseTargetsBySelector(String namespace, TargetSelector selector)
+      throws PauserException {
+    return resolvePauseTargetsBySelector(
+        namespace, selector, new ListOptions(discoveryConsistency, Priority.LOW));
+  }
+
+  @Override
+  public List<PauseTarget> resolvePauseTargetsBySelector(
+      String namespace, TargetSelector selector, ReadConsistency consistency)
+      throws PauserException {
+    return resolvePauseTargetsBySelector(
+        namespace, selector, new ListOptions(consistency, Priority.HIGH));
+  }
+
+  private List<PauseTarget> resolvePauseTargetsBySelector(
+      String namespace, TargetSelector selector, ListOptions options) throws PauserException {
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      // The deployments are matched with the pods by their own selectors, because a deployment
+      // doesn't always carry the labels of its pods.
+      Future<List<V1Deployment>> deploymentsFuture =
+          executor.submit(() -> listDeployments(namespace, null, options));
+
+      List<V1Pod> selectedPods = new ArrayList<>();
+      String podsResourceVersion =
+          listPods(
+              namespace,
+              selector.labelSelector(),
+              selector.fieldSelector(),
+              options,
+              selectedPods::addAll);
+      if (selectedPods.isEmpty()) {
+        String m =
+            String.format(
+                "No pod matches the label selector %s and the field selector %s.",
+                selector.labelSelector(), selector.fieldSelector());
+        throw new PauserException(m);
+      }
+
+      return assembleTargetsBySelector(
+          selectedPods, await(deploymentsFuture), selector, podsResourceVersion);
+    } catch (Exception e) {
+      throw new PauserException("Can not find any target pods.", e);
+    }
+  }
+
+  @Override
+  public PauseTargetWatch watchPauseTarget(
+      String namespace, String helmReleaseName, PauseTarget target) throws PauserException {
+    if (target.podsResourceVersion() == null) {
+      throw new PauserException(
+          "Can not watch the target because the resource version of the pods is unknown.");
+    }
+
+    // Watch only the pods of the product that the target runs, so that changes to the other pods,
+    // for example, Envoy pods, are ignored like the status comparison does.
+    String podLabelSelector = LABEL_INSTANCE + "=" + helmReleaseName;
+    if (target.product() != null) {
+      podLabelSelector += "," + LABEL_APP + "=" + target.product().getAppLabelValue();
+    }
+    PauseDeployment deployment = target.deployment();
+
+    Watch<V1Pod> podWatch = null;
+    try {
+      podWatch =
+          createWatch(
+              coreApi.getApiClient(),
+              coreApi.listNamespacedPodCall(
+                  namespace,
+                  null,
+                  null,
+                  null,
+                  null,
+                  podLabelSelector,
+                  null,
+                  target.podsResourceVersion(),
+                  null,
+                  null,
+                  true,
+                  null),
+              new TypeToken<Watch.Response<V1Pod>>() {}.getType());
+
+      Watch<V1Deployment> deploymentWatch =
+          createWatch(
+              appsApi.getApiClient(),
+              appsApi.listNamespacedDeploymentCall(
+                  namespace,
+                  null,
+                  null,
+                  null,
+                  "metadata.name=" + deployment.name(),
+                  null,
+                  null,
+                  deployment.resourceVersion(),
+                  null,
+                  null,
+                  true,
+                  null),
+              new TypeToken<Watch.Response<V1Deployment>>() {}.getType());
+
+      return new KubernetesPauseTargetWatch(podWatch, deploymentWatch);
     } catch (ApiException e) {
+      closeQuietly(podWatch);
       String m =
           String.format(
-              "Kubernetes listNamespacedPod API error with code %d and body %s.",
+              "Kubernetes watch API error with code %d and body %s.",
               e.getCode(), e.getResponseBody());
       throw new PauserException(m, e);
     }
+  }
 
-    List<V1Pod> pods = podList.getItems();
+  /**
+   * Lists the deployments and services of the Helm release while the pods are being listed. Since
+   * the product (i.e., the app.kubernetes.io/app value) is not known until the pods are returned,
+   * the deployments and services are listed only by the instance label and narrowed down to the
+   * product in memory afterward.
+   */
+  private ResolvedRelease resolveConcurrently(
+      String namespace, String helmReleaseName, ListOptions options) throws PauserException {
+    String labelSelector = LABEL_INSTANCE + "=" + helmReleaseName;
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<List<V1Deployment>> deploymentsFuture =
+          executor.submit(() -> listReleaseDeployments(namespace, labelSelector, options));
+      Future<List<V1Service>> servicesFuture =
+          executor.submit(() -> listServices(namespace, labelSelector, options));
+
+      ReleasePods releasePods =
+          findPodsCreatedByHelmRelease(namespace, helmReleaseName, options);
+      PodsWithSameProduct podsWithSameProduct = releasePods.podsWithSameProduct;
+
+      V1Deployment deployment =
+          selectDeploymentForProduct(
+              filterByAppLabel(
+                  await(deploymentsFuture), V1Deployment::getMetadata, podsWithSameProduct.product),
+              helmReleaseName);
+
+      List<V1Service> services =
+          filterByAppLabel(
+              await(servicesFuture), V1Service::getMetadata, podsWithSameProduct.product);
+      V1Service service = selectServiceRunsScalarAdmin(services, helmReleaseName);
+
+      int adminPort =
+          findAdminPortInService(service, podsWithSameProduct.product.getAdminPortName());
 
-    if (pods.size() == 0) {
+      PauseTarget target =
+          newPauseTarget(
+              podsWithSameProduct.pods,
+              deployment,
+              adminPort,
+              podsWithSameProduct.product,
+              releasePods.resourceVersion);
+      return new ResolvedRelease(target, ReleaseResourceVersions.of(target, services));
+    }
+  }
+
+  private ReleasePods findPodsCreatedByHelmRelease(
+      String namespace, String releaseName, ListOptions options) throws PauserException {
+    ScalarProductPodCollector collector = new ScalarProductPodCollector();
+    String resourceVersion =
+        listPods(
+            namespace, LABEL_INSTANCE + "=" + releaseName, null, options, collector::addAll);
+
+    if (collector.podCount() == 0) {
       String m = String.format("Helm release %s didn't create any pod.", releaseName);
       throw new PauserException(m);
     }
 
-    return pods;
+    return new ReleasePods(collector.result(), resourceVersion);
   }
 
-  private V1Deployment findDeploymentCreatedByHelmReleaseForProduct(
-      String namespace, String releaseName, Product product) throws PauserException {
-    String labelSelector =
-        String.format(
-            "%s,%s",
-            LABEL_INSTANCE + "=" + releaseName, LABEL_APP + "=" + product.getAppLabelValue());
+  /**
+   * Lists the pods page by page, and passes each page, trimmed to the fields that a pause target
+   * reads, to the given consumer.
+   *
+   * @return the resource version of the list, null if unknown
+   */
+  @Nullable
+  private String listPods(
+      String namespace,
+      String labelSelector,
+      @Nullable String fieldSelector,
+      ListOptions options,
+      PageConsumer<V1Pod> pageConsumer)
+      throws PauserException {
+    Integer limit = podListPageSize > 0 ? podListPageSize : null;
+    String resourceVersion = null;
+    String continueToken = null;
+    do {
+      // The pages after the first one are read from the snapshot of the first one, so a resource
+      // version must not be given with a continue token.
+      String pageContinueToken = continueToken;
+      String pageResourceVersion = continueToken == null ? options.resourceVersion() : null;
+      V1PodList page =
+          throttled(
+              options.priority(),
+              () ->
+                  protoClient != null
+                      ? ProtobufLists.listPods(
+                          protoClient,
+                          namespace,
+                          labelSelector,
+                          fieldSelector,
+                          limit,
+                          pageContinueToken,
+                          pageResourceVersion)
+                      : listPodPage(
+                          namespace,
+                          labelSelector,
+                          fieldSelector,
+                          limit,
+                          pageContinueToken,
+                          pageResourceVersion));
+      pageConsumer.accept(page.getItems());
 
-    V1DeploymentList deploymentList;
+      // All the pages are served from the snapshot of the first page, so its resource version is
+      // that of the whole list.
+      if (continueToken == null) {
+        resourceVersion = resourceVersionOf(page);
+      }
+      continueToken = page.getMetadata() == null ? null : page.getMetadata().getContinue();
+    } while (continueToken != null && !continueToken.isEmpty());
+
+    return resourceVersion;
+  }
+
+  /** Lists a page of the pods in JSON, and trims them to the fields that a pause target reads. */
+  private V1PodList listPodPage(
+      String namespace,
+      String labelSelector,
+      @Nullable String fieldSelector,
+      @Nullable Integer limit,
+      @Nullable String continueToken,
+      @Nullable String resourceVersion)
+      throws PauserException {
+    V1PodList page;
     try {
-      deploymentList =
-          appsApi.listNamespacedDeployment(
-              namespace, null, null, null, null, labelSelector, null, null, null, null, null);
+      page =
+          coreApi.listNamespacedPod(
+              namespace,
+              null,
+              null,
+              continueToken,
+              fieldSelector,
+              labelSelector,
+              limit,
+              resourceVersion,
+              null,
+              null,
+              null);
     } catch (ApiException e) {
       String m =
           String.format(
-              "Kubernetes listNamespacedDeployment API error with code %d and body %s.",
+              "Kubernetes listNamespacedPod API error with code %d and body %s.",
               e.getCode(), e.getResponseBody());
       throw new PauserException(m, e);
     }
 
-    List<V1Deployment> deployments = deploymentList.getItems();
+    return page.items(
+        page.getItems().stream().map(PauseTargetAssembler::trimPod).collect(Collectors.toList()));
+  }
 
-    if (deployments.size() == 0) {
-      String m = String.format("Helm release %s didn't create any deployment.", releaseName);
-      throw new PauserException(m);
+  private V1Deployment findDeploymentCreatedByHelmReleaseForProduct(
+      String namespace, String releaseName, Product product, ListOptions options)
+      throws PauserException {
+    String labelSelector =
+        String.format(
+            "%s,%s",
+            LABEL_INSTANCE + "=" + releaseName, LABEL_APP + "=" + product.getAppLabelValue());
+
+    return selectDeploymentForProduct(
+        listReleaseDeployments(namespace, labelSelector, options), releaseName);
+  }
+
+  /**
+   * Lists the deployments of Helm releases, whose metadata is all that a pause target needs. If
+   * metadata-only lists are enabled, the returned deployments have only the metadata.
+   */
+  private List<V1Deployment> listReleaseDeployments(
+      String namespace, String labelSelector, ListOptions options) throws PauserException {
+    if (!metadataOnlyLists) {
+      return listDeployments(namespace, labelSelector, options);
     }
 
-    if (deployments.size() > 1) {
-      String m =
-          String.format(
-              "Helm release %s created more than one deployment. Please make sure you deploy Scalar"
-                  + " products with Scalar Helm Charts.",
-              releaseName);
-      throw new PauserException(m);
+    V1PartialObjectMetadataList metadataList =
+        listMetadata(
+            appsApi.getApiClient(),
+            "listNamespacedDeployment",
+            options,
+            () ->
+                appsApi.listNamespacedDeploymentCall(
+                    namespace,
+                    null,
+                    null,
+                    null,
+                    null,
+                    labelSelector,
+                    null,
+                    options.resourceVersion(),
+                    null,
+                    null,
+                    null,
+                    null));
+
+    return metadataList.getItems().stream()
+        .map(metadata -> new V1Deployment().metadata(metadata.getMetadata()))
+        .collect(Collectors.toList());
+  }
+
+  private List<V1Deployment> listDeployments(
+      String namespace, @Nullable String labelSelector, ListOptions options)
+      throws PauserException {
+    if (protoClient != null) {
+      return throttled(
+          options.priority(),
+          () ->
+              ProtobufLists.listDeployments(
+                  protoClient, namespace, labelSelector, options.resourceVersion()));
     }
 
-    return deployments.get(0);
+    V1DeploymentList deploymentList =
+        throttled(
+            options.priority(),
+            () -> {
+              try {
+                return appsApi.listNamespacedDeployment(
+                    namespace,
+                    null,
+                    null,
+                    null,
+                    null,
+                    labelSelector,
+                    null,
+                    options.resourceVersion(),
+                    null,
+                    null,
+                    null);
+              } catch (ApiException e) {
+                String m =
+                    String.format(
+                        "Kubernetes listNamespacedDeployment API error with code %d and body %s.",
+                        e.getCode(), e.getResponseBody());
+                throw new PauserException(m, e);
+              }
+            });
+
+    return deploymentList.getItems();
   }
 
-  private V1Service findServiceCreatedByHelmReleaseForProduct(
-      String namespace, String releaseName, Product product) throws PauserException {
+  private List<V1Service> listServicesCreatedByHelmReleaseForProduct(
+      String namespace, String releaseName, Product product, ListOptions options)
+      throws PauserException {
     String labelSelector =
         String.format(
             "%s,%s",
             LABEL_INSTANCE + "=" + releaseName, LABEL_APP + "=" + product.getAppLabelValue());
 
-    V1ServiceList serviceList;
-    try {
-      serviceList =
-          coreApi.listNamespacedService(
-              namespace, null, null, null, null, labelSelector, null, null, null, null, null);
-    } catch (ApiException e) {
-      String m =
-          String.format(
-              "Kubernetes listNamespacedService API error with code %d and body %s.",
-              e.getCode(), e.getResponseBody());
-      throw new PauserException(m, e);
+    return listServices(namespace, labelSelector, options);
+  }
+
+  private List<V1Service> listServices(
+      String namespace, String labelSelector, ListOptions options) throws PauserException {
+    if (protoClient != null) {
+      return throttled(
+          options.priority(),
+          () ->
+              ProtobufLists.listServices(
+                  protoClient, namespace, labelSelector, options.resourceVersion()));
     }
 
-    List<V1Service> services = serviceList.getItems();
+    V1ServiceList serviceList =
+        throttled(
+            options.priority(),
+            () -> {
+              try {
+                return coreApi.listNamespacedService(
+                    namespace,
+                    null,
+                    null,
+                    null,
+                    null,
+                    labelSelector,
+                    null,
+                    options.resourceVersion(),
+                    null,
+                    null,
+                    null);
+              } catch (ApiException e) {
+                String m =
+                    String.format(
+                        "Kubernetes listNamespacedService API error with code %d and body %s.",
+                        e.getCode(), e.getResponseBody());
+                throw new PauserException(m, e);
+              }
+            });
 
-    if (services.size() == 0) {
-      String m = String.format("Helm release %s didn't create any service.", releaseName);
-      throw new PauserException(m);
+    return serviceList.getItems();
+  }
+
+  /**
+   * Lists only the metadata of the pods, deployments, and services of the given product created by
+   * a Helm release, and returns their resource versions. These lists are much smaller than the
+   * ones to resolve a target, and are used to tell whether a target resolved before is still up
+   * to date.
+   *
+   * @param namespace the Kubernetes namespace where the Helm release is deployed
+   * @param helmReleaseName the name of the Helm release
+   * @param product the Scalar product that the release runs
+   * @param consistency how up to date the resources must be
+   * @param priority the priority of the calls
+   * @return the resource versions of the resources
+   * @throws PauserException if there are issues with the Kubernetes API
+   */
+  ReleaseResourceVersions listReleaseResourceVersions(
+      String namespace,
+      String helmReleaseName,
+      Product product,
+      ReadConsistency consistency,
+      Priority priority)
+      throws PauserException {
+    String labelSelector =
+        String.format(
+            "%s,%s",
+            LABEL_INSTANCE + "=" + helmReleaseName, LABEL_APP + "=" + product.getAppLabelValue());
+    ListOptions options = new ListOptions(consistency, priority);
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<V1PartialObjectMetadataList> deploymentsFuture =
+          executor.submit(
+              () ->
+                  listMetadata(
+                      appsApi.getApiClient(),
+                      "listNamespacedDeployment",
+                      options,
+                      () ->
+                          appsApi.listNamespacedDeploymentCall(
+                              namespace,
+                              null,
+                              null,
+                              null,
+                              null,
+                              labelSelector,
+                              null,
+                              options.resourceVersion(),
+                              null,
+                              null,
+                              null,
+                              null)));
+      Future<V1PartialObjectMetadataList> servicesFuture =
+          executor.submit(
+              () ->
+                  listMetadata(
+                      coreApi.getApiClient(),
+                      "listNamespacedService",
+                      options,
+                      () ->
+                          coreApi.listNamespacedServiceCall(
+                              namespace,
+                              null,
+                              null,
+                              null,
+                              null,
+                              labelSelector,
+                              null,
+                              options.resourceVersion(),
+                              null,
+                              null,
+                              null,
+                              null)));
+
+      // The pods are listed in pages like the pods to resolve a target.
+      Integer limit = podListPageSize > 0 ? podListPageSize : null;
+      Map<String, String> pods = new HashMap<>();
+      String podsResourceVersion = null;
+      String continueToken = null;
+      do {
+        String pageContinueToken = continueToken;
+        String pageResourceVersion = continueToken == null ? options.resourceVersion() : null;
+        V1PartialObjectMetadataList page =
+            listMetadata(
+                coreApi.getApiClient(),
+                "listNamespacedPod",
+                options,
+                () ->
+                    coreApi.listNamespacedPodCall(
+                        namespace,
+                        null,
+                        null,
+                        pageContinueToken,
+                        null,
+                        labelSelector,
+                        limit,
+                        pageResourceVersion,
+                        null,
+                        null,
+                        null,
+                        null));
+        pods.putAll(ReleaseResourceVersions.byName(page));
+
+        if (continueToken == null) {
+          podsResourceVersion =
+              page.getMetadata() == null ? null : page.getMetadata().getResourceVersion();
+        }
+        continueToken = page.getMetadata() == null ? null : page.getMetadata().getContinue();
+      } while (continueToken != null && !continueToken.isEmpty());
+
+      return new ReleaseResourceVersions(
+          pods,
+          ReleaseResourceVersions.byName(await(deploymentsFuture)),
+          ReleaseResourceVersions.byName(await(servicesFuture)),
+          podsResourceVersion);
     }
+  }
 
-    List<V1Service> servicesHaveScalarAdmin =
-        services.stream()
-            .filter(s -> s.getMetadata().getName().endsWith(ADMIN_SERVICE_NAME_SUFFIX))
-            .collect(Collectors.toList());
+  /** Returns the consistency of the reads to discover the targets before the pause. */
+  ReadConsistency discoveryConsistency() {
+    return discoveryConsistency;
+  }
 
-    if (servicesHaveScalarAdmin.size() == 0) {
-      String m =
-          String.format(
-              "Helm release %s didn't create any service that runs Scalar Admin interface.",
-              releaseName);
-      throw new PauserException(m);
+  /** Lists only the metadata of the resources with the given list call within the rate limit. */
+  private V1PartialObjectMetadataList listMetadata(
+      ApiClient apiClient, String operation, ListOptions options, CallFactory callFactory)
+      throws PauserException {
+    return throttled(
+        options.priority(),
+        () -> {
+          try {
+            return executeWithAccept(apiClient, callFactory.create(), PARTIAL_OBJECT_METADATA_LIST);
+          } catch (ApiException e) {
+            String m =
+                String.format(
+                    "Kubernetes %s API error with code %d and body %s.",
+                    operation, e.getCode(), e.getResponseBody());
+            throw new PauserException(m, e);
+          }
+        });
+  }
+
+  /**
+   * Makes the given call within the rate limit if a rate limiter is given. A call rejected with 429
+   * Too Many Requests makes all the calls sharing the rate limiter wait for the time that the API
+   * server asks for, and is then retried up to {@link #MAX_RETRIES_ON_TOO_MANY_REQUESTS} times.
+   */
+  private <T> T throttled(Priority priority, ApiCall<T> call) throws PauserException {
+    if (rateLimiter == null) {
+      return call.execute();
     }
 
-    if (servicesHaveScalarAdmin.size() != 1) {
-      String m =
-          String.format(
-              "Helm release %s create more than one service that run Scalar Admin interface.",
-              releaseName);
-      throw new PauserException(m);
+    int retries = 0;
+    while (true) {
+      try {
+        rateLimiter.acquire(priority);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new PauserException(
+            "Interrupted while waiting for the rate limit of the Kubernetes API.", e);
+      }
+
+      try {
+        return call.execute();
+      } catch (PauserException e) {
+        Duration retryAfter = retryAfterOf(e);
+        if (retryAfter == null || retries >= MAX_RETRIES_ON_TOO_MANY_REQUESTS) {
+          throw e;
+        }
+        retries++;
+        logger.warn(
+            "The Kubernetes API server is throttling the requests. Retrying in {} ms.",
+            retryAfter.toMillis());
+        rateLimiter.backOff(retryAfter);
+      }
     }
+  }
 
-    return servicesHaveScalarAdmin.get(0);
+  /**
+   * Returns the time to wait before retrying the call that failed with the given exception, or
+   * null if the call was not rejected with 429 Too Many Requests.
+   */
+  @Nullable
+  private static Duration retryAfterOf(PauserException e) {
+    if (!(e.getCause() instanceof ApiException apiException)
+        || apiException.getCode() != HTTP_TOO_MANY_REQUESTS) {
+      return null;
+    }
+
+    Map<String, List<String>> headers = apiException.getResponseHeaders();
+    if (headers != null) {
+      for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+        if (!"Retry-After".equalsIgnoreCase(header.getKey()) || header.getValue().isEmpty()) {
+          continue;
+        }
+        try {
+          long seconds = Long.parseLong(header.getValue().get(0).trim());
+          return Duration.ofSeconds(Math.max(seconds, 0));
+        } catch (NumberFormatException ignored) {
+          // The header has a date, which the API server doesn't use, so use the default.
+        }
+      }
+    }
+    return DEFAULT_RETRY_AFTER;
   }
 
   /**
-   * This method filters the givens pods and returns a list of pods of the same Scalar product
-   * (i.e., having the same app.kubernetes.io/app value). What value of app.kubernetes.io/app is
-   * used depends on the first pod having the value of Scalar products. The other pods, for
-   * example, an Envoy pod, will be excluded. An exception is thrown if there are pods of different
-   * products.
+   * Executes the given list call with the given Accept header instead of the one set by the
+   * generated API, so that the API server returns another representation of the list.
    */
-  private PodsWithSameProduct selectPodsRunScalarProduct(List<V1Pod> pods) throws PauserException {
+  private static V1PartialObjectMetadataList executeWithAccept(
+      ApiClient apiClient, Call call, String accept) throws ApiException {
+    Request request = call.request().newBuilder().header("Accept", accept).build();
+    ApiResponse<V1PartialObjectMetadataList> response =
+        apiClient.execute(
+            apiClient.getHttpClient().newCall(request), V1PartialObjectMetadataList.class);
+    return response.getData();
+  }
 
-    List<V1Pod> selected = new ArrayList<V1Pod>();
-    Product productThesePodsRun = Product.UNKNOWN;
+  private static <T> Watch<T> createWatch(ApiClient apiClient, Call call, Type watchType)
+      throws ApiException {
+    // A watch stays idle for as long as nothing changes, so reading from it must not time out.
+    OkHttpClient httpClient =
+        apiClient.getHttpClient().newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build();
+    return Watch.createWatch(apiClient, httpClient.newCall(call.request()), watchType);
+  }
 
-    for (V1Pod pod : pods) {
-      Map<String, String> labels = pod.getMetadata().getLabels();
+  private static void closeQuietly(@Nullable Watch<?> watch) {
+    if (watch == null) {
+      return;
+    }
+    try {
+      watch.close();
+    } catch (IOException e) {
+      // Ignore because the watch is no longer used.
+    }
+  }
 
-      if (!labels.containsKey(LABEL_APP)) {
-        String m =
-            String.format(
-                "A pod %s does not have the label: %s. Please deploy Scalar products with Scalar"
-                    + " Helm Charts.",
-                pod.getMetadata().getName(), LABEL_APP);
-        throw new PauserException(m);
-      }
+  @Nullable
+  private static String resourceVersionOf(V1PodList podList) {
+    return podList.getMetadata() == null ? null : podList.getMetadata().getResourceVersion();
+  }
 
-      String appLabelValue = labels.get(LABEL_APP);
-      Product productThisPodRuns = Product.fromAppLabelValue(appLabelValue);
+  /** Builder of {@link KubernetesClientImpl}. */
+  public static class Builder {
+    private final CoreV1Api coreApi;
+    private final AppsV1Api appsApi;
+    private ResolutionMode resolutionMode = ResolutionMode.SEQUENTIAL;
+    private int podListPageSize = 0;
+    private boolean metadataOnlyLists = false;
+    @Nullable private ProtoClient protoClient;
+    private ReadConsistency discoveryConsistency = ReadConsistency.LATEST;
+    @Nullable private KubernetesRateLimiter rateLimiter;
+
+    private Builder(CoreV1Api coreApi, AppsV1Api appsApi) {
+      this.coreApi = coreApi;
+      this.appsApi = appsApi;
+    }
 
-      // If the pod doesn't run any Scalar product, e.g, an Envoy pod, we exclude it.
-      if (productThisPodRuns == Product.UNKNOWN) {
-        continue;
+    /**
+     * Sets how to look up the resources of a Helm release. {@link ResolutionMode#SEQUENTIAL} by
+     * default. {@link ResolutionMode#INFORMER} is served by {@link InformerKubernetesClient}, and
+     * behaves like {@link ResolutionMode#SEQUENTIAL} here.
+     *
+     * @param resolutionMode the resolution mode
+     * @return this builder
+     */
+    public Builder resolutionMode(ResolutionMode resolutionMode) {
+      if (resolutionMode == null) {
+        throw new IllegalArgumentException("resolutionMode is required");
       }
+      this.resolutionMode = resolutionMode;
+      return this;
+    }
 
-      // If this is the first pod, we use its product as the product of all pods.
-      if (productThesePodsRun == Product.UNKNOWN) {
-        productThesePodsRun = productThisPodRuns;
+    /**
+     * Sets the max number of pods listed in a single request. 0, the default, lists all the pods
+     * in a single request.
+     *
+     * @param podListPageSize the max number of pods in a page, or 0 to list all the pods at once
+     * @return this builder
+     */
+    public Builder podListPageSize(int podListPageSize) {
+      if (podListPageSize < 0) {
+        throw new IllegalArgumentException(
+            "podListPageSize must not be negative, but was: " + podListPageSize);
       }
+      this.podListPageSize = podListPageSize;
+      return this;
+    }
 
-      if (productThisPodRuns != productThesePodsRun) {
+    /**
+     * Sets whether to list only the metadata of the deployments of Helm releases, which is
+     * disabled by default.
+     *
+     * @param metadataOnlyLists whether to list only the metadata of the deployments
+     * @return this builder
+     */
+    public Builder metadataOnlyLists(boolean metadataOnlyLists) {
+      this.metadataOnlyLists = metadataOnlyLists;
+      return this;
+    }
 
-        String m =
-            String.format(
-                "The pods created by the Helm release run different Scalar products: %s and %s."
-                    + " This should not happen. Please make sure you deploy Scalar products with"
-                    + " Scalar Helm Charts.",
-                productThesePodsRun, productThisPodRuns);
+    /**
+     * Sets the client to list the resources in the protobuf wire format. The resources are listed
+     * in JSON by default.
+     *
+     * @param protoClient the client for the protobuf wire format, or null to list in JSON
+     * @return this builder
+     */
+    public Builder protoClient(@Nullable ProtoClient protoClient) {
+      this.protoClient = protoClient;
+      return this;
+    }
 
-        throw new PauserException(m);
+    /**
+     * Sets the consistency of the reads to discover the targets before the pause. {@link
+     * ReadConsistency#LATEST} by default.
+     *
+     * @param discoveryConsistency the consistency of the reads to discover the targets
+     * @return this builder
+     */
+    public Builder discoveryConsistency(ReadConsistency discoveryConsistency) {
+      if (discoveryConsistency == null) {
+        throw new IllegalArgumentException("discoveryConsistency is required");
       }
-
-      selected.add(pod);
+      this.discoveryConsistency = discoveryConsistency;
+      return this;
     }
 
-    if (productThesePodsRun == Product.UNKNOWN || selected.size() == 0) {
-      throw new PauserException(
-          "The pods created by the Helm release don't run any Scalar product.");
+    /**
+     * Sets the rate limiter of the calls to the Kubernetes API. The rate isn't limited by default.
+     *
+     * @param rateLimiter the rate limiter, which may be shared with other clients, or null not to
+     *     limit the rate
+     * @return this builder
+     */
+    public Builder rateLimiter(@Nullable KubernetesRateLimiter rateLimiter) {
+      this.rateLimiter = rateLimiter;
+      return this;
     }
 
-    return new PodsWithSameProduct(productThesePodsRun, selected);
+    /**
+     * Builds a KubernetesClientImpl with the settings of this builder.
+     *
+     * @return a new KubernetesClientImpl
+     */
+    public KubernetesClientImpl build() {
+      return new KubernetesClientImpl(this);
+    }
   }
 
-  private int findAdminPortInService(V1Service service, String portName) throws PauserException {
-    V1ServicePort servicePort =
-        service.getSpec().getPorts().stream()
-            .filter(p -> p.getName().equals(portName))
-            .findFirst()
-            .orElseThrow(
-                () -> {
-                  String m =
-                      String.format(
-                          "Can not find the port %s in the service %s.",
-                          portName, service.getMetadata().getName());
-                  return new PauserException(m);
-                });
+  /** The target of a Helm release and the resource versions of the resources it was built from. */
+  record ResolvedRelease(PauseTarget target, ReleaseResourceVersions resourceVersions) {}
 
-    if (!servicePort.getTargetPort().isInteger()) {
-      throw new PauserException(
-          String.format(
-              "The service %s seems using the port definition %s in the TargetPort. This should not"
-                  + " happen. Please deploy Scalar products by Scalar Helm Charts.",
-              service.getMetadata().getName(), servicePort.getTargetPort().getStrValue()));
+  /** How to list the resources to resolve targets. */
+  private record ListOptions(ReadConsistency consistency, Priority priority) {
+
+    /**
+     * Returns the resource version to list the resources with. "0" lets the API server answer
+     * from its watch cache, and null makes it read the latest state from etcd.
+     */
+    @Nullable
+    String resourceVersion() {
+      return consistency == ReadConsistency.CACHED ? "0" : null;
     }
+  }
 
-    return servicePort.getTargetPort().getIntValue();
+  @FunctionalInterface
+  private interface CallFactory {
+    Call create() throws ApiException;
   }
 
-  private static class PodsWithSameProduct {
-    private final Product product;
-    private final List<V1Pod> pods;
+  @FunctionalInterface
+  private interface ApiCall<T> {
+    T execute() throws PauserException;
+  }
+
+  @FunctionalInterface
+  private interface PageConsumer<T> {
+    void accept(List<T> page) throws PauserException;
+  }
 
-    PodsWithSameProduct(Product product, List<V1Pod> pods) {
-      this.product = product;
-      this.pods = pods;
+  /** The pods of a Helm release that run a Scalar product, and the resource version of the list. */
+  private static class ReleasePods {
+    final PodsWithSameProduct podsWithSameProduct;
+    @Nullable final String resourceVersion;
+
+    ReleasePods(PodsWithSameProduct podsWithSameProduct, @Nullable String resourceVersion) {
+      this.podsWithSameProduct = podsWithSameProduct;
+      this.resourceVersion = resourceVersion;
+    }
+  }
+
+  private static <T> T await(Future<T> future) throws PauserException {
+    try {
+      return future.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PauserException("Interrupted while waiting for the Kubernetes API response.", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof PauserException) {
+        throw (PauserException) e.getCause();
+      }
+      throw new PauserException("Kubernetes API call failed.", e.getCause());
     }
   }
 }
@@ -0,0 +1,80 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+
+/**
+ * Settings of the HTTP layer used to call the Kubernetes API.
+ *
+ * <p>All the API calls of a process share the connection pool of one HTTP client. With HTTP/2,
+ * which is negotiated when the API server is accessed over TLS, the calls to list the pods,
+ * deployments, and services of a target, and the calls to examine them again after the pause, are
+ * multiplexed over a single connection as long as it is kept alive.
+ *
+ * @param maxIdleConnections the max number of idle connections kept in the pool
+ * @param keepAlive how long an idle connection is kept in the pool
+ * @param http2 whether to use HTTP/2 if the API server supports it
+ * @param connectTimeout the timeout of connecting to the API server
+ * @param readTimeout the timeout of reading a response from the API server
+ * @param preconnect whether to connect to the API server in the background when the client is
+ *     created, so that the first API call doesn't wait for the TCP and TLS handshakes
+ */
+public record KubernetesHttpSettings(
+    int maxIdleConnections,
+    Duration keepAlive,
+    boolean http2,
+    Duration connectTimeout,
+    Duration readTimeout,
+    boolean preconnect) {
+
+  /**
+   * The default settings, which are the defaults of OkHttp and the Kubernetes Java client, plus
+   * pre-connecting.
+   */
+  public static final KubernetesHttpSettings DEFAULT =
+      new KubernetesHttpSettings(
+          5, Duration.ofMinutes(5), true, Duration.ofSeconds(10), Duration.ofSeconds(10), true);
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @throws IllegalArgumentException if required parameters are null or invalid
+   */
+  public KubernetesHttpSettings {
+    if (maxIdleConnections < 0) {
+      throw new IllegalArgumentException(
+          "maxIdleConnections must not be negative, but was: " + maxIdleConnections);
+    }
+    if (keepAlive == null || keepAlive.isNegative() || keepAlive.isZero()) {
+      throw new IllegalArgumentException("keepAlive must be positive");
+    }
+    if (connectTimeout == null || connectTimeout.isNegative()) {
+      throw new IllegalArgumentException("connectTimeout must not be negative");
+    }
+    if (readTimeout == null || readTimeout.isNegative()) {
+      throw new IllegalArgumentException("readTimeout must not be negative");
+    }
+  }
+
+  /**
+   * Returns a copy of the given HTTP client with these settings. The other settings of the client,
+   * for example, the TLS settings and the authentication, are kept.
+   *
+   * @param httpClient the HTTP client created for the Kubernetes configuration
+   * @return the HTTP client with these settings
+   */
+  public OkHttpClient apply(OkHttpClient httpClient) {
+    return httpClient
+        .newBuilder()
+        .connectionPool(
+            new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+        .protocols(http2 ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+        .connectTimeout(connectTimeout)
+        .readTimeout(readTimeout)
+        .build();
+  }
+}
@@ -0,0 +1,71 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTargetChange;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.util.Watch;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import javax.annotation.concurrent.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of {@link com.scalar.admin.kubernetes.domain.client.PauseTargetWatch} backed by
+ * Kubernetes watches.
+ *
+ * <p>Each given watch is consumed on its own virtual thread. Any event other than BOOKMARK is
+ * treated as a change to the target because the watches start from the resource versions that the
+ * target was read at. An ERROR event, an unexpected disconnection, or a watch that the API server
+ * ends marks this watch as failed.
+ */
+@ThreadSafe
+class KubernetesPauseTargetWatch extends AbstractPauseTargetWatch {
+
+  private static final Logger logger = LoggerFactory.getLogger(KubernetesPauseTargetWatch.class);
+
+  private final List<Watch<? extends KubernetesObject>> watches;
+
+  KubernetesPauseTargetWatch(
+      Watch<? extends KubernetesObject> podWatch,
+      Watch<? extends KubernetesObject> deploymentWatch) {
+    this.watches = List.of(podWatch, deploymentWatch);
+    Thread.ofVirtual().name("pause-target-watch-pod").start(() -> consume(podWatch, "Pod"));
+    Thread.ofVirtual()
+        .name("pause-target-watch-deployment")
+        .start(() -> consume(deploymentWatch, "Deployment"));
+  }
+
+  @Override
+  protected void doClose() {
+    for (Watch<? extends KubernetesObject> watch : watches) {
+      try {
+        watch.close();
+      } catch (IOException e) {
+        logger.warn("Failed to close the watch on the target.", e);
+      }
+    }
+  }
+
+  private <T extends KubernetesObject> void consume(Watch<T> watch, String kind) {
+    try {
+      for (Watch.Response<T> event : watch) {
+        if ("BOOKMARK".equals(event.type)) {
+          continue;
+        }
+        if ("ERROR".equals(event.type)) {
+          String status = event.status == null ? null : event.status.getMessage();
+          markFailed(String.format("The %s watch returned an error: %s", kind, status), null);
+          return;
+        }
+        markChanged(
+            new PauseTargetChange(
+                kind, event.object.getMetadata().getName(), event.type, Instant.now()));
+        return;
+      }
+      markFailed(String.format("The %s watch was closed by the API server.", kind), null);
+    } catch (RuntimeException e) {
+      markFailed(String.format("The %s watch was disconnected.", kind), e);
+    }
+  }
+}
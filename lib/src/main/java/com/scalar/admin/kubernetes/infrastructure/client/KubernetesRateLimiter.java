@@ -0,0 +1,140 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Token bucket that limits the rate of the calls to the Kubernetes API on the client side.
+ *
+ * <p>The bucket holds up to {@code burst} tokens and is refilled at {@code qps} tokens per second.
+ * Each API call takes a token, and waits until one is refilled if the bucket is empty. A waiting
+ * call of {@link Priority#HIGH} takes the next token before any call of {@link Priority#LOW}, so
+ * that examining the targets after a pause isn't delayed by the discovery of other targets.
+ *
+ * <p>When the API server rejects a call with 429 Too Many Requests, {@link #backOff(Duration)}
+ * stops handing out tokens to all the callers for the time that the server asks for in its {@code
+ * Retry-After} header. So the calls slow down together instead of failing one after another.
+ *
+ * <p>A limiter can be shared by several clients, so that all the calls of a process are limited
+ * together.
+ */
+@ThreadSafe
+public class KubernetesRateLimiter {
+
+  /** The priority of an API call. */
+  public enum Priority {
+    /** The calls that examine the targets after a pause, which the pause waits for. */
+    HIGH,
+    /** The calls that discover the targets before a pause. */
+    LOW
+  }
+
+  /** The default number of calls per second. */
+  public static final double DEFAULT_QPS = 50;
+
+  /** The default max number of calls in a burst. */
+  public static final int DEFAULT_BURST = 100;
+
+  private final double qps;
+  private final int burst;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition changed = lock.newCondition();
+
+  private double tokens;
+  private long lastRefillNanos;
+  private long backOffUntilNanos;
+  private int waitingHighPriorityCalls;
+
+  /**
+   * Creates a KubernetesRateLimiter whose bucket is full.
+   *
+   * @param qps the number of tokens refilled per second
+   * @param burst the max number of tokens in the bucket
+   * @throws IllegalArgumentException if qps or burst is not positive
+   */
+  public KubernetesRateLimiter(double qps, int burst) {
+    if (!(qps > 0)) {
+      throw new IllegalArgumentException("qps must be greater than 0, but was: " + qps);
+    }
+    if (burst < 1) {
+      throw new IllegalArgumentException("burst must be greater than 0, but was: " + burst);
+    }
+    this.qps = qps;
+    this.burst = burst;
+    this.tokens = burst;
+    this.lastRefillNanos = System.nanoTime();
+    this.backOffUntilNanos = lastRefillNanos;
+  }
+
+  /**
+   * Takes a token, waiting until one is available to a call of the given priority.
+   *
+   * @param priority the priority of the call
+   * @throws InterruptedException if the current thread is interrupted while waiting
+   */
+  public void acquire(Priority priority) throws InterruptedException {
+    lock.lock();
+    try {
+      if (priority == Priority.HIGH) {
+        waitingHighPriorityCalls++;
+      }
+      try {
+        while (true) {
+          long now = System.nanoTime();
+          refill(now);
+
+          if (now - backOffUntilNanos < 0) {
+            changed.awaitNanos(backOffUntilNanos - now);
+          } else if (priority == Priority.LOW && waitingHighPriorityCalls > 0) {
+            // Woken up when a call of the high priority takes its token.
+            changed.await();
+          } else if (tokens >= 1) {
+            tokens -= 1;
+            return;
+          } else {
+            changed.awaitNanos((long) Math.ceil((1 - tokens) / qps * TimeUnit.SECONDS.toNanos(1)));
+          }
+        }
+      } finally {
+        if (priority == Priority.HIGH) {
+          waitingHighPriorityCalls--;
+          changed.signalAll();
+        }
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /**
+   * Stops handing out tokens for the given time, because the API server asked to retry later.
+   *
+   * @param retryAfter the time to wait before the next call
+   */
+  public void backOff(Duration retryAfter) {
+    lock.lock();
+    try {
+      long until = System.nanoTime() + retryAfter.toNanos();
+      if (until - backOffUntilNanos > 0) {
+        backOffUntilNanos = until;
+      }
+      // The bucket is empty after the back-off, so that the calls resume at the rate of qps.
+      tokens = 0;
+      lastRefillNanos = backOffUntilNanos;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void refill(long now) {
+    long elapsedNanos = now - lastRefillNanos;
+    if (elapsedNanos <= 0) {
+      return;
+    }
+    tokens = Math.min(burst, tokens + elapsedNanos * qps / TimeUnit.SECONDS.toNanos(1));
+    lastRefillNanos = now;
+  }
+}
@@ -0,0 +1,305 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.Empty;
+import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.PodRequestSpan;
+import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import com.scalar.admin.rpc.AdminGrpc;
+import com.scalar.admin.rpc.PauseRequest;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Implementation of ScalarAdminClient that sends the requests to all the target pods in parallel.
+ *
+ * <p>Each request is sent from its own virtual thread, and the threads are released at the same
+ * time once all of them are ready, so that the pods enter the pause as close together as possible.
+ * Every request has its own deadline, so a pod that doesn't respond doesn't hold up the others
+ * longer than the deadline. A pause request waits for the outstanding requests in the pod, so its
+ * deadline is extended by the max pause wait time.
+ *
+ * <p>The channels to the pods are created when this client is created and reused for the pause
+ * and unpause requests, so this client must be closed after use. {@link #warmUp()} connects the
+ * channels and probes every pod with a CheckPaused request, so the TCP and TLS handshakes are done
+ * before the pause starts.
+ *
+ * <p>The time spent in the request to each pod is reported to the listeners registered with {@link
+ * #addListener(PauseLifecycleListener)} after all the requests of a fan-out complete.
+ */
+@ThreadSafe
+public class ParallelScalarAdminClient implements ScalarAdminClient {
+
+  /** The default max pause wait time of most Scalar products. */
+  @VisibleForTesting static final long DEFAULT_MAX_PAUSE_WAIT_TIME_MILLIS = 30000;
+
+  private final Map<InetSocketAddress, ManagedChannel> channels;
+  private final long requestDeadlineMillis;
+  private final List<PauseLifecycleListener> listeners = new CopyOnWriteArrayList<>();
+
+  /**
+   * Creates a ParallelScalarAdminClient for the given pause target.
+   *
+   * @param target the pause target containing pods to communicate with
+   * @param tlsConfig the TLS configuration, null to communicate without TLS
+   * @param requestDeadlineMillis the deadline of each request in milliseconds
+   */
+  public ParallelScalarAdminClient(
+      PauseTarget target, @Nullable TlsConfig tlsConfig, long requestDeadlineMillis) {
+    this(channelFactory(tlsConfig), requireTarget(target).toAddressList(), requestDeadlineMillis);
+  }
+
+  /**
+   * Creates a ParallelScalarAdminClient for the given pods, for example, the pods of several pause
+   * targets.
+   *
+   * @param addresses the addresses of the pods to communicate with
+   * @param tlsConfig the TLS configuration, null to communicate without TLS
+   * @param requestDeadlineMillis the deadline of each request in milliseconds
+   */
+  public ParallelScalarAdminClient(
+      List<InetSocketAddress> addresses,
+      @Nullable TlsConfig tlsConfig,
+      long requestDeadlineMillis) {
+    this(channelFactory(tlsConfig), addresses, requestDeadlineMillis);
+  }
+
+  @VisibleForTesting
+  ParallelScalarAdminClient(
+      Function<InetSocketAddress, ManagedChannel> channelFactory,
+      List<InetSocketAddress> addresses,
+      long requestDeadlineMillis) {
+    if (addresses == null || addresses.isEmpty()) {
+      throw new IllegalArgumentException("addresses must not be empty");
+    }
+    if (requestDeadlineMillis < 1) {
+      throw new IllegalArgumentException("requestDeadlineMillis must be greater than 0");
+    }
+    this.channels = new LinkedHashMap<>();
+    for (InetSocketAddress address : addresses) {
+      channels.put(address, channelFactory.apply(address));
+    }
+    this.requestDeadlineMillis = requestDeadlineMillis;
+  }
+
+  @Override
+  public void warmUp() {
+    Empty request = Empty.getDefaultInstance();
+    AdminRequestResult result =
+        fanOut(
+            PausePhase.WARM_UP,
+            channels.keySet(),
+            channel -> {
+              channel.getState(true);
+              AdminGrpc.newBlockingStub(channel)
+                  .withDeadlineAfter(requestDeadlineMillis, TimeUnit.MILLISECONDS)
+                  .checkPaused(request);
+              ConnectivityState state = channel.getState(false);
+              if (state != ConnectivityState.READY) {
+                throw new IllegalStateException("The channel is not ready. State: " + state);
+              }
+              return null;
+            });
+    if (!result.isSuccessful()) {
+      throw result.toException("connect to");
+    }
+  }
+
+  @Override
+  public void pause(boolean waitOutstandingRequests, @Nullable Long maxPauseWaitTime) {
+    PauseRequest.Builder builder =
+        PauseRequest.newBuilder().setWaitOutstanding(waitOutstandingRequests);
+    if (maxPauseWaitTime != null) {
+      builder.setMaxPauseWaitTime(maxPauseWaitTime);
+    }
+    PauseRequest request = builder.build();
+
+    long deadlineMillis = requestDeadlineMillis;
+    if (waitOutstandingRequests) {
+      deadlineMillis +=
+          maxPauseWaitTime != null ? maxPauseWaitTime : DEFAULT_MAX_PAUSE_WAIT_TIME_MILLIS;
+    }
+    long deadline = deadlineMillis;
+    AdminRequestResult result =
+        fanOut(
+            PausePhase.PAUSE_REQUEST,
+            channels.keySet(),
+            channel ->
+                AdminGrpc.newBlockingStub(channel)
+                    .withDeadlineAfter(deadline, TimeUnit.MILLISECONDS)
+                    .pause(request));
+    if (!result.isSuccessful()) {
+      throw result.toException("pause");
+    }
+  }
+
+  @Override
+  public AdminRequestResult unpause() {
+    return unpause(List.copyOf(channels.keySet()));
+  }
+
+  @Override
+  public AdminRequestResult unpause(List<InetSocketAddress> addresses) {
+    for (InetSocketAddress address : addresses) {
+      if (!channels.containsKey(address)) {
+        throw new IllegalArgumentException(address + " is not one of the target pods");
+      }
+    }
+    Empty request = Empty.getDefaultInstance();
+    return fanOut(
+        PausePhase.UNPAUSE_REQUEST,
+        addresses,
+        channel ->
+            AdminGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(requestDeadlineMillis, TimeUnit.MILLISECONDS)
+                .unpause(request));
+  }
+
+  @Override
+  public void addListener(PauseLifecycleListener listener) {
+    if (listener == null) {
+      throw new IllegalArgumentException("listener must not be null");
+    }
+    listeners.add(listener);
+  }
+
+  /** Shuts down the channels to the pods. */
+  @Override
+  public void close() {
+    channels.values().forEach(ManagedChannel::shutdownNow);
+  }
+
+  private AdminRequestResult fanOut(
+      PausePhase phase,
+      Collection<InetSocketAddress> addresses,
+      Function<ManagedChannel, ?> call) {
+    CountDownLatch ready = new CountDownLatch(addresses.size());
+    CountDownLatch start = new CountDownLatch(1);
+    Map<InetSocketAddress, Future<?>> futures = new LinkedHashMap<>();
+    Map<InetSocketAddress, long[]> times = new ConcurrentHashMap<>();
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (InetSocketAddress address : addresses) {
+        ManagedChannel channel = channels.get(address);
+        futures.put(
+            address,
+            executor.submit(
+                () -> {
+                  ready.countDown();
+                  start.await();
+                  long startNanos = System.nanoTime();
+                  try {
+                    return call.apply(channel);
+                  } finally {
+                    times.put(address, new long[] {startNanos, System.nanoTime()});
+                  }
+                }));
+      }
+      awaitUninterruptibly(ready);
+      start.countDown();
+    }
+
+    // The executor has been closed, so all the requests have completed here.
+    List<InetSocketAddress> acknowledged = new ArrayList<>();
+    Map<InetSocketAddress, Exception> failures = new LinkedHashMap<>();
+    for (Map.Entry<InetSocketAddress, Future<?>> entry : futures.entrySet()) {
+      try {
+        entry.getValue().get();
+        acknowledged.add(entry.getKey());
+      } catch (ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof Error) {
+          throw (Error) cause;
+        }
+        failures.put(entry.getKey(), (Exception) cause);
+      } catch (InterruptedException e) {
+        // Never happens because the future has already completed.
+        Thread.currentThread().interrupt();
+        failures.put(entry.getKey(), e);
+      }
+    }
+    AdminRequestResult result = new AdminRequestResult(acknowledged, failures);
+    notifyListeners(phase, result, times);
+    return result;
+  }
+
+  private void notifyListeners(
+      PausePhase phase, AdminRequestResult result, Map<InetSocketAddress, long[]> times) {
+    if (listeners.isEmpty()) {
+      return;
+    }
+    for (InetSocketAddress address : result.acknowledged()) {
+      notifyListeners(phase, address, times.get(address), true);
+    }
+    for (InetSocketAddress address : result.failures().keySet()) {
+      notifyListeners(phase, address, times.get(address), false);
+    }
+  }
+
+  private void notifyListeners(
+      PausePhase phase, InetSocketAddress address, @Nullable long[] time, boolean succeeded) {
+    // No time is recorded if the request wasn't sent, for example, when the thread was
+    // interrupted before the start.
+    if (time == null) {
+      return;
+    }
+    PodRequestSpan span = new PodRequestSpan(phase, address, time[0], time[1], succeeded);
+    for (PauseLifecycleListener listener : listeners) {
+      listener.onPodRequest(span);
+    }
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    boolean interrupted = false;
+    while (true) {
+      try {
+        latch.await();
+        break;
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static PauseTarget requireTarget(PauseTarget target) {
+    if (target == null) {
+      throw new IllegalArgumentException("PauseTarget must not be null");
+    }
+    return target;
+  }
+
+  private static Function<InetSocketAddress, ManagedChannel> channelFactory(
+      @Nullable TlsConfig tlsConfig) {
+    if (tlsConfig == null) {
+      return address ->
+          NettyChannelBuilder.forAddress(address.getHostString(), address.getPort())
+              .usePlaintext()
+              .build();
+    }
+    return TlsChannelFactory.create(tlsConfig);
+  }
+}
@@ -0,0 +1,536 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.ADMIN_SERVICE_NAME_SUFFIX;
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_APP;
+import static com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.LABEL_INSTANCE;
+
+import com.google.common.collect.ImmutableSortedMap;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDeployment;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
+import com.scalar.admin.kubernetes.domain.model.shared.Product;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1LabelSelectorRequirement;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+
+/**
+ * Validates the Kubernetes resources of a Helm release, or the ones that match a {@link
+ * TargetSelector}, and picks the ones that make up a pause target.
+ *
+ * <p>This class doesn't call any Kubernetes API, so that the same rules apply regardless of where
+ * the resources come from, for example, list API calls or an informer cache.
+ */
+final class PauseTargetAssembler {
+
+  private PauseTargetAssembler() {}
+
+  /**
+   * This method filters the givens pods and returns a list of pods of the same Scalar product
+   * (i.e., having the same app.kubernetes.io/app value). What value of app.kubernetes.io/app is
+   * used depends on the first pod having the value of Scalar products. The other pods, for
+   * example, an Envoy pod, will be excluded. An exception is thrown if there are pods of different
+   * products.
+   */
+  static PodsWithSameProduct selectPodsRunScalarProduct(List<V1Pod> pods) throws PauserException {
+    ScalarProductPodCollector collector = new ScalarProductPodCollector();
+    collector.addAll(pods);
+    return collector.result();
+  }
+
+  static V1Deployment selectDeploymentForProduct(
+      List<V1Deployment> deployments, String releaseName) throws PauserException {
+    if (deployments.size() == 0) {
+      String m = String.format("Helm release %s didn't create any deployment.", releaseName);
+      throw new PauserException(m);
+    }
+
+    if (deployments.size() > 1) {
+      String m =
+          String.format(
+              "Helm release %s created more than one deployment. Please make sure you deploy Scalar"
+                  + " products with Scalar Helm Charts.",
+              releaseName);
+      throw new PauserException(m);
+    }
+
+    return deployments.get(0);
+  }
+
+  static V1Service selectServiceRunsScalarAdmin(List<V1Service> services, String releaseName)
+      throws PauserException {
+    if (services.size() == 0) {
+      String m = String.format("Helm release %s didn't create any service.", releaseName);
+      throw new PauserException(m);
+    }
+
+    List<V1Service> servicesHaveScalarAdmin =
+        services.stream()
+            .filter(s -> s.getMetadata().getName().endsWith(ADMIN_SERVICE_NAME_SUFFIX))
+            .collect(Collectors.toList());
+
+    if (servicesHaveScalarAdmin.size() == 0) {
+      String m =
+          String.format(
+              "Helm release %s didn't create any service that runs Scalar Admin interface.",
+              releaseName);
+      throw new PauserException(m);
+    }
+
+    if (servicesHaveScalarAdmin.size() != 1) {
+      String m =
+          String.format(
+              "Helm release %s create more than one service that run Scalar Admin interface.",
+              releaseName);
+      throw new PauserException(m);
+    }
+
+    return servicesHaveScalarAdmin.get(0);
+  }
+
+  static int findAdminPortInService(V1Service service, String portName) throws PauserException {
+    V1ServicePort servicePort =
+        service.getSpec().getPorts().stream()
+            .filter(p -> p.getName().equals(portName))
+            .findFirst()
+            .orElseThrow(
+                () -> {
+                  String m =
+                      String.format(
+                          "Can not find the port %s in the service %s.",
+                          portName, service.getMetadata().getName());
+                  return new PauserException(m);
+                });
+
+    if (!servicePort.getTargetPort().isInteger()) {
+      throw new PauserException(
+          String.format(
+              "The service %s seems using the port definition %s in the TargetPort. This should not"
+                  + " happen. Please deploy Scalar products by Scalar Helm Charts.",
+              service.getMetadata().getName(), servicePort.getTargetPort().getStrValue()));
+    }
+
+    return servicePort.getTargetPort().getIntValue();
+  }
+
+  static <T> List<T> filterByAppLabel(
+      List<T> items, Function<T, V1ObjectMeta> metadataGetter, Product product) {
+    return items.stream()
+        .filter(
+            item -> {
+              Map<String, String> labels = metadataGetter.apply(item).getLabels();
+              return labels != null && product.getAppLabelValue().equals(labels.get(LABEL_APP));
+            })
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Groups the given resources of a namespace by the app.kubernetes.io/instance label and returns
+   * the pause target of each Helm release whose pods run a Scalar product, keyed and ordered by the
+   * release name. The releases that don't run any Scalar product, for example, a release of a
+   * database, are excluded. The rules for each release are the same as for a single release.
+   */
+  static SortedMap<String, PauseTarget> assembleTargetsByHelmRelease(
+      List<V1Pod> pods,
+      List<V1Deployment> deployments,
+      List<V1Service> services,
+      @Nullable String podsResourceVersion)
+      throws PauserException {
+    Map<String, List<V1Pod>> podsByRelease = groupByInstanceLabel(pods, V1Pod::getMetadata);
+    Map<String, List<V1Deployment>> deploymentsByRelease =
+        groupByInstanceLabel(deployments, V1Deployment::getMetadata);
+    Map<String, List<V1Service>> servicesByRelease =
+        groupByInstanceLabel(services, V1Service::getMetadata);
+
+    SortedMap<String, PauseTarget> targets = new TreeMap<>();
+    for (Map.Entry<String, List<V1Pod>> entry : podsByRelease.entrySet()) {
+      String releaseName = entry.getKey();
+      if (!anyPodRunsScalarProduct(entry.getValue())) {
+        continue;
+      }
+
+      PodsWithSameProduct podsWithSameProduct = selectPodsRunScalarProduct(entry.getValue());
+
+      V1Deployment deployment =
+          selectDeploymentForProduct(
+              filterByAppLabel(
+                  deploymentsByRelease.getOrDefault(releaseName, List.of()),
+                  V1Deployment::getMetadata,
+                  podsWithSameProduct.product),
+              releaseName);
+
+      V1Service service =
+          selectServiceRunsScalarAdmin(
+              filterByAppLabel(
+                  servicesByRelease.getOrDefault(releaseName, List.of()),
+                  V1Service::getMetadata,
+                  podsWithSameProduct.product),
+              releaseName);
+
+      int adminPort =
+          findAdminPortInService(service, podsWithSameProduct.product.getAdminPortName());
+
+      targets.put(
+          releaseName,
+          newPauseTarget(
+              podsWithSameProduct.pods,
+              deployment,
+              adminPort,
+              podsWithSameProduct.product,
+              podsResourceVersion));
+    }
+    return ImmutableSortedMap.copyOfSorted(targets);
+  }
+
+  /**
+   * Groups the given pods by the deployments whose selectors match them, and returns a pause target
+   * for each deployment that has any of the pods, in the order of the deployment names. The given
+   * deployments must not be narrowed down by the selector of the pods, because a deployment doesn't
+   * always carry the labels of its pods. An exception is thrown if a pod is selected by no
+   * deployment, for example, a pod of a StatefulSet, because the pause would otherwise cover only
+   * part of the selected pods. An exception is also thrown if a pod is selected by more than one
+   * deployment, because it's ambiguous which target it belongs to.
+   */
+  static List<PauseTarget> assembleTargetsBySelector(
+      List<V1Pod> pods,
+      List<V1Deployment> deployments,
+      TargetSelector selector,
+      @Nullable String podsResourceVersion)
+      throws PauserException {
+    List<V1Deployment> sortedDeployments =
+        deployments.stream()
+            .sorted(Comparator.comparing(d -> d.getMetadata().getName()))
+            .collect(Collectors.toList());
+
+    Map<String, List<V1Pod>> podsByDeployment = new HashMap<>();
+    List<String> podsWithoutDeployment = new ArrayList<>();
+    for (V1Pod pod : pods) {
+      V1Deployment owner = null;
+      for (V1Deployment deployment : sortedDeployments) {
+        V1LabelSelector deploymentSelector =
+            deployment.getSpec() == null ? null : deployment.getSpec().getSelector();
+        if (!matchesSelector(deploymentSelector, pod.getMetadata().getLabels())) {
+          continue;
+        }
+        if (owner != null) {
+          String m =
+              String.format(
+                  "The pod %s is selected by more than one deployment: %s and %s.",
+                  pod.getMetadata().getName(),
+                  owner.getMetadata().getName(),
+                  deployment.getMetadata().getName());
+          throw new PauserException(m);
+        }
+        owner = deployment;
+      }
+      if (owner == null) {
+        podsWithoutDeployment.add(pod.getMetadata().getName());
+        continue;
+      }
+      podsByDeployment
+          .computeIfAbsent(owner.getMetadata().getName(), k -> new ArrayList<>())
+          .add(pod);
+    }
+
+    if (!podsWithoutDeployment.isEmpty()) {
+      Collections.sort(podsWithoutDeployment);
+      String m =
+          String.format(
+              "No deployment selects the pods %s that match the label selector %s.",
+              podsWithoutDeployment, selector.labelSelector());
+      throw new PauserException(m);
+    }
+
+    List<PauseTarget> targets = new ArrayList<>();
+    for (V1Deployment deployment : sortedDeployments) {
+      List<V1Pod> podsOfDeployment = podsByDeployment.get(deployment.getMetadata().getName());
+      if (podsOfDeployment == null) {
+        continue;
+      }
+      int adminPort =
+          selector.adminPort() != null
+              ? selector.adminPort()
+              : findAdminPortInPods(podsOfDeployment, selector.adminPortName());
+      targets.add(
+          newPauseTarget(podsOfDeployment, deployment, adminPort, null, podsResourceVersion));
+    }
+    return targets;
+  }
+
+  /**
+   * Creates a pause target from the given resources. Only the fields that a pause operation reads
+   * are copied to the target, so the resources can be garbage-collected afterward.
+   */
+  static PauseTarget newPauseTarget(
+      List<V1Pod> pods,
+      V1Deployment deployment,
+      int adminPort,
+      @Nullable Product product,
+      @Nullable String podsResourceVersion) {
+    List<PausePod> pausePods = new ArrayList<>(pods.size());
+    for (V1Pod pod : pods) {
+      pausePods.add(PausePod.from(pod));
+    }
+    return new PauseTarget(
+        pausePods, PauseDeployment.from(deployment), adminPort, product, podsResourceVersion);
+  }
+
+  /**
+   * Returns the number of the container port with the given name. All the given pods must expose
+   * the port with the same number because a pause target has a single admin port.
+   */
+  static int findAdminPortInPods(List<V1Pod> pods, String portName) throws PauserException {
+    Integer adminPort = null;
+    for (V1Pod pod : pods) {
+      Integer port = findContainerPort(pod, portName);
+      if (port == null) {
+        String m =
+            String.format(
+                "Can not find the container port %s in the pod %s.",
+                portName, pod.getMetadata().getName());
+        throw new PauserException(m);
+      }
+      if (adminPort != null && !adminPort.equals(port)) {
+        String m =
+            String.format(
+                "The pods expose the container port %s with different numbers: %d and %d.",
+                portName, adminPort, port);
+        throw new PauserException(m);
+      }
+      adminPort = port;
+    }
+    return adminPort;
+  }
+
+  /**
+   * Returns whether the given labels match the given selector of a deployment. A null selector
+   * matches nothing, and an empty selector matches everything, as in Kubernetes.
+   */
+  static boolean matchesSelector(
+      @Nullable V1LabelSelector selector, @Nullable Map<String, String> labels) {
+    if (selector == null) {
+      return false;
+    }
+    Map<String, String> podLabels = labels == null ? Map.of() : labels;
+
+    if (selector.getMatchLabels() != null) {
+      for (Map.Entry<String, String> entry : selector.getMatchLabels().entrySet()) {
+        if (!entry.getValue().equals(podLabels.get(entry.getKey()))) {
+          return false;
+        }
+      }
+    }
+
+    if (selector.getMatchExpressions() != null) {
+      for (V1LabelSelectorRequirement requirement : selector.getMatchExpressions()) {
+        String value = podLabels.get(requirement.getKey());
+        List<String> values = requirement.getValues() == null ? List.of() : requirement.getValues();
+        boolean matched =
+            switch (requirement.getOperator()) {
+              case "In" -> value != null && values.contains(value);
+              case "NotIn" -> value == null || !values.contains(value);
+              case "Exists" -> value != null;
+              case "DoesNotExist" -> value == null;
+              default -> false;
+            };
+        if (!matched) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  private static <T> Map<String, List<T>> groupByInstanceLabel(
+      List<T> items, Function<T, V1ObjectMeta> metadataGetter) {
+    Map<String, List<T>> groups = new HashMap<>();
+    for (T item : items) {
+      Map<String, String> labels = metadataGetter.apply(item).getLabels();
+      String instance = labels == null ? null : labels.get(LABEL_INSTANCE);
+      if (instance != null) {
+        groups.computeIfAbsent(instance, k -> new ArrayList<>()).add(item);
+      }
+    }
+    return groups;
+  }
+
+  private static boolean anyPodRunsScalarProduct(List<V1Pod> pods) {
+    return pods.stream().anyMatch(PauseTargetAssembler::runsScalarProduct);
+  }
+
+  /** Returns whether the app.kubernetes.io/app label of the given pod is of a Scalar product. */
+  static boolean runsScalarProduct(V1Pod pod) {
+    Map<String, String> labels = pod.getMetadata().getLabels();
+    return labels != null
+        && labels.containsKey(LABEL_APP)
+        && Product.fromAppLabelValue(labels.get(LABEL_APP)) != Product.UNKNOWN;
+  }
+
+  /**
+   * Returns a copy of the given pod that has only the fields that a pause target reads: the name,
+   * resource version, and labels, the IP and the restart counts of the containers, and the ports of
+   * the containers. The other fields, for example, the environment variables and volumes of the
+   * containers, usually make up most of the size of a pod, so the copy can be held in memory for
+   * many pods.
+   */
+  static V1Pod trimPod(V1Pod pod) {
+    V1ObjectMeta metadata = pod.getMetadata();
+    V1Pod trimmed =
+        new V1Pod()
+            .metadata(
+                new V1ObjectMeta()
+                    .name(metadata.getName())
+                    .namespace(metadata.getNamespace())
+                    .resourceVersion(metadata.getResourceVersion())
+                    .labels(metadata.getLabels()));
+
+    V1PodStatus status = pod.getStatus();
+    if (status != null) {
+      List<V1ContainerStatus> containerStatuses =
+          status.getContainerStatuses() == null
+              ? null
+              : status.getContainerStatuses().stream()
+                  .map(
+                      c ->
+                          new V1ContainerStatus()
+                              .name(c.getName())
+                              .restartCount(c.getRestartCount()))
+                  .collect(Collectors.toList());
+      trimmed.status(
+          new V1PodStatus().podIP(status.getPodIP()).containerStatuses(containerStatuses));
+    }
+
+    V1PodSpec spec = pod.getSpec();
+    if (spec != null && spec.getContainers() != null) {
+      trimmed.spec(
+          new V1PodSpec()
+              .containers(
+                  spec.getContainers().stream()
+                      .map(c -> new V1Container().name(c.getName()).ports(c.getPorts()))
+                      .collect(Collectors.toList())));
+    }
+    return trimmed;
+  }
+
+  @Nullable
+  private static Integer findContainerPort(V1Pod pod, String portName) {
+    if (pod.getSpec() == null) {
+      return null;
+    }
+    for (V1Container container : pod.getSpec().getContainers()) {
+      if (container.getPorts() == null) {
+        continue;
+      }
+      for (V1ContainerPort port : container.getPorts()) {
+        if (portName.equals(port.getName())) {
+          return port.getContainerPort();
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Classifies pods with the rules of {@link #selectPodsRunScalarProduct(List)} as they are added,
+   * so that the pods listed page by page don't have to be held until all the pages are listed. Only
+   * the pods of the Scalar product are kept.
+   */
+  static class ScalarProductPodCollector {
+    private final List<V1Pod> selected = new ArrayList<>();
+    private Product productThesePodsRun = Product.UNKNOWN;
+    private int podCount;
+
+    void addAll(List<V1Pod> pods) throws PauserException {
+      for (V1Pod pod : pods) {
+        add(pod);
+      }
+    }
+
+    private void add(V1Pod pod) throws PauserException {
+      podCount++;
+      Map<String, String> labels = pod.getMetadata().getLabels();
+
+      if (!labels.containsKey(LABEL_APP)) {
+        String m =
+            String.format(
+                "A pod %s does not have the label: %s. Please deploy Scalar products with Scalar"
+                    + " Helm Charts.",
+                pod.getMetadata().getName(), LABEL_APP);
+        throw new PauserException(m);
+      }
+
+      String appLabelValue = labels.get(LABEL_APP);
+      Product productThisPodRuns = Product.fromAppLabelValue(appLabelValue);
+
+      // If the pod doesn't run any Scalar product, e.g, an Envoy pod, we exclude it.
+      if (productThisPodRuns == Product.UNKNOWN) {
+        return;
+      }
+
+      // If this is the first pod, we use its product as the product of all pods.
+      if (productThesePodsRun == Product.UNKNOWN) {
+        productThesePodsRun = productThisPodRuns;
+      }
+
+      if (productThisPodRuns != productThesePodsRun) {
+
+        String m =
+            String.format(
+                "The pods created by the Helm release run different Scalar products: %s and %s."
+                    + " This should not happen. Please make sure you deploy Scalar products with"
+                    + " Scalar Helm Charts.",
+                productThesePodsRun, productThisPodRuns);
+
+        throw new PauserException(m);
+      }
+
+      selected.add(pod);
+    }
+
+    /** Returns the number of the pods added so far, including the excluded ones. */
+    int podCount() {
+      return podCount;
+    }
+
+    PodsWithSameProduct result() throws PauserException {
+      if (productThesePodsRun == Product.UNKNOWN || selected.size() == 0) {
+        throw new PauserException(
+            "The pods created by the Helm release don't run any Scalar product.");
+      }
+
+      return new PodsWithSameProduct(productThesePodsRun, selected);
+    }
+  }
+
+  static class PodsWithSameProduct {
+    final Product product;
+    final List<V1Pod> pods;
+
+    PodsWithSameProduct(Product product, List<V1Pod> pods) {
+      this.product = product;
+      this.pods = pods;
+    }
+  }
+}
@@ -0,0 +1,269 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.google.protobuf.Message;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import io.kubernetes.client.ProtoClient;
+import io.kubernetes.client.ProtoClient.ObjectOrStatus;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1LabelSelectorRequirement;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.proto.V1Apps;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Lists pods, deployments, and services in the protobuf wire format of the Kubernetes API by using
+ * {@link ProtoClient}, and converts them into the Kubernetes Java models.
+ *
+ * <p>Only the fields that {@link PauseTargetAssembler} reads are converted, that is, the same ones
+ * as {@link PauseTargetAssembler#trimPod(V1Pod)} keeps for pods, the selectors of deployments, and
+ * the ports of services. So the responses are neither parsed as JSON nor turned into full object
+ * graphs.
+ */
+final class ProtobufLists {
+
+  private ProtobufLists() {}
+
+  static V1PodList listPods(
+      ProtoClient protoClient,
+      String namespace,
+      String labelSelector,
+      @Nullable String fieldSelector,
+      @Nullable Integer limit,
+      @Nullable String continueToken,
+      @Nullable String resourceVersion)
+      throws PauserException {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("labelSelector", labelSelector);
+    query.put("fieldSelector", fieldSelector);
+    query.put("limit", limit == null ? null : limit.toString());
+    query.put("continue", continueToken);
+    query.put("resourceVersion", resourceVersion);
+
+    V1.PodList podList =
+        list(
+            protoClient,
+            V1.PodList.newBuilder(),
+            "/api/v1/namespaces/" + namespace + "/pods",
+            query,
+            "listNamespacedPod");
+
+    List<V1Pod> pods = new ArrayList<>(podList.getItemsCount());
+    for (V1.Pod pod : podList.getItemsList()) {
+      pods.add(toPod(pod));
+    }
+    Meta.ListMeta listMeta = podList.getMetadata();
+    return new V1PodList()
+        .metadata(
+            new V1ListMeta()
+                .resourceVersion(
+                    listMeta.hasResourceVersion() ? listMeta.getResourceVersion() : null)
+                ._continue(listMeta.hasContinue() ? listMeta.getContinue() : null))
+        .items(pods);
+  }
+
+  static List<V1Deployment> listDeployments(
+      ProtoClient protoClient,
+      String namespace,
+      @Nullable String labelSelector,
+      @Nullable String resourceVersion)
+      throws PauserException {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("labelSelector", labelSelector);
+    query.put("resourceVersion", resourceVersion);
+
+    V1Apps.DeploymentList deploymentList =
+        list(
+            protoClient,
+            V1Apps.DeploymentList.newBuilder(),
+            "/apis/apps/v1/namespaces/" + namespace + "/deployments",
+            query,
+            "listNamespacedDeployment");
+
+    List<V1Deployment> deployments = new ArrayList<>(deploymentList.getItemsCount());
+    for (V1Apps.Deployment deployment : deploymentList.getItemsList()) {
+      V1Deployment converted = new V1Deployment().metadata(toMetadata(deployment.getMetadata()));
+      if (deployment.getSpec().hasSelector()) {
+        converted.spec(
+            new V1DeploymentSpec().selector(toLabelSelector(deployment.getSpec().getSelector())));
+      }
+      deployments.add(converted);
+    }
+    return deployments;
+  }
+
+  static List<V1Service> listServices(
+      ProtoClient protoClient,
+      String namespace,
+      String labelSelector,
+      @Nullable String resourceVersion)
+      throws PauserException {
+    Map<String, String> query = new LinkedHashMap<>();
+    query.put("labelSelector", labelSelector);
+    query.put("resourceVersion", resourceVersion);
+
+    V1.ServiceList serviceList =
+        list(
+            protoClient,
+            V1.ServiceList.newBuilder(),
+            "/api/v1/namespaces/" + namespace + "/services",
+            query,
+            "listNamespacedService");
+
+    List<V1Service> services = new ArrayList<>(serviceList.getItemsCount());
+    for (V1.Service service : serviceList.getItemsList()) {
+      List<V1ServicePort> ports = new ArrayList<>(service.getSpec().getPortsCount());
+      for (V1.ServicePort port : service.getSpec().getPortsList()) {
+        ports.add(
+            new V1ServicePort()
+                .name(port.getName())
+                .port(port.getPort())
+                .targetPort(toIntOrString(port.getTargetPort())));
+      }
+      services.add(
+          new V1Service()
+              .metadata(toMetadata(service.getMetadata()))
+              .spec(new V1ServiceSpec().ports(ports)));
+    }
+    return services;
+  }
+
+  static V1Pod toPod(V1.Pod pod) {
+    V1Pod converted = new V1Pod().metadata(toMetadata(pod.getMetadata()));
+
+    if (pod.hasStatus()) {
+      // The JSON of a pod omits an empty list and an unset field, which trimPod keeps as null.
+      // They are converted to null here too, so that PausePod rejects the pod in either format.
+      List<V1ContainerStatus> containerStatuses = null;
+      if (pod.getStatus().getContainerStatusesCount() > 0) {
+        containerStatuses = new ArrayList<>(pod.getStatus().getContainerStatusesCount());
+        for (V1.ContainerStatus status : pod.getStatus().getContainerStatusesList()) {
+          containerStatuses.add(
+              new V1ContainerStatus()
+                  .name(status.getName())
+                  .restartCount(status.hasRestartCount() ? status.getRestartCount() : null));
+        }
+      }
+      converted.status(
+          new V1PodStatus()
+              .podIP(pod.getStatus().hasPodIP() ? pod.getStatus().getPodIP() : null)
+              .containerStatuses(containerStatuses));
+    }
+
+    if (pod.hasSpec()) {
+      List<V1Container> containers = new ArrayList<>(pod.getSpec().getContainersCount());
+      for (V1.Container container : pod.getSpec().getContainersList()) {
+        List<V1ContainerPort> ports = new ArrayList<>(container.getPortsCount());
+        for (V1.ContainerPort port : container.getPortsList()) {
+          ports.add(
+              new V1ContainerPort().name(port.getName()).containerPort(port.getContainerPort()));
+        }
+        containers.add(new V1Container().name(container.getName()).ports(ports));
+      }
+      converted.spec(new V1PodSpec().containers(containers));
+    }
+    return converted;
+  }
+
+  private static V1ObjectMeta toMetadata(Meta.ObjectMeta metadata) {
+    return new V1ObjectMeta()
+        .name(metadata.getName())
+        .namespace(metadata.getNamespace())
+        .resourceVersion(metadata.getResourceVersion())
+        .labels(new HashMap<>(metadata.getLabelsMap()));
+  }
+
+  private static IntOrString toIntOrString(IntStr.IntOrString value) {
+    // Type 0 is an integer, and type 1 is a string.
+    return value.getType() == 1
+        ? new IntOrString(value.getStrVal())
+        : new IntOrString(value.getIntVal());
+  }
+
+  private static V1LabelSelector toLabelSelector(Meta.LabelSelector selector) {
+    List<V1LabelSelectorRequirement> expressions =
+        new ArrayList<>(selector.getMatchExpressionsCount());
+    for (Meta.LabelSelectorRequirement requirement : selector.getMatchExpressionsList()) {
+      expressions.add(
+          new V1LabelSelectorRequirement()
+              .key(requirement.getKey())
+              .operator(requirement.getOperator())
+              .values(new ArrayList<>(requirement.getValuesList())));
+    }
+    return new V1LabelSelector()
+        .matchLabels(new HashMap<>(selector.getMatchLabelsMap()))
+        .matchExpressions(expressions);
+  }
+
+  private static <T extends Message> T list(
+      ProtoClient protoClient,
+      Message.Builder builder,
+      String path,
+      Map<String, String> query,
+      String operation)
+      throws PauserException {
+    ObjectOrStatus<T> result;
+    try {
+      result = protoClient.list(builder, path + toQueryString(query));
+    } catch (ApiException e) {
+      String m =
+          String.format(
+              "Kubernetes %s API error with code %d and body %s.",
+              operation, e.getCode(), e.getResponseBody());
+      throw new PauserException(m, e);
+    } catch (IOException e) {
+      throw new PauserException(String.format("Kubernetes %s API call failed.", operation), e);
+    }
+
+    if (result.object == null) {
+      int code = result.status == null ? 0 : result.status.getCode();
+      String message = result.status == null ? null : result.status.getMessage();
+      String m =
+          String.format(
+              "Kubernetes %s API error with code %d and message %s.", operation, code, message);
+      // The cause carries the code, so that the call can be retried if the API server throttled it.
+      throw new PauserException(m, new ApiException(code, message));
+    }
+    return result.object;
+  }
+
+  private static String toQueryString(Map<String, String> query) {
+    StringBuilder queryString = new StringBuilder();
+    for (Map.Entry<String, String> parameter : query.entrySet()) {
+      if (parameter.getValue() == null) {
+        continue;
+      }
+      queryString
+          .append(queryString.length() == 0 ? '?' : '&')
+          .append(parameter.getKey())
+          .append('=')
+          .append(URLEncoder.encode(parameter.getValue(), StandardCharsets.UTF_8));
+    }
+    return queryString.toString();
+  }
+}
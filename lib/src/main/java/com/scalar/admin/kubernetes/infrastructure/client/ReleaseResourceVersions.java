@@ -0,0 +1,86 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.google.common.collect.ImmutableMap;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1PartialObjectMetadata;
+import io.kubernetes.client.openapi.models.V1PartialObjectMetadataList;
+import io.kubernetes.client.openapi.models.V1Service;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.Nullable;
+
+/**
+ * The resource versions of the pods, deployments, and services of the product of a Helm release,
+ * keyed by their names.
+ *
+ * <p>The resource version of a Kubernetes resource changes whenever the resource is updated, and a
+ * resource deleted and created again with the same name has another resource version. So if the
+ * resource versions of all the resources are the same as before, a pause target resolved from
+ * them before is still up to date.
+ *
+ * @param pods the resource versions of the pods
+ * @param deployments the resource versions of the deployments
+ * @param services the resource versions of the services
+ * @param podsResourceVersion the resource version of the pod list, null if unknown
+ */
+record ReleaseResourceVersions(
+    Map<String, String> pods,
+    Map<String, String> deployments,
+    Map<String, String> services,
+    @Nullable String podsResourceVersion) {
+
+  ReleaseResourceVersions {
+    pods = ImmutableMap.copyOf(pods);
+    deployments = ImmutableMap.copyOf(deployments);
+    services = ImmutableMap.copyOf(services);
+  }
+
+  /**
+   * Returns the resource versions of the resources that the given target was built from, that is,
+   * its pods and deployment, and the given services listed together with them.
+   */
+  static ReleaseResourceVersions of(PauseTarget target, List<V1Service> services) {
+    Map<String, String> pods = new HashMap<>();
+    for (PausePod pod : target.pods()) {
+      pods.put(pod.name(), pod.resourceVersion());
+    }
+    Map<String, String> serviceResourceVersions = new HashMap<>();
+    for (V1Service service : services) {
+      put(serviceResourceVersions, service.getMetadata());
+    }
+    return new ReleaseResourceVersions(
+        pods,
+        Map.of(target.deployment().name(), target.deployment().resourceVersion()),
+        serviceResourceVersions,
+        target.podsResourceVersion());
+  }
+
+  static Map<String, String> byName(V1PartialObjectMetadataList list) {
+    Map<String, String> resourceVersions = new HashMap<>();
+    for (V1PartialObjectMetadata item : list.getItems()) {
+      put(resourceVersions, item.getMetadata());
+    }
+    return resourceVersions;
+  }
+
+  /**
+   * Returns whether the resources have the same resource versions as the given ones. The resource
+   * versions of the pod lists are not compared because they change with any pod in the namespace.
+   */
+  boolean isSameAs(ReleaseResourceVersions other) {
+    return pods.equals(other.pods)
+        && deployments.equals(other.deployments)
+        && services.equals(other.services);
+  }
+
+  private static void put(Map<String, String> resourceVersions, @Nullable V1ObjectMeta metadata) {
+    if (metadata == null || metadata.getName() == null) {
+      return;
+    }
+    resourceVersions.put(metadata.getName(), Objects.toString(metadata.getResourceVersion()));
+  }
+}
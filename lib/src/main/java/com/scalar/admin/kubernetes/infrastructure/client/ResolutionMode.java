@@ -0,0 +1,33 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+/**
+ * Modes of looking up the Kubernetes resources that make up a pause target.
+ *
+ * <p>Resolving a pause target requires three Kubernetes API calls: listing the pods, the
+ * deployment, and the service of a Helm release. This enum controls how those calls are issued.
+ */
+public enum ResolutionMode {
+  /**
+   * Lists the pods first, and then lists the deployment and the service of the product that the
+   * pods run one after another. The resolution latency is the sum of the three calls.
+   */
+  SEQUENTIAL,
+
+  /**
+   * Lists the deployments and services of the Helm release alongside the pods, and narrows them
+   * down to the product that the pods run after all calls complete. The resolution latency is that
+   * of the slowest call. The deployment and service responses may be larger than in {@link
+   * #SEQUENTIAL} mode because they are not filtered by the product on the server side.
+   */
+  CONCURRENT,
+
+  /**
+   * Looks up the resources in an in-memory cache kept up to date by informers, without calling the
+   * Kubernetes API during the resolution. This mode is intended for a long-running process that
+   * pauses targets repeatedly. The first resolution in a namespace waits until the cache of the
+   * namespace is synced.
+   *
+   * @see InformerKubernetesClient
+   */
+  INFORMER
+}
@@ -4,6 +4,9 @@ import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClientFactory;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
 import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import javax.annotation.concurrent.ThreadSafe;
 
 /**
@@ -11,11 +14,41 @@ import javax.annotation.concurrent.ThreadSafe;
  * implementations.
  *
  * <p>This factory creates appropriate ScalarAdminClient implementations based on whether TLS
- * configuration is provided. Each client is bound to a specific PauseTarget.
+ * configuration is provided and on the {@link AdminClientMode}. Each client is bound to the pods of
+ * a specific PauseTarget or of several PauseTargets.
  */
 @ThreadSafe
 public class ScalarAdminClientFactoryImpl implements ScalarAdminClientFactory {
 
+  /** The default deadline of each request in {@link AdminClientMode#PARALLEL} mode. */
+  public static final long DEFAULT_REQUEST_DEADLINE_MILLIS = 10000;
+
+  private final AdminClientMode mode;
+  private final long requestDeadlineMillis;
+
+  /** Creates a ScalarAdminClientFactoryImpl in {@link AdminClientMode#COORDINATOR} mode. */
+  public ScalarAdminClientFactoryImpl() {
+    this(AdminClientMode.COORDINATOR, DEFAULT_REQUEST_DEADLINE_MILLIS);
+  }
+
+  /**
+   * Creates a ScalarAdminClientFactoryImpl.
+   *
+   * @param mode how the created clients send the requests to the pods
+   * @param requestDeadlineMillis the deadline of each request in milliseconds, used in {@link
+   *     AdminClientMode#PARALLEL} mode
+   */
+  public ScalarAdminClientFactoryImpl(AdminClientMode mode, long requestDeadlineMillis) {
+    if (mode == null) {
+      throw new IllegalArgumentException("mode is required");
+    }
+    if (requestDeadlineMillis < 1) {
+      throw new IllegalArgumentException("requestDeadlineMillis must be greater than 0");
+    }
+    this.mode = mode;
+    this.requestDeadlineMillis = requestDeadlineMillis;
+  }
+
   /**
    * Creates a standard (non-TLS) ScalarAdminClient for the given target.
    *
@@ -24,6 +57,9 @@ public class ScalarAdminClientFactoryImpl implements ScalarAdminClientFactory {
    */
   @Override
   public ScalarAdminClient createClient(PauseTarget target) {
+    if (mode == AdminClientMode.PARALLEL) {
+      return new ParallelScalarAdminClient(target, null, requestDeadlineMillis);
+    }
     return new ScalarAdminClientImpl(target);
   }
 
@@ -36,6 +72,57 @@ public class ScalarAdminClientFactoryImpl implements ScalarAdminClientFactory {
    */
   @Override
   public ScalarAdminClient createClient(PauseTarget target, TlsConfig tlsConfig) {
+    if (mode == AdminClientMode.PARALLEL) {
+      if (tlsConfig == null) {
+        throw new IllegalArgumentException("TlsConfig must not be null");
+      }
+      return new ParallelScalarAdminClient(target, tlsConfig, requestDeadlineMillis);
+    }
     return new TlsScalarAdminClientImpl(target, tlsConfig);
   }
+
+  /**
+   * Creates a standard (non-TLS) ScalarAdminClient for the pods of all the given targets.
+   *
+   * @param targets the pause targets containing pods to communicate with
+   * @return a new ScalarAdminClient instance without TLS
+   */
+  @Override
+  public ScalarAdminClient createClient(List<PauseTarget> targets) {
+    List<InetSocketAddress> addresses = toAddressList(targets);
+    if (mode == AdminClientMode.PARALLEL) {
+      return new ParallelScalarAdminClient(addresses, null, requestDeadlineMillis);
+    }
+    return new ScalarAdminClientImpl(addresses);
+  }
+
+  /**
+   * Creates a TLS-enabled ScalarAdminClient for the pods of all the given targets.
+   *
+   * @param targets the pause targets containing pods to communicate with
+   * @param tlsConfig the TLS configuration for secure communication
+   * @return a new ScalarAdminClient instance with TLS enabled
+   */
+  @Override
+  public ScalarAdminClient createClient(List<PauseTarget> targets, TlsConfig tlsConfig) {
+    if (tlsConfig == null) {
+      throw new IllegalArgumentException("TlsConfig must not be null");
+    }
+    List<InetSocketAddress> addresses = toAddressList(targets);
+    if (mode == AdminClientMode.PARALLEL) {
+      return new ParallelScalarAdminClient(addresses, tlsConfig, requestDeadlineMillis);
+    }
+    return new TlsScalarAdminClientImpl(addresses, tlsConfig);
+  }
+
+  private static List<InetSocketAddress> toAddressList(List<PauseTarget> targets) {
+    if (targets == null || targets.isEmpty()) {
+      throw new IllegalArgumentException("targets must not be empty");
+    }
+    List<InetSocketAddress> addresses = new ArrayList<>();
+    for (PauseTarget target : targets) {
+      addresses.addAll(target.toAddressList());
+    }
+    return addresses;
+  }
 }
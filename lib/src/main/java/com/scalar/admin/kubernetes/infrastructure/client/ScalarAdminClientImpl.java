@@ -2,7 +2,10 @@ package com.scalar.admin.kubernetes.infrastructure.client;
 
 import com.scalar.admin.RequestCoordinator;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import java.net.InetSocketAddress;
+import java.util.List;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -15,6 +18,7 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public class ScalarAdminClientImpl implements ScalarAdminClient {
 
+  private final List<InetSocketAddress> addresses;
   private final RequestCoordinator requestCoordinator;
 
   /**
@@ -26,7 +30,22 @@ public class ScalarAdminClientImpl implements ScalarAdminClient {
     if (target == null) {
       throw new IllegalArgumentException("PauseTarget must not be null");
     }
-    this.requestCoordinator = new RequestCoordinator(target.toAddressList());
+    this.addresses = target.toAddressList();
+    this.requestCoordinator = new RequestCoordinator(addresses);
+  }
+
+  /**
+   * Creates a ScalarAdminClientImpl for the given pods, for example, the pods of several pause
+   * targets.
+   *
+   * @param addresses the addresses of the pods to communicate with
+   */
+  public ScalarAdminClientImpl(List<InetSocketAddress> addresses) {
+    if (addresses == null || addresses.isEmpty()) {
+      throw new IllegalArgumentException("addresses must not be empty");
+    }
+    this.addresses = List.copyOf(addresses);
+    this.requestCoordinator = new RequestCoordinator(this.addresses);
   }
 
   @Override
@@ -35,7 +54,27 @@ public class ScalarAdminClientImpl implements ScalarAdminClient {
   }
 
   @Override
-  public void unpause() {
-    requestCoordinator.unpause();
+  public AdminRequestResult unpause() {
+    return unpause(addresses, requestCoordinator);
+  }
+
+  /**
+   * Unpauses the given pods through a new request coordinator for them. Since the request
+   * coordinator doesn't tell which pods failed, all the given pods are regarded as failed if it
+   * throws an exception.
+   */
+  @Override
+  public AdminRequestResult unpause(List<InetSocketAddress> addresses) {
+    return unpause(addresses, new RequestCoordinator(addresses));
+  }
+
+  private static AdminRequestResult unpause(
+      List<InetSocketAddress> addresses, RequestCoordinator requestCoordinator) {
+    try {
+      requestCoordinator.unpause();
+      return AdminRequestResult.allAcknowledged(addresses);
+    } catch (Exception e) {
+      return AdminRequestResult.allFailed(addresses, e);
+    }
   }
 }
@@ -0,0 +1,50 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.GrpcSslContexts;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.shaded.io.netty.handler.ssl.SslContext;
+import java.io.ByteArrayInputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+import javax.net.ssl.SSLException;
+
+/**
+ * Creates the TLS channels of {@link ParallelScalarAdminClient}.
+ *
+ * <p>This is separate from the client so that the SSL classes of Netty are loaded only when TLS is
+ * enabled, which keeps them out of the startup of a plaintext pause.
+ */
+final class TlsChannelFactory {
+
+  private TlsChannelFactory() {}
+
+  /**
+   * Returns a function that creates a channel to a pod that trusts the CA root certificate of the
+   * given configuration.
+   *
+   * @param tlsConfig the TLS configuration
+   * @return a function that creates a channel to the given address
+   * @throws IllegalArgumentException if the CA root certificate can't be loaded
+   */
+  static Function<InetSocketAddress, ManagedChannel> create(TlsConfig tlsConfig) {
+    SslContext sslContext;
+    try {
+      sslContext =
+          GrpcSslContexts.forClient()
+              .trustManager(
+                  new ByteArrayInputStream(
+                      tlsConfig.caRootCert().getBytes(StandardCharsets.UTF_8)))
+              .build();
+    } catch (SSLException e) {
+      throw new IllegalArgumentException("Failed to load the CA root certificate.", e);
+    }
+    return address ->
+        NettyChannelBuilder.forAddress(address.getHostString(), address.getPort())
+            .sslContext(sslContext)
+            .overrideAuthority(tlsConfig.overrideAuthority())
+            .build();
+  }
+}
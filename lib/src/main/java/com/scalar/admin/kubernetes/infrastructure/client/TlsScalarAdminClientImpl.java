@@ -2,8 +2,11 @@ package com.scalar.admin.kubernetes.infrastructure.client;
 
 import com.scalar.admin.TlsRequestCoordinator;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
 import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
+import java.net.InetSocketAddress;
+import java.util.List;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -16,6 +19,8 @@ import javax.annotation.concurrent.ThreadSafe;
 @ThreadSafe
 public class TlsScalarAdminClientImpl implements ScalarAdminClient {
 
+  private final TlsConfig tlsConfig;
+  private final List<InetSocketAddress> addresses;
   private final TlsRequestCoordinator requestCoordinator;
 
   /**
@@ -31,9 +36,31 @@ public class TlsScalarAdminClientImpl implements ScalarAdminClient {
     if (tlsConfig == null) {
       throw new IllegalArgumentException("TlsConfig must not be null");
     }
+    this.tlsConfig = tlsConfig;
+    this.addresses = target.toAddressList();
+    this.requestCoordinator =
+        new TlsRequestCoordinator(addresses, tlsConfig.caRootCert(), tlsConfig.overrideAuthority());
+  }
+
+  /**
+   * Creates a TlsScalarAdminClientImpl for the given pods, for example, the pods of several pause
+   * targets, with TLS configuration.
+   *
+   * @param addresses the addresses of the pods to communicate with
+   * @param tlsConfig the TLS configuration
+   */
+  public TlsScalarAdminClientImpl(List<InetSocketAddress> addresses, TlsConfig tlsConfig) {
+    if (addresses == null || addresses.isEmpty()) {
+      throw new IllegalArgumentException("addresses must not be empty");
+    }
+    if (tlsConfig == null) {
+      throw new IllegalArgumentException("TlsConfig must not be null");
+    }
+    this.tlsConfig = tlsConfig;
+    this.addresses = List.copyOf(addresses);
     this.requestCoordinator =
         new TlsRequestCoordinator(
-            target.toAddressList(), tlsConfig.caRootCert(), tlsConfig.overrideAuthority());
+            this.addresses, tlsConfig.caRootCert(), tlsConfig.overrideAuthority());
   }
 
   @Override
@@ -42,7 +69,30 @@ public class TlsScalarAdminClientImpl implements ScalarAdminClient {
   }
 
   @Override
-  public void unpause() {
-    requestCoordinator.unpause();
+  public AdminRequestResult unpause() {
+    return unpause(addresses, requestCoordinator);
+  }
+
+  /**
+   * Unpauses the given pods through a new request coordinator for them. Since the request
+   * coordinator doesn't tell which pods failed, all the given pods are regarded as failed if it
+   * throws an exception.
+   */
+  @Override
+  public AdminRequestResult unpause(List<InetSocketAddress> addresses) {
+    return unpause(
+        addresses,
+        new TlsRequestCoordinator(
+            addresses, tlsConfig.caRootCert(), tlsConfig.overrideAuthority()));
+  }
+
+  private static AdminRequestResult unpause(
+      List<InetSocketAddress> addresses, TlsRequestCoordinator requestCoordinator) {
+    try {
+      requestCoordinator.unpause();
+      return AdminRequestResult.allAcknowledged(addresses);
+    } catch (Exception e) {
+      return AdminRequestResult.allFailed(addresses, e);
+    }
   }
 }
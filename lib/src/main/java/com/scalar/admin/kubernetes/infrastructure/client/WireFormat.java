@@ -0,0 +1,19 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+/**
+ * Wire formats of the responses of the Kubernetes API that list the resources of pause targets.
+ */
+public enum WireFormat {
+  /** Lists the resources in JSON, which every Kubernetes API server supports. */
+  JSON,
+
+  /**
+   * Lists the pods, deployments, and services in the protobuf format, which takes less CPU and
+   * memory to parse than JSON, especially for Helm releases with many pods. The deployments of
+   * Helm releases are still listed in JSON if metadata-only lists are enabled, because those
+   * responses are already small.
+   *
+   * @see ProtobufLists
+   */
+  PROTOBUF
+}
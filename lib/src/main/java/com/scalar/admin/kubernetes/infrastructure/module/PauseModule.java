@@ -3,16 +3,35 @@ package com.scalar.admin.kubernetes.infrastructure.module;
 import com.google.inject.AbstractModule;
 import com.google.inject.Provides;
 import com.google.inject.Singleton;
+import com.google.inject.multibindings.Multibinder;
+import com.scalar.admin.kubernetes.application.ChangeDetectionMode;
 import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClientFactory;
 import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import com.scalar.admin.kubernetes.infrastructure.client.AdminClientMode;
+import com.scalar.admin.kubernetes.infrastructure.client.CachingKubernetesClient;
+import com.scalar.admin.kubernetes.infrastructure.client.InformerKubernetesClient;
 import com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesHttpSettings;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesRateLimiter;
+import com.scalar.admin.kubernetes.infrastructure.client.ResolutionMode;
 import com.scalar.admin.kubernetes.infrastructure.client.ScalarAdminClientFactoryImpl;
+import com.scalar.admin.kubernetes.infrastructure.client.WireFormat;
+import io.kubernetes.client.ProtoClient;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.apis.VersionApi;
 import io.kubernetes.client.util.Config;
 import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
 
 /**
  * Guice module that binds domain interfaces to their infrastructure implementations.
@@ -20,22 +39,357 @@ import java.io.IOException;
  * <p>This module serves as the composition root for dependency injection, wiring together the
  * Kubernetes client, Scalar Admin client factory, and their dependencies. It is intended to be
  * instantiated at the application entry point (e.g., CLI).
+ *
+ * <p>The time spent in each phase of a pause operation is reported to the {@link
+ * PauseLifecycleListener}s in the set binding, which is empty by default. To export the timings,
+ * for example, as metrics, add a listener to the set in another module with {@code
+ * Multibinder.newSetBinder(binder(), PauseLifecycleListener.class).addBinding()}.
+ *
+ * <p>The clients are created by providers the first time they are injected, so creating an
+ * injector with this module doesn't load the Kubernetes configuration or the gRPC transport. Only
+ * the implementations for the configured modes are loaded, for example, the TLS channels of the
+ * admin client are loaded only when a pause request enables TLS.
  */
 public class PauseModule extends AbstractModule {
 
+  private final ResolutionMode resolutionMode;
+  private final ChangeDetectionMode changeDetectionMode;
+  private final List<String> watchedNamespaces;
+  private final AdminClientMode adminClientMode;
+  private final long adminRequestDeadlineMillis;
+  private final int podListPageSize;
+  private final boolean metadataOnlyLists;
+  private final WireFormat wireFormat;
+  private final KubernetesHttpSettings httpSettings;
+  private final ReadConsistency discoveryConsistency;
+  @Nullable private final KubernetesRateLimiter rateLimiter;
+  private final boolean cacheTargets;
+
+  /**
+   * Creates a PauseModule with the default settings, that is, {@link ResolutionMode#SEQUENTIAL}
+   * and {@link ChangeDetectionMode#RELIST}.
+   */
+  public PauseModule() {
+    this(builder());
+  }
+
+  private PauseModule(Builder builder) {
+    this.resolutionMode = builder.resolutionMode;
+    this.changeDetectionMode = builder.changeDetectionMode;
+    this.watchedNamespaces = builder.watchedNamespaces;
+    this.adminClientMode = builder.adminClientMode;
+    this.adminRequestDeadlineMillis = builder.adminRequestDeadlineMillis;
+    this.podListPageSize = builder.podListPageSize;
+    this.metadataOnlyLists = builder.metadataOnlyLists;
+    this.wireFormat = builder.wireFormat;
+    this.httpSettings = builder.httpSettings;
+    this.discoveryConsistency = builder.discoveryConsistency;
+    this.rateLimiter = builder.rateLimiter;
+    this.cacheTargets = builder.cacheTargets;
+  }
+
+  /**
+   * Returns a builder for configuring a PauseModule.
+   *
+   * @return a new builder with the default settings
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
   @Override
   protected void configure() {
-    bind(ScalarAdminClientFactory.class).to(ScalarAdminClientFactoryImpl.class).in(Singleton.class);
+    bind(ChangeDetectionMode.class).toInstance(changeDetectionMode);
+    Multibinder.newSetBinder(binder(), PauseLifecycleListener.class);
+  }
+
+  @Provides
+  @Singleton
+  ScalarAdminClientFactory provideScalarAdminClientFactory() {
+    return new ScalarAdminClientFactoryImpl(adminClientMode, adminRequestDeadlineMillis);
   }
 
   @Provides
   @Singleton
   KubernetesClient provideKubernetesClient() throws PauserException {
+    ApiClient apiClient;
     try {
-      Configuration.setDefaultApiClient(Config.defaultClient());
+      apiClient = Config.defaultClient();
     } catch (IOException e) {
       throw new PauserException("Failed to set default Kubernetes client.", e);
     }
-    return new KubernetesClientImpl(new CoreV1Api(), new AppsV1Api());
+    apiClient.setHttpClient(httpSettings.apply(apiClient.getHttpClient()));
+    Configuration.setDefaultApiClient(apiClient);
+    if (httpSettings.preconnect()) {
+      preconnect(apiClient);
+    }
+
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(new CoreV1Api(), new AppsV1Api())
+            .resolutionMode(resolutionMode)
+            .podListPageSize(podListPageSize)
+            .metadataOnlyLists(metadataOnlyLists)
+            .protoClient(wireFormat == WireFormat.PROTOBUF ? new ProtoClient(apiClient) : null)
+            .discoveryConsistency(discoveryConsistency)
+            .rateLimiter(rateLimiter)
+            .build();
+    if (resolutionMode == ResolutionMode.INFORMER) {
+      return provideInformerKubernetesClient(apiClient, kubernetesClient);
+    }
+    // Revalidating the cached targets lists the metadata, which needs PartialObjectMetadataList.
+    if (cacheTargets && metadataOnlyLists) {
+      return new CachingKubernetesClient(kubernetesClient);
+    }
+    return kubernetesClient;
+  }
+
+  private KubernetesClient provideInformerKubernetesClient(
+      ApiClient apiClient, KubernetesClientImpl directClient) throws PauserException {
+    ApiClient informerClient;
+    try {
+      informerClient = Config.defaultClient();
+    } catch (IOException e) {
+      throw new PauserException("Failed to create Kubernetes client for informers.", e);
+    }
+    // The informers keep watch connections that stay idle while nothing changes. They share the
+    // connection pool with the other API calls.
+    informerClient.setHttpClient(
+        apiClient.getHttpClient().newBuilder().readTimeout(0, TimeUnit.MILLISECONDS).build());
+    return new InformerKubernetesClient(
+        new CoreV1Api(informerClient),
+        new AppsV1Api(informerClient),
+        directClient,
+        watchedNamespaces);
+  }
+
+  /**
+   * Connects to the API server in the background by calling the cheapest API, so that the
+   * connection is in the pool by the time the first pause target is resolved. A failure is ignored
+   * because the same error is reported by the first API call that needs the connection.
+   */
+  private static void preconnect(ApiClient apiClient) {
+    Thread.ofVirtual()
+        .name("kubernetes-preconnect")
+        .start(
+            () -> {
+              try {
+                new VersionApi(apiClient).getCode();
+              } catch (ApiException e) {
+                // Ignore because only the connection matters.
+              }
+            });
+  }
+
+  /** Builder for {@link PauseModule}. */
+  public static class Builder {
+    private ResolutionMode resolutionMode = ResolutionMode.SEQUENTIAL;
+    private ChangeDetectionMode changeDetectionMode = ChangeDetectionMode.RELIST;
+    private List<String> watchedNamespaces = List.of();
+    private AdminClientMode adminClientMode = AdminClientMode.COORDINATOR;
+    private long adminRequestDeadlineMillis =
+        ScalarAdminClientFactoryImpl.DEFAULT_REQUEST_DEADLINE_MILLIS;
+    private int podListPageSize = KubernetesClientImpl.DEFAULT_POD_LIST_PAGE_SIZE;
+    private boolean metadataOnlyLists = true;
+    private WireFormat wireFormat = WireFormat.JSON;
+    private KubernetesHttpSettings httpSettings = KubernetesHttpSettings.DEFAULT;
+    private ReadConsistency discoveryConsistency = ReadConsistency.LATEST;
+    @Nullable private KubernetesRateLimiter rateLimiter =
+        new KubernetesRateLimiter(
+            KubernetesRateLimiter.DEFAULT_QPS, KubernetesRateLimiter.DEFAULT_BURST);
+    private boolean cacheTargets = false;
+
+    private Builder() {}
+
+    /**
+     * Sets how the Kubernetes client looks up the resources of a pause target.
+     *
+     * @param resolutionMode the resolution mode
+     * @return this builder
+     */
+    public Builder resolutionMode(ResolutionMode resolutionMode) {
+      if (resolutionMode == null) {
+        throw new IllegalArgumentException("resolutionMode is required");
+      }
+      this.resolutionMode = resolutionMode;
+      return this;
+    }
+
+    /**
+     * Sets how updates to a pause target during the pause are detected.
+     *
+     * @param changeDetectionMode the change detection mode
+     * @return this builder
+     */
+    public Builder changeDetectionMode(ChangeDetectionMode changeDetectionMode) {
+      if (changeDetectionMode == null) {
+        throw new IllegalArgumentException("changeDetectionMode is required");
+      }
+      this.changeDetectionMode = changeDetectionMode;
+      return this;
+    }
+
+    /**
+     * Sets the namespaces that {@link ResolutionMode#INFORMER} mode watches from the start. Other
+     * namespaces are watched the first time a target in them is resolved.
+     *
+     * @param watchedNamespaces the namespaces to watch from the start
+     * @return this builder
+     */
+    public Builder watchedNamespaces(Collection<String> watchedNamespaces) {
+      if (watchedNamespaces == null) {
+        throw new IllegalArgumentException("watchedNamespaces must not be null");
+      }
+      this.watchedNamespaces = List.copyOf(watchedNamespaces);
+      return this;
+    }
+
+    /**
+     * Sets how the pause and unpause requests are sent to the target pods.
+     *
+     * @param adminClientMode the admin client mode
+     * @return this builder
+     */
+    public Builder adminClientMode(AdminClientMode adminClientMode) {
+      if (adminClientMode == null) {
+        throw new IllegalArgumentException("adminClientMode is required");
+      }
+      this.adminClientMode = adminClientMode;
+      return this;
+    }
+
+    /**
+     * Sets the deadline of each request to a pod in {@link AdminClientMode#PARALLEL} mode. A pause
+     * request gets the max pause wait time on top of it.
+     *
+     * @param adminRequestDeadlineMillis the deadline in milliseconds
+     * @return this builder
+     */
+    public Builder adminRequestDeadlineMillis(long adminRequestDeadlineMillis) {
+      if (adminRequestDeadlineMillis < 1) {
+        throw new IllegalArgumentException("adminRequestDeadlineMillis must be greater than 0");
+      }
+      this.adminRequestDeadlineMillis = adminRequestDeadlineMillis;
+      return this;
+    }
+
+    /**
+     * Sets the max number of pods that the Kubernetes client lists in a single request. The pods of
+     * a target that has more pods are listed in several pages. In {@link ResolutionMode#INFORMER}
+     * mode, this applies only to the pods that are listed rather than looked up in the informers,
+     * such as the pods selected by a label selector.
+     *
+     * @param podListPageSize the page size, or 0 to list all the pods in a single request
+     * @return this builder
+     */
+    public Builder podListPageSize(int podListPageSize) {
+      if (podListPageSize < 0) {
+        throw new IllegalArgumentException("podListPageSize must not be negative");
+      }
+      this.podListPageSize = podListPageSize;
+      return this;
+    }
+
+    /**
+     * Sets whether the Kubernetes client lists only the metadata of the deployments of Helm
+     * releases, which is enabled by default. Disable it for an API server that doesn't support
+     * {@code PartialObjectMetadataList}. In {@link ResolutionMode#INFORMER} mode, this applies
+     * only to the deployments that are listed rather than looked up in the informers.
+     *
+     * @param metadataOnlyLists whether to list only the metadata of the deployments
+     * @return this builder
+     */
+    public Builder metadataOnlyLists(boolean metadataOnlyLists) {
+      this.metadataOnlyLists = metadataOnlyLists;
+      return this;
+    }
+
+    /**
+     * Sets the wire format in which the Kubernetes client lists the resources. In {@link
+     * ResolutionMode#INFORMER} mode, this applies only to the resources that are listed rather than
+     * looked up in the informers.
+     *
+     * @param wireFormat the wire format
+     * @return this builder
+     */
+    public Builder wireFormat(WireFormat wireFormat) {
+      if (wireFormat == null) {
+        throw new IllegalArgumentException("wireFormat is required");
+      }
+      this.wireFormat = wireFormat;
+      return this;
+    }
+
+    /**
+     * Sets the settings of the HTTP client that calls the Kubernetes API, such as the connection
+     * pool, HTTP/2, the timeouts, and whether to connect to the API server in advance.
+     *
+     * @param httpSettings the HTTP settings
+     * @return this builder
+     */
+    public Builder httpSettings(KubernetesHttpSettings httpSettings) {
+      if (httpSettings == null) {
+        throw new IllegalArgumentException("httpSettings is required");
+      }
+      this.httpSettings = httpSettings;
+      return this;
+    }
+
+    /**
+     * Sets the consistency of the reads to discover the targets before the pause. {@link
+     * ReadConsistency#CACHED} lets the Kubernetes API server answer from its watch cache instead of
+     * reading from etcd. The targets are always examined after the pause with {@link
+     * ReadConsistency#LATEST}. In the INFORMER resolution mode, the targets of Helm releases are
+     * always discovered from the cache of the informers, so this applies only to the targets
+     * selected by a label selector.
+     *
+     * @param discoveryConsistency the consistency of the reads to discover the targets
+     * @return this builder
+     */
+    public Builder discoveryConsistency(ReadConsistency discoveryConsistency) {
+      if (discoveryConsistency == null) {
+        throw new IllegalArgumentException("discoveryConsistency is required");
+      }
+      this.discoveryConsistency = discoveryConsistency;
+      return this;
+    }
+
+    /**
+     * Sets the rate limiter of the calls to the Kubernetes API, which may be shared with other
+     * modules so that all the calls of a process are limited together. The default limits the
+     * calls to {@link KubernetesRateLimiter#DEFAULT_QPS} per second with bursts of {@link
+     * KubernetesRateLimiter#DEFAULT_BURST}. In the INFORMER resolution mode, this limits the calls
+     * other than the watches of the informers.
+     *
+     * @param rateLimiter the rate limiter, or null not to limit the rate
+     * @return this builder
+     */
+    public Builder rateLimiter(@Nullable KubernetesRateLimiter rateLimiter) {
+      this.rateLimiter = rateLimiter;
+      return this;
+    }
+
+    /**
+     * Sets whether the Kubernetes client keeps the last resolved target of each Helm release and
+     * reuses it while the resource versions of its pods, deployments, and services are unchanged,
+     * which is disabled by default. This is worth enabling in a long-running process that pauses
+     * the same releases repeatedly. This is ignored in the INFORMER resolution mode and when {@link
+     * #metadataOnlyLists(boolean)} is disabled.
+     *
+     * @param cacheTargets whether to cache the targets of Helm releases
+     * @return this builder
+     */
+    public Builder cacheTargets(boolean cacheTargets) {
+      this.cacheTargets = cacheTargets;
+      return this;
+    }
+
+    /**
+     * Builds a PauseModule with the settings of this builder.
+     *
+     * @return a new PauseModule
+     */
+    public PauseModule build() {
+      return new PauseModule(this);
+    }
   }
 }
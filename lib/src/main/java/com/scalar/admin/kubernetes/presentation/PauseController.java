@@ -4,7 +4,18 @@ import com.scalar.admin.kubernetes.application.PauseApplicationService;
 import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
 import com.scalar.admin.kubernetes.domain.exception.PauserException;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseByHelmReleaseCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByHelmReleasesCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByLabelSelectorCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByNamespaceCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
+import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
+import com.scalar.admin.kubernetes.domain.service.PauseHandle;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import com.scalar.admin.kubernetes.presentation.dto.PauseLabelSelectorRequest;
+import com.scalar.admin.kubernetes.presentation.dto.PauseNamespaceRequest;
+import com.scalar.admin.kubernetes.presentation.dto.PauseReleasesRequest;
 import com.scalar.admin.kubernetes.presentation.dto.PauseRequest;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 
 /**
@@ -38,6 +49,38 @@ public class PauseController {
    * @throws PauserException when the pause operation fails
    */
   public PauseDurationDto pause(PauseRequest request) throws PauserException {
+    return pause(request, null);
+  }
+
+  /**
+   * Executes a pause operation based on the given request, and reports the progress of the
+   * operation to the given listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @return DTO containing the start and end time of the pause operation
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto pause(PauseRequest request, @Nullable PauseLifecycleListener listener)
+      throws PauserException {
+    return pause(request, listener, null);
+  }
+
+  /**
+   * Executes a pause operation based on the given request, which can be cancelled through the given
+   * handle, and reports the progress of the operation to the given listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @param handle the handle to cancel the operation with, null if the operation is not cancelled
+   * @return DTO containing the start and end time of the pause operation
+   * @throws PauserException when the pause operation fails or is cancelled
+   */
+  public PauseDurationDto pause(
+      PauseRequest request,
+      @Nullable PauseLifecycleListener listener,
+      @Nullable PauseHandle handle)
+      throws PauserException {
     // Build command from request
     PauseByHelmReleaseCommand command =
         request.tlsEnabled()
@@ -55,6 +98,195 @@ public class PauseController {
                 request.maxPauseWaitTime());
 
     // Execute command
-    return applicationService.execute(command);
+    return applicationService.execute(command, listener, handle);
+  }
+
+  /**
+   * Executes a pause operation on several Helm releases in a single pause window.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the releases
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto pause(PauseReleasesRequest request) throws PauserException {
+    return pause(request, null);
+  }
+
+  /**
+   * Executes a pause operation on several Helm releases in a single pause window, and reports the
+   * progress of the operation to the given listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the releases
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto pause(
+      PauseReleasesRequest request, @Nullable PauseLifecycleListener listener)
+      throws PauserException {
+    return pause(request, listener, null);
+  }
+
+  /**
+   * Executes a pause operation on several Helm releases in a single pause window, which can be
+   * cancelled through the given handle, and reports the progress of the operation to the given
+   * listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @param handle the handle to cancel the operation with, null if the operation is not cancelled
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the releases
+   * @throws PauserException when the pause operation fails or is cancelled
+   */
+  public PauseDurationDto pause(
+      PauseReleasesRequest request,
+      @Nullable PauseLifecycleListener listener,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+    // Build command from request
+    TlsConfig tlsConfig =
+        request.tlsEnabled()
+            ? new TlsConfig(request.caRootCert(), request.overrideAuthority())
+            : null;
+    PauseByHelmReleasesCommand command =
+        new PauseByHelmReleasesCommand(
+            request.namespace(),
+            request.helmReleaseNames(),
+            request.pauseDuration(),
+            request.maxPauseWaitTime(),
+            tlsConfig);
+
+    // Execute command
+    return applicationService.execute(command, listener, handle);
+  }
+
+  /**
+   * Executes a pause operation on the pods selected by label and field selectors in a single pause
+   * window.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the selected pods
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto pause(PauseLabelSelectorRequest request) throws PauserException {
+    return pause(request, null);
+  }
+
+  /**
+   * Executes a pause operation on the pods selected by label and field selectors, and reports the
+   * progress of the operation to the given listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the selected pods
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto pause(
+      PauseLabelSelectorRequest request, @Nullable PauseLifecycleListener listener)
+      throws PauserException {
+    return pause(request, listener, null);
+  }
+
+  /**
+   * Executes a pause operation on the pods selected by label and field selectors, which can be
+   * cancelled through the given handle, and reports the progress of the operation to the given
+   * listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @param handle the handle to cancel the operation with, null if the operation is not cancelled
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the selected pods
+   * @throws PauserException when the pause operation fails or is cancelled
+   */
+  public PauseDurationDto pause(
+      PauseLabelSelectorRequest request,
+      @Nullable PauseLifecycleListener listener,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+    // Build command from request
+    TlsConfig tlsConfig =
+        request.tlsEnabled()
+            ? new TlsConfig(request.caRootCert(), request.overrideAuthority())
+            : null;
+    TargetSelector selector =
+        new TargetSelector(
+            request.labelSelector(),
+            request.fieldSelector(),
+            request.adminPort(),
+            request.adminPortName());
+    PauseByLabelSelectorCommand command =
+        new PauseByLabelSelectorCommand(
+            request.namespace(),
+            selector,
+            request.pauseDuration(),
+            request.maxPauseWaitTime(),
+            tlsConfig);
+
+    // Execute command
+    return applicationService.execute(command, listener, handle);
+  }
+
+  /**
+   * Executes a pause operation on all the Scalar products in a namespace in a single pause window.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the Scalar products in the namespace
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto pause(PauseNamespaceRequest request) throws PauserException {
+    return pause(request, null);
+  }
+
+  /**
+   * Executes a pause operation on all the Scalar products in a namespace in a single pause window,
+   * and reports the progress of the operation to the given listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the Scalar products in the namespace
+   * @throws PauserException when the pause operation fails
+   */
+  public PauseDurationDto pause(
+      PauseNamespaceRequest request, @Nullable PauseLifecycleListener listener)
+      throws PauserException {
+    return pause(request, listener, null);
+  }
+
+  /**
+   * Executes a pause operation on all the Scalar products in a namespace in a single pause window,
+   * which can be cancelled through the given handle, and reports the progress of the operation to
+   * the given listener.
+   *
+   * @param request the pause request containing all necessary parameters
+   * @param listener the listener to notify of the progress of the operation, null for none
+   * @param handle the handle to cancel the operation with, null if the operation is not cancelled
+   * @return DTO containing the start and end time of the pause operation, which is valid for all
+   *     the Scalar products in the namespace
+   * @throws PauserException when the pause operation fails or is cancelled
+   */
+  public PauseDurationDto pause(
+      PauseNamespaceRequest request,
+      @Nullable PauseLifecycleListener listener,
+      @Nullable PauseHandle handle)
+      throws PauserException {
+    // Build command from request
+    TlsConfig tlsConfig =
+        request.tlsEnabled()
+            ? new TlsConfig(request.caRootCert(), request.overrideAuthority())
+            : null;
+    PauseByNamespaceCommand command =
+        new PauseByNamespaceCommand(
+            request.namespace(), request.pauseDuration(), request.maxPauseWaitTime(), tlsConfig);
+
+    // Execute command
+    return applicationService.execute(command, listener, handle);
   }
 }
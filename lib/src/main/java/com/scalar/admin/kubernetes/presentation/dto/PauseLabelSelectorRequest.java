@@ -0,0 +1,66 @@
+package com.scalar.admin.kubernetes.presentation.dto;
+
+import javax.annotation.Nullable;
+
+/**
+ * Request DTO for pause operations on the pods selected by label and field selectors.
+ *
+ * <p>This DTO transfers pause request data from the CLI layer to the presentation layer,
+ * encapsulating all parameters needed for a pause operation on Scalar products that are not
+ * deployed by Scalar Helm Charts.
+ *
+ * @param namespace the Kubernetes namespace where the targets are deployed
+ * @param labelSelector the label selector for the pods and deployments
+ * @param fieldSelector the field selector for the pods, null for none
+ * @param adminPort the port number of the Scalar Admin interface, null if adminPortName is given
+ * @param adminPortName the name of the container port of the Scalar Admin interface, null if
+ *     adminPort is given
+ * @param pauseDuration the duration to pause in milliseconds
+ * @param maxPauseWaitTime the maximum wait time in milliseconds for pause operation to complete,
+ *     null for default
+ * @param tlsEnabled whether TLS is enabled for communication
+ * @param caRootCert the CA root certificate for TLS verification, null if TLS is disabled
+ * @param overrideAuthority the override authority for TLS, null if TLS is disabled
+ */
+public record PauseLabelSelectorRequest(
+    String namespace,
+    String labelSelector,
+    @Nullable String fieldSelector,
+    @Nullable Integer adminPort,
+    @Nullable String adminPortName,
+    int pauseDuration,
+    @Nullable Long maxPauseWaitTime,
+    boolean tlsEnabled,
+    @Nullable String caRootCert,
+    @Nullable String overrideAuthority) {
+
+  /**
+   * Compact constructor with validation.
+   *
+   * @throws IllegalArgumentException if required parameters are null or invalid
+   */
+  public PauseLabelSelectorRequest {
+    if (namespace == null || namespace.isBlank()) {
+      throw new IllegalArgumentException("namespace is required");
+    }
+    if (labelSelector == null || labelSelector.isBlank()) {
+      throw new IllegalArgumentException("labelSelector is required");
+    }
+    if ((adminPort == null) == (adminPortName == null || adminPortName.isBlank())) {
+      throw new IllegalArgumentException("Either adminPort or adminPortName is required");
+    }
+    if (pauseDuration < 1) {
+      throw new IllegalArgumentException(
+          "pauseDuration must be greater than 0, but was: " + pauseDuration);
+    }
+    if (tlsEnabled) {
+      if (caRootCert == null || caRootCert.isBlank()) {
+        throw new IllegalArgumentException("caRootCert is required when tlsEnabled is true");
+      }
+      if (overrideAuthority == null || overrideAuthority.isBlank()) {
+        throw new IllegalArgumentException(
+            "overrideAuthority is required when tlsEnabled is true");
+      }
+    }
+  }
+}
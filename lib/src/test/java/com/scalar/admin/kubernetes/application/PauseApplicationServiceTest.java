@@ -4,16 +4,31 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.application.dto.PhaseTimingDto;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
 import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.exception.StatusUnmatchedException;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseByHelmReleaseCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByHelmReleasesCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByLabelSelectorCommand;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseByNamespaceCommand;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseDuration;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.PhaseSpan;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
 import com.scalar.admin.kubernetes.domain.model.pause.TlsConfig;
 import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
 import com.scalar.admin.kubernetes.domain.service.PauseService;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClientFactory;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -95,7 +110,15 @@ class PauseApplicationServiceTest {
 
       when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName)).thenReturn(target);
       when(scalarAdminClientFactory.createClient(target)).thenReturn(client);
-      when(pauseService.pause(eq(target), any(), eq(client), eq(pauseDuration), eq(maxPauseWaitTime)))
+      when(pauseService.pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
           .thenReturn(domainPauseDuration);
 
       // Act
@@ -107,7 +130,15 @@ class PauseApplicationServiceTest {
       verify(kubernetesClient).resolvePauseTargetByHelmRelease(namespace, helmReleaseName);
       verify(scalarAdminClientFactory).createClient(target);
       verify(pauseService)
-          .pause(eq(target), any(), eq(client), eq(pauseDuration), eq(maxPauseWaitTime));
+          .pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull());
     }
 
     @Test
@@ -137,7 +168,15 @@ class PauseApplicationServiceTest {
 
       when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName)).thenReturn(target);
       when(scalarAdminClientFactory.createClient(eq(target), any(TlsConfig.class))).thenReturn(client);
-      when(pauseService.pause(eq(target), any(), eq(client), eq(pauseDuration), eq(maxPauseWaitTime)))
+      when(pauseService.pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
           .thenReturn(domainPauseDuration);
 
       // Act
@@ -149,7 +188,113 @@ class PauseApplicationServiceTest {
       verify(kubernetesClient).resolvePauseTargetByHelmRelease(namespace, helmReleaseName);
       verify(scalarAdminClientFactory).createClient(eq(target), any(TlsConfig.class));
       verify(pauseService)
-          .pause(eq(target), any(), eq(client), eq(pauseDuration), eq(maxPauseWaitTime));
+          .pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull());
+    }
+
+    @Test
+    void execute_WithWatchMode_PauseWhileWatchingTarget() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      String helmReleaseName = "test-release";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+
+      PauseTarget target = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      PauseTargetWatch watch = mock(PauseTargetWatch.class);
+      Instant startTime = Instant.now();
+      Instant endTime = startTime.plusMillis(pauseDuration);
+      PauseDuration domainPauseDuration = new PauseDuration(startTime, endTime);
+
+      PauseByHelmReleaseCommand command =
+          PauseByHelmReleaseCommand.create(
+              namespace, helmReleaseName, pauseDuration, maxPauseWaitTime);
+
+      when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName)).thenReturn(target);
+      when(kubernetesClient.watchPauseTarget(namespace, helmReleaseName, target)).thenReturn(watch);
+      when(scalarAdminClientFactory.createClient(target)).thenReturn(client);
+      when(pauseService.pauseAll(
+              eq(List.of(target)),
+              eq(watch),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenReturn(domainPauseDuration);
+      PauseApplicationService service =
+          new PauseApplicationService(
+              kubernetesClient, scalarAdminClientFactory, pauseService, ChangeDetectionMode.WATCH);
+
+      // Act
+      PauseDurationDto actual = service.execute(command);
+
+      // Assert
+      assertEquals(startTime.toEpochMilli(), actual.startTimeEpochMilli());
+      assertEquals(endTime.toEpochMilli(), actual.endTimeEpochMilli());
+      verify(watch).close();
+    }
+
+    @Test
+    void execute_WithWatchModeWhenWatchCannotStart_PauseWithoutWatch() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      String helmReleaseName = "test-release";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+
+      PauseTarget target = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      Instant startTime = Instant.now();
+      Instant endTime = startTime.plusMillis(pauseDuration);
+      PauseDuration domainPauseDuration = new PauseDuration(startTime, endTime);
+
+      PauseByHelmReleaseCommand command =
+          PauseByHelmReleaseCommand.create(
+              namespace, helmReleaseName, pauseDuration, maxPauseWaitTime);
+
+      when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName)).thenReturn(target);
+      when(kubernetesClient.watchPauseTarget(namespace, helmReleaseName, target))
+          .thenThrow(new PauserException("Kubernetes watch API error."));
+      when(scalarAdminClientFactory.createClient(target)).thenReturn(client);
+      when(pauseService.pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenReturn(domainPauseDuration);
+      PauseApplicationService service =
+          new PauseApplicationService(
+              kubernetesClient, scalarAdminClientFactory, pauseService, ChangeDetectionMode.WATCH);
+
+      // Act
+      PauseDurationDto actual = service.execute(command);
+
+      // Assert
+      assertEquals(startTime.toEpochMilli(), actual.startTimeEpochMilli());
+      verify(pauseService)
+          .pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull());
     }
 
     @Test
@@ -189,5 +334,360 @@ class PauseApplicationServiceTest {
           assertThrows(PauserException.class, () -> applicationService.execute(command));
       assertEquals("Failed to initialize the Scalar Admin client.", thrown.getMessage());
     }
+
+    @Test
+    void execute_WhenWarmUpFails_ThrowPauserExceptionWithoutPausing() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      String helmReleaseName = "test-release";
+
+      PauseTarget target = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      PauseByHelmReleaseCommand command =
+          PauseByHelmReleaseCommand.create(namespace, helmReleaseName, 5000, 3000L);
+
+      when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName)).thenReturn(target);
+      when(scalarAdminClientFactory.createClient(target)).thenReturn(client);
+      doThrow(new RuntimeException("Connection refused")).when(client).warmUp();
+
+      // Act & Assert
+      PauserException thrown =
+          assertThrows(PauserException.class, () -> applicationService.execute(command));
+      assertEquals(
+          "Failed to connect to the target pods. No pods have been paused.", thrown.getMessage());
+      verify(client, never()).pause(anyBoolean(), any());
+      verify(client).close();
+      verifyNoInteractions(pauseService);
+    }
+
+    @Test
+    void execute_WithListener_ReturnTimingsAndNotifyListener() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      String helmReleaseName = "test-release";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+
+      PauseTarget target = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      PauseLifecycleListener listener = mock(PauseLifecycleListener.class);
+      Instant startTime = Instant.now();
+      Instant endTime = startTime.plusMillis(pauseDuration);
+      PauseDuration domainPauseDuration = new PauseDuration(startTime, endTime);
+
+      PauseByHelmReleaseCommand command =
+          PauseByHelmReleaseCommand.create(
+              namespace, helmReleaseName, pauseDuration, maxPauseWaitTime);
+
+      when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName))
+          .thenReturn(target);
+      when(scalarAdminClientFactory.createClient(target)).thenReturn(client);
+      when(pauseService.pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenAnswer(
+              invocation -> {
+                long now = System.nanoTime();
+                PauseLifecycleListener recorder = invocation.getArgument(6);
+                recorder.onPhase(new PhaseSpan(PausePhase.PAUSE_WINDOW, now, now + 1000));
+                return domainPauseDuration;
+              });
+      PauseApplicationService service =
+          new PauseApplicationService(
+              kubernetesClient,
+              scalarAdminClientFactory,
+              pauseService,
+              ChangeDetectionMode.RELIST,
+              Set.of(listener));
+
+      // Act
+      PauseDurationDto actual = service.execute(command);
+
+      // Assert
+      assertNotNull(actual.timings());
+      assertEquals(
+          List.of("RESOLVE_TARGET", "CREATE_CLIENT", "WARM_UP", "PAUSE_WINDOW"),
+          actual.timings().phases().stream().map(PhaseTimingDto::phase).toList());
+      assertEquals(1000, actual.timings().phases().get(3).durationNanos());
+      verify(client).addListener(any(PauseLifecycleListener.class));
+      verify(listener, times(4)).onPhase(any(PhaseSpan.class));
+    }
+
+    @Test
+    void execute_WhenListenerThrowsException_IgnoreException() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      String helmReleaseName = "test-release";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+
+      PauseTarget target = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      PauseLifecycleListener listener = mock(PauseLifecycleListener.class);
+      Instant startTime = Instant.now();
+      PauseDuration domainPauseDuration =
+          new PauseDuration(startTime, startTime.plusMillis(pauseDuration));
+
+      PauseByHelmReleaseCommand command =
+          PauseByHelmReleaseCommand.create(
+              namespace, helmReleaseName, pauseDuration, maxPauseWaitTime);
+
+      when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName))
+          .thenReturn(target);
+      when(scalarAdminClientFactory.createClient(target)).thenReturn(client);
+      when(pauseService.pauseAll(
+              eq(List.of(target)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenReturn(domainPauseDuration);
+      doThrow(new RuntimeException("Metrics backend is down"))
+          .when(listener)
+          .onPhase(any(PhaseSpan.class));
+      PauseApplicationService service =
+          new PauseApplicationService(
+              kubernetesClient,
+              scalarAdminClientFactory,
+              pauseService,
+              ChangeDetectionMode.RELIST,
+              Set.of(listener));
+
+      // Act
+      PauseDurationDto actual = service.execute(command);
+
+      // Assert
+      assertEquals(startTime.toEpochMilli(), actual.startTimeEpochMilli());
+      assertEquals(3, actual.timings().phases().size());
+    }
+
+    @Test
+    void execute_WithMultipleReleases_PauseAllTargetsInSingleWindow() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+
+      PauseTarget ledgerTarget = mock(PauseTarget.class);
+      PauseTarget auditorTarget = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      Instant startTime = Instant.now();
+      Instant endTime = startTime.plusMillis(pauseDuration);
+      PauseDuration domainPauseDuration = new PauseDuration(startTime, endTime);
+
+      PauseByHelmReleasesCommand command =
+          new PauseByHelmReleasesCommand(
+              namespace, List.of("ledger", "auditor"), pauseDuration, maxPauseWaitTime, null);
+
+      when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, "ledger"))
+          .thenReturn(ledgerTarget);
+      when(kubernetesClient.resolvePauseTargetByHelmRelease(namespace, "auditor"))
+          .thenReturn(auditorTarget);
+      when(scalarAdminClientFactory.createClient(List.of(ledgerTarget, auditorTarget)))
+          .thenReturn(client);
+      when(pauseService.pauseAll(
+              eq(List.of(ledgerTarget, auditorTarget)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenReturn(domainPauseDuration);
+
+      // Act
+      PauseDurationDto actual = applicationService.execute(command);
+
+      // Assert
+      assertEquals(startTime.toEpochMilli(), actual.startTimeEpochMilli());
+      assertEquals(endTime.toEpochMilli(), actual.endTimeEpochMilli());
+      verify(client).warmUp();
+      verify(client).close();
+      verify(scalarAdminClientFactory, never()).createClient(any(PauseTarget.class));
+    }
+
+    @Test
+    void execute_WithLabelSelector_PauseAllSelectedTargetsInSingleWindow() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+      TargetSelector selector =
+          TargetSelector.withAdminPortName("app.kubernetes.io/name=ledger", null, "admin");
+
+      PauseTarget firstTarget = mock(PauseTarget.class);
+      PauseTarget secondTarget = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      Instant startTime = Instant.now();
+      Instant endTime = startTime.plusMillis(pauseDuration);
+      PauseDuration domainPauseDuration = new PauseDuration(startTime, endTime);
+
+      PauseByLabelSelectorCommand command =
+          new PauseByLabelSelectorCommand(
+              namespace, selector, pauseDuration, maxPauseWaitTime, null);
+
+      when(kubernetesClient.resolvePauseTargetsBySelector(namespace, selector))
+          .thenReturn(List.of(firstTarget, secondTarget));
+      when(scalarAdminClientFactory.createClient(List.of(firstTarget, secondTarget)))
+          .thenReturn(client);
+      when(pauseService.pauseAll(
+              eq(List.of(firstTarget, secondTarget)),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenReturn(domainPauseDuration);
+
+      // Act
+      PauseDurationDto actual = applicationService.execute(command);
+
+      // Assert
+      assertEquals(startTime.toEpochMilli(), actual.startTimeEpochMilli());
+      assertEquals(endTime.toEpochMilli(), actual.endTimeEpochMilli());
+      verify(client).warmUp();
+      verify(client).close();
+      verify(kubernetesClient, never()).resolvePauseTargetByHelmRelease(any(), any());
+    }
+
+    @Test
+    void execute_WithNamespace_PauseAllReleasesInSingleWindow() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+
+      PauseTarget auditorTarget = mock(PauseTarget.class);
+      PauseTarget ledgerTarget = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      Instant startTime = Instant.now();
+      Instant endTime = startTime.plusMillis(pauseDuration);
+      PauseDuration domainPauseDuration = new PauseDuration(startTime, endTime);
+
+      PauseByNamespaceCommand command =
+          new PauseByNamespaceCommand(namespace, pauseDuration, maxPauseWaitTime, null);
+
+      when(kubernetesClient.resolvePauseTargetsInNamespace(namespace))
+          .thenReturn(Map.of("auditor", auditorTarget, "ledger", ledgerTarget));
+      when(scalarAdminClientFactory.createClient(anyList())).thenReturn(client);
+      when(pauseService.pauseAll(
+              anyList(),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenReturn(domainPauseDuration);
+
+      // Act
+      PauseDurationDto actual = applicationService.execute(command);
+
+      // Assert
+      assertEquals(startTime.toEpochMilli(), actual.startTimeEpochMilli());
+      assertEquals(endTime.toEpochMilli(), actual.endTimeEpochMilli());
+      verify(kubernetesClient, times(1)).resolvePauseTargetsInNamespace(namespace);
+      verify(kubernetesClient, never()).resolvePauseTargetByHelmRelease(any(), any());
+      verify(client).warmUp();
+      verify(client).close();
+    }
+
+    @Test
+    void execute_WithNamespaceInWatchMode_ListNamespaceAgainAfterPause() throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      int pauseDuration = 5000;
+      Long maxPauseWaitTime = 3000L;
+
+      PauseTarget ledgerTarget = mock(PauseTarget.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      Instant startTime = Instant.now();
+      PauseDuration domainPauseDuration =
+          new PauseDuration(startTime, startTime.plusMillis(pauseDuration));
+
+      PauseByNamespaceCommand command =
+          new PauseByNamespaceCommand(namespace, pauseDuration, maxPauseWaitTime, null);
+
+      when(kubernetesClient.resolvePauseTargetsInNamespace(namespace))
+          .thenReturn(Map.of("ledger", ledgerTarget));
+      when(scalarAdminClientFactory.createClient(anyList())).thenReturn(client);
+      when(pauseService.pauseAll(
+              anyList(),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull()))
+          .thenReturn(domainPauseDuration);
+      PauseApplicationService service =
+          new PauseApplicationService(
+              kubernetesClient, scalarAdminClientFactory, pauseService, ChangeDetectionMode.WATCH);
+
+      // Act
+      service.execute(command);
+
+      // Assert
+      verify(kubernetesClient, never()).watchPauseTarget(any(), any(), any());
+      verify(pauseService)
+          .pauseAll(
+              anyList(),
+              isNull(),
+              any(),
+              eq(client),
+              eq(pauseDuration),
+              eq(maxPauseWaitTime),
+              any(PauseLifecycleListener.class),
+              isNull());
+    }
+
+    @Test
+    void execute_WithNamespaceInWatchModeWhenReleaseIsDeployedDuringPause_ThrowException()
+        throws PauserException {
+      // Arrange
+      String namespace = "test-ns";
+      int pauseDuration = 1;
+
+      PauseTarget ledgerTarget = mock(PauseTarget.class);
+      PauseTarget auditorTarget = mock(PauseTarget.class);
+      PauseTargetWatch watch = mock(PauseTargetWatch.class);
+      ScalarAdminClient client = mock(ScalarAdminClient.class);
+      when(client.unpause()).thenReturn(AdminRequestResult.allAcknowledged(List.of()));
+
+      PauseByNamespaceCommand command =
+          new PauseByNamespaceCommand(namespace, pauseDuration, null, null);
+
+      when(kubernetesClient.resolvePauseTargetsInNamespace(namespace))
+          .thenReturn(Map.of("ledger", ledgerTarget));
+      when(kubernetesClient.resolvePauseTargetsInNamespace(namespace, ReadConsistency.LATEST))
+          .thenReturn(Map.of("auditor", auditorTarget, "ledger", ledgerTarget));
+      when(kubernetesClient.watchPauseTarget(namespace, "ledger", ledgerTarget)).thenReturn(watch);
+      when(scalarAdminClientFactory.createClient(anyList())).thenReturn(client);
+      PauseApplicationService service =
+          new PauseApplicationService(
+              kubernetesClient,
+              scalarAdminClientFactory,
+              new PauseService(),
+              ChangeDetectionMode.WATCH);
+
+      // Act & Assert
+      assertThrows(StatusUnmatchedException.class, () -> service.execute(command));
+      verify(client).pause(true, null);
+      verify(client).unpause();
+    }
   }
 }
@@ -0,0 +1,106 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class AdminRequestResultTest {
+
+  private static final InetSocketAddress POD_1 =
+      InetSocketAddress.createUnresolved("10.0.0.1", 60053);
+  private static final InetSocketAddress POD_2 =
+      InetSocketAddress.createUnresolved("10.0.0.2", 60053);
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when acknowledged is null")
+    void throwsIllegalArgumentExceptionWhenAcknowledgedIsNull() {
+      // Act & Assert
+      assertThatThrownBy(() -> new AdminRequestResult(null, Map.of()))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("acknowledged must not be null");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when failures is null")
+    void throwsIllegalArgumentExceptionWhenFailuresIsNull() {
+      // Act & Assert
+      assertThatThrownBy(() -> new AdminRequestResult(List.of(), null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("failures must not be null");
+    }
+  }
+
+  @Nested
+  @DisplayName("Factory methods")
+  class FactoryMethods {
+
+    @Test
+    @DisplayName("allAcknowledged creates a successful result")
+    void allAcknowledgedCreatesSuccessfulResult() {
+      // Act
+      AdminRequestResult result = AdminRequestResult.allAcknowledged(List.of(POD_1, POD_2));
+
+      // Assert
+      assertThat(result.isSuccessful()).isTrue();
+      assertThat(result.acknowledged()).containsExactly(POD_1, POD_2);
+      assertThat(result.failedAddresses()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("allFailed creates a result in which every pod failed for the cause")
+    void allFailedCreatesFailedResult() {
+      // Arrange
+      RuntimeException cause = new RuntimeException("UNAVAILABLE");
+
+      // Act
+      AdminRequestResult result = AdminRequestResult.allFailed(List.of(POD_1, POD_2), cause);
+
+      // Assert
+      assertThat(result.isSuccessful()).isFalse();
+      assertThat(result.acknowledged()).isEmpty();
+      assertThat(result.failedAddresses()).containsExactly(POD_1, POD_2);
+      assertThat(result.failures()).containsEntry(POD_1, cause).containsEntry(POD_2, cause);
+    }
+  }
+
+  @Nested
+  @DisplayName("toException")
+  class ToException {
+
+    @Test
+    @DisplayName("describes the failed pods and keeps the causes")
+    void describesFailedPods() {
+      // Arrange
+      RuntimeException cause = new RuntimeException("UNAVAILABLE");
+      AdminRequestResult result = new AdminRequestResult(List.of(POD_1), Map.of(POD_2, cause));
+
+      // Act
+      RuntimeException actual = result.toException("unpause");
+
+      // Assert
+      assertThat(actual).hasMessage("Failed to unpause 1 of 2 pods: [" + POD_2 + "]");
+      assertThat(actual).hasCause(cause);
+    }
+
+    @Test
+    @DisplayName("throws IllegalStateException when the result is successful")
+    void throwsIllegalStateExceptionWhenSuccessful() {
+      // Arrange
+      AdminRequestResult result = AdminRequestResult.allAcknowledged(List.of(POD_1));
+
+      // Act & Assert
+      assertThatThrownBy(() -> result.toException("unpause"))
+          .isInstanceOf(IllegalStateException.class);
+    }
+  }
+}
@@ -3,6 +3,7 @@ package com.scalar.admin.kubernetes.domain.model.pause;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -88,6 +89,54 @@ public class PauseDurationTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("endTime must not be before startTime");
       }
+
+      @Test
+      @DisplayName("throws IllegalArgumentException when pauseSkew is negative")
+      void throwsExceptionWhenPauseSkewIsNegative() {
+        // Arrange
+        Instant startTime = Instant.parse("2024-01-01T00:00:00Z");
+        Instant endTime = Instant.parse("2024-01-01T00:01:00Z");
+
+        // Act & Assert
+        assertThatThrownBy(
+                () -> new PauseDuration(startTime, endTime, Duration.ofNanos(-1), Duration.ZERO))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("pauseSkew must not be negative");
+      }
+    }
+
+    @Nested
+    @DisplayName("when given skews")
+    class WhenGivenSkews {
+
+      @Test
+      @DisplayName("creates PauseDuration with the skews")
+      void createsPauseDurationWithSkews() {
+        // Arrange
+        Instant startTime = Instant.parse("2024-01-01T00:00:00Z");
+        Instant endTime = Instant.parse("2024-01-01T00:01:00Z");
+
+        // Act
+        PauseDuration duration =
+            new PauseDuration(startTime, endTime, Duration.ofMillis(3), Duration.ofMillis(1));
+
+        // Assert
+        assertThat(duration.pauseSkew()).isEqualTo(Duration.ofMillis(3));
+        assertThat(duration.unpauseSkew()).isEqualTo(Duration.ofMillis(1));
+      }
+
+      @Test
+      @DisplayName("leaves the skews unknown when not given")
+      void leavesSkewsUnknownWhenNotGiven() {
+        // Act
+        PauseDuration duration =
+            new PauseDuration(
+                Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:01:00Z"));
+
+        // Assert
+        assertThat(duration.pauseSkew()).isNull();
+        assertThat(duration.unpauseSkew()).isNull();
+      }
     }
   }
 
@@ -0,0 +1,118 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+
+class PausePodTest {
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("throws IllegalArgumentException if name is missing")
+    void throwsIllegalArgumentExceptionIfNameIsMissing(String invalidName) {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> new PausePod(invalidName, "10.0.0.1", "1", 0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("name is required");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @DisplayName("throws IllegalArgumentException if resourceVersion is missing")
+    void throwsIllegalArgumentExceptionIfResourceVersionIsMissing(String invalidResourceVersion) {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> new PausePod("pod", "10.0.0.1", invalidResourceVersion, 0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("resourceVersion is required");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if restartCount is negative")
+    void throwsIllegalArgumentExceptionIfRestartCountIsNegative() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> new PausePod("pod", "10.0.0.1", "1", -1))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("restartCount must not be negative");
+    }
+  }
+
+  // An incomplete Kubernetes pod is rejected when it is converted, rather than converted into a
+  // pod without restarts. This is intentional for a backup verification tool - an incomplete
+  // snapshot must not be compared as "unchanged".
+  @Nested
+  @DisplayName("from()")
+  class From {
+
+    @Test
+    @DisplayName("keeps the name, IP, and resource version and sums up the restart counts")
+    void keepsFieldsAndSumsUpRestartCounts() {
+      // Arrange
+      V1Pod pod =
+          new V1Pod()
+              .metadata(new V1ObjectMeta().name("pod").resourceVersion("rv1"))
+              .status(
+                  new V1PodStatus()
+                      .podIP("10.0.0.1")
+                      .containerStatuses(
+                          Arrays.asList(
+                              new V1ContainerStatus().name("app").restartCount(2),
+                              new V1ContainerStatus().name("sidecar").restartCount(3))));
+
+      // Act
+      PausePod pausePod = PausePod.from(pod);
+
+      // Assert
+      assertThat(pausePod).isEqualTo(new PausePod("pod", "10.0.0.1", "rv1", 5));
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if pod has null metadata")
+    void throwsIllegalArgumentExceptionIfMetadataIsNull() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> PausePod.from(new V1Pod()))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("pod metadata is required");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if pod has null status")
+    void throwsIllegalArgumentExceptionIfStatusIsNull() {
+      // Arrange
+      V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("pod").resourceVersion("rv1"));
+
+      // Act & Assert
+      assertThatThrownBy(() -> PausePod.from(pod))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("container statuses of the pod pod are required");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if pod has null container statuses")
+    void throwsIllegalArgumentExceptionIfContainerStatusesAreNull() {
+      // Arrange
+      V1Pod pod =
+          new V1Pod()
+              .metadata(new V1ObjectMeta().name("pod").resourceVersion("rv1"))
+              .status(new V1PodStatus());
+
+      // Act & Assert
+      assertThatThrownBy(() -> PausePod.from(pod))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("container statuses of the pod pod are required");
+    }
+  }
+}
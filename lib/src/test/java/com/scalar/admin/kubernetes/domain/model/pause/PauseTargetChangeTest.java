@@ -0,0 +1,69 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PauseTargetChangeTest {
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @Test
+    @DisplayName("creates PauseTargetChange successfully when given valid parameters")
+    void createsPauseTargetChangeSuccessfully() {
+      // Arrange
+      Instant observedAt = Instant.parse("2024-01-01T00:00:00Z");
+
+      // Act
+      PauseTargetChange change = new PauseTargetChange("Pod", "pod-1", "MODIFIED", observedAt);
+
+      // Assert
+      assertThat(change.kind()).isEqualTo("Pod");
+      assertThat(change.name()).isEqualTo("pod-1");
+      assertThat(change.type()).isEqualTo("MODIFIED");
+      assertThat(change.observedAt()).isEqualTo(observedAt);
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when name is null")
+    void throwsIllegalArgumentExceptionWhenNameIsNull() {
+      // Act & Assert
+      assertThatThrownBy(() -> new PauseTargetChange("Pod", null, "MODIFIED", Instant.now()))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("name must not be null");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when observedAt is null")
+    void throwsIllegalArgumentExceptionWhenObservedAtIsNull() {
+      // Act & Assert
+      assertThatThrownBy(() -> new PauseTargetChange("Pod", "pod-1", "MODIFIED", null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("observedAt must not be null");
+    }
+  }
+
+  @Nested
+  @DisplayName("toString")
+  class ToString {
+
+    @Test
+    @DisplayName("describes what changed and when")
+    void describesWhatChangedAndWhen() {
+      // Arrange
+      PauseTargetChange change =
+          new PauseTargetChange(
+              "Deployment", "scalardb-cluster", "MODIFIED", Instant.parse("2024-01-01T00:00:00Z"));
+
+      // Act & Assert
+      assertThat(change.toString())
+          .isEqualTo("MODIFIED Deployment scalardb-cluster at 2024-01-01T00:00:00Z");
+    }
+  }
+}
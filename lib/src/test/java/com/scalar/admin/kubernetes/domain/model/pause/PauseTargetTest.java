@@ -3,11 +3,7 @@ package com.scalar.admin.kubernetes.domain.model.pause;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import io.kubernetes.client.openapi.models.V1ContainerStatus;
-import io.kubernetes.client.openapi.models.V1Deployment;
-import io.kubernetes.client.openapi.models.V1ObjectMeta;
-import io.kubernetes.client.openapi.models.V1Pod;
-import io.kubernetes.client.openapi.models.V1PodStatus;
+import java.net.InetSocketAddress;
 import java.util.Arrays;
 import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
@@ -30,8 +26,8 @@ public class PauseTargetTest {
       @DisplayName("creates PauseTarget successfully")
       void createsPauseTargetSuccessfully() {
         // Arrange
-        V1Pod pod = mockPod("pod", "podResourceVersion", 1);
-        V1Deployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
+        PausePod pod = mockPod("pod", "podResourceVersion", 1);
+        PauseDeployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
 
         // Act
         PauseTarget target = new PauseTarget(Arrays.asList(pod), deployment, 8080);
@@ -52,7 +48,7 @@ public class PauseTargetTest {
       @DisplayName("throws IllegalArgumentException")
       void throwsIllegalArgumentException() {
         // Arrange
-        V1Deployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
+        PauseDeployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
 
         // Act & Assert
         assertThatThrownBy(() -> new PauseTarget(null, deployment, 8080))
@@ -69,7 +65,7 @@ public class PauseTargetTest {
       @DisplayName("throws IllegalArgumentException")
       void throwsIllegalArgumentException() {
         // Arrange
-        V1Pod pod = mockPod("pod", "podResourceVersion", 1);
+        PausePod pod = mockPod("pod", "podResourceVersion", 1);
 
         // Act & Assert
         assertThatThrownBy(() -> new PauseTarget(Arrays.asList(pod), null, 8080))
@@ -87,8 +83,8 @@ public class PauseTargetTest {
       @DisplayName("throws IllegalArgumentException")
       void throwsIllegalArgumentException(int invalidPort) {
         // Arrange
-        V1Pod pod = mockPod("pod", "podResourceVersion", 1);
-        V1Deployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
+        PausePod pod = mockPod("pod", "podResourceVersion", 1);
+        PauseDeployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
 
         // Act & Assert
         assertThatThrownBy(() -> new PauseTarget(Arrays.asList(pod), deployment, invalidPort))
@@ -110,8 +106,8 @@ public class PauseTargetTest {
       @DisplayName("returns equal status objects")
       void returnsEqualStatusObjects() {
         // Arrange
-        V1Pod pod = mockPod("pod", "podResourceVersion", 1);
-        V1Deployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
+        PausePod pod = mockPod("pod", "podResourceVersion", 1);
+        PauseDeployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
         PauseTarget target1 = new PauseTarget(Arrays.asList(pod), deployment, 8080);
         PauseTarget target2 = new PauseTarget(Arrays.asList(pod), deployment, 8080);
 
@@ -120,77 +116,63 @@ public class PauseTargetTest {
       }
     }
 
-    // The following tests pin the current fail-closed behavior: if a pod or deployment
-    // has incomplete K8s metadata/status, toStatus() throws NullPointerException rather
-    // than silently producing an incomplete snapshot. This is intentional for a backup
-    // verification tool - an incomplete snapshot must not be compared as "unchanged".
-    // A future PR will introduce domain models (e.g. PausePod) to validate at construction
-    // time and eliminate these NPE paths.
-
     @Nested
-    @DisplayName("when pod has null metadata")
-    class WhenPodHasNullMetadata {
+    @DisplayName("when pods are renamed")
+    class WhenPodsAreRenamed {
 
       @Test
-      @DisplayName("throws NullPointerException (fail-closed)")
-      void throwsNullPointerException() {
+      @DisplayName("returns different status objects")
+      void returnsDifferentStatusObjects() {
         // Arrange
-        V1Pod nullMetadataPod = new V1Pod();
-        V1Deployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
-        PauseTarget target = new PauseTarget(Arrays.asList(nullMetadataPod), deployment, 8080);
+        PauseDeployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
+        PauseTarget target1 =
+            new PauseTarget(
+                Arrays.asList(mockPod("pod", "podResourceVersion", 1)), deployment, 8080);
+        PauseTarget target2 =
+            new PauseTarget(
+                Arrays.asList(mockPod("renamed", "podResourceVersion", 1)), deployment, 8080);
 
         // Act & Assert
-        assertThatThrownBy(() -> target.toStatus())
-            .isInstanceOf(NullPointerException.class);
+        assertThat(target1.toStatus()).isNotEqualTo(target2.toStatus());
       }
     }
+  }
 
-    @Nested
-    @DisplayName("when pod has null status")
-    class WhenPodHasNullStatus {
-
-      @Test
-      @DisplayName("throws NullPointerException (fail-closed)")
-      void throwsNullPointerException() {
-        // Arrange
-        V1Pod pod = new V1Pod();
-        V1ObjectMeta metadata = new V1ObjectMeta();
-        metadata.setName("pod-no-status");
-        metadata.setResourceVersion("rv1");
-        pod.setMetadata(metadata);
-        V1Deployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
-        PauseTarget target = new PauseTarget(Arrays.asList(pod), deployment, 8080);
-
-        // Act & Assert
-        assertThatThrownBy(() -> target.toStatus())
-            .isInstanceOf(NullPointerException.class);
-      }
+  @Nested
+  @DisplayName("toAddressList()")
+  class ToAddressList {
+
+    @Test
+    @DisplayName("returns the addresses of the pods that have an IP")
+    void returnsAddressesOfPodsWithIp() {
+      // Arrange
+      PausePod podWithIp = new PausePod("pod1", "10.0.0.1", "1", 0);
+      PausePod podWithoutIp = new PausePod("pod2", null, "1", 0);
+      PauseTarget target =
+          new PauseTarget(
+              Arrays.asList(podWithIp, podWithoutIp),
+              mockDeployment("deployment", "deploymentResourceVersion"),
+              8080);
+
+      // Act & Assert
+      assertThat(target.toAddressList()).containsExactly(new InetSocketAddress("10.0.0.1", 8080));
     }
 
-    @Nested
-    @DisplayName("when pod has null container statuses")
-    class WhenPodHasNullContainerStatuses {
-
-      @Test
-      @DisplayName("throws NullPointerException (fail-closed)")
-      void throwsNullPointerException() {
-        // Arrange
-        V1Pod pod = new V1Pod();
-        V1ObjectMeta metadata = new V1ObjectMeta();
-        metadata.setName("pod-no-containers");
-        metadata.setResourceVersion("rv1");
-        pod.setMetadata(metadata);
-        V1PodStatus podStatus = new V1PodStatus();
-        pod.setStatus(podStatus);
-        V1Deployment deployment = mockDeployment("deployment", "deploymentResourceVersion");
-        PauseTarget target = new PauseTarget(Arrays.asList(pod), deployment, 8080);
-
-        // Act & Assert
-        assertThatThrownBy(() -> target.toStatus())
-            .isInstanceOf(NullPointerException.class);
-      }
+    @Test
+    @DisplayName("throws IllegalStateException if no pod has an IP")
+    void throwsIllegalStateExceptionIfNoPodHasIp() {
+      // Arrange
+      PauseTarget target =
+          new PauseTarget(
+              Arrays.asList(new PausePod("pod1", null, "1", 0)),
+              mockDeployment("deployment", "deploymentResourceVersion"),
+              8080);
+
+      // Act & Assert
+      assertThatThrownBy(() -> target.toAddressList())
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("No target pods have a reachable IP.");
     }
-
   }
 
   @Nested
@@ -366,32 +348,11 @@ public class PauseTargetTest {
     }
   }
 
-  private V1Pod mockPod(String name, String resourceVersion, Integer restartCount) {
-    V1ContainerStatus containerStatus = new V1ContainerStatus();
-    containerStatus.setRestartCount(restartCount);
-
-    V1PodStatus podStatus = new V1PodStatus();
-    podStatus.setContainerStatuses(Arrays.asList(containerStatus));
-
-    V1ObjectMeta metadata = new V1ObjectMeta();
-    metadata.setName(name);
-    metadata.setResourceVersion(resourceVersion);
-
-    V1Pod pod = new V1Pod();
-    pod.setMetadata(metadata);
-    pod.setStatus(podStatus);
-
-    return pod;
+  private PausePod mockPod(String name, String resourceVersion, int restartCount) {
+    return new PausePod(name, "10.0.0.1", resourceVersion, restartCount);
   }
 
-  private V1Deployment mockDeployment(String name, String resourceVersion) {
-    V1ObjectMeta metadata = new V1ObjectMeta();
-    metadata.setResourceVersion(resourceVersion);
-    metadata.setName(name);
-
-    V1Deployment deployment = new V1Deployment();
-    deployment.setMetadata(metadata);
-
-    return deployment;
+  private PauseDeployment mockDeployment(String name, String resourceVersion) {
+    return new PauseDeployment(name, resourceVersion);
   }
 }
@@ -0,0 +1,55 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+public class PhaseSpanTest {
+
+  @Nested
+  @DisplayName("constructor")
+  class Constructor {
+
+    @Test
+    @DisplayName("creates PhaseSpan successfully")
+    void createsPhaseSpanSuccessfully() {
+      // Act
+      PhaseSpan span = new PhaseSpan(PausePhase.PAUSE_WINDOW, 1000, 6000);
+
+      // Assert
+      assertThat(span.phase()).isEqualTo(PausePhase.PAUSE_WINDOW);
+      assertThat(span.durationNanos()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("allows times across the overflow of System.nanoTime()")
+    void allowsTimesAcrossOverflow() {
+      // Act
+      PhaseSpan span = new PhaseSpan(PausePhase.PAUSE_WINDOW, Long.MAX_VALUE - 10, Long.MIN_VALUE);
+
+      // Assert
+      assertThat(span.durationNanos()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when phase is null")
+    void throwsExceptionWhenPhaseIsNull() {
+      // Act & Assert
+      assertThatThrownBy(() -> new PhaseSpan(null, 1000, 6000))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("phase must not be null");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when endNanos is before startNanos")
+    void throwsExceptionWhenEndIsBeforeStart() {
+      // Act & Assert
+      assertThatThrownBy(() -> new PhaseSpan(PausePhase.PAUSE_WINDOW, 6000, 1000))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("endNanos must not be before startNanos");
+    }
+  }
+}
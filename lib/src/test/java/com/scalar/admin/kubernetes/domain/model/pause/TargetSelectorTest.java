@@ -0,0 +1,109 @@
+package com.scalar.admin.kubernetes.domain.model.pause;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TargetSelectorTest {
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @Nested
+    @DisplayName("when given valid parameters")
+    class WhenGivenValidParameters {
+
+      @Test
+      @DisplayName("creates TargetSelector with admin port successfully")
+      void createsTargetSelectorWithAdminPortSuccessfully() {
+        // Arrange & Act
+        TargetSelector selector =
+            TargetSelector.withAdminPort("app=ledger", "status.phase=Running", 50053);
+
+        // Assert
+        assertThat(selector.labelSelector()).isEqualTo("app=ledger");
+        assertThat(selector.fieldSelector()).isEqualTo("status.phase=Running");
+        assertThat(selector.adminPort()).isEqualTo(50053);
+        assertThat(selector.adminPortName()).isNull();
+      }
+
+      @Test
+      @DisplayName("creates TargetSelector with admin port name successfully")
+      void createsTargetSelectorWithAdminPortNameSuccessfully() {
+        // Arrange & Act
+        TargetSelector selector = TargetSelector.withAdminPortName("app=ledger", null, "admin");
+
+        // Assert
+        assertThat(selector.fieldSelector()).isNull();
+        assertThat(selector.adminPort()).isNull();
+        assertThat(selector.adminPortName()).isEqualTo("admin");
+      }
+
+      @Test
+      @DisplayName("treats blank field selector as none")
+      void treatsBlankFieldSelectorAsNone() {
+        // Arrange & Act
+        TargetSelector selector = TargetSelector.withAdminPort("app=ledger", "  ", 50053);
+
+        // Assert
+        assertThat(selector.fieldSelector()).isNull();
+      }
+    }
+
+    @Nested
+    @DisplayName("when labelSelector is invalid")
+    class WhenLabelSelectorIsInvalid {
+
+      @ParameterizedTest
+      @NullAndEmptySource
+      @ValueSource(strings = {"  ", "   "})
+      @DisplayName("throws IllegalArgumentException")
+      void throwsIllegalArgumentException(String invalidLabelSelector) {
+        // Arrange & Act & Assert
+        assertThatThrownBy(() -> TargetSelector.withAdminPort(invalidLabelSelector, null, 50053))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("labelSelector is required");
+      }
+    }
+
+    @Nested
+    @DisplayName("when admin port is invalid")
+    class WhenAdminPortIsInvalid {
+
+      @Test
+      @DisplayName("throws IllegalArgumentException if neither port nor name is given")
+      void throwsIllegalArgumentExceptionIfNeitherIsGiven() {
+        // Arrange & Act & Assert
+        assertThatThrownBy(() -> new TargetSelector("app=ledger", null, null, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Either adminPort or adminPortName is required");
+      }
+
+      @Test
+      @DisplayName("throws IllegalArgumentException if both port and name are given")
+      void throwsIllegalArgumentExceptionIfBothAreGiven() {
+        // Arrange & Act & Assert
+        assertThatThrownBy(() -> new TargetSelector("app=ledger", null, 50053, "admin"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Either adminPort or adminPortName is required");
+      }
+
+      @ParameterizedTest
+      @ValueSource(ints = {0, -1, 65536})
+      @DisplayName("throws IllegalArgumentException if port is out of range")
+      void throwsIllegalArgumentExceptionIfPortIsOutOfRange(int invalidAdminPort) {
+        // Arrange & Act & Assert
+        assertThatThrownBy(() -> TargetSelector.withAdminPort("app=ledger", null, invalidAdminPort))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageStartingWith("adminPort must be between 1 and 65535");
+      }
+    }
+  }
+}
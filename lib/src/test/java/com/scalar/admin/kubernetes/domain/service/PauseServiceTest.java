@@ -1,7 +1,10 @@
 package com.scalar.admin.kubernetes.domain.service;
 
 import static com.scalar.admin.kubernetes.domain.service.PauseService.GET_TARGET_AFTER_PAUSE_ERROR_MESSAGE;
+import static com.scalar.admin.kubernetes.domain.service.PauseService.INITIAL_UNPAUSE_BACKOFF_MILLIS;
+import static com.scalar.admin.kubernetes.domain.service.PauseService.MAX_UNPAUSE_BACKOFF_MILLIS;
 import static com.scalar.admin.kubernetes.domain.service.PauseService.MAX_UNPAUSE_RETRY_COUNT;
+import static com.scalar.admin.kubernetes.domain.service.PauseService.PAUSE_CANCELLED_ERROR_MESSAGE;
 import static com.scalar.admin.kubernetes.domain.service.PauseService.PAUSE_ERROR_MESSAGE;
 import static com.scalar.admin.kubernetes.domain.service.PauseService.STATUS_CHECK_ERROR_MESSAGE;
 import static com.scalar.admin.kubernetes.domain.service.PauseService.STATUS_UNMATCHED_ERROR_MESSAGE;
@@ -9,21 +12,26 @@ import static com.scalar.admin.kubernetes.domain.service.PauseService.UNPAUSE_ER
 import static java.time.temporal.ChronoUnit.SECONDS;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import com.google.common.util.concurrent.Uninterruptibles;
+import com.scalar.admin.kubernetes.domain.client.PauseTargetWatch;
 import com.scalar.admin.kubernetes.domain.client.ScalarAdminClient;
 import com.scalar.admin.kubernetes.domain.exception.GetTargetAfterPauseFailedException;
 import com.scalar.admin.kubernetes.domain.exception.PauseFailedException;
@@ -31,11 +39,21 @@ import com.scalar.admin.kubernetes.domain.exception.PauserException;
 import com.scalar.admin.kubernetes.domain.exception.StatusCheckFailedException;
 import com.scalar.admin.kubernetes.domain.exception.StatusUnmatchedException;
 import com.scalar.admin.kubernetes.domain.exception.UnpauseFailedException;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseDuration;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTargetChange;
+import com.scalar.admin.kubernetes.domain.model.pause.PhaseSpan;
+import com.scalar.admin.kubernetes.domain.model.pause.PodRequestSpan;
+import java.net.InetSocketAddress;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -44,6 +62,11 @@ import org.mockito.MockedStatic;
 
 class PauseServiceTest {
 
+  private static final InetSocketAddress POD_1 =
+      InetSocketAddress.createUnresolved("10.0.0.1", 60053);
+  private static final InetSocketAddress POD_2 =
+      InetSocketAddress.createUnresolved("10.0.0.2", 60053);
+
   private ScalarAdminClient client;
   private PauseTarget targetBeforePause;
   private PauseTarget targetAfterPause;
@@ -205,14 +228,11 @@ class PauseServiceTest {
     }
 
     @Test
-    void pause_WhenSleepThrowException_ShouldThrowPauseFailedException() throws PauserException {
+    void pause_WhenSleepThrowException_ShouldThrowPauseFailedException() throws Exception {
       // Arrange
       int pauseDuration = 1;
-      MockedStatic<Uninterruptibles> mockedSleep = mockStatic(Uninterruptibles.class);
-      mockedSleep
-          .when(() -> Uninterruptibles.sleepUninterruptibly(pauseDuration, TimeUnit.MILLISECONDS))
-          .thenThrow(RuntimeException.class);
       PauseService service = spy(new PauseService());
+      doThrow(RuntimeException.class).when(service).sleep(pauseDuration);
       doNothing().when(service).unpauseWithRetry(any(), anyInt());
       doReturn(null).when(service).targetStatusEquals(any(), any());
 
@@ -224,8 +244,6 @@ class PauseServiceTest {
                   service.pause(
                       targetBeforePause, () -> targetAfterPause, client, pauseDuration, null));
       assertEquals(PAUSE_ERROR_MESSAGE, thrown.getMessage());
-
-      mockedSleep.close();
     }
 
     @Test
@@ -579,16 +597,717 @@ class PauseServiceTest {
     }
   }
 
+  @Nested
+  class PauseAll {
+    @Test
+    void pauseAll_WhenAllTargetsAreUnchanged_ReturnPauseDuration() {
+      // Arrange
+      PauseTarget otherTargetBeforePause = mock(PauseTarget.class);
+      PauseTarget otherTargetAfterPause = mock(PauseTarget.class);
+      PauseDuration pausedDuration = new PauseDuration(Instant.now(), Instant.now());
+      PauseService service = spy(new PauseService());
+      doReturn(pausedDuration).when(service).pauseInternal(any(), anyInt(), any());
+      doNothing().when(service).unpauseWithRetry(any(), anyInt());
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      PauseDuration actual =
+          assertDoesNotThrow(
+              () ->
+                  service.pauseAll(
+                      List.of(targetBeforePause, otherTargetBeforePause),
+                      null,
+                      () -> List.of(targetAfterPause, otherTargetAfterPause),
+                      client,
+                      1,
+                      null,
+                      null,
+                      null));
+
+      // Assert
+      assertEquals(pausedDuration, actual);
+      verify(service).pauseInternal(client, 1, null);
+      verify(service).unpauseWithRetry(client, MAX_UNPAUSE_RETRY_COUNT);
+      verify(service).targetStatusEquals(targetBeforePause, targetAfterPause);
+      verify(service).targetStatusEquals(otherTargetBeforePause, otherTargetAfterPause);
+    }
+
+    @Test
+    void pauseAll_WhenOneOfTargetsIsUpdated_ThrowStatusUnmatchedException() {
+      // Arrange
+      PauseTarget otherTargetBeforePause = mock(PauseTarget.class);
+      PauseTarget otherTargetAfterPause = mock(PauseTarget.class);
+      PauseDuration pausedDuration = new PauseDuration(Instant.now(), Instant.now());
+      PauseService service = spy(new PauseService());
+      doReturn(pausedDuration).when(service).pauseInternal(any(), anyInt(), any());
+      doNothing().when(service).unpauseWithRetry(any(), anyInt());
+      doReturn(null).when(service).targetStatusEquals(targetBeforePause, targetAfterPause);
+      doReturn(new StatusUnmatchedException(STATUS_UNMATCHED_ERROR_MESSAGE))
+          .when(service)
+          .targetStatusEquals(otherTargetBeforePause, otherTargetAfterPause);
+
+      // Act & Assert
+      StatusUnmatchedException thrown =
+          assertThrows(
+              StatusUnmatchedException.class,
+              () ->
+                  service.pauseAll(
+                      List.of(targetBeforePause, otherTargetBeforePause),
+                      null,
+                      () -> List.of(targetAfterPause, otherTargetAfterPause),
+                      client,
+                      1,
+                      null,
+                      null,
+                      null));
+      assertEquals(STATUS_UNMATCHED_ERROR_MESSAGE, thrown.getMessage());
+      verify(service).unpauseWithRetry(client, MAX_UNPAUSE_RETRY_COUNT);
+    }
+
+    @Test
+    void pauseAll_WithEmptyTargets_ThrowIllegalArgumentException() {
+      // Arrange
+      PauseService service = new PauseService();
+
+      // Act & Assert
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> service.pauseAll(List.of(), null, List::of, client, 1, null, null, null));
+      verify(client, never()).pause(anyBoolean(), any());
+    }
+  }
+
+  @Nested
+  class PauseWithWatch {
+
+    private PauseTargetWatch watch;
+
+    @BeforeEach
+    void beforeEach() {
+      watch = mock(PauseTargetWatch.class);
+    }
+
+    @Test
+    void pause_WhenWatchObservedNoChange_ReturnPauseDurationWithoutGettingTargetAgain()
+        throws PauserException {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      PauseDuration pausedDuration =
+          new PauseDuration(Instant.now().minus(5, SECONDS), Instant.now());
+      doReturn(pausedDuration).when(service).pauseInternal(any(), any(), anyInt(), any());
+      doNothing().when(service).unpauseWithRetry(any(), anyInt());
+      doReturn(null).when(watch).getChange();
+      doReturn(false).when(watch).isFailed();
+      PauseService.PauseTargetsSupplier supplier = mock(PauseService.PauseTargetsSupplier.class);
+
+      // Act
+      PauseDuration actual =
+          assertDoesNotThrow(
+              () ->
+                  service.pauseAll(
+                      List.of(targetBeforePause), watch, supplier, client, 1, null, null, null));
+
+      // Assert
+      assertEquals(pausedDuration, actual);
+      verify(supplier, never()).get();
+    }
+
+    @Test
+    void pause_WhenWatchObservedChange_ShouldThrowStatusUnmatchedException()
+        throws PauserException {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      PauseDuration pausedDuration =
+          new PauseDuration(Instant.now().minus(5, SECONDS), Instant.now());
+      doReturn(pausedDuration).when(service).pauseInternal(any(), any(), anyInt(), any());
+      doNothing().when(service).unpauseWithRetry(any(), anyInt());
+      PauseTargetChange change = new PauseTargetChange("Pod", "pod-1", "MODIFIED", Instant.now());
+      doReturn(change).when(watch).getChange();
+      PauseService.PauseTargetsSupplier supplier = mock(PauseService.PauseTargetsSupplier.class);
+
+      // Act & Assert
+      StatusUnmatchedException thrown =
+          assertThrows(
+              StatusUnmatchedException.class,
+              () ->
+                  service.pauseAll(
+                      List.of(targetBeforePause), watch, supplier, client, 1, null, null, null));
+      assertEquals(
+          STATUS_UNMATCHED_ERROR_MESSAGE + " Observed change: " + change, thrown.getMessage());
+      verify(supplier, never()).get();
+    }
+
+    @Test
+    void pause_WhenWatchFailed_ShouldCompareStatusOfTargetGotAgain() throws PauserException {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      PauseDuration pausedDuration =
+          new PauseDuration(Instant.now().minus(5, SECONDS), Instant.now());
+      doReturn(pausedDuration).when(service).pauseInternal(any(), any(), anyInt(), any());
+      doNothing().when(service).unpauseWithRetry(any(), anyInt());
+      doReturn(null).when(watch).getChange();
+      doReturn(true).when(watch).isFailed();
+      PauseTarget.Status beforeTargetStatus =
+          new PauseTarget.Status(Map.of("pod-1", 0), Map.of("pod-1", "1"), "beforeVersion");
+      PauseTarget.Status afterTargetStatus =
+          new PauseTarget.Status(Map.of("pod-1", 0), Map.of("pod-1", "1"), "afterVersion");
+      doReturn(beforeTargetStatus).when(targetBeforePause).toStatus();
+      doReturn(afterTargetStatus).when(targetAfterPause).toStatus();
+
+      // Act & Assert
+      StatusUnmatchedException thrown =
+          assertThrows(
+              StatusUnmatchedException.class,
+              () ->
+                  service.pauseAll(
+                      List.of(targetBeforePause),
+                      watch,
+                      () -> List.of(targetAfterPause),
+                      client,
+                      1,
+                      null,
+                      null,
+                      null));
+      assertEquals(STATUS_UNMATCHED_ERROR_MESSAGE, thrown.getMessage());
+    }
+
+    @Test
+    void pauseInternal_WhenWatchObservedChange_ShouldEndPauseEarly() throws Exception {
+      // Arrange
+      PauseService service = new PauseService();
+      PauseTargetChange change = new PauseTargetChange("Pod", "pod-1", "DELETED", Instant.now());
+      doReturn(change).when(watch).awaitChange(anyLong());
+
+      // Act
+      long start = System.nanoTime();
+      service.pauseInternal(client, watch, 60000, null);
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      // Assert
+      verify(client).pause(true, null);
+      assertTrue(elapsedMillis < 60000);
+    }
+
+    @Test
+    void pauseInternal_WhenWatchObservedNoChange_ShouldWaitForPauseDuration() throws Exception {
+      // Arrange
+      PauseService service = new PauseService();
+      doReturn(false).when(watch).isFailed();
+      doAnswer(
+              invocation -> {
+                Thread.sleep(invocation.getArgument(0, Long.class));
+                return null;
+              })
+          .when(watch)
+          .awaitChange(anyLong());
+
+      // Act
+      PauseDuration actual = service.pauseInternal(client, watch, 100, null);
+
+      // Assert
+      assertTrue(actual.endTime().toEpochMilli() - actual.startTime().toEpochMilli() >= 99);
+    }
+  }
+
+  @Nested
+  class PauseWithHandle {
+
+    @Test
+    void pause_WhenCancelledBeforeStart_ThrowPauseFailedExceptionWithoutPausing() {
+      // Arrange
+      PauseService service = new PauseService();
+      PauseHandle handle = new PauseHandle();
+      handle.cancel();
+
+      // Act & Assert
+      PauseFailedException thrown =
+          assertThrows(
+              PauseFailedException.class,
+              () ->
+                  service.pauseAll(
+                      List.of(targetBeforePause),
+                      null,
+                      () -> List.of(targetAfterPause),
+                      client,
+                      60000,
+                      null,
+                      null,
+                      handle));
+      assertEquals(PAUSE_CANCELLED_ERROR_MESSAGE, thrown.getMessage());
+      verify(client, never()).pause(anyBoolean(), any());
+      verify(client, never()).unpause();
+    }
+
+    @Test
+    void pause_WhenCancelledDuringPause_UnpauseRightAwayAndThrowPauseFailedException() {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      PauseHandle handle = new PauseHandle();
+      doAnswer(
+              invocation -> {
+                handle.cancel();
+                return null;
+              })
+          .when(client)
+          .pause(true, null);
+      List<Boolean> interruptedOnUnpause = new ArrayList<>();
+      doAnswer(
+              invocation -> {
+                interruptedOnUnpause.add(Thread.currentThread().isInterrupted());
+                return AdminRequestResult.allAcknowledged(List.of(POD_1));
+              })
+          .when(client)
+          .unpause();
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      long start = System.nanoTime();
+      PauseFailedException thrown =
+          assertThrows(
+              PauseFailedException.class,
+              () ->
+                  service.pauseAll(
+                      List.of(targetBeforePause),
+                      null,
+                      () -> List.of(targetAfterPause),
+                      client,
+                      60000,
+                      null,
+                      null,
+                      handle));
+      long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+      // Assert
+      assertEquals(PAUSE_ERROR_MESSAGE, thrown.getMessage());
+      assertTrue(thrown.getCause() instanceof CancellationException);
+      assertEquals(List.of(false), interruptedOnUnpause);
+      assertTrue(elapsedMillis < 60000);
+      // The interrupt that the handle caused doesn't leak to the caller.
+      assertFalse(Thread.interrupted());
+    }
+
+    @Test
+    void pause_WhenInterruptedDuringPause_UnpauseAndRestoreInterruptStatus() {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      doAnswer(
+              invocation -> {
+                Thread.currentThread().interrupt();
+                return null;
+              })
+          .when(client)
+          .pause(true, null);
+      List<Boolean> interruptedOnUnpause = new ArrayList<>();
+      doAnswer(
+              invocation -> {
+                interruptedOnUnpause.add(Thread.currentThread().isInterrupted());
+                return AdminRequestResult.allAcknowledged(List.of(POD_1));
+              })
+          .when(client)
+          .unpause();
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      PauseFailedException thrown =
+          assertThrows(
+              PauseFailedException.class,
+              () -> service.pause(targetBeforePause, () -> targetAfterPause, client, 60000, null));
+
+      // Assert
+      assertEquals(PAUSE_ERROR_MESSAGE, thrown.getMessage());
+      assertEquals(List.of(false), interruptedOnUnpause);
+      assertTrue(Thread.interrupted());
+    }
+
+    @Test
+    void pause_WhenCancelledAfterCompletion_DoNothing() {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      PauseHandle handle = new PauseHandle();
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1))).when(client).unpause();
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      assertDoesNotThrow(
+          () ->
+              service.pauseAll(
+                  List.of(targetBeforePause),
+                  null,
+                  () -> List.of(targetAfterPause),
+                  client,
+                  1,
+                  null,
+                  null,
+                  handle));
+      handle.cancel();
+
+      // Assert
+      assertTrue(handle.isCancelled());
+      assertFalse(Thread.interrupted());
+    }
+  }
+
+  @Nested
+  class PauseWithListener {
+    private final List<PausePhase> phases = new ArrayList<>();
+    private final PauseLifecycleListener listener =
+        new PauseLifecycleListener() {
+          @Override
+          public void onPhase(PhaseSpan span) {
+            phases.add(span.phase());
+          }
+        };
+
+    @Test
+    void pause_WithListener_ReportPhasesInOrder() {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1))).when(client).unpause();
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      assertDoesNotThrow(
+          () ->
+              service.pauseAll(
+                  List.of(targetBeforePause),
+                  null,
+                  () -> List.of(targetAfterPause),
+                  client,
+                  1,
+                  null,
+                  listener,
+                  null));
+
+      // Assert
+      assertEquals(
+          List.of(
+              PausePhase.PAUSE_REQUEST,
+              PausePhase.PAUSE_WINDOW,
+              PausePhase.UNPAUSE_REQUEST,
+              PausePhase.POST_CHECK),
+          phases);
+    }
+
+    @Test
+    void pause_WithListener_ReportStartOfEachPhaseBeforeItsEnd() {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1))).when(client).unpause();
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+      List<String> events = new ArrayList<>();
+      PauseLifecycleListener startAndEndListener =
+          new PauseLifecycleListener() {
+            @Override
+            public void onPhaseStarted(PausePhase phase) {
+              events.add("start:" + phase);
+            }
+
+            @Override
+            public void onPhase(PhaseSpan span) {
+              events.add("end:" + span.phase());
+            }
+          };
+
+      // Act
+      assertDoesNotThrow(
+          () ->
+              service.pauseAll(
+                  List.of(targetBeforePause),
+                  null,
+                  () -> List.of(targetAfterPause),
+                  client,
+                  1,
+                  null,
+                  startAndEndListener,
+                  null));
+
+      // Assert
+      assertEquals(
+          List.of(
+              "start:PAUSE_REQUEST",
+              "end:PAUSE_REQUEST",
+              "start:PAUSE_WINDOW",
+              "end:PAUSE_WINDOW",
+              "start:UNPAUSE_REQUEST",
+              "end:UNPAUSE_REQUEST",
+              "start:POST_CHECK",
+              "end:POST_CHECK"),
+          events);
+    }
+
+    @Test
+    void pause_WithListenerWhenUnpauseIsRetried_ReportEachAttemptAndSinglePauseWindow() {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      doReturn(AdminRequestResult.allFailed(List.of(POD_1), new RuntimeException("Unavailable")))
+          .when(client)
+          .unpause();
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1)))
+          .when(client)
+          .unpause(List.of(POD_1));
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      assertDoesNotThrow(
+          () ->
+              service.pauseAll(
+                  List.of(targetBeforePause),
+                  null,
+                  () -> List.of(targetAfterPause),
+                  client,
+                  1,
+                  null,
+                  listener,
+                  null));
+
+      // Assert
+      assertEquals(
+          List.of(
+              PausePhase.PAUSE_REQUEST,
+              PausePhase.PAUSE_WINDOW,
+              PausePhase.UNPAUSE_REQUEST,
+              PausePhase.UNPAUSE_REQUEST,
+              PausePhase.POST_CHECK),
+          phases);
+    }
+
+    @Test
+    void pause_WithListenerWhenPauseFails_ReportNoPauseWindow() {
+      // Arrange
+      PauseService service = spy(new PauseService());
+      doThrow(new RuntimeException("Pause failed")).when(client).pause(true, null);
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1))).when(client).unpause();
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      assertThrows(
+          PauseFailedException.class,
+          () ->
+              service.pauseAll(
+                  List.of(targetBeforePause),
+                  null,
+                  () -> List.of(targetAfterPause),
+                  client,
+                  1,
+                  null,
+                  listener,
+                  null));
+
+      // Assert
+      assertEquals(
+          List.of(PausePhase.PAUSE_REQUEST, PausePhase.UNPAUSE_REQUEST, PausePhase.POST_CHECK),
+          phases);
+    }
+
+    @Test
+    void pause_WithListenerWhenWatchReportsNoChange_ReportNoPostCheck() throws Exception {
+      // Arrange
+      PauseTargetWatch watch = mock(PauseTargetWatch.class);
+      PauseService service = new PauseService();
+      doReturn(null).when(watch).awaitChange(anyLong());
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1))).when(client).unpause();
+
+      // Act
+      assertDoesNotThrow(
+          () ->
+              service.pauseAll(
+                  List.of(targetBeforePause),
+                  watch,
+                  () -> List.of(targetAfterPause),
+                  client,
+                  1,
+                  null,
+                  listener,
+                  null));
+
+      // Assert
+      assertEquals(
+          List.of(
+              PausePhase.PAUSE_REQUEST, PausePhase.PAUSE_WINDOW, PausePhase.UNPAUSE_REQUEST),
+          phases);
+    }
+  }
+
+  @Nested
+  class PauseWindow {
+    private final List<PauseLifecycleListener> clientListeners = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+      doAnswer(
+              invocation -> {
+                clientListeners.add(invocation.getArgument(0));
+                return null;
+              })
+          .when(client)
+          .addListener(any());
+    }
+
+    private void reportPodRequest(
+        PausePhase phase, InetSocketAddress address, long startNanos, long endNanos) {
+      PodRequestSpan span = new PodRequestSpan(phase, address, startNanos, endNanos, true);
+      clientListeners.forEach(listener -> listener.onPodRequest(span));
+    }
+
+    @Test
+    void pause_WhenClientReportsPodRequests_ReturnPeriodInWhichAllPodsArePaused() {
+      // Arrange
+      long pausedAtNanos = System.nanoTime();
+      long[] unpausedAtNanos = new long[1];
+      doAnswer(
+              invocation -> {
+                reportPodRequest(PausePhase.PAUSE_REQUEST, POD_1, pausedAtNanos, pausedAtNanos);
+                reportPodRequest(
+                    PausePhase.PAUSE_REQUEST, POD_2, pausedAtNanos, pausedAtNanos + 2000);
+                return null;
+              })
+          .when(client)
+          .pause(true, null);
+      doAnswer(
+              invocation -> {
+                unpausedAtNanos[0] = System.nanoTime();
+                reportPodRequest(
+                    PausePhase.UNPAUSE_REQUEST, POD_1, unpausedAtNanos[0], unpausedAtNanos[0]);
+                reportPodRequest(
+                    PausePhase.UNPAUSE_REQUEST,
+                    POD_2,
+                    unpausedAtNanos[0] + 500,
+                    unpausedAtNanos[0] + 500);
+                return AdminRequestResult.allAcknowledged(List.of(POD_1, POD_2));
+              })
+          .when(client)
+          .unpause();
+      PauseService service = spy(new PauseService());
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      PauseDuration actual =
+          assertDoesNotThrow(
+              () -> service.pause(targetBeforePause, () -> targetAfterPause, client, 1, null));
+
+      // Assert
+      assertEquals(
+          Duration.ofNanos(unpausedAtNanos[0] - (pausedAtNanos + 2000)),
+          Duration.between(actual.startTime(), actual.endTime()));
+      assertEquals(Duration.ofNanos(2000), actual.pauseSkew());
+      assertEquals(Duration.ofNanos(500), actual.unpauseSkew());
+    }
+
+    @Test
+    void pause_WhenUnpauseIsRetried_IgnoreRetriesForUnpauseSkew() {
+      // Arrange
+      long pausedAtNanos = System.nanoTime();
+      doAnswer(
+              invocation -> {
+                reportPodRequest(PausePhase.PAUSE_REQUEST, POD_1, pausedAtNanos, pausedAtNanos);
+                reportPodRequest(PausePhase.PAUSE_REQUEST, POD_2, pausedAtNanos, pausedAtNanos);
+                return null;
+              })
+          .when(client)
+          .pause(true, null);
+      doAnswer(
+              invocation -> {
+                long now = System.nanoTime();
+                reportPodRequest(PausePhase.UNPAUSE_REQUEST, POD_1, now, now);
+                reportPodRequest(PausePhase.UNPAUSE_REQUEST, POD_2, now, now);
+                return AdminRequestResult.allFailed(
+                    List.of(POD_2), new RuntimeException("Unavailable"));
+              })
+          .when(client)
+          .unpause();
+      doAnswer(
+              invocation -> {
+                long now = System.nanoTime();
+                reportPodRequest(PausePhase.UNPAUSE_REQUEST, POD_2, now, now);
+                return AdminRequestResult.allAcknowledged(List.of(POD_2));
+              })
+          .when(client)
+          .unpause(List.of(POD_2));
+      PauseService service = spy(new PauseService());
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      PauseDuration actual =
+          assertDoesNotThrow(
+              () -> service.pause(targetBeforePause, () -> targetAfterPause, client, 1, null));
+
+      // Assert
+      assertEquals(Duration.ZERO, actual.pauseSkew());
+      assertEquals(Duration.ZERO, actual.unpauseSkew());
+    }
+
+    @Test
+    void pause_WhenClientReportsNoPodRequests_ReturnPeriodWithoutSkews() {
+      // Arrange
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1))).when(client).unpause();
+      PauseService service = spy(new PauseService());
+      doReturn(null).when(service).targetStatusEquals(any(), any());
+
+      // Act
+      PauseDuration actual =
+          assertDoesNotThrow(
+              () -> service.pause(targetBeforePause, () -> targetAfterPause, client, 1, null));
+
+      // Assert
+      assertNull(actual.pauseSkew());
+      assertNull(actual.unpauseSkew());
+    }
+  }
+
   @Nested
   class UnpauseWithRetry {
     @Test
     void unpauseWithRetry_WhenUnpauseSucceeded_ReturnWithoutException() {
       // Arrange
       PauseService service = new PauseService();
-      doNothing().when(client).unpause();
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_1, POD_2))).when(client).unpause();
 
       // Act & Assert
       assertDoesNotThrow(() -> service.unpauseWithRetry(client, MAX_UNPAUSE_RETRY_COUNT));
+      verify(client).unpause();
+      verify(client, never()).unpause(any());
+    }
+
+    @Test
+    void unpauseWithRetry_WhenSomePodsFailed_RetryOnlyFailedPods() {
+      // Arrange
+      PauseService service = new PauseService();
+      doReturn(
+              new AdminRequestResult(
+                  List.of(POD_1), Map.of(POD_2, new RuntimeException("UNAVAILABLE"))))
+          .when(client)
+          .unpause();
+      doReturn(AdminRequestResult.allAcknowledged(List.of(POD_2)))
+          .when(client)
+          .unpause(List.of(POD_2));
+
+      // Act & Assert
+      assertDoesNotThrow(() -> service.unpauseWithRetry(client, MAX_UNPAUSE_RETRY_COUNT));
+      verify(client).unpause();
+      verify(client).unpause(List.of(POD_2));
+    }
+
+    @Test
+    void unpauseWithRetry_WhenPodKeepsFailing_ThrowExceptionNamingPod() {
+      // Arrange
+      PauseService service = new PauseService();
+      RuntimeException cause = new RuntimeException("UNAVAILABLE");
+      doReturn(new AdminRequestResult(List.of(POD_1), Map.of(POD_2, cause)))
+          .when(client)
+          .unpause();
+      doReturn(AdminRequestResult.allFailed(List.of(POD_2), cause))
+          .when(client)
+          .unpause(List.of(POD_2));
+
+      // Act & Assert
+      RuntimeException thrown =
+          assertThrows(
+              RuntimeException.class,
+              () -> service.unpauseWithRetry(client, MAX_UNPAUSE_RETRY_COUNT));
+      assertEquals("Failed to unpause 1 of 1 pods: [" + POD_2 + "]", thrown.getMessage());
+      assertEquals(cause, thrown.getCause());
+      verify(client).unpause();
+      verify(client, times(MAX_UNPAUSE_RETRY_COUNT - 1)).unpause(List.of(POD_2));
     }
 
     @Test
@@ -606,6 +1325,27 @@ class PauseServiceTest {
     }
   }
 
+  @Nested
+  class UnpauseBackoffMillis {
+    @Test
+    void unpauseBackoffMillis_WithFirstRetry_ReturnWithinInitialBackoff() {
+      for (int i = 0; i < 100; i++) {
+        long actual = PauseService.unpauseBackoffMillis(1);
+        assertTrue(actual >= INITIAL_UNPAUSE_BACKOFF_MILLIS / 2);
+        assertTrue(actual <= INITIAL_UNPAUSE_BACKOFF_MILLIS);
+      }
+    }
+
+    @Test
+    void unpauseBackoffMillis_WithManyRetries_ReturnWithinMaxBackoff() {
+      for (int i = 0; i < 100; i++) {
+        long actual = PauseService.unpauseBackoffMillis(100);
+        assertTrue(actual >= MAX_UNPAUSE_BACKOFF_MILLIS / 2);
+        assertTrue(actual <= MAX_UNPAUSE_BACKOFF_MILLIS);
+      }
+    }
+  }
+
   @Nested
   class BuildException {
     @Test
@@ -0,0 +1,209 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDeployment;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.shared.Product;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesClientImpl.ResolvedRelease;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesRateLimiter.Priority;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class CachingKubernetesClientTest {
+
+  private static final String NAMESPACE = "ns";
+  private static final String RELEASE = "scalardb";
+
+  private KubernetesClientImpl delegate;
+  private CachingKubernetesClient client;
+
+  private static PauseTarget target(String podResourceVersion) {
+    return new PauseTarget(
+        List.of(new PausePod("pod-1", null, podResourceVersion, 0)),
+        new PauseDeployment("scalardb-cluster-node", "12"),
+        60053,
+        Product.SCALARDB_CLUSTER,
+        "100");
+  }
+
+  private static ReleaseResourceVersions resourceVersions(
+      String podResourceVersion, String podsResourceVersion) {
+    return new ReleaseResourceVersions(
+        Map.of("pod-1", podResourceVersion),
+        Map.of("scalardb-cluster-node", "12"),
+        Map.of("scalardb-cluster-headless", "13"),
+        podsResourceVersion);
+  }
+
+  private static ResolvedRelease resolved(String podResourceVersion, String podsResourceVersion) {
+    return new ResolvedRelease(
+        target(podResourceVersion), resourceVersions(podResourceVersion, podsResourceVersion));
+  }
+
+  @BeforeEach
+  void setUp() {
+    delegate = mock(KubernetesClientImpl.class);
+    when(delegate.discoveryConsistency()).thenReturn(ReadConsistency.LATEST);
+    client = new CachingKubernetesClient(delegate);
+  }
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if delegate is null")
+    void throwsIllegalArgumentExceptionIfDelegateIsNull() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> new CachingKubernetesClient(null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("delegate is required");
+    }
+  }
+
+  @Nested
+  @DisplayName("resolvePauseTargetByHelmRelease")
+  class ResolvePauseTargetByHelmRelease {
+
+    @Test
+    @DisplayName("reuses the cached target if the resource versions are unchanged")
+    void reusesCachedTargetIfResourceVersionsAreUnchanged() throws PauserException {
+      // Arrange
+      when(delegate.resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resolved("10", "101"));
+      when(delegate.listReleaseResourceVersions(
+              NAMESPACE, RELEASE, Product.SCALARDB_CLUSTER, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resourceVersions("10", "102"));
+      client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Act
+      PauseTarget target = client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Assert
+      assertThat(target.pods()).isEqualTo(target("10").pods());
+      assertThat(target.podsResourceVersion()).isEqualTo("102");
+      verify(delegate, times(1))
+          .resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW);
+    }
+
+    @Test
+    @DisplayName("doesn't list the resource versions separately when resolving from scratch")
+    void doesNotListResourceVersionsWhenResolvingFromScratch() throws PauserException {
+      // Arrange
+      when(delegate.resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resolved("10", "101"));
+
+      // Act
+      PauseTarget target = client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Assert
+      assertThat(target).isEqualTo(target("10"));
+      verify(delegate, never())
+          .listReleaseResourceVersions(
+              anyString(),
+              anyString(),
+              any(Product.class),
+              any(ReadConsistency.class),
+              any(Priority.class));
+    }
+
+    @Test
+    @DisplayName("resolves the target again if a resource version has changed")
+    void resolvesTargetAgainIfResourceVersionHasChanged() throws PauserException {
+      // Arrange
+      when(delegate.resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resolved("10", "101"), resolved("20", "102"));
+      when(delegate.listReleaseResourceVersions(
+              NAMESPACE, RELEASE, Product.SCALARDB_CLUSTER, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resourceVersions("20", "102"));
+      client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Act
+      PauseTarget target = client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Assert
+      assertThat(target).isEqualTo(target("20"));
+      verify(delegate, times(2))
+          .resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW);
+    }
+
+    @Test
+    @DisplayName("keeps the resource versions of the lists the target was resolved from")
+    void keepsResourceVersionsOfListsTargetWasResolvedFrom() throws PauserException {
+      // Arrange
+      when(delegate.resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resolved("10", "101"), resolved("20", "102"));
+      when(delegate.listReleaseResourceVersions(
+              NAMESPACE, RELEASE, Product.SCALARDB_CLUSTER, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resourceVersions("20", "102"), resourceVersions("20", "103"));
+      client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+      client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Act
+      PauseTarget target = client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Assert
+      assertThat(target.pods()).isEqualTo(target("20").pods());
+      assertThat(target.podsResourceVersion()).isEqualTo("103");
+      verify(delegate, times(2))
+          .resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW);
+    }
+
+    @Test
+    @DisplayName("resolves the target again if the revalidation fails")
+    void resolvesTargetAgainIfRevalidationFails() throws PauserException {
+      // Arrange
+      when(delegate.resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resolved("10", "101"));
+      when(delegate.listReleaseResourceVersions(
+              NAMESPACE, RELEASE, Product.SCALARDB_CLUSTER, ReadConsistency.LATEST, Priority.LOW))
+          .thenThrow(new PauserException("Can not find any target pods."));
+      client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Act
+      PauseTarget target = client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Assert
+      assertThat(target).isEqualTo(target("10"));
+      verify(delegate, times(2))
+          .resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW);
+    }
+
+    @Test
+    @DisplayName("examines the cached target after the pause with the requested consistency")
+    void examinesCachedTargetWithRequestedConsistency() throws PauserException {
+      // Arrange
+      when(delegate.resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.LOW))
+          .thenReturn(resolved("10", "101"));
+      when(delegate.listReleaseResourceVersions(
+              NAMESPACE, RELEASE, Product.SCALARDB_CLUSTER, ReadConsistency.LATEST, Priority.HIGH))
+          .thenReturn(resourceVersions("10", "102"));
+      PauseTarget before = client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE);
+
+      // Act
+      PauseTarget after =
+          client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST);
+
+      // Assert
+      assertThat(after.toStatus()).isEqualTo(before.toStatus());
+      verify(delegate, never())
+          .resolveRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST, Priority.HIGH);
+    }
+  }
+}
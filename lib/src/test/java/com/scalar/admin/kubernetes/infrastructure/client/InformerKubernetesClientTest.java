@@ -0,0 +1,96 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDeployment;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import io.kubernetes.client.openapi.apis.AppsV1Api;
+import io.kubernetes.client.openapi.apis.CoreV1Api;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class InformerKubernetesClientTest {
+
+  private static final String NAMESPACE = "ns";
+  private static final String RELEASE = "scalardb";
+
+  private KubernetesClientImpl directClient;
+  private InformerKubernetesClient client;
+
+  private static PauseTarget target() {
+    return new PauseTarget(
+        List.of(new PausePod("pod-1", null, "10", 0)),
+        new PauseDeployment("scalardb-cluster-node", "12"),
+        60053);
+  }
+
+  @BeforeEach
+  void setUp() throws PauserException {
+    directClient = mock(KubernetesClientImpl.class);
+    // No namespace is watched until a target in it is resolved from the cache.
+    client =
+        new InformerKubernetesClient(
+            mock(CoreV1Api.class), mock(AppsV1Api.class), directClient, List.of(), 1000);
+  }
+
+  @AfterEach
+  void tearDown() {
+    client.close();
+  }
+
+  @Nested
+  @DisplayName("resolvePauseTargetByHelmRelease")
+  class ResolvePauseTargetByHelmRelease {
+
+    @Test
+    @DisplayName("reads the target with a quorum read if LATEST is requested")
+    void readsTargetWithQuorumReadIfLatestIsRequested() throws PauserException {
+      // Arrange
+      PauseTarget expected = target();
+      when(directClient.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST))
+          .thenReturn(expected);
+
+      // Act
+      PauseTarget target =
+          client.resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST);
+
+      // Assert
+      assertThat(target).isSameAs(expected);
+      verify(directClient)
+          .resolvePauseTargetByHelmRelease(NAMESPACE, RELEASE, ReadConsistency.LATEST);
+    }
+  }
+
+  @Nested
+  @DisplayName("resolvePauseTargetsInNamespace")
+  class ResolvePauseTargetsInNamespace {
+
+    @Test
+    @DisplayName("reads the targets with a quorum read if LATEST is requested")
+    void readsTargetsWithQuorumReadIfLatestIsRequested() throws PauserException {
+      // Arrange
+      Map<String, PauseTarget> expected = Map.of(RELEASE, target());
+      when(directClient.resolvePauseTargetsInNamespace(NAMESPACE, ReadConsistency.LATEST))
+          .thenReturn(expected);
+
+      // Act
+      Map<String, PauseTarget> targets =
+          client.resolvePauseTargetsInNamespace(NAMESPACE, ReadConsistency.LATEST);
+
+      // Assert
+      assertThat(targets).isSameAs(expected);
+      verify(directClient).resolvePauseTargetsInNamespace(NAMESPACE, ReadConsistency.LATEST);
+    }
+  }
+}
@@ -0,0 +1,213 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDeployment;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.shared.Product;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class InformerPauseTargetWatchTest {
+
+  private static final String RELEASE = "scalardb";
+  private static final String APP = "scalardb-cluster";
+
+  private static V1Pod pod(String name, String resourceVersion, String app) {
+    return new V1Pod()
+        .metadata(
+            new V1ObjectMeta()
+                .name(name)
+                .resourceVersion(resourceVersion)
+                .labels(
+                    Map.of(
+                        KubernetesClientImpl.LABEL_INSTANCE,
+                        RELEASE,
+                        KubernetesClientImpl.LABEL_APP,
+                        app)));
+  }
+
+  private static V1Deployment deployment(String name, String resourceVersion) {
+    return new V1Deployment()
+        .metadata(new V1ObjectMeta().name(name).resourceVersion(resourceVersion));
+  }
+
+  private static InformerPauseTargetWatch watch(Runnable onClose) {
+    PauseTarget target =
+        new PauseTarget(
+            List.of(new PausePod("pod-1", null, "10", 0), new PausePod("pod-2", null, "11", 0)),
+            new PauseDeployment("scalardb-cluster-node", "12"),
+            60053,
+            Product.SCALARDB_CLUSTER,
+            null);
+    return new InformerPauseTargetWatch(RELEASE, target, onClose);
+  }
+
+  @Nested
+  @DisplayName("onPodEvent")
+  class OnPodEvent {
+
+    @Test
+    @DisplayName("ignores events that don't change the resource version of a target pod")
+    void ignoresEventsWithSameResourceVersion() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.onPodEvent("MODIFIED", pod("pod-1", "10", APP));
+
+      // Assert
+      assertThat(watch.getChange()).isNull();
+    }
+
+    @Test
+    @DisplayName("ignores events of pods that run another product")
+    void ignoresEventsOfOtherProducts() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.onPodEvent("ADDED", pod("other-1", "20", "scalardl-ledger"));
+
+      // Assert
+      assertThat(watch.getChange()).isNull();
+    }
+
+    @Test
+    @DisplayName("reports a change when a target pod is updated")
+    void reportsChangeWhenTargetPodIsUpdated() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.onPodEvent("MODIFIED", pod("pod-2", "21", APP));
+
+      // Assert
+      assertThat(watch.getChange()).isNotNull();
+      assertThat(watch.getChange().kind()).isEqualTo("Pod");
+      assertThat(watch.getChange().name()).isEqualTo("pod-2");
+      assertThat(watch.isFailed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("reports a change when a pod of the product is added")
+    void reportsChangeWhenPodIsAdded() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.onPodEvent("ADDED", pod("pod-3", "22", APP));
+
+      // Assert
+      assertThat(watch.getChange()).isNotNull();
+      assertThat(watch.getChange().type()).isEqualTo("ADDED");
+    }
+  }
+
+  @Nested
+  @DisplayName("checkCurrentState")
+  class CheckCurrentState {
+
+    @Test
+    @DisplayName("reports nothing when the cache matches the target")
+    void reportsNothingWhenCacheMatchesTarget() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.checkCurrentState(
+          List.of(pod("pod-1", "10", APP), pod("pod-2", "11", APP)),
+          List.of(deployment("scalardb-cluster-node", "12")));
+
+      // Assert
+      assertThat(watch.getChange()).isNull();
+    }
+
+    @Test
+    @DisplayName("reports a deletion when a target pod is missing from the cache")
+    void reportsDeletionWhenTargetPodIsMissing() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.checkCurrentState(
+          List.of(pod("pod-1", "10", APP)), List.of(deployment("scalardb-cluster-node", "12")));
+
+      // Assert
+      assertThat(watch.getChange()).isNotNull();
+      assertThat(watch.getChange().name()).isEqualTo("pod-2");
+      assertThat(watch.getChange().type()).isEqualTo("DELETED");
+    }
+
+    @Test
+    @DisplayName("reports a change when the deployment is updated")
+    void reportsChangeWhenDeploymentIsUpdated() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.checkCurrentState(
+          List.of(pod("pod-1", "10", APP), pod("pod-2", "11", APP)),
+          List.of(deployment("scalardb-cluster-node", "13")));
+
+      // Assert
+      assertThat(watch.getChange()).isNotNull();
+      assertThat(watch.getChange().kind()).isEqualTo("Deployment");
+    }
+  }
+
+  @Nested
+  @DisplayName("onWatchLost")
+  class OnWatchLost {
+
+    @Test
+    @DisplayName("fails the watch without reporting a change")
+    void failsWatchWithoutReportingChange() throws InterruptedException {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+
+      // Act
+      watch.onWatchLost("Pod");
+
+      // Assert
+      assertThat(watch.isFailed()).isTrue();
+      assertThat(watch.awaitChange(0)).isNull();
+    }
+
+    @Test
+    @DisplayName("doesn't fail the watch once it is closed")
+    void doesNotFailClosedWatch() {
+      // Arrange
+      InformerPauseTargetWatch watch = watch(() -> {});
+      watch.close();
+
+      // Act
+      watch.onWatchLost("Deployment");
+
+      // Assert
+      assertThat(watch.isFailed()).isFalse();
+    }
+  }
+
+  @Test
+  @DisplayName("close runs the close callback")
+  void closeRunsCallback() {
+    // Arrange
+    AtomicBoolean closed = new AtomicBoolean();
+    InformerPauseTargetWatch watch = watch(() -> closed.set(true));
+
+    // Act
+    watch.close();
+
+    // Assert
+    assertThat(closed).isTrue();
+  }
+}
@@ -0,0 +1,174 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDeployment;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.shared.Product;
+import io.kubernetes.client.openapi.models.V1Deployment;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.util.Watch;
+import io.kubernetes.client.util.Watchable;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class InformerWatchRegistryTest {
+
+  private InformerWatchRegistry registry;
+  private Watchable<V1Pod> podWatch;
+  private Watchable<V1Deployment> deploymentWatch;
+
+  private static InformerPauseTargetWatch watch() {
+    PauseTarget target =
+        new PauseTarget(
+            List.of(new PausePod("pod-1", null, "10", 0)),
+            new PauseDeployment("scalardb-cluster-node", "12"),
+            60053,
+            Product.SCALARDB_CLUSTER,
+            null);
+    return new InformerPauseTargetWatch("scalardb", target, () -> {});
+  }
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    registry = new InformerWatchRegistry();
+    podWatch = mock(Watchable.class);
+    deploymentWatch = mock(Watchable.class);
+  }
+
+  @Nested
+  @DisplayName("register")
+  class Register {
+
+    @Test
+    @DisplayName("doesn't fail the watch while both informers are watching")
+    void doesNotFailWatchWhileInformersAreWatching() {
+      // Arrange
+      registry.track("Pod", podWatch);
+      registry.track("Deployment", deploymentWatch);
+      InformerPauseTargetWatch watch = watch();
+
+      // Act
+      registry.register(watch);
+
+      // Assert
+      assertThat(watch.isFailed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("fails the watch if an informer is not watching yet")
+    void failsWatchIfInformerIsNotWatching() {
+      // Arrange
+      registry.track("Pod", podWatch);
+      InformerPauseTargetWatch watch = watch();
+
+      // Act
+      registry.register(watch);
+
+      // Assert
+      assertThat(watch.isFailed()).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("track")
+  class Track {
+
+    private InformerPauseTargetWatch watch;
+
+    @BeforeEach
+    void setUp() {
+      watch = watch();
+    }
+
+    @Test
+    @DisplayName("fails the registered watches when the watch of an informer ends")
+    void failsWatchesWhenInformerWatchEnds() {
+      // Arrange
+      Watchable<V1Pod> tracked = registry.track("Pod", podWatch);
+      registry.track("Deployment", deploymentWatch);
+      registry.register(watch);
+      when(podWatch.hasNext()).thenReturn(false);
+
+      // Act
+      boolean hasNext = tracked.hasNext();
+
+      // Assert
+      assertThat(hasNext).isFalse();
+      assertThat(watch.isFailed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("fails the registered watches when the watch of an informer returns an error")
+    void failsWatchesWhenInformerWatchReturnsError() {
+      // Arrange
+      Watchable<V1Pod> tracked = registry.track("Pod", podWatch);
+      registry.track("Deployment", deploymentWatch);
+      registry.register(watch);
+      when(podWatch.next()).thenReturn(new Watch.Response<>("ERROR", (V1Pod) null));
+
+      // Act
+      tracked.next();
+
+      // Assert
+      assertThat(watch.isFailed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("fails the registered watches when the watch of an informer is disconnected")
+    void failsWatchesWhenInformerWatchIsDisconnected() {
+      // Arrange
+      Watchable<V1Pod> tracked = registry.track("Pod", podWatch);
+      registry.track("Deployment", deploymentWatch);
+      registry.register(watch);
+      when(podWatch.hasNext()).thenThrow(new RuntimeException("Connection reset"));
+
+      // Act & Assert
+      assertThatThrownBy(tracked::hasNext).hasMessage("Connection reset");
+      assertThat(watch.isFailed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("fails the watches registered after the informer stopped watching")
+    void failsWatchesRegisteredAfterInformerStoppedWatching() throws IOException {
+      // Arrange
+      registry.track("Pod", podWatch).close();
+      registry.track("Deployment", deploymentWatch);
+
+      // Act
+      registry.register(watch);
+
+      // Assert
+      assertThat(watch.isFailed()).isTrue();
+      verify(podWatch).close();
+    }
+
+    @Test
+    @DisplayName("doesn't fail the registered watches on ordinary events")
+    void doesNotFailWatchesOnOrdinaryEvents() {
+      // Arrange
+      Watchable<V1Pod> tracked = registry.track("Pod", podWatch);
+      registry.track("Deployment", deploymentWatch);
+      registry.register(watch);
+      when(podWatch.hasNext()).thenReturn(true);
+      when(podWatch.next()).thenReturn(new Watch.Response<>("BOOKMARK", new V1Pod()));
+
+      // Act
+      tracked.hasNext();
+      tracked.next();
+
+      // Assert
+      assertThat(watch.isFailed()).isFalse();
+    }
+  }
+}
@@ -4,34 +4,66 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
 import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.model.pause.PauseDeployment;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
 import com.scalar.admin.kubernetes.domain.model.pause.PauseTarget;
+import com.scalar.admin.kubernetes.domain.model.pause.TargetSelector;
+import com.scalar.admin.kubernetes.domain.model.shared.Product;
+import io.kubernetes.client.ProtoClient;
+import io.kubernetes.client.ProtoClient.ObjectOrStatus;
+import io.kubernetes.client.common.KubernetesObject;
 import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.ApiResponse;
 import io.kubernetes.client.openapi.apis.AppsV1Api;
 import io.kubernetes.client.openapi.apis.CoreV1Api;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
 import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1Deployment;
 import io.kubernetes.client.openapi.models.V1DeploymentList;
+import io.kubernetes.client.openapi.models.V1DeploymentSpec;
+import io.kubernetes.client.openapi.models.V1LabelSelector;
+import io.kubernetes.client.openapi.models.V1ListMeta;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1PartialObjectMetadata;
+import io.kubernetes.client.openapi.models.V1PartialObjectMetadataList;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.proto.IntStr;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.proto.V1Apps;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import okhttp3.Call;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 public class KubernetesClientImplTest {
 
@@ -574,15 +606,814 @@ public class KubernetesClientImplTest {
     // Assert
     assertEquals(1, target.adminPort());
 
-    List<V1Pod> pods = target.pods();
+    List<PausePod> pods = target.pods();
     assertEquals(2, pods.size());
 
     List<String> podNames =
-        pods.stream().map(p -> p.getMetadata().getName()).collect(Collectors.toList());
+        pods.stream().map(PausePod::name).collect(Collectors.toList());
     assertTrue(podNames.contains("pod1"));
     assertTrue(podNames.contains("pod2"));
   }
 
+  @Test
+  public void select_NormalCase_ShouldCapturePodListResourceVersion() throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setMetadata(new V1ListMeta().resourceVersion("100"));
+    podList.setItems(Arrays.asList(mockPod("pod1", "1", 0, "scalardb-cluster")));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    // Act
+    KubernetesClientImpl kubernetesClient =
+        new KubernetesClientImpl(coreV1Api, appsV1Api);
+    PauseTarget target = kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+
+    // Assert
+    assertEquals("100", target.podsResourceVersion());
+  }
+
+  @Test
+  public void select_ConcurrentModeNormalCase_ShouldReturnPauseTarget() throws Exception {
+    // Arrange
+    String namespace = "namespace";
+    String helmReleaseName = "helmReleaseName";
+
+    // Act
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api)
+            .resolutionMode(ResolutionMode.CONCURRENT)
+            .build();
+    PauseTarget target = kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName);
+
+    // Assert
+    assertEquals(1, target.adminPort());
+    assertEquals(2, target.pods().size());
+    assertEquals("deployment1", target.deployment().name());
+  }
+
+  @Test
+  public void select_ConcurrentModeWithResourcesOfOtherProducts_ShouldSelectResourcesOfSameProduct()
+      throws Exception {
+    // Arrange
+    String namespace = "namespace";
+    String helmReleaseName = "helmReleaseName";
+
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(
+        Arrays.asList(
+            mockDeployment("envoy", "1", "envoy"),
+            mockDeployment("scalardb-cluster", "2", "scalardb-cluster")));
+    when(appsV1Api.listNamespacedDeployment(
+            "namespace",
+            null,
+            null,
+            null,
+            null,
+            "app.kubernetes.io/instance=helmReleaseName",
+            null,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(deploymentList);
+
+    V1ServiceList serviceList = new V1ServiceList();
+    serviceList.setItems(
+        Arrays.asList(
+            mockService("envoy", "envoy", 2), mockService("scalardb-cluster", "scalardb-cluster", 3)));
+    when(coreV1Api.listNamespacedService(
+            "namespace",
+            null,
+            null,
+            null,
+            null,
+            "app.kubernetes.io/instance=helmReleaseName",
+            null,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(serviceList);
+
+    // Act
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api)
+            .resolutionMode(ResolutionMode.CONCURRENT)
+            .build();
+    PauseTarget target = kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName);
+
+    // Assert
+    assertEquals(3, target.adminPort());
+    assertEquals("scalardb-cluster", target.deployment().name());
+  }
+
+  @Test
+  public void select_ConcurrentModeListNamespacedDeploymentThrowApiException_ShouldThrowPauserException()
+      throws ApiException {
+    // Arrange
+    String namespace = "namespace";
+    String helmReleaseName = "helmReleaseName";
+
+    when(appsV1Api.listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenThrow(new ApiException("", 0, null, "mock response body"));
+
+    // Act & Assert
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api)
+            .resolutionMode(ResolutionMode.CONCURRENT)
+            .build();
+
+    Throwable thrown = assertThrows(PauserException.class, () -> kubernetesClient.resolvePauseTargetByHelmRelease(namespace, helmReleaseName));
+
+    assertEquals("Can not find any target pods.", thrown.getMessage());
+  }
+
+  @Test
+  public void select_WithPageSize_ShouldListPodsPageByPage() throws Exception {
+    // Arrange
+    V1PodList firstPage = new V1PodList();
+    firstPage.setMetadata(new V1ListMeta().resourceVersion("100")._continue("token"));
+    firstPage.setItems(
+        Arrays.asList(
+            mockPod("pod1", "1", 0, "scalardb-cluster"), mockPod("envoy1", "1", 0, "envoy")));
+    V1PodList secondPage = new V1PodList();
+    secondPage.setMetadata(new V1ListMeta().resourceVersion("100"));
+    secondPage.setItems(Arrays.asList(mockPod("pod2", "2", 0, "scalardb-cluster")));
+
+    when(coreV1Api.listNamespacedPod(
+            "namespace",
+            null,
+            null,
+            null,
+            null,
+            "app.kubernetes.io/instance=helmReleaseName",
+            2,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(firstPage);
+    when(coreV1Api.listNamespacedPod(
+            "namespace",
+            null,
+            null,
+            "token",
+            null,
+            "app.kubernetes.io/instance=helmReleaseName",
+            2,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(secondPage);
+
+    // Act
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api).podListPageSize(2).build();
+    PauseTarget target =
+        kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+
+    // Assert
+    List<String> podNames =
+        target.pods().stream().map(PausePod::name).collect(Collectors.toList());
+    assertEquals(Arrays.asList("pod1", "pod2"), podNames);
+    assertEquals("100", target.podsResourceVersion());
+    verify(coreV1Api, times(2))
+        .listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void select_CachedDiscovery_ShouldListFromWatchCacheAndExamineWithQuorumRead()
+      throws Exception {
+    // Arrange
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api)
+            .discoveryConsistency(ReadConsistency.CACHED)
+            .build();
+
+    // Act
+    kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+    kubernetesClient.resolvePauseTargetByHelmRelease(
+        "namespace", "helmReleaseName", ReadConsistency.LATEST);
+
+    // Assert
+    verify(coreV1Api)
+        .listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), eq("0"), any(), any(), any());
+    verify(appsV1Api)
+        .listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), eq("0"), any(), any(), any());
+    verify(coreV1Api)
+        .listNamespacedService(
+            any(), any(), any(), any(), any(), any(), any(), eq("0"), any(), any(), any());
+    verify(coreV1Api)
+        .listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), isNull(), any(), any(), any());
+    verify(appsV1Api)
+        .listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), isNull(), any(), any(), any());
+    verify(coreV1Api)
+        .listNamespacedService(
+            any(), any(), any(), any(), any(), any(), any(), isNull(), any(), any(), any());
+  }
+
+  @Test
+  public void select_CachedDiscoveryWithPageSize_ShouldNotGiveResourceVersionWithContinueToken()
+      throws Exception {
+    // Arrange
+    V1PodList firstPage = new V1PodList();
+    firstPage.setMetadata(new V1ListMeta().resourceVersion("100")._continue("token"));
+    firstPage.setItems(Arrays.asList(mockPod("pod1", "1", 0, "scalardb-cluster")));
+    V1PodList secondPage = new V1PodList();
+    secondPage.setMetadata(new V1ListMeta().resourceVersion("100"));
+    secondPage.setItems(Arrays.asList(mockPod("pod2", "2", 0, "scalardb-cluster")));
+
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), isNull(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(firstPage);
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), eq("token"), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(secondPage);
+
+    // Act
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api)
+            .podListPageSize(1)
+            .discoveryConsistency(ReadConsistency.CACHED)
+            .build();
+    PauseTarget target =
+        kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+
+    // Assert
+    assertEquals(2, target.pods().size());
+    verify(coreV1Api)
+        .listNamespacedPod(
+            any(), any(), any(), isNull(), any(), any(), eq(1), eq("0"), any(), any(), any());
+    verify(coreV1Api)
+        .listNamespacedPod(
+            any(), any(), any(), eq("token"), any(), any(), eq(1), isNull(), any(), any(), any());
+  }
+
+  @Test
+  public void select_TooManyRequests_ShouldRetryAfterTimeThatApiServerAsksFor() throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(Arrays.asList(mockPod("pod1", "1", 0, "scalardb-cluster")));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenThrow(new ApiException("", 429, Map.of("Retry-After", List.of("0")), ""))
+        .thenReturn(podList);
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api)
+            .rateLimiter(new KubernetesRateLimiter(1000, 10))
+            .build();
+
+    // Act
+    PauseTarget target =
+        kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+
+    // Assert
+    assertEquals(1, target.pods().size());
+    verify(coreV1Api, times(2))
+        .listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void select_TooManyRequestsWithoutRateLimiter_ShouldThrowPauserException()
+      throws Exception {
+    // Arrange
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenThrow(new ApiException("", 429, Map.of("Retry-After", List.of("0")), ""));
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+
+    // Act & Assert
+    PauserException thrown =
+        assertThrows(
+            PauserException.class,
+            () -> kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName"));
+    assertEquals("Can not find any target pods.", thrown.getMessage());
+    verify(coreV1Api, times(1))
+        .listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void select_NormalCase_ShouldKeepOnlyFieldsThatTargetReads() throws Exception {
+    // Arrange
+    V1Pod pod = mockPod("pod1", "1", 3, "scalardb-cluster");
+    pod.getStatus().setPodIP("10.0.0.1");
+    pod.getStatus().setHostIP("192.168.0.1");
+    V1PodList podList = new V1PodList();
+    podList.setItems(Arrays.asList(pod));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    // Act
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+    PauseTarget target =
+        kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+
+    // Assert
+    assertEquals(Arrays.asList(new PausePod("pod1", "10.0.0.1", "1", 3)), target.pods());
+    assertEquals(new PauseDeployment("deployment1", "1"), target.deployment());
+    assertEquals(Product.SCALARDB_CLUSTER, target.product());
+  }
+
+  @Test
+  public void select_MetadataOnlyLists_ShouldListDeploymentsAsPartialObjectMetadata()
+      throws Exception {
+    // Arrange
+    ApiClient apiClient = mock(ApiClient.class);
+    OkHttpClient httpClient = mock(OkHttpClient.class);
+    Call listCall = mock(Call.class);
+    Call metadataCall = mock(Call.class);
+    when(appsV1Api.getApiClient()).thenReturn(apiClient);
+    when(apiClient.getHttpClient()).thenReturn(httpClient);
+    when(appsV1Api.listNamespacedDeploymentCall(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(listCall);
+    when(listCall.request())
+        .thenReturn(
+            new Request.Builder()
+                .url("https://kubernetes/apis/apps/v1/namespaces/namespace/deployments")
+                .header("Accept", "application/json")
+                .build());
+    when(httpClient.newCall(any())).thenReturn(metadataCall);
+
+    V1PartialObjectMetadataList metadataList = new V1PartialObjectMetadataList();
+    metadataList.setItems(
+        Arrays.asList(
+            new V1PartialObjectMetadata()
+                .metadata(mockDeployment("deployment1", "5", "scalardb-cluster").getMetadata())));
+    when(apiClient.<V1PartialObjectMetadataList>execute(
+            metadataCall, V1PartialObjectMetadataList.class))
+        .thenReturn(new ApiResponse<>(200, Map.of(), metadataList));
+
+    // Act
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api).metadataOnlyLists(true).build();
+    PauseTarget target =
+        kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+
+    // Assert
+    assertEquals(new PauseDeployment("deployment1", "5"), target.deployment());
+    ArgumentCaptor<Request> request = ArgumentCaptor.forClass(Request.class);
+    verify(httpClient).newCall(request.capture());
+    assertEquals(
+        "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1",
+        request.getValue().header("Accept"));
+    verify(appsV1Api, never())
+        .listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void select_ProtoClientGiven_ShouldListResourcesInProtobuf() throws Exception {
+    // Arrange
+    ProtoClient protoClient = mock(ProtoClient.class);
+    V1.PodList podList =
+        V1.PodList.newBuilder()
+            .setMetadata(Meta.ListMeta.newBuilder().setResourceVersion("100"))
+            .addItems(
+                V1.Pod.newBuilder()
+                    .setMetadata(
+                        Meta.ObjectMeta.newBuilder()
+                            .setName("pod1")
+                            .setResourceVersion("1")
+                            .putLabels("app.kubernetes.io/app", "scalardb-cluster"))
+                    .setStatus(
+                        V1.PodStatus.newBuilder()
+                            .setPodIP("10.0.0.1")
+                            .addContainerStatuses(
+                                V1.ContainerStatus.newBuilder()
+                                    .setName("scalardb-cluster")
+                                    .setRestartCount(2))))
+            .build();
+    V1Apps.DeploymentList deploymentList =
+        V1Apps.DeploymentList.newBuilder()
+            .addItems(
+                V1Apps.Deployment.newBuilder()
+                    .setMetadata(
+                        Meta.ObjectMeta.newBuilder().setName("deployment1").setResourceVersion("5")))
+            .build();
+    V1.ServiceList serviceList =
+        V1.ServiceList.newBuilder()
+            .addItems(
+                V1.Service.newBuilder()
+                    .setMetadata(Meta.ObjectMeta.newBuilder().setName("scalardb-cluster-headless"))
+                    .setSpec(
+                        V1.ServiceSpec.newBuilder()
+                            .addPorts(
+                                V1.ServicePort.newBuilder()
+                                    .setName("scalardb-cluster")
+                                    .setTargetPort(
+                                        IntStr.IntOrString.newBuilder().setType(0).setIntVal(60053)))))
+            .build();
+    when(protoClient.<V1.PodList>list(
+            any(),
+            eq(
+                "/api/v1/namespaces/namespace/pods"
+                    + "?labelSelector=app.kubernetes.io%2Finstance%3DhelmReleaseName")))
+        .thenReturn(new ObjectOrStatus<>(podList, null));
+    when(protoClient.<V1Apps.DeploymentList>list(
+            any(), startsWith("/apis/apps/v1/namespaces/namespace/deployments")))
+        .thenReturn(new ObjectOrStatus<>(deploymentList, null));
+    when(protoClient.<V1.ServiceList>list(
+            any(), startsWith("/api/v1/namespaces/namespace/services")))
+        .thenReturn(new ObjectOrStatus<>(serviceList, null));
+
+    // Act
+    KubernetesClientImpl kubernetesClient =
+        KubernetesClientImpl.builder(coreV1Api, appsV1Api).protoClient(protoClient).build();
+    PauseTarget target =
+        kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName");
+
+    // Assert
+    assertEquals(Arrays.asList(new PausePod("pod1", "10.0.0.1", "1", 2)), target.pods());
+    assertEquals(new PauseDeployment("deployment1", "5"), target.deployment());
+    assertEquals(60053, target.adminPort());
+    assertEquals("100", target.podsResourceVersion());
+    verify(coreV1Api, never())
+        .listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void select_PodWithoutContainerStatuses_ShouldThrowPauserException() throws Exception {
+    // Arrange
+    V1Pod pod = mockPod("pod1", "1", 0, "scalardb-cluster");
+    pod.getStatus().setContainerStatuses(null);
+    V1PodList podList = new V1PodList();
+    podList.setItems(Arrays.asList(pod));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    // Act & Assert
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+
+    Throwable thrown =
+        assertThrows(
+            PauserException.class,
+            () -> kubernetesClient.resolvePauseTargetByHelmRelease("namespace", "helmReleaseName"));
+
+    assertEquals("Can not find any target pods.", thrown.getMessage());
+  }
+
+  @Test
+  public void resolveInNamespace_TwoReleasesAndOtherRelease_ShouldReturnTargetForEachScalarRelease()
+      throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setMetadata(new V1ListMeta().resourceVersion("100"));
+    podList.setItems(
+        Arrays.asList(
+            withInstance(mockPod("ledger-1", "1", 0, "ledger"), "ledger"),
+            withInstance(mockPod("auditor-1", "1", 0, "auditor"), "auditor"),
+            withInstance(mockPod("envoy-1", "1", 0, "envoy"), "ledger"),
+            withInstance(mockPod("postgres-1", "1", 0, "postgresql"), "postgres")));
+    when(coreV1Api.listNamespacedPod(
+            "namespace",
+            null,
+            null,
+            null,
+            null,
+            "app.kubernetes.io/instance,app.kubernetes.io/app",
+            null,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(podList);
+
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(
+        Arrays.asList(
+            withInstance(mockDeployment("ledger", "1", "ledger"), "ledger"),
+            withInstance(mockDeployment("ledger-envoy", "1", "envoy"), "ledger"),
+            withInstance(mockDeployment("auditor", "1", "auditor"), "auditor"),
+            withInstance(mockDeployment("postgres", "1", "postgresql"), "postgres")));
+    when(appsV1Api.listNamespacedDeployment(
+            "namespace",
+            null,
+            null,
+            null,
+            null,
+            "app.kubernetes.io/instance,app.kubernetes.io/app",
+            null,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(deploymentList);
+
+    V1ServiceList serviceList = new V1ServiceList();
+    serviceList.setItems(
+        Arrays.asList(
+            withInstance(mockService("ledger", "scalardl-admin", 50053), "ledger"),
+            withInstance(mockService("auditor", "scalardl-auditor-admin", 50063), "auditor")));
+    when(coreV1Api.listNamespacedService(
+            "namespace",
+            null,
+            null,
+            null,
+            null,
+            "app.kubernetes.io/instance,app.kubernetes.io/app",
+            null,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(serviceList);
+
+    // Act
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+    Map<String, PauseTarget> targets =
+        kubernetesClient.resolvePauseTargetsInNamespace("namespace");
+
+    // Assert
+    assertEquals(Arrays.asList("auditor", "ledger"), new ArrayList<>(targets.keySet()));
+    assertEquals(50063, targets.get("auditor").adminPort());
+    assertEquals("ledger", targets.get("ledger").deployment().name());
+    assertEquals(1, targets.get("ledger").pods().size());
+    assertEquals(50053, targets.get("ledger").adminPort());
+    assertEquals("100", targets.get("ledger").podsResourceVersion());
+    verify(coreV1Api, times(1))
+        .listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void resolveInNamespace_NoScalarProduct_ShouldThrowPauserException() throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(
+        Arrays.asList(withInstance(mockPod("postgres-1", "1", 0, "postgresql"), "postgres")));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    // Act & Assert
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+
+    Throwable thrown =
+        assertThrows(
+            PauserException.class,
+            () -> kubernetesClient.resolvePauseTargetsInNamespace("namespace"));
+
+    assertEquals("Can not find any target pods.", thrown.getMessage());
+    assertEquals(
+        "No Scalar product is deployed in the namespace namespace.",
+        thrown.getCause().getMessage());
+  }
+
+  @Test
+  public void resolveBySelector_PodsOfTwoDeployments_ShouldReturnTargetForEachDeployment()
+      throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setMetadata(new V1ListMeta().resourceVersion("100"));
+    podList.setItems(
+        Arrays.asList(
+            mockSelectedPod("ledger-1", "ledger", 50053),
+            mockSelectedPod("auditor-1", "auditor", 50053),
+            mockSelectedPod("ledger-2", "ledger", 50053)));
+    when(coreV1Api.listNamespacedPod(
+            "namespace",
+            null,
+            null,
+            null,
+            "status.phase=Running",
+            "app.kubernetes.io/part-of=scalardl",
+            null,
+            null,
+            null,
+            null,
+            null))
+        .thenReturn(podList);
+
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(
+        Arrays.asList(
+            mockSelectingDeployment("ledger", "ledger"),
+            mockSelectingDeployment("auditor", "auditor")));
+    when(appsV1Api.listNamespacedDeployment(
+            "namespace", null, null, null, null, null, null, null, null, null, null))
+        .thenReturn(deploymentList);
+
+    TargetSelector selector =
+        TargetSelector.withAdminPortName(
+            "app.kubernetes.io/part-of=scalardl", "status.phase=Running", "admin");
+
+    // Act
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+    List<PauseTarget> targets =
+        kubernetesClient.resolvePauseTargetsBySelector("namespace", selector);
+
+    // Assert
+    assertEquals(2, targets.size());
+    assertEquals("auditor", targets.get(0).deployment().name());
+    assertEquals(1, targets.get(0).pods().size());
+    assertEquals("ledger", targets.get(1).deployment().name());
+    List<String> ledgerPodNames =
+        targets.get(1).pods().stream()
+            .map(PausePod::name)
+            .collect(Collectors.toList());
+    assertEquals(Arrays.asList("ledger-1", "ledger-2"), ledgerPodNames);
+    assertEquals(50053, targets.get(1).adminPort());
+    assertEquals("100", targets.get(1).podsResourceVersion());
+  }
+
+  @Test
+  public void resolveBySelector_PodWithoutDeployment_ShouldThrowPauserException()
+      throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(
+        Arrays.asList(
+            mockSelectedPod("ledger-1", "ledger", 50053),
+            mockSelectedPod("standalone-0", "standalone", 50053),
+            mockSelectedPod("other-0", "other", 50053)));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(Arrays.asList(mockSelectingDeployment("ledger", "ledger")));
+    when(appsV1Api.listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(deploymentList);
+
+    // Act & Assert
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+
+    Throwable thrown =
+        assertThrows(
+            PauserException.class,
+            () ->
+                kubernetesClient.resolvePauseTargetsBySelector(
+                    "namespace",
+                    TargetSelector.withAdminPortName(
+                        "app.kubernetes.io/part-of=scalardl", null, "admin")));
+
+    assertEquals("Can not find any target pods.", thrown.getMessage());
+    assertEquals(
+        "No deployment selects the pods [other-0, standalone-0] that match the label selector"
+            + " app.kubernetes.io/part-of=scalardl.",
+        thrown.getCause().getMessage());
+  }
+
+  @Test
+  public void resolveBySelector_DeploymentWithoutPodLabels_ShouldMatchBySpecSelector()
+      throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(Arrays.asList(mockSelectedPod("ledger-1", "ledger", 50053)));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    // The deployment doesn't carry the label that the pods are selected by.
+    V1Deployment deployment = mockSelectingDeployment("ledger", "ledger");
+    deployment.getMetadata().setLabels(new HashMap<>());
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(Arrays.asList(deployment));
+    when(appsV1Api.listNamespacedDeployment(
+            "namespace", null, null, null, null, null, null, null, null, null, null))
+        .thenReturn(deploymentList);
+
+    // Act
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+    List<PauseTarget> targets =
+        kubernetesClient.resolvePauseTargetsBySelector(
+            "namespace", TargetSelector.withAdminPortName("app=ledger", null, "admin"));
+
+    // Assert
+    assertEquals(1, targets.size());
+    assertEquals("ledger", targets.get(0).deployment().name());
+  }
+
+  @Test
+  public void resolveBySelector_WithAdminPort_ShouldUseGivenPort() throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(Arrays.asList(mockSelectedPod("ledger-1", "ledger", 50053)));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(Arrays.asList(mockSelectingDeployment("ledger", "ledger")));
+    when(appsV1Api.listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(deploymentList);
+
+    // Act
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+    List<PauseTarget> targets =
+        kubernetesClient.resolvePauseTargetsBySelector(
+            "namespace", TargetSelector.withAdminPort("app=ledger", null, 60053));
+
+    // Assert
+    assertEquals(1, targets.size());
+    assertEquals(60053, targets.get(0).adminPort());
+  }
+
+  @Test
+  public void resolveBySelector_AdminPortNameNotFound_ShouldThrowPauserException()
+      throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(Arrays.asList(mockSelectedPod("ledger-1", "ledger", 50053)));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(Arrays.asList(mockSelectingDeployment("ledger", "ledger")));
+    when(appsV1Api.listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(deploymentList);
+
+    // Act & Assert
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+
+    Throwable thrown =
+        assertThrows(
+            PauserException.class,
+            () ->
+                kubernetesClient.resolvePauseTargetsBySelector(
+                    "namespace", TargetSelector.withAdminPortName("app=ledger", null, "grpc")));
+
+    assertEquals("Can not find any target pods.", thrown.getMessage());
+    assertEquals(
+        "Can not find the container port grpc in the pod ledger-1.",
+        thrown.getCause().getMessage());
+  }
+
+  @Test
+  public void resolveBySelector_PodSelectedByTwoDeployments_ShouldThrowPauserException()
+      throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(Arrays.asList(mockSelectedPod("ledger-1", "ledger", 50053)));
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    V1DeploymentList deploymentList = new V1DeploymentList();
+    deploymentList.setItems(
+        Arrays.asList(
+            mockSelectingDeployment("ledger-a", "ledger"),
+            mockSelectingDeployment("ledger-b", "ledger")));
+    when(appsV1Api.listNamespacedDeployment(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(deploymentList);
+
+    // Act & Assert
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+
+    Throwable thrown =
+        assertThrows(
+            PauserException.class,
+            () ->
+                kubernetesClient.resolvePauseTargetsBySelector(
+                    "namespace", TargetSelector.withAdminPortName("app=ledger", null, "admin")));
+
+    assertEquals(
+        "The pod ledger-1 is selected by more than one deployment: ledger-a and ledger-b.",
+        thrown.getCause().getMessage());
+  }
+
+  @Test
+  public void resolveBySelector_NoPodMatches_ShouldThrowPauserException() throws Exception {
+    // Arrange
+    V1PodList podList = new V1PodList();
+    podList.setItems(new ArrayList<V1Pod>());
+    when(coreV1Api.listNamespacedPod(
+            any(), any(), any(), any(), any(), any(), any(), any(), any(), any(), any()))
+        .thenReturn(podList);
+
+    // Act & Assert
+    KubernetesClientImpl kubernetesClient = new KubernetesClientImpl(coreV1Api, appsV1Api);
+
+    Throwable thrown =
+        assertThrows(
+            PauserException.class,
+            () ->
+                kubernetesClient.resolvePauseTargetsBySelector(
+                    "namespace", TargetSelector.withAdminPortName("app=ledger", null, "admin")));
+
+    assertEquals("Can not find any target pods.", thrown.getMessage());
+  }
+
   private void mockCoreV1Api() throws ApiException {
     List<V1Pod> pods =
         Arrays.asList(mockPod("pod1", "1", 0, "scalardb-cluster"), mockPod("pod2", "2", 0, "scalardb-cluster"));
@@ -671,4 +1502,43 @@ public class KubernetesClientImplTest {
 
     return service;
   }
+
+  private V1Pod mockSelectedPod(String name, String appLabelValue, int adminPort) {
+    V1Pod pod = mockPod(name, "1", 0, appLabelValue);
+    pod.getMetadata().getLabels().put("app", appLabelValue);
+
+    V1ContainerPort containerPort = new V1ContainerPort();
+    containerPort.setName("admin");
+    containerPort.setContainerPort(adminPort);
+
+    V1Container container = new V1Container();
+    container.setPorts(Arrays.asList(containerPort));
+
+    V1PodSpec podSpec = new V1PodSpec();
+    podSpec.setContainers(Arrays.asList(container));
+    pod.setSpec(podSpec);
+
+    return pod;
+  }
+
+  private V1Deployment mockSelectingDeployment(String name, String appLabelValue) {
+    V1Deployment deployment = mockDeployment(name, "1", appLabelValue);
+
+    Map<String, String> matchLabels = new HashMap<>();
+    matchLabels.put("app", appLabelValue);
+
+    V1LabelSelector selector = new V1LabelSelector();
+    selector.setMatchLabels(matchLabels);
+
+    V1DeploymentSpec deploymentSpec = new V1DeploymentSpec();
+    deploymentSpec.setSelector(selector);
+    deployment.setSpec(deploymentSpec);
+
+    return deployment;
+  }
+
+  private <T extends KubernetesObject> T withInstance(T object, String helmReleaseName) {
+    object.getMetadata().getLabels().put("app.kubernetes.io/instance", helmReleaseName);
+    return object;
+  }
 }
@@ -0,0 +1,95 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class KubernetesHttpSettingsTest {
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if maxIdleConnections is negative")
+    void throwsIllegalArgumentExceptionIfMaxIdleConnectionsIsNegative() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(
+              () ->
+                  new KubernetesHttpSettings(
+                      -1, Duration.ofMinutes(5), true, Duration.ZERO, Duration.ZERO, false))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("maxIdleConnections must not be negative");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if keepAlive is zero")
+    void throwsIllegalArgumentExceptionIfKeepAliveIsZero() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(
+              () ->
+                  new KubernetesHttpSettings(
+                      5, Duration.ZERO, true, Duration.ZERO, Duration.ZERO, false))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("keepAlive must be positive");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if readTimeout is null")
+    void throwsIllegalArgumentExceptionIfReadTimeoutIsNull() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(
+              () ->
+                  new KubernetesHttpSettings(
+                      5, Duration.ofMinutes(5), true, Duration.ZERO, null, false))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("readTimeout must not be negative");
+    }
+  }
+
+  @Nested
+  @DisplayName("apply")
+  class Apply {
+
+    @Test
+    @DisplayName("sets the timeouts and HTTP/2 while keeping the other settings")
+    void setsTimeoutsAndHttp2() {
+      // Arrange
+      KubernetesHttpSettings settings =
+          new KubernetesHttpSettings(
+              8, Duration.ofMinutes(1), true, Duration.ofSeconds(3), Duration.ofSeconds(7), true);
+      OkHttpClient original = new OkHttpClient.Builder().retryOnConnectionFailure(false).build();
+
+      // Act
+      OkHttpClient applied = settings.apply(original);
+
+      // Assert
+      assertThat(applied.protocols()).containsExactly(Protocol.HTTP_2, Protocol.HTTP_1_1);
+      assertThat(applied.connectTimeoutMillis()).isEqualTo(3000);
+      assertThat(applied.readTimeoutMillis()).isEqualTo(7000);
+      assertThat(applied.retryOnConnectionFailure()).isFalse();
+      assertThat(applied.connectionPool()).isNotSameAs(original.connectionPool());
+    }
+
+    @Test
+    @DisplayName("uses only HTTP/1.1 if HTTP/2 is disabled")
+    void usesOnlyHttp11IfHttp2IsDisabled() {
+      // Arrange
+      KubernetesHttpSettings settings =
+          new KubernetesHttpSettings(
+              5, Duration.ofMinutes(5), false, Duration.ZERO, Duration.ZERO, false);
+
+      // Act
+      OkHttpClient applied = settings.apply(new OkHttpClient());
+
+      // Assert
+      assertThat(applied.protocols()).containsExactly(Protocol.HTTP_1_1);
+    }
+  }
+}
@@ -0,0 +1,135 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesRateLimiter.Priority;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class KubernetesRateLimiterTest {
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if qps is not positive")
+    void throwsIllegalArgumentExceptionIfQpsIsNotPositive() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> new KubernetesRateLimiter(0, 10))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("qps must be greater than 0");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if burst is not positive")
+    void throwsIllegalArgumentExceptionIfBurstIsNotPositive() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> new KubernetesRateLimiter(10, 0))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("burst must be greater than 0");
+    }
+  }
+
+  @Nested
+  @DisplayName("acquire")
+  class Acquire {
+
+    @Test
+    @DisplayName("hands out the tokens of a burst without waiting")
+    void handsOutBurstWithoutWaiting() throws InterruptedException {
+      // Arrange
+      KubernetesRateLimiter limiter = new KubernetesRateLimiter(0.1, 3);
+      long start = System.nanoTime();
+
+      // Act
+      for (int i = 0; i < 3; i++) {
+        limiter.acquire(Priority.LOW);
+      }
+
+      // Assert
+      assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("waits for a token to be refilled once the burst is used up")
+    void waitsForRefillAfterBurst() throws InterruptedException {
+      // Arrange
+      KubernetesRateLimiter limiter = new KubernetesRateLimiter(5, 1);
+      limiter.acquire(Priority.LOW);
+      long start = System.nanoTime();
+
+      // Act
+      limiter.acquire(Priority.LOW);
+
+      // Assert
+      assertThat(Duration.ofNanos(System.nanoTime() - start))
+          .isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    @DisplayName("gives the next token to a call of the high priority first")
+    void givesNextTokenToHighPriorityFirst() throws InterruptedException {
+      // Arrange
+      KubernetesRateLimiter limiter = new KubernetesRateLimiter(2, 1);
+      limiter.acquire(Priority.LOW);
+      List<Priority> order = new CopyOnWriteArrayList<>();
+      CountDownLatch lowStarted = new CountDownLatch(1);
+      Thread low =
+          Thread.ofVirtual()
+              .start(
+                  () -> {
+                    lowStarted.countDown();
+                    acquireQuietly(limiter, Priority.LOW, order);
+                  });
+      lowStarted.await();
+      Thread.sleep(50);
+
+      // Act
+      Thread high = Thread.ofVirtual().start(() -> acquireQuietly(limiter, Priority.HIGH, order));
+      high.join(TimeUnit.SECONDS.toMillis(10));
+      low.join(TimeUnit.SECONDS.toMillis(10));
+
+      // Assert
+      assertThat(order).containsExactly(Priority.HIGH, Priority.LOW);
+    }
+  }
+
+  @Nested
+  @DisplayName("backOff")
+  class BackOff {
+
+    @Test
+    @DisplayName("makes the calls wait for the given time even if tokens are left")
+    void makesCallsWaitForGivenTime() throws InterruptedException {
+      // Arrange
+      KubernetesRateLimiter limiter = new KubernetesRateLimiter(1000, 100);
+      long start = System.nanoTime();
+
+      // Act
+      limiter.backOff(Duration.ofMillis(200));
+      limiter.acquire(Priority.HIGH);
+
+      // Assert
+      assertThat(Duration.ofNanos(System.nanoTime() - start))
+          .isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    }
+  }
+
+  private static void acquireQuietly(
+      KubernetesRateLimiter limiter, Priority priority, List<Priority> order) {
+    try {
+      limiter.acquire(priority);
+      order.add(priority);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,325 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.protobuf.Empty;
+import com.scalar.admin.kubernetes.domain.model.pause.AdminRequestResult;
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
+import com.scalar.admin.kubernetes.domain.model.pause.PodRequestSpan;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import com.scalar.admin.rpc.AdminGrpc;
+import com.scalar.admin.rpc.CheckPausedResponse;
+import com.scalar.admin.rpc.PauseRequest;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ParallelScalarAdminClientTest {
+
+  private final List<Server> servers = new ArrayList<>();
+  private final ConcurrentLinkedQueue<String> received = new ConcurrentLinkedQueue<>();
+
+  @AfterEach
+  void tearDown() {
+    servers.forEach(Server::shutdownNow);
+  }
+
+  private InetSocketAddress startPod(String ip, AdminGrpc.AdminImplBase service)
+      throws IOException {
+    servers.add(InProcessServerBuilder.forName(ip).addService(service).build().start());
+    return InetSocketAddress.createUnresolved(ip, 60053);
+  }
+
+  private InetSocketAddress startHealthyPod(String ip) throws IOException {
+    return startPod(
+        ip,
+        new AdminGrpc.AdminImplBase() {
+          @Override
+          public void pause(PauseRequest request, StreamObserver<Empty> responseObserver) {
+            received.add("pause " + ip + " " + request.getMaxPauseWaitTime());
+            responseObserver.onNext(Empty.getDefaultInstance());
+            responseObserver.onCompleted();
+          }
+
+          @Override
+          public void checkPaused(
+              Empty request, StreamObserver<CheckPausedResponse> responseObserver) {
+            received.add("checkPaused " + ip);
+            responseObserver.onNext(CheckPausedResponse.newBuilder().setPaused(false).build());
+            responseObserver.onCompleted();
+          }
+
+          @Override
+          public void unpause(Empty request, StreamObserver<Empty> responseObserver) {
+            received.add("unpause " + ip);
+            responseObserver.onNext(Empty.getDefaultInstance());
+            responseObserver.onCompleted();
+          }
+        });
+  }
+
+  private ParallelScalarAdminClient createClient(
+      List<InetSocketAddress> addresses, long requestDeadlineMillis) {
+    return new ParallelScalarAdminClient(
+        address -> InProcessChannelBuilder.forName(address.getHostString()).build(),
+        addresses,
+        requestDeadlineMillis);
+  }
+
+  @Nested
+  @DisplayName("warmUp")
+  class WarmUp {
+
+    @Test
+    @DisplayName("probes every pod")
+    void probesEveryPod() throws IOException {
+      // Arrange
+      InetSocketAddress pod1 = startHealthyPod("10.0.0.1");
+      InetSocketAddress pod2 = startHealthyPod("10.0.0.2");
+
+      // Act
+      try (ParallelScalarAdminClient client = createClient(List.of(pod1, pod2), 1000)) {
+        client.warmUp();
+      }
+
+      // Assert
+      assertThat(received)
+          .containsExactlyInAnyOrder("checkPaused 10.0.0.1", "checkPaused 10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("throws RuntimeException when a pod can't be connected")
+    void throwsRuntimeExceptionWhenPodCannotBeConnected() throws IOException {
+      // Arrange
+      InetSocketAddress healthy = startHealthyPod("10.0.0.1");
+      InetSocketAddress missing = InetSocketAddress.createUnresolved("10.0.0.2", 60053);
+
+      // Act & Assert
+      try (ParallelScalarAdminClient client = createClient(List.of(healthy, missing), 1000)) {
+        assertThatThrownBy(client::warmUp)
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to connect to 1 of 2 pods")
+            .hasMessageContaining("10.0.0.2");
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("pause")
+  class Pause {
+
+    @Test
+    @DisplayName("sends a pause request to every pod")
+    void sendsPauseRequestToEveryPod() throws IOException {
+      // Arrange
+      List<InetSocketAddress> addresses = new ArrayList<>();
+      for (int i = 0; i < 5; i++) {
+        addresses.add(startHealthyPod("10.0.0." + i));
+      }
+
+      // Act
+      try (ParallelScalarAdminClient client = createClient(addresses, 1000)) {
+        client.pause(true, 100L);
+      }
+
+      // Assert
+      assertThat(received)
+          .containsExactlyInAnyOrder(
+              "pause 10.0.0.0 100",
+              "pause 10.0.0.1 100",
+              "pause 10.0.0.2 100",
+              "pause 10.0.0.3 100",
+              "pause 10.0.0.4 100");
+    }
+
+    @Test
+    @DisplayName("throws RuntimeException naming the pods that failed")
+    void throwsRuntimeExceptionNamingFailedPods() throws IOException {
+      // Arrange
+      InetSocketAddress healthy = startHealthyPod("10.0.0.1");
+      InetSocketAddress broken =
+          startPod(
+              "10.0.0.2",
+              new AdminGrpc.AdminImplBase() {
+                @Override
+                public void pause(PauseRequest request, StreamObserver<Empty> responseObserver) {
+                  responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                }
+              });
+
+      // Act & Assert
+      try (ParallelScalarAdminClient client = createClient(List.of(healthy, broken), 1000)) {
+        assertThatThrownBy(() -> client.pause(true, 100L))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to pause 1 of 2 pods")
+            .hasMessageContaining("10.0.0.2");
+      }
+      assertThat(received).containsExactly("pause 10.0.0.1 100");
+    }
+
+    @Test
+    @DisplayName("gives up a pod that doesn't respond within the deadline")
+    void givesUpPodThatDoesNotRespondWithinDeadline() throws IOException {
+      // Arrange
+      InetSocketAddress healthy = startHealthyPod("10.0.0.1");
+      InetSocketAddress hanging =
+          startPod(
+              "10.0.0.2",
+              new AdminGrpc.AdminImplBase() {
+                @Override
+                public void pause(PauseRequest request, StreamObserver<Empty> responseObserver) {
+                  // Never respond.
+                }
+              });
+
+      // Act & Assert
+      try (ParallelScalarAdminClient client = createClient(List.of(healthy, hanging), 100)) {
+        assertThatThrownBy(() -> client.pause(false, null))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("Failed to pause 1 of 2 pods")
+            .cause()
+            .isInstanceOf(StatusRuntimeException.class)
+            .satisfies(
+                e ->
+                    assertThat(((StatusRuntimeException) e).getStatus().getCode())
+                        .isEqualTo(Status.Code.DEADLINE_EXCEEDED));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("unpause")
+  class Unpause {
+
+    @Test
+    @DisplayName("sends an unpause request to every pod")
+    void sendsUnpauseRequestToEveryPod() throws IOException {
+      // Arrange
+      InetSocketAddress pod1 = startHealthyPod("10.0.0.1");
+      InetSocketAddress pod2 = startHealthyPod("10.0.0.2");
+
+      // Act
+      AdminRequestResult result;
+      try (ParallelScalarAdminClient client = createClient(List.of(pod1, pod2), 1000)) {
+        result = client.unpause();
+      }
+
+      // Assert
+      assertThat(result.isSuccessful()).isTrue();
+      assertThat(result.acknowledged()).containsExactly(pod1, pod2);
+      assertThat(received).containsExactlyInAnyOrder("unpause 10.0.0.1", "unpause 10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("reports the pods that failed to be unpaused")
+    void reportsPodsThatFailed() throws IOException {
+      // Arrange
+      InetSocketAddress healthy = startHealthyPod("10.0.0.1");
+      InetSocketAddress broken =
+          startPod(
+              "10.0.0.2",
+              new AdminGrpc.AdminImplBase() {
+                @Override
+                public void unpause(Empty request, StreamObserver<Empty> responseObserver) {
+                  responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                }
+              });
+
+      // Act
+      AdminRequestResult result;
+      try (ParallelScalarAdminClient client = createClient(List.of(healthy, broken), 1000)) {
+        result = client.unpause();
+      }
+
+      // Assert
+      assertThat(result.acknowledged()).containsExactly(healthy);
+      assertThat(result.failedAddresses()).containsExactly(broken);
+    }
+
+    @Test
+    @DisplayName("sends an unpause request only to the given pods")
+    void sendsUnpauseRequestOnlyToGivenPods() throws IOException {
+      // Arrange
+      InetSocketAddress pod1 = startHealthyPod("10.0.0.1");
+      InetSocketAddress pod2 = startHealthyPod("10.0.0.2");
+
+      // Act
+      try (ParallelScalarAdminClient client = createClient(List.of(pod1, pod2), 1000)) {
+        client.unpause(List.of(pod2));
+      }
+
+      // Assert
+      assertThat(received).containsExactly("unpause 10.0.0.2");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when a given pod is not a target")
+    void throwsIllegalArgumentExceptionWhenPodIsNotTarget() throws IOException {
+      // Arrange
+      InetSocketAddress pod1 = startHealthyPod("10.0.0.1");
+      InetSocketAddress other = InetSocketAddress.createUnresolved("10.0.0.9", 60053);
+
+      // Act & Assert
+      try (ParallelScalarAdminClient client = createClient(List.of(pod1), 1000)) {
+        assertThatThrownBy(() -> client.unpause(List.of(other)))
+            .isInstanceOf(IllegalArgumentException.class);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("addListener")
+  class AddListener {
+
+    @Test
+    @DisplayName("reports the time spent in the request to each pod")
+    void reportsTimeSpentInRequestToEachPod() throws IOException {
+      // Arrange
+      InetSocketAddress healthy = startHealthyPod("10.0.0.1");
+      InetSocketAddress broken =
+          startPod(
+              "10.0.0.2",
+              new AdminGrpc.AdminImplBase() {
+                @Override
+                public void unpause(Empty request, StreamObserver<Empty> responseObserver) {
+                  responseObserver.onError(Status.UNAVAILABLE.asRuntimeException());
+                }
+              });
+      List<PodRequestSpan> spans = new ArrayList<>();
+
+      // Act
+      try (ParallelScalarAdminClient client = createClient(List.of(healthy, broken), 1000)) {
+        client.addListener(
+            new PauseLifecycleListener() {
+              @Override
+              public void onPodRequest(PodRequestSpan span) {
+                spans.add(span);
+              }
+            });
+        client.unpause();
+      }
+
+      // Assert
+      assertThat(spans)
+          .extracting(PodRequestSpan::phase, PodRequestSpan::address, PodRequestSpan::succeeded)
+          .containsExactlyInAnyOrder(
+              tuple(PausePhase.UNPAUSE_REQUEST, healthy, true),
+              tuple(PausePhase.UNPAUSE_REQUEST, broken, false));
+      assertThat(spans).allSatisfy(span -> assertThat(span.durationNanos()).isNotNegative());
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.scalar.admin.kubernetes.infrastructure.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PausePod;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.V1;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ProtobufListsTest {
+
+  private static final String POD_NAME = "scalardb-cluster-node-0";
+
+  private static V1.Pod.Builder protobufPod() {
+    return V1.Pod.newBuilder()
+        .setMetadata(Meta.ObjectMeta.newBuilder().setName(POD_NAME).setResourceVersion("10"));
+  }
+
+  private static V1Pod jsonPod(V1PodStatus status) {
+    return PauseTargetAssembler.trimPod(
+        new V1Pod()
+            .metadata(new V1ObjectMeta().name(POD_NAME).resourceVersion("10"))
+            .status(status));
+  }
+
+  @Nested
+  @DisplayName("toPod")
+  class ToPod {
+
+    @Test
+    @DisplayName("converts the restart counts of the containers")
+    void convertsRestartCounts() {
+      // Arrange
+      V1.Pod pod =
+          protobufPod()
+              .setStatus(
+                  V1.PodStatus.newBuilder()
+                      .setPodIP("10.0.0.1")
+                      .addContainerStatuses(
+                          V1.ContainerStatus.newBuilder().setName("a").setRestartCount(1))
+                      .addContainerStatuses(
+                          V1.ContainerStatus.newBuilder().setName("b").setRestartCount(2)))
+              .build();
+
+      // Act
+      PausePod converted = PausePod.from(ProtobufLists.toPod(pod));
+
+      // Assert
+      assertThat(converted).isEqualTo(new PausePod(POD_NAME, "10.0.0.1", "10", 3));
+    }
+
+    @Test
+    @DisplayName("makes PausePod reject a pod without container statuses like the JSON format")
+    void rejectsPodWithoutContainerStatusesLikeJson() {
+      // Arrange
+      V1.Pod protobuf = protobufPod().setStatus(V1.PodStatus.newBuilder()).build();
+      V1Pod json = jsonPod(new V1PodStatus());
+
+      // Act & Assert
+      String message = "container statuses of the pod " + POD_NAME + " are required";
+      assertThatThrownBy(() -> PausePod.from(ProtobufLists.toPod(protobuf)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage(message);
+      assertThatThrownBy(() -> PausePod.from(json))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage(message);
+    }
+
+    @Test
+    @DisplayName("makes PausePod reject a container without a restart count like the JSON format")
+    void rejectsContainerWithoutRestartCountLikeJson() {
+      // Arrange
+      V1.Pod protobuf =
+          protobufPod()
+              .setStatus(
+                  V1.PodStatus.newBuilder()
+                      .addContainerStatuses(V1.ContainerStatus.newBuilder().setName("a")))
+              .build();
+      V1Pod json =
+          jsonPod(new V1PodStatus().containerStatuses(List.of(new V1ContainerStatus().name("a"))));
+
+      // Act & Assert
+      String message = "restart counts of the containers of the pod " + POD_NAME + " are required";
+      assertThatThrownBy(() -> PausePod.from(ProtobufLists.toPod(protobuf)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage(message);
+      assertThatThrownBy(() -> PausePod.from(json))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage(message);
+    }
+  }
+}
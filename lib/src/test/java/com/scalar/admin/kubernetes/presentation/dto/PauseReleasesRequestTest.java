@@ -0,0 +1,53 @@
+package com.scalar.admin.kubernetes.presentation.dto;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PauseReleasesRequestTest {
+
+  @Nested
+  @DisplayName("Constructor")
+  class Constructor {
+
+    @Test
+    @DisplayName("creates PauseReleasesRequest successfully")
+    void createsPauseReleasesRequestSuccessfully() {
+      // Arrange & Act
+      PauseReleasesRequest request =
+          new PauseReleasesRequest(
+              "default", List.of("ledger", "auditor"), 5000, 30000L, false, null, null);
+
+      // Assert
+      assertThat(request.namespace()).isEqualTo("default");
+      assertThat(request.helmReleaseNames()).containsExactly("ledger", "auditor");
+      assertThat(request.pauseDuration()).isEqualTo(5000);
+      assertThat(request.maxPauseWaitTime()).isEqualTo(30000L);
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when helmReleaseNames is empty")
+    void throwsExceptionWhenHelmReleaseNamesIsEmpty() {
+      // Act & Assert
+      assertThatThrownBy(
+              () -> new PauseReleasesRequest("default", List.of(), 5000, null, false, null, null))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("helmReleaseNames is required");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException when TLS is enabled without caRootCert")
+    void throwsExceptionWhenTlsEnabledWithoutCaRootCert() {
+      // Act & Assert
+      assertThatThrownBy(
+              () ->
+                  new PauseReleasesRequest(
+                      "default", List.of("ledger"), 5000, null, true, null, "authority"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("caRootCert is required when tlsEnabled is true");
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.sun.net.httpserver.Authenticator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpPrincipal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Authenticator that accepts the requests with the given token in the {@code Authorization: Bearer}
+ * header and rejects the others with 401.
+ *
+ * <p>The token is compared in constant time, so that the time to reject a request doesn't tell how
+ * much of the token it got right.
+ */
+@ThreadSafe
+class BearerTokenAuthenticator extends Authenticator {
+
+  private static final String SCHEME = "Bearer ";
+  private static final String REALM = "scalar-admin-for-kubernetes";
+
+  private final byte[] token;
+
+  BearerTokenAuthenticator(String token) {
+    this.token = token.getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Override
+  public Result authenticate(HttpExchange exchange) {
+    String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+    if (authorization != null
+        && authorization.regionMatches(true, 0, SCHEME, 0, SCHEME.length())
+        && MessageDigest.isEqual(
+            token,
+            authorization.substring(SCHEME.length()).strip().getBytes(StandardCharsets.UTF_8))) {
+      return new Success(new HttpPrincipal("client", REALM));
+    }
+    exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer realm=\"" + REALM + "\"");
+    return new Failure(401);
+  }
+}
@@ -0,0 +1,94 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.service.PauseHandle;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import com.scalar.admin.kubernetes.presentation.PauseController;
+import com.scalar.admin.kubernetes.presentation.dto.PauseReleasesRequest;
+import com.scalar.admin.kubernetes.presentation.dto.PauseRequest;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Body of a pause request to the HTTP server, with the same defaults as the options of the CLI
+ * tool.
+ *
+ * @param namespace the namespace of the Helm releases, {@code default} if null
+ * @param helmReleaseNames the Helm releases to pause in a single pause window
+ * @param pauseDuration the duration of the pause in milliseconds, 5000 if null
+ * @param maxPauseWaitTime the max wait time in milliseconds until the pods drain outstanding
+ *     requests, null for the default of the products
+ * @param tls whether TLS is enabled between scalar-admin and the target
+ * @param caRootCertPem the PEM of the root certificate for verifying the server's certificate
+ * @param overrideAuthority the expected authority in the server's certificate
+ */
+record PauseHttpRequest(
+    @JsonProperty("namespace") @Nullable String namespace,
+    @JsonProperty("helm_release_names") @Nullable List<String> helmReleaseNames,
+    @JsonProperty("pause_duration") @Nullable Integer pauseDuration,
+    @JsonProperty("max_pause_wait_time") @Nullable Long maxPauseWaitTime,
+    @JsonProperty("tls") boolean tls,
+    @JsonProperty("ca_root_cert_pem") @Nullable String caRootCertPem,
+    @JsonProperty("override_authority") @Nullable String overrideAuthority) {
+
+  static final String DEFAULT_NAMESPACE = "default";
+  static final int DEFAULT_PAUSE_DURATION_MILLIS = 5000;
+
+  String namespaceOrDefault() {
+    return namespace != null ? namespace : DEFAULT_NAMESPACE;
+  }
+
+  List<String> helmReleaseNamesOrEmpty() {
+    return helmReleaseNames != null ? helmReleaseNames : List.of();
+  }
+
+  /**
+   * Validates this request and returns the call to the controller that executes it.
+   *
+   * @throws IllegalArgumentException if the request is invalid
+   */
+  PauseCall toPauseCall() {
+    if (helmReleaseNamesOrEmpty().size() == 1) {
+      PauseRequest request = toPauseRequest();
+      return (controller, listener, handle) -> controller.pause(request, listener, handle);
+    }
+    PauseReleasesRequest request = toPauseReleasesRequest();
+    return (controller, listener, handle) -> controller.pause(request, listener, handle);
+  }
+
+  private PauseRequest toPauseRequest() {
+    return new PauseRequest(
+        namespaceOrDefault(),
+        helmReleaseNamesOrEmpty().get(0),
+        pauseDurationOrDefault(),
+        maxPauseWaitTime,
+        tls,
+        caRootCertPem,
+        overrideAuthority);
+  }
+
+  private PauseReleasesRequest toPauseReleasesRequest() {
+    return new PauseReleasesRequest(
+        namespaceOrDefault(),
+        helmReleaseNamesOrEmpty(),
+        pauseDurationOrDefault(),
+        maxPauseWaitTime,
+        tls,
+        caRootCertPem,
+        overrideAuthority);
+  }
+
+  private int pauseDurationOrDefault() {
+    return pauseDuration != null ? pauseDuration : DEFAULT_PAUSE_DURATION_MILLIS;
+  }
+
+  /** A validated pause request bound to the controller method that executes it. */
+  @FunctionalInterface
+  interface PauseCall {
+    PauseDurationDto execute(
+        PauseController controller, PauseLifecycleListener listener, PauseHandle handle)
+        throws PauserException;
+  }
+}
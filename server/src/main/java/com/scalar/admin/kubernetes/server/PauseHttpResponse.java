@@ -0,0 +1,105 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.application.dto.PauseTimingsDto;
+import com.scalar.admin.kubernetes.application.dto.PhaseTimingDto;
+import com.scalar.admin.kubernetes.application.dto.PodRequestTimingDto;
+import java.time.Instant;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/** Body of the response to a successful pause request, in the same format as the CLI output. */
+@Immutable
+class PauseHttpResponse {
+
+  public final String namespace;
+
+  @JsonProperty("helm_release_names")
+  public final List<String> helmReleaseNames;
+
+  @JsonProperty("pause_start_timestamp_ms")
+  public final long pauseStartTimestampMs;
+
+  @JsonProperty("pause_end_timestamp_ms")
+  public final long pauseEndTimestampMs;
+
+  @JsonProperty("pause_start_time")
+  public final String pauseStartTime;
+
+  @JsonProperty("pause_end_time")
+  public final String pauseEndTime;
+
+  @JsonProperty("pause_skew_ns")
+  @Nullable
+  public final Long pauseSkewNs;
+
+  @JsonProperty("unpause_skew_ns")
+  @Nullable
+  public final Long unpauseSkewNs;
+
+  public final List<Phase> phases;
+
+  @JsonProperty("pod_requests")
+  public final List<PodRequest> podRequests;
+
+  PauseHttpResponse(
+      String namespace, List<String> helmReleaseNames, PauseDurationDto pauseDurationDto) {
+    this.namespace = namespace;
+    this.helmReleaseNames = List.copyOf(helmReleaseNames);
+    this.pauseStartTimestampMs = pauseDurationDto.startTimeEpochMilli();
+    this.pauseEndTimestampMs = pauseDurationDto.endTimeEpochMilli();
+    this.pauseStartTime = Instant.ofEpochMilli(pauseDurationDto.startTimeEpochMilli()).toString();
+    this.pauseEndTime = Instant.ofEpochMilli(pauseDurationDto.endTimeEpochMilli()).toString();
+    this.pauseSkewNs = pauseDurationDto.pauseSkewNanos();
+    this.unpauseSkewNs = pauseDurationDto.unpauseSkewNanos();
+    PauseTimingsDto timings = pauseDurationDto.timings();
+    this.phases =
+        timings == null ? List.of() : timings.phases().stream().map(Phase::new).toList();
+    this.podRequests =
+        timings == null ? List.of() : timings.podRequests().stream().map(PodRequest::new).toList();
+  }
+
+  @Immutable
+  static class Phase {
+
+    public final String phase;
+
+    @JsonProperty("start_offset_ns")
+    public final long startOffsetNs;
+
+    @JsonProperty("duration_ns")
+    public final long durationNs;
+
+    Phase(PhaseTimingDto dto) {
+      this.phase = dto.phase();
+      this.startOffsetNs = dto.startOffsetNanos();
+      this.durationNs = dto.durationNanos();
+    }
+  }
+
+  @Immutable
+  static class PodRequest {
+
+    public final String phase;
+
+    public final String address;
+
+    @JsonProperty("start_offset_ns")
+    public final long startOffsetNs;
+
+    @JsonProperty("duration_ns")
+    public final long durationNs;
+
+    public final boolean succeeded;
+
+    PodRequest(PodRequestTimingDto dto) {
+      this.phase = dto.phase();
+      this.address = dto.address();
+      this.startOffsetNs = dto.startOffsetNanos();
+      this.durationNs = dto.durationNanos();
+      this.succeeded = dto.succeeded();
+    }
+  }
+}
@@ -0,0 +1,409 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalar.admin.kubernetes.presentation.PauseController;
+import com.sun.net.httpserver.HttpContext;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * HTTP server that runs pause operations through {@link PauseController}.
+ *
+ * <p>The server serves the following endpoints:
+ *
+ * <ul>
+ *   <li>{@code POST /v1/pause} pauses the Helm releases in the JSON body in a single pause window
+ *       and responds with the paused period after the pause operation completes.
+ *   <li>{@code POST /v1/jobs} starts a job that pauses the Helm releases in the JSON body and
+ *       responds with 202 and the ID of the job without waiting for the pause operation.
+ *   <li>{@code GET /v1/jobs/{id}} responds with the state, the current phase, the requests to each
+ *       pod, and the result of the job.
+ *   <li>{@code GET /v1/jobs/{id}/events} streams the events of the job from the beginning until the
+ *       job is done, as server-sent events if the request accepts {@code text/event-stream} and as
+ *       newline-delimited JSON otherwise.
+ *   <li>{@code GET /v1/health} responds with 200 while the server is running.
+ * </ul>
+ *
+ * <p>Each pause operation runs on its own virtual thread with a new controller, so several releases
+ * can be paused at the same time. A request to pause a release that is already being paused is
+ * rejected with 409, because the pause and unpause requests of the two operations would interfere
+ * with each other. A request that arrives while the server is stopping is rejected with 503.
+ *
+ * <p>A request to pause the releases in a namespace other than the ones that the server is
+ * configured with is rejected with 403. If the server is configured with a token, the requests
+ * other than the health check must send it in the {@code Authorization: Bearer} header, and are
+ * rejected with 401 otherwise.
+ */
+@ThreadSafe
+public class PauseHttpServer {
+
+  private static final Logger logger = LoggerFactory.getLogger(PauseHttpServer.class);
+  private static final int MAX_REQUEST_BODY_BYTES = 1024 * 1024;
+  private static final int DEFAULT_MAX_FINISHED_JOBS = 100;
+  private static final long EVENT_STREAM_HEARTBEAT_MILLIS = 15000;
+  private static final String JOBS_PATH = "/v1/jobs/";
+  private static final String EVENTS_SUFFIX = "/events";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final PauseJobManager jobManager;
+  private final Set<String> namespaces;
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  /**
+   * Creates a PauseHttpServer that listens on the given address and serves the {@code default}
+   * namespace without authentication. The server doesn't accept requests until {@link #start()} is
+   * called.
+   *
+   * @param address the address to listen on
+   * @param controllerProvider provider of a controller for each pause request
+   * @throws IOException if the address can't be bound
+   */
+  public PauseHttpServer(InetSocketAddress address, Provider<PauseController> controllerProvider)
+      throws IOException {
+    this(builder(address, controllerProvider));
+  }
+
+  private PauseHttpServer(Builder builder) throws IOException {
+    this.jobManager = new PauseJobManager(builder.controllerProvider, builder.maxFinishedJobs);
+    this.namespaces = builder.namespaces;
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.server = HttpServer.create(builder.address, 0);
+    server.setExecutor(executor);
+    HttpContext pauseContext = server.createContext("/v1/pause", this::handlePause);
+    HttpContext jobsContext = server.createContext("/v1/jobs", this::handleJobs);
+    server.createContext("/v1/health", this::handleHealth);
+    if (builder.authToken != null) {
+      BearerTokenAuthenticator authenticator = new BearerTokenAuthenticator(builder.authToken);
+      pauseContext.setAuthenticator(authenticator);
+      jobsContext.setAuthenticator(authenticator);
+    }
+  }
+
+  /**
+   * Returns a builder for configuring a PauseHttpServer.
+   *
+   * @param address the address to listen on
+   * @param controllerProvider provider of a controller for each pause request
+   * @return a new builder with the default settings
+   */
+  public static Builder builder(
+      InetSocketAddress address, Provider<PauseController> controllerProvider) {
+    if (address == null) {
+      throw new IllegalArgumentException("address is required");
+    }
+    if (controllerProvider == null) {
+      throw new IllegalArgumentException("controllerProvider is required");
+    }
+    return new Builder(address, controllerProvider);
+  }
+
+  /** Starts accepting requests. */
+  public void start() {
+    server.start();
+  }
+
+  /**
+   * Returns the address that the server listens on, which has the actual port if port 0 was given.
+   *
+   * @return the address of the server
+   */
+  public InetSocketAddress getAddress() {
+    return server.getAddress();
+  }
+
+  /**
+   * Stops accepting requests and waits for the pause operations in progress to complete, up to the
+   * given grace period, so that the target pods are not left paused.
+   *
+   * @param gracePeriod the max time to wait for the operations in progress
+   */
+  public void stop(Duration gracePeriod) {
+    long startNanos = System.nanoTime();
+    jobManager.shutdown(gracePeriod);
+    Duration remaining = gracePeriod.minusNanos(System.nanoTime() - startNanos);
+    server.stop((int) Math.min(Integer.MAX_VALUE, Math.max(0, remaining.toSeconds())));
+    executor.shutdown();
+  }
+
+  private void handleHealth(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals("GET")) {
+        sendError(exchange, 405, "Method not allowed.");
+        return;
+      }
+      send(exchange, 200, Map.of("status", "ok"));
+    }
+  }
+
+  private void handlePause(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      if (!exchange.getRequestMethod().equals("POST")) {
+        sendError(exchange, 405, "Method not allowed.");
+        return;
+      }
+      Optional<PauseJob> submitted = submit(exchange);
+      if (submitted.isEmpty()) {
+        return;
+      }
+
+      PauseJob job = submitted.get();
+      try {
+        job.awaitDone();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        sendError(exchange, 503, "The server is shutting down.");
+        return;
+      }
+      PauseHttpResponse result = job.result();
+      if (result != null) {
+        send(exchange, 200, result);
+      } else {
+        sendError(exchange, job.isInvalidRequest() ? 400 : 500, job.error());
+      }
+    }
+  }
+
+  private void handleJobs(HttpExchange exchange) throws IOException {
+    try (exchange) {
+      String path = exchange.getRequestURI().getPath();
+      if (path.equals("/v1/jobs") || path.equals(JOBS_PATH)) {
+        if (!exchange.getRequestMethod().equals("POST")) {
+          sendError(exchange, 405, "Method not allowed.");
+          return;
+        }
+        Optional<PauseJob> submitted = submit(exchange);
+        if (submitted.isPresent()) {
+          String jobPath = JOBS_PATH + submitted.get().id();
+          send(
+              exchange,
+              202,
+              Map.of(
+                  "job_id",
+                  submitted.get().id(),
+                  "status_url",
+                  jobPath,
+                  "events_url",
+                  jobPath + EVENTS_SUFFIX));
+        }
+        return;
+      }
+
+      if (!exchange.getRequestMethod().equals("GET")) {
+        sendError(exchange, 405, "Method not allowed.");
+        return;
+      }
+      String rest = path.startsWith(JOBS_PATH) ? path.substring(JOBS_PATH.length()) : "";
+      boolean events = rest.endsWith(EVENTS_SUFFIX);
+      String id = events ? rest.substring(0, rest.length() - EVENTS_SUFFIX.length()) : rest;
+      Optional<PauseJob> job = id.contains("/") ? Optional.empty() : jobManager.get(id);
+      if (job.isEmpty()) {
+        sendError(exchange, 404, "The job is not found.");
+        return;
+      }
+      if (events) {
+        streamEvents(exchange, job.get());
+      } else {
+        send(exchange, 200, job.get().toStatus());
+      }
+    }
+  }
+
+  /**
+   * Reads the pause request in the body and submits a job for it. Responds with an error and
+   * returns empty if the job can't be submitted.
+   */
+  private Optional<PauseJob> submit(HttpExchange exchange) throws IOException {
+    PauseHttpRequest request;
+    try {
+      request = mapper.readValue(readBody(exchange), PauseHttpRequest.class);
+    } catch (IOException e) {
+      sendError(exchange, 400, "Invalid request body: " + e.getMessage());
+      return Optional.empty();
+    }
+    if (!namespaces.contains(request.namespaceOrDefault())) {
+      sendError(
+          exchange,
+          403,
+          String.format(
+              "The namespace %s is not served by this server.", request.namespaceOrDefault()));
+      return Optional.empty();
+    }
+    try {
+      return Optional.of(jobManager.submit(request));
+    } catch (IllegalArgumentException e) {
+      sendError(exchange, 400, e.getMessage());
+    } catch (IllegalStateException e) {
+      sendError(exchange, 409, e.getMessage());
+    } catch (RejectedExecutionException e) {
+      sendError(exchange, 503, e.getMessage());
+    }
+    return Optional.empty();
+  }
+
+  private void streamEvents(HttpExchange exchange, PauseJob job) throws IOException {
+    String accept = exchange.getRequestHeaders().getFirst("Accept");
+    boolean sse = accept != null && accept.contains("text/event-stream");
+    exchange
+        .getResponseHeaders()
+        .set("Content-Type", sse ? "text/event-stream" : "application/x-ndjson");
+    exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+    // Sends the body in chunks, since the length is not known until the job is done
+    exchange.sendResponseHeaders(200, 0);
+
+    try (OutputStream out = exchange.getResponseBody()) {
+      int next = 0;
+      while (true) {
+        List<PauseJobEvent> events = job.awaitEvents(next, EVENT_STREAM_HEARTBEAT_MILLIS);
+        if (events.isEmpty()) {
+          if (job.isDone()) {
+            return;
+          }
+          if (sse) {
+            out.write(":\n\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+          }
+          continue;
+        }
+        for (PauseJobEvent event : events) {
+          out.write(sse ? toServerSentEvent(event) : toJsonLine(event));
+        }
+        out.flush();
+        next += events.size();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (IOException e) {
+      // The client went away while following the job
+      logger.debug("Stopped streaming the events of job {}.", job.id(), e);
+    }
+  }
+
+  private byte[] toServerSentEvent(PauseJobEvent event) throws JsonProcessingException {
+    String data = mapper.writeValueAsString(event);
+    return ("id: " + event.sequence + "\nevent: " + event.type + "\ndata: " + data + "\n\n")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private byte[] toJsonLine(PauseJobEvent event) throws JsonProcessingException {
+    return (mapper.writeValueAsString(event) + "\n").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] readBody(HttpExchange exchange) throws IOException {
+    try (InputStream in = exchange.getRequestBody()) {
+      byte[] body = in.readNBytes(MAX_REQUEST_BODY_BYTES + 1);
+      if (body.length > MAX_REQUEST_BODY_BYTES) {
+        throw new IOException("The request body is too large.");
+      }
+      return body;
+    }
+  }
+
+  private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+    send(exchange, status, Map.of("error", message != null ? message : ""));
+  }
+
+  private void send(HttpExchange exchange, int status, Object body) throws IOException {
+    byte[] bytes;
+    try {
+      bytes = mapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException e) {
+      logger.error("Failed to output the response in JSON.", e);
+      bytes = "{}".getBytes(StandardCharsets.UTF_8);
+      status = 500;
+    }
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+
+  /** Builder for {@link PauseHttpServer}. */
+  public static class Builder {
+    private final InetSocketAddress address;
+    private final Provider<PauseController> controllerProvider;
+    private int maxFinishedJobs = DEFAULT_MAX_FINISHED_JOBS;
+    private Set<String> namespaces = Set.of(PauseHttpRequest.DEFAULT_NAMESPACE);
+    @Nullable private String authToken;
+
+    private Builder(InetSocketAddress address, Provider<PauseController> controllerProvider) {
+      this.address = address;
+      this.controllerProvider = controllerProvider;
+    }
+
+    /**
+     * Sets the max number of finished jobs whose status is kept. 100 by default.
+     *
+     * @param maxFinishedJobs the max number of finished jobs
+     * @return this builder
+     */
+    public Builder maxFinishedJobs(int maxFinishedJobs) {
+      if (maxFinishedJobs < 0) {
+        throw new IllegalArgumentException("maxFinishedJobs must not be negative");
+      }
+      this.maxFinishedJobs = maxFinishedJobs;
+      return this;
+    }
+
+    /**
+     * Sets the namespaces whose Helm releases the server pauses. The requests to pause the
+     * releases in other namespaces are rejected. Only {@code default} by default.
+     *
+     * @param namespaces the namespaces to serve
+     * @return this builder
+     */
+    public Builder namespaces(Collection<String> namespaces) {
+      if (namespaces == null || namespaces.isEmpty()) {
+        throw new IllegalArgumentException("namespaces must not be empty");
+      }
+      this.namespaces = Set.copyOf(namespaces);
+      return this;
+    }
+
+    /**
+     * Sets the token that the requests must send in the {@code Authorization: Bearer} header. The
+     * requests are not authenticated by default.
+     *
+     * @param authToken the token, or null not to authenticate the requests
+     * @return this builder
+     */
+    public Builder authToken(@Nullable String authToken) {
+      if (authToken != null && authToken.isBlank()) {
+        throw new IllegalArgumentException("authToken must not be blank");
+      }
+      this.authToken = authToken;
+      return this;
+    }
+
+    /**
+     * Builds a PauseHttpServer with the settings of this builder.
+     *
+     * @return a new PauseHttpServer
+     * @throws IOException if the address can't be bound
+     */
+    public PauseHttpServer build() throws IOException {
+      return new PauseHttpServer(this);
+    }
+  }
+}
@@ -0,0 +1,209 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.scalar.admin.kubernetes.domain.model.pause.PausePhase;
+import com.scalar.admin.kubernetes.domain.model.pause.PhaseSpan;
+import com.scalar.admin.kubernetes.domain.model.pause.PodRequestSpan;
+import com.scalar.admin.kubernetes.domain.service.PauseHandle;
+import com.scalar.admin.kubernetes.domain.service.PauseLifecycleListener;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+
+/**
+ * Pause operation that runs in the background, keeping its progress for the clients that poll the
+ * status or follow the events of the job.
+ *
+ * <p>The job is the listener of its own pause operation, so the phases and the requests to the pods
+ * are recorded as they are reported.
+ */
+@ThreadSafe
+class PauseJob implements PauseLifecycleListener {
+
+  /** States of a pause job. */
+  enum State {
+    PENDING,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+  }
+
+  private final String id;
+  private final String namespace;
+  private final List<String> helmReleaseNames;
+  private final Instant createdAt = Instant.now();
+  private final PauseHandle handle = new PauseHandle();
+
+  @GuardedBy("this")
+  private State state = State.PENDING;
+
+  @GuardedBy("this")
+  @Nullable
+  private PausePhase phase;
+
+  @GuardedBy("this")
+  private final Map<String, PauseJobStatus.Pod> pods = new LinkedHashMap<>();
+
+  @GuardedBy("this")
+  private final List<PauseJobEvent> events = new ArrayList<>();
+
+  @GuardedBy("this")
+  @Nullable
+  private PauseHttpResponse result;
+
+  @GuardedBy("this")
+  @Nullable
+  private String error;
+
+  @GuardedBy("this")
+  private boolean invalidRequest;
+
+  @GuardedBy("this")
+  @Nullable
+  private Instant finishedAt;
+
+  PauseJob(String id, String namespace, List<String> helmReleaseNames) {
+    this.id = id;
+    this.namespace = namespace;
+    this.helmReleaseNames = List.copyOf(helmReleaseNames);
+    events.add(PauseJobEvent.state(0, State.PENDING, null));
+  }
+
+  String id() {
+    return id;
+  }
+
+  String namespace() {
+    return namespace;
+  }
+
+  List<String> helmReleaseNames() {
+    return helmReleaseNames;
+  }
+
+  /** Returns the handle to cancel the pause operation of this job. */
+  PauseHandle handle() {
+    return handle;
+  }
+
+  synchronized void start() {
+    setState(State.RUNNING, null);
+  }
+
+  synchronized void succeed(PauseHttpResponse result) {
+    this.result = result;
+    this.finishedAt = Instant.now();
+    setState(State.SUCCEEDED, null);
+  }
+
+  synchronized void fail(@Nullable String error, boolean invalidRequest) {
+    this.error = error;
+    this.invalidRequest = invalidRequest;
+    this.finishedAt = Instant.now();
+    setState(State.FAILED, error);
+  }
+
+  synchronized boolean isDone() {
+    return state == State.SUCCEEDED || state == State.FAILED;
+  }
+
+  @Nullable
+  synchronized PauseHttpResponse result() {
+    return result;
+  }
+
+  @Nullable
+  synchronized String error() {
+    return error;
+  }
+
+  /** Returns whether the job failed because the request was rejected as invalid. */
+  synchronized boolean isInvalidRequest() {
+    return invalidRequest;
+  }
+
+  @Override
+  public synchronized void onPhaseStarted(PausePhase phase) {
+    this.phase = phase;
+    addEvent(PauseJobEvent.phaseStarted(events.size(), phase.name()));
+  }
+
+  @Override
+  public synchronized void onPhase(PhaseSpan span) {
+    addEvent(
+        PauseJobEvent.phaseCompleted(events.size(), span.phase().name(), span.durationNanos()));
+  }
+
+  @Override
+  public synchronized void onPodRequest(PodRequestSpan span) {
+    String address = span.address().getHostString() + ":" + span.address().getPort();
+    pods.put(
+        address,
+        new PauseJobStatus.Pod(
+            address, span.phase().name(), span.succeeded(), span.durationNanos()));
+    addEvent(
+        PauseJobEvent.podRequest(
+            events.size(),
+            span.phase().name(),
+            address,
+            span.durationNanos(),
+            span.succeeded()));
+  }
+
+  /**
+   * Waits until there are events after the given index or the job is done, up to the given
+   * timeout, and returns the events after the index.
+   */
+  synchronized List<PauseJobEvent> awaitEvents(int fromIndex, long timeoutMillis)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    while (events.size() <= fromIndex && !isDone()) {
+      long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+      if (remainingMillis <= 0) {
+        break;
+      }
+      wait(remainingMillis);
+    }
+    return fromIndex < events.size()
+        ? List.copyOf(events.subList(fromIndex, events.size()))
+        : List.of();
+  }
+
+  /** Waits until the job is done. */
+  synchronized void awaitDone() throws InterruptedException {
+    while (!isDone()) {
+      wait();
+    }
+  }
+
+  synchronized PauseJobStatus toStatus() {
+    return new PauseJobStatus(
+        id,
+        state.name(),
+        phase != null ? phase.name() : null,
+        namespace,
+        helmReleaseNames,
+        createdAt.toString(),
+        finishedAt != null ? finishedAt.toString() : null,
+        List.copyOf(pods.values()),
+        result,
+        error);
+  }
+
+  @GuardedBy("this")
+  private void setState(State state, @Nullable String error) {
+    this.state = state;
+    addEvent(PauseJobEvent.state(events.size(), state, error));
+  }
+
+  @GuardedBy("this")
+  private void addEvent(PauseJobEvent event) {
+    events.add(event);
+    notifyAll();
+  }
+}
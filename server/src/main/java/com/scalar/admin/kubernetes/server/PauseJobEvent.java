@@ -0,0 +1,82 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Event of a pause job, streamed to the clients that follow the progress of the job.
+ *
+ * <p>The type of an event is one of {@code state}, {@code phase_started}, {@code phase_completed},
+ * and {@code pod_request}. The fields that don't apply to the type are omitted.
+ */
+@Immutable
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class PauseJobEvent {
+
+  static final String STATE = "state";
+  static final String PHASE_STARTED = "phase_started";
+  static final String PHASE_COMPLETED = "phase_completed";
+  static final String POD_REQUEST = "pod_request";
+
+  public final int sequence;
+
+  public final String type;
+
+  @JsonProperty("timestamp_ms")
+  public final long timestampMs;
+
+  @Nullable public final String state;
+
+  @Nullable public final String phase;
+
+  @Nullable public final String address;
+
+  @JsonProperty("duration_ns")
+  @Nullable
+  public final Long durationNs;
+
+  @Nullable public final Boolean succeeded;
+
+  @Nullable public final String error;
+
+  private PauseJobEvent(
+      int sequence,
+      String type,
+      @Nullable String state,
+      @Nullable String phase,
+      @Nullable String address,
+      @Nullable Long durationNs,
+      @Nullable Boolean succeeded,
+      @Nullable String error) {
+    this.sequence = sequence;
+    this.type = type;
+    this.timestampMs = System.currentTimeMillis();
+    this.state = state;
+    this.phase = phase;
+    this.address = address;
+    this.durationNs = durationNs;
+    this.succeeded = succeeded;
+    this.error = error;
+  }
+
+  static PauseJobEvent state(int sequence, PauseJob.State state, @Nullable String error) {
+    return new PauseJobEvent(sequence, STATE, state.name(), null, null, null, null, error);
+  }
+
+  static PauseJobEvent phaseStarted(int sequence, String phase) {
+    return new PauseJobEvent(sequence, PHASE_STARTED, null, phase, null, null, null, null);
+  }
+
+  static PauseJobEvent phaseCompleted(int sequence, String phase, long durationNs) {
+    return new PauseJobEvent(
+        sequence, PHASE_COMPLETED, null, phase, null, durationNs, null, null);
+  }
+
+  static PauseJobEvent podRequest(
+      int sequence, String phase, String address, long durationNs, boolean succeeded) {
+    return new PauseJobEvent(
+        sequence, POD_REQUEST, null, phase, address, durationNs, succeeded, null);
+  }
+}
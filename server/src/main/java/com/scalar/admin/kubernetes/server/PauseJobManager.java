@@ -0,0 +1,177 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.presentation.PauseController;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.concurrent.GuardedBy;
+import javax.annotation.concurrent.ThreadSafe;
+import javax.inject.Provider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs pause jobs in the background and keeps them so that their status can be queried.
+ *
+ * <p>A job that pauses a Helm release that is already being paused by another job is rejected,
+ * because the pause and unpause requests of the two jobs would interfere with each other. Finished
+ * jobs are kept up to the given number, and the oldest ones are evicted first.
+ */
+@ThreadSafe
+class PauseJobManager {
+
+  private static final Logger logger = LoggerFactory.getLogger(PauseJobManager.class);
+  private static final long UNPAUSE_TIMEOUT_SECONDS = 30;
+
+  private final Provider<PauseController> controllerProvider;
+  private final int maxFinishedJobs;
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+  @GuardedBy("this")
+  private final Map<String, PauseJob> jobs = new LinkedHashMap<>();
+
+  @GuardedBy("this")
+  private final Set<String> releasesInPause = new HashSet<>();
+
+  PauseJobManager(Provider<PauseController> controllerProvider, int maxFinishedJobs) {
+    this.controllerProvider = controllerProvider;
+    this.maxFinishedJobs = maxFinishedJobs;
+  }
+
+  /**
+   * Validates the request and starts a job that executes it.
+   *
+   * @param request the pause request
+   * @return the started job
+   * @throws IllegalArgumentException if the request is invalid
+   * @throws IllegalStateException if some of the Helm releases are already being paused
+   * @throws RejectedExecutionException if the manager is shutting down
+   */
+  PauseJob submit(PauseHttpRequest request) {
+    PauseHttpRequest.PauseCall call = request.toPauseCall();
+    String namespace = request.namespaceOrDefault();
+    List<String> helmReleaseNames = request.helmReleaseNamesOrEmpty();
+    List<String> releaseKeys = new ArrayList<>();
+    for (String helmReleaseName : helmReleaseNames) {
+      releaseKeys.add(namespace + "/" + helmReleaseName);
+    }
+
+    PauseJob job = new PauseJob(UUID.randomUUID().toString(), namespace, helmReleaseNames);
+    synchronized (this) {
+      // Checked before the conflicts, so that a shutdown is never reported as a conflict.
+      if (executor.isShutdown()) {
+        throw new RejectedExecutionException("The server is shutting down.");
+      }
+      for (String releaseKey : releaseKeys) {
+        if (releasesInPause.contains(releaseKey)) {
+          throw new IllegalStateException("Some of the Helm releases are already being paused.");
+        }
+      }
+      releasesInPause.addAll(releaseKeys);
+      jobs.put(job.id(), job);
+    }
+
+    try {
+      executor.execute(() -> run(job, call, releaseKeys));
+    } catch (RejectedExecutionException e) {
+      // The executor was shut down after the check above.
+      finish(releaseKeys, () -> job.fail("The server is shutting down.", false));
+      throw new RejectedExecutionException("The server is shutting down.", e);
+    }
+    return job;
+  }
+
+  /**
+   * Returns the job with the given ID.
+   *
+   * @param id the ID of the job
+   * @return the job, or empty if the job doesn't exist or was evicted
+   */
+  synchronized Optional<PauseJob> get(String id) {
+    return Optional.ofNullable(jobs.get(id));
+  }
+
+  /**
+   * Stops accepting jobs and waits for the jobs in progress to complete, up to the given grace
+   * period. The jobs that are still in progress after the grace period are cancelled, which cuts
+   * their pause short, and this method waits for them to unpause the pods.
+   *
+   * @param gracePeriod the max time to wait for the jobs in progress before cancelling them
+   */
+  void shutdown(Duration gracePeriod) {
+    executor.shutdown();
+    try {
+      if (executor.awaitTermination(gracePeriod.toMillis(), TimeUnit.MILLISECONDS)) {
+        return;
+      }
+      logger.warn("Some pause jobs didn't complete within the grace period. Cancelling them.");
+      synchronized (this) {
+        jobs.values().stream().filter(job -> !job.isDone()).forEach(job -> job.handle().cancel());
+      }
+      if (!executor.awaitTermination(UNPAUSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        logger.error(
+            "Some pause jobs didn't end within {} seconds after they were cancelled. Scalar"
+                + " products might still be in a paused state.",
+            UNPAUSE_TIMEOUT_SECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run(PauseJob job, PauseHttpRequest.PauseCall call, List<String> releaseKeys) {
+    Runnable completion = () -> job.fail("The pause job ended unexpectedly.", false);
+    try {
+      job.start();
+      PauseDurationDto durationDto = call.execute(controllerProvider.get(), job, job.handle());
+      PauseHttpResponse response =
+          new PauseHttpResponse(job.namespace(), job.helmReleaseNames(), durationDto);
+      completion = () -> job.succeed(response);
+    } catch (IllegalArgumentException e) {
+      completion = () -> job.fail(e.getMessage(), true);
+    } catch (PauserException | RuntimeException e) {
+      logger.error("Pause job {} failed.", job.id(), e);
+      String error = e.getMessage() != null ? e.getMessage() : e.getClass().getName();
+      completion = () -> job.fail(error, false);
+    } finally {
+      finish(releaseKeys, completion);
+    }
+  }
+
+  /**
+   * Releases the Helm releases of a job, completes the job, and evicts the oldest finished jobs
+   * atomically, so that a client that sees the job done can pause the same releases again right
+   * away and never sees more finished jobs than the max.
+   */
+  private synchronized void finish(List<String> releaseKeys, Runnable completion) {
+    releaseKeys.forEach(releasesInPause::remove);
+    completion.run();
+
+    int finishedJobs = 0;
+    for (PauseJob job : jobs.values()) {
+      if (job.isDone()) {
+        finishedJobs++;
+      }
+    }
+    Iterator<PauseJob> iterator = jobs.values().iterator();
+    while (finishedJobs > maxFinishedJobs && iterator.hasNext()) {
+      if (iterator.next().isDone()) {
+        iterator.remove();
+        finishedJobs--;
+      }
+    }
+  }
+}
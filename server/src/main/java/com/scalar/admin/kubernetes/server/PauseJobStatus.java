@@ -0,0 +1,80 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/** Snapshot of a pause job, returned to the clients that poll the status of the job. */
+@Immutable
+class PauseJobStatus {
+
+  @JsonProperty("job_id")
+  public final String jobId;
+
+  public final String state;
+
+  @Nullable public final String phase;
+
+  public final String namespace;
+
+  @JsonProperty("helm_release_names")
+  public final List<String> helmReleaseNames;
+
+  @JsonProperty("created_at")
+  public final String createdAt;
+
+  @JsonProperty("finished_at")
+  @Nullable
+  public final String finishedAt;
+
+  public final List<Pod> pods;
+
+  @Nullable public final PauseHttpResponse result;
+
+  @Nullable public final String error;
+
+  PauseJobStatus(
+      String jobId,
+      String state,
+      @Nullable String phase,
+      String namespace,
+      List<String> helmReleaseNames,
+      String createdAt,
+      @Nullable String finishedAt,
+      List<Pod> pods,
+      @Nullable PauseHttpResponse result,
+      @Nullable String error) {
+    this.jobId = jobId;
+    this.state = state;
+    this.phase = phase;
+    this.namespace = namespace;
+    this.helmReleaseNames = List.copyOf(helmReleaseNames);
+    this.createdAt = createdAt;
+    this.finishedAt = finishedAt;
+    this.pods = List.copyOf(pods);
+    this.result = result;
+    this.error = error;
+  }
+
+  /** The last request sent to a pod. */
+  @Immutable
+  static class Pod {
+
+    public final String address;
+
+    public final String phase;
+
+    public final boolean succeeded;
+
+    @JsonProperty("duration_ns")
+    public final long durationNs;
+
+    Pod(String address, String phase, boolean succeeded, long durationNs) {
+      this.address = address;
+      this.phase = phase;
+      this.succeeded = succeeded;
+      this.durationNs = durationNs;
+    }
+  }
+}
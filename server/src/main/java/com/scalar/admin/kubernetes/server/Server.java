@@ -0,0 +1,326 @@
+package com.scalar.admin.kubernetes.server;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.scalar.admin.kubernetes.application.ChangeDetectionMode;
+import com.scalar.admin.kubernetes.domain.client.KubernetesClient;
+import com.scalar.admin.kubernetes.domain.client.ReadConsistency;
+import com.scalar.admin.kubernetes.infrastructure.client.AdminClientMode;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesHttpSettings;
+import com.scalar.admin.kubernetes.infrastructure.client.KubernetesRateLimiter;
+import com.scalar.admin.kubernetes.infrastructure.client.ResolutionMode;
+import com.scalar.admin.kubernetes.infrastructure.client.WireFormat;
+import com.scalar.admin.kubernetes.infrastructure.module.PauseModule;
+import com.scalar.admin.kubernetes.presentation.PauseController;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+@Command(
+    name = "scalar-admin-for-kubernetes-server",
+    description =
+        "HTTP server that pauses Scalar products in the Kubernetes environment on request. It keeps"
+            + " the connections to Kubernetes and the caches of the targets between requests.")
+class Server implements Callable<Integer> {
+
+  private final Logger logger = LoggerFactory.getLogger(Server.class);
+
+  @Option(
+      names = {"--port", "-p"},
+      description = "The port to listen on. 8080 by default.",
+      defaultValue = "8080")
+  private int port;
+
+  @Option(
+      names = {"--bind-address"},
+      description =
+          "The address to listen on. 127.0.0.1 by default, which accepts only the requests from"
+              + " the same pod. Specify 0.0.0.0 together with --auth-token-file to accept the"
+              + " requests from other pods.",
+      defaultValue = "127.0.0.1")
+  private String bindAddress;
+
+  @Option(
+      names = {"--auth-token-file"},
+      description =
+          "The file that contains the token that the requests must send in the `Authorization:"
+              + " Bearer <token>` header. The requests other than the health check without the"
+              + " token are rejected with 401. The requests are not authenticated by default.")
+  private Path authTokenFile;
+
+  @Option(
+      names = {"--namespace", "-n"},
+      description =
+          "Namespace that Scalar products you want to pause are deployed. Specify this option"
+              + " multiple times to serve several namespaces. The requests to pause the releases"
+              + " in other namespaces are rejected with 403. `default` by default.",
+      defaultValue = "default")
+  private List<String> namespaces;
+
+  @Option(
+      names = {"--resolution-mode"},
+      description =
+          "How to look up the pods, deployment, and service of the Helm release. See the help of"
+              + " the CLI tool for the modes. INFORMER by default, which keeps the targets in a"
+              + " cache between requests.",
+      defaultValue = "INFORMER")
+  private ResolutionMode resolutionMode;
+
+  @Option(
+      names = {"--change-detection"},
+      description =
+          "How to detect updates to the target pods during the pause. RELIST or WATCH. RELIST by"
+              + " default.",
+      defaultValue = "RELIST")
+  private ChangeDetectionMode changeDetectionMode;
+
+  @Option(
+      names = {"--admin-client-mode"},
+      description =
+          "How to send the pause and unpause requests to the target pods. COORDINATOR or"
+              + " PARALLEL. COORDINATOR by default.",
+      defaultValue = "COORDINATOR")
+  private AdminClientMode adminClientMode;
+
+  @Option(
+      names = {"--admin-request-deadline"},
+      description =
+          "The deadline (in milliseconds) of each request to a pod in the PARALLEL admin client"
+              + " mode. 10000 (10 seconds) by default.",
+      defaultValue = "10000")
+  private Long adminRequestDeadline;
+
+  @Option(
+      names = {"--pod-list-page-size"},
+      description =
+          "The max number of pods listed in a single request to the Kubernetes API. The pods of a"
+              + " target that has more pods are listed in several pages. 0 lists all the pods in a"
+              + " single request. 500 by default.",
+      defaultValue = "500")
+  private Integer podListPageSize;
+
+  @Option(
+      names = {"--metadata-only-lists"},
+      negatable = true,
+      description =
+          "Whether to list only the metadata of the deployments of Helm releases, which is much"
+              + " smaller than the whole deployments. Specify --no-metadata-only-lists for an API"
+              + " server that doesn't support PartialObjectMetadataList. Enabled by default.",
+      defaultValue = "true",
+      fallbackValue = "true")
+  private boolean metadataOnlyLists;
+
+  @Option(
+      names = {"--wire-format"},
+      description =
+          "The format in which the pods, deployments, and services are listed from the Kubernetes"
+              + " API. PROTOBUF takes less CPU and memory than JSON to parse the lists. JSON by"
+              + " default.",
+      defaultValue = "JSON")
+  private WireFormat wireFormat;
+
+  @Option(
+      names = {"--discovery-consistency"},
+      description =
+          "How up to date the pods, deployments, and services must be when the targets are"
+              + " discovered before the pause. LATEST reads them from etcd. CACHED reads them from"
+              + " the watch cache of the Kubernetes API server, which takes load off etcd. The"
+              + " targets are always examined after the pause with LATEST. LATEST by default.",
+      defaultValue = "LATEST")
+  private ReadConsistency discoveryConsistency;
+
+  @Option(
+      names = {"--kubernetes-qps"},
+      description =
+          "The max number of calls per second to the Kubernetes API. The calls to examine the"
+              + " targets after the pause take precedence over the others, and the calls rejected"
+              + " with 429 Too Many Requests are retried after the time that the API server asks"
+              + " for. 0 disables the rate limit. 50 by default.",
+      defaultValue = "50")
+  private Double kubernetesQps;
+
+  @Option(
+      names = {"--kubernetes-burst"},
+      description =
+          "The max number of calls to the Kubernetes API in a burst above --kubernetes-qps. 100"
+              + " by default.",
+      defaultValue = "100")
+  private Integer kubernetesBurst;
+
+  @Option(
+      names = {"--cache-targets"},
+      negatable = true,
+      description =
+          "Whether to keep the last resolved target of each Helm release and reuse it for the next"
+              + " pause while the resource versions of its pods, deployments, and services are"
+              + " unchanged, which are listed as metadata only. Ignored in the INFORMER resolution"
+              + " mode and with --no-metadata-only-lists. Enabled by default.",
+      defaultValue = "true",
+      fallbackValue = "true")
+  private boolean cacheTargets;
+
+  @Option(
+      names = {"--http-max-idle-connections"},
+      description =
+          "The max number of idle connections to the Kubernetes API server kept for reuse. 5 by"
+              + " default.",
+      defaultValue = "5")
+  private Integer httpMaxIdleConnections;
+
+  @Option(
+      names = {"--http-keep-alive"},
+      description =
+          "How long (in milliseconds) an idle connection to the Kubernetes API server is kept for"
+              + " reuse. 300000 (5 minutes) by default.",
+      defaultValue = "300000")
+  private Long httpKeepAlive;
+
+  @Option(
+      names = {"--http2"},
+      negatable = true,
+      description =
+          "Whether to use HTTP/2 to call the Kubernetes API if the API server supports it, so"
+              + " that the API calls are multiplexed over a single connection. Enabled by"
+              + " default.",
+      defaultValue = "true",
+      fallbackValue = "true")
+  private boolean http2;
+
+  @Option(
+      names = {"--http-connect-timeout"},
+      description =
+          "The timeout (in milliseconds) of connecting to the Kubernetes API server. 10000 (10"
+              + " seconds) by default.",
+      defaultValue = "10000")
+  private Long httpConnectTimeout;
+
+  @Option(
+      names = {"--http-read-timeout"},
+      description =
+          "The timeout (in milliseconds) of reading a response from the Kubernetes API server."
+              + " 10000 (10 seconds) by default.",
+      defaultValue = "10000")
+  private Long httpReadTimeout;
+
+  @Option(
+      names = {"--preconnect"},
+      negatable = true,
+      description =
+          "Whether to connect to the Kubernetes API server in the background at startup, so that"
+              + " the first API call doesn't wait for the connection. Enabled by default.",
+      defaultValue = "true",
+      fallbackValue = "true")
+  private boolean preconnect;
+
+  @Option(
+      names = {"--shutdown-grace-period"},
+      description =
+          "The max time (in seconds) to wait for the pause operations in progress to complete"
+              + " when the server is stopped. 60 by default.",
+      defaultValue = "60")
+  private long shutdownGracePeriod;
+
+  @Option(
+      names = {"--max-finished-jobs"},
+      description =
+          "The max number of finished pause jobs whose status can be queried. The oldest jobs are"
+              + " discarded first. 100 by default.",
+      defaultValue = "100")
+  private int maxFinishedJobs;
+
+  @Option(
+      names = {"-h", "--help"},
+      usageHelp = true,
+      description = "Display the help message.")
+  boolean helpRequested;
+
+  public static void main(String[] args) {
+    int exitCode =
+        new CommandLine(new Server()).setCaseInsensitiveEnumValuesAllowed(true).execute(args);
+    System.exit(exitCode);
+  }
+
+  @Override
+  public Integer call() {
+    PauseHttpServer server;
+    KubernetesClient kubernetesClient;
+    try {
+      Injector injector =
+          Guice.createInjector(
+              PauseModule.builder()
+                  .resolutionMode(resolutionMode)
+                  .changeDetectionMode(changeDetectionMode)
+                  .watchedNamespaces(namespaces)
+                  .adminClientMode(adminClientMode)
+                  .adminRequestDeadlineMillis(adminRequestDeadline)
+                  .podListPageSize(podListPageSize)
+                  .metadataOnlyLists(metadataOnlyLists)
+                  .wireFormat(wireFormat)
+                  .httpSettings(
+                      new KubernetesHttpSettings(
+                          httpMaxIdleConnections,
+                          Duration.ofMillis(httpKeepAlive),
+                          http2,
+                          Duration.ofMillis(httpConnectTimeout),
+                          Duration.ofMillis(httpReadTimeout),
+                          preconnect))
+                  .discoveryConsistency(discoveryConsistency)
+                  .rateLimiter(
+                      kubernetesQps > 0
+                          ? new KubernetesRateLimiter(kubernetesQps, kubernetesBurst)
+                          : null)
+                  .cacheTargets(cacheTargets)
+                  .build());
+
+      // Load the Kubernetes configuration and fill the caches before the first request
+      kubernetesClient = injector.getInstance(KubernetesClient.class);
+
+      server =
+          PauseHttpServer.builder(
+                  new InetSocketAddress(bindAddress, port),
+                  injector.getProvider(PauseController.class))
+              .maxFinishedJobs(maxFinishedJobs)
+              .namespaces(namespaces)
+              .authToken(authTokenFile != null ? Files.readString(authTokenFile).strip() : null)
+              .build();
+    } catch (Exception e) {
+      logger.error("Failed to start the server.", e);
+      return 1;
+    }
+
+    CountDownLatch stopped = new CountDownLatch(1);
+    Runtime.getRuntime()
+        .addShutdownHook(
+            new Thread(
+                () -> {
+                  logger.info("Stopping the server.");
+                  server.stop(Duration.ofSeconds(shutdownGracePeriod));
+                  if (kubernetesClient instanceof AutoCloseable closeable) {
+                    try {
+                      closeable.close();
+                    } catch (Exception e) {
+                      logger.warn("Failed to close the Kubernetes client.", e);
+                    }
+                  }
+                  stopped.countDown();
+                }));
+    server.start();
+    logger.info("Listening on {}.", server.getAddress());
+
+    try {
+      stopped.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return 0;
+  }
+}
@@ -0,0 +1,483 @@
+package com.scalar.admin.kubernetes.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.presentation.PauseController;
+import com.scalar.admin.kubernetes.presentation.dto.PauseRequest;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PauseHttpServerTest {
+
+  private static final String NAMESPACE = "ns";
+  private static final String RELEASE = "scalardl-ledger";
+  private static final String TOKEN = "secret-token";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final HttpClient httpClient = HttpClient.newHttpClient();
+  private PauseController controller;
+  private PauseHttpServer server;
+
+  @BeforeEach
+  void setUp() {
+    controller = mock(PauseController.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (server != null) {
+      server.stop(Duration.ZERO);
+    }
+  }
+
+  private PauseHttpServer.Builder builder() {
+    return PauseHttpServer.builder(
+            new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), () -> controller)
+        .namespaces(List.of(NAMESPACE));
+  }
+
+  private void start(PauseHttpServer.Builder builder) throws IOException {
+    server = builder.build();
+    server.start();
+  }
+
+  private URI uri(String path) {
+    InetSocketAddress address = server.getAddress();
+    return URI.create("http://" + address.getHostString() + ":" + address.getPort() + path);
+  }
+
+  private HttpResponse<String> send(HttpRequest.Builder request)
+      throws IOException, InterruptedException {
+    return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+  }
+
+  private HttpRequest.Builder post(String path, String body) {
+    return HttpRequest.newBuilder(uri(path)).POST(HttpRequest.BodyPublishers.ofString(body));
+  }
+
+  private HttpRequest.Builder get(String path) {
+    return HttpRequest.newBuilder(uri(path)).GET();
+  }
+
+  private static String pauseBody(String namespace) {
+    return String.format(
+        "{\"namespace\": \"%s\", \"helm_release_names\": [\"%s\"], \"pause_duration\": 1}",
+        namespace, RELEASE);
+  }
+
+  @Nested
+  @DisplayName("builder")
+  class ServerBuilder {
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if address is null")
+    void throwsIllegalArgumentExceptionIfAddressIsNull() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> PauseHttpServer.builder(null, () -> controller))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("address is required");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if namespaces are empty")
+    void throwsIllegalArgumentExceptionIfNamespacesAreEmpty() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> builder().namespaces(List.of()))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("namespaces must not be empty");
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if authToken is blank")
+    void throwsIllegalArgumentExceptionIfAuthTokenIsBlank() {
+      // Arrange & Act & Assert
+      assertThatThrownBy(() -> builder().authToken(" "))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("authToken must not be blank");
+    }
+  }
+
+  @Nested
+  @DisplayName("POST /v1/pause")
+  class Pause {
+
+    @Test
+    @DisplayName("responds with the paused period after the pause completes")
+    void respondsWithPausedPeriod() throws Exception {
+      // Arrange
+      when(controller.pause(any(PauseRequest.class), any(), any()))
+          .thenReturn(new PauseDurationDto(1000L, 6000L));
+      start(builder());
+
+      // Act
+      HttpResponse<String> response = send(post("/v1/pause", pauseBody(NAMESPACE)));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      JsonNode body = mapper.readTree(response.body());
+      assertThat(body.get("namespace").asText()).isEqualTo(NAMESPACE);
+      assertThat(body.get("helm_release_names").get(0).asText()).isEqualTo(RELEASE);
+      assertThat(body.get("pause_start_timestamp_ms").asLong()).isEqualTo(1000L);
+      assertThat(body.get("pause_end_timestamp_ms").asLong()).isEqualTo(6000L);
+    }
+
+    @Test
+    @DisplayName("responds with 400 to a body that is not a pause request")
+    void respondsWith400ToInvalidBody() throws Exception {
+      // Arrange
+      start(builder());
+
+      // Act
+      HttpResponse<String> response = send(post("/v1/pause", "not json"));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(400);
+      assertThat(mapper.readTree(response.body()).get("error").asText())
+          .startsWith("Invalid request body");
+    }
+
+    @Test
+    @DisplayName("responds with 405 to a method other than POST")
+    void respondsWith405ToOtherMethod() throws Exception {
+      // Arrange
+      start(builder());
+
+      // Act
+      HttpResponse<String> response = send(get("/v1/pause"));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(405);
+    }
+
+    @Test
+    @DisplayName("responds with 403 to a namespace that the server doesn't serve")
+    void respondsWith403ToNamespaceNotServed() throws Exception {
+      // Arrange
+      start(builder());
+
+      // Act
+      HttpResponse<String> response = send(post("/v1/pause", pauseBody("other")));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(403);
+      assertThat(mapper.readTree(response.body()).get("error").asText())
+          .isEqualTo("The namespace other is not served by this server.");
+      verify(controller, never()).pause(any(PauseRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("responds with 409 to a release that is already being paused")
+    void respondsWith409ToReleaseBeingPaused() throws Exception {
+      // Arrange
+      CountDownLatch paused = new CountDownLatch(1);
+      CountDownLatch unpause = new CountDownLatch(1);
+      when(controller.pause(any(PauseRequest.class), any(), any()))
+          .thenAnswer(
+              invocation -> {
+                paused.countDown();
+                unpause.await();
+                return new PauseDurationDto(1000L, 6000L);
+              });
+      start(builder());
+      CompletableFuture<HttpResponse<String>> first =
+          httpClient.sendAsync(
+              post("/v1/pause", pauseBody(NAMESPACE)).build(),
+              HttpResponse.BodyHandlers.ofString());
+      assertThat(paused.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // Act
+      HttpResponse<String> second;
+      try {
+        second = send(post("/v1/pause", pauseBody(NAMESPACE)));
+      } finally {
+        unpause.countDown();
+      }
+
+      // Assert
+      assertThat(second.statusCode()).isEqualTo(409);
+      assertThat(first.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+    }
+  }
+
+  @Nested
+  @DisplayName("/v1/jobs")
+  class Jobs {
+
+    private String submitJob() throws Exception {
+      when(controller.pause(any(PauseRequest.class), any(), any()))
+          .thenReturn(new PauseDurationDto(1000L, 6000L));
+      HttpResponse<String> response = send(post("/v1/jobs", pauseBody(NAMESPACE)));
+      assertThat(response.statusCode()).isEqualTo(202);
+      return mapper.readTree(response.body()).get("job_id").asText();
+    }
+
+    @Test
+    @DisplayName("responds to POST with 202 and the URLs of the job")
+    void respondsToPostWith202AndUrlsOfJob() throws Exception {
+      // Arrange
+      when(controller.pause(any(PauseRequest.class), any(), any()))
+          .thenReturn(new PauseDurationDto(1000L, 6000L));
+      start(builder());
+
+      // Act
+      HttpResponse<String> response = send(post("/v1/jobs", pauseBody(NAMESPACE)));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(202);
+      JsonNode body = mapper.readTree(response.body());
+      String id = body.get("job_id").asText();
+      assertThat(body.get("status_url").asText()).isEqualTo("/v1/jobs/" + id);
+      assertThat(body.get("events_url").asText()).isEqualTo("/v1/jobs/" + id + "/events");
+    }
+
+    @Test
+    @DisplayName("responds to GET /v1/jobs/{id} with the status of the job")
+    void respondsWithStatusOfJob() throws Exception {
+      // Arrange
+      start(builder());
+      String id = submitJob();
+
+      // Act
+      HttpResponse<String> response = send(get("/v1/jobs/" + id));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      JsonNode body = mapper.readTree(response.body());
+      assertThat(body.get("job_id").asText()).isEqualTo(id);
+      assertThat(body.get("namespace").asText()).isEqualTo(NAMESPACE);
+    }
+
+    @Test
+    @DisplayName("streams the events as newline-delimited JSON until the job is done")
+    void streamsEventsAsNewlineDelimitedJson() throws Exception {
+      // Arrange
+      start(builder());
+      String id = submitJob();
+
+      // Act
+      HttpResponse<String> response = send(get("/v1/jobs/" + id + "/events"));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      assertThat(response.headers().firstValue("Content-Type")).hasValue("application/x-ndjson");
+      assertThat(response.body()).endsWith("\n");
+      List<String> lines = response.body().lines().toList();
+      assertThat(lines).hasSize(3);
+      for (int i = 0; i < lines.size(); i++) {
+        JsonNode event = mapper.readTree(lines.get(i));
+        assertThat(event.get("sequence").asInt()).isEqualTo(i);
+        assertThat(event.get("type").asText()).isEqualTo("state");
+      }
+      assertThat(mapper.readTree(lines.get(0)).get("state").asText()).isEqualTo("PENDING");
+      assertThat(mapper.readTree(lines.get(2)).get("state").asText()).isEqualTo("SUCCEEDED");
+    }
+
+    @Test
+    @DisplayName("streams the events as server-sent events if the request accepts them")
+    void streamsEventsAsServerSentEvents() throws Exception {
+      // Arrange
+      start(builder());
+      String id = submitJob();
+
+      // Act
+      HttpResponse<String> response =
+          send(get("/v1/jobs/" + id + "/events").header("Accept", "text/event-stream"));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+      assertThat(response.headers().firstValue("Content-Type")).hasValue("text/event-stream");
+      assertThat(response.body()).endsWith("\n\n");
+      List<String> events = List.of(response.body().split("\n\n"));
+      assertThat(events).hasSize(3);
+      for (int i = 0; i < events.size(); i++) {
+        List<String> fields = events.get(i).lines().toList();
+        assertThat(fields).hasSize(3);
+        assertThat(fields.get(0)).isEqualTo("id: " + i);
+        assertThat(fields.get(1)).isEqualTo("event: state");
+        assertThat(fields.get(2)).startsWith("data: ");
+        JsonNode data = mapper.readTree(fields.get(2).substring("data: ".length()));
+        assertThat(data.get("sequence").asInt()).isEqualTo(i);
+      }
+    }
+
+    @Test
+    @DisplayName("responds with 404 to an unknown job")
+    void respondsWith404ToUnknownJob() throws Exception {
+      // Arrange
+      start(builder());
+
+      // Act
+      HttpResponse<String> status = send(get("/v1/jobs/unknown"));
+      HttpResponse<String> events = send(get("/v1/jobs/unknown/events"));
+
+      // Assert
+      assertThat(status.statusCode()).isEqualTo(404);
+      assertThat(events.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("responds with 404 to an ID that contains a slash")
+    void respondsWith404ToIdWithSlash() throws Exception {
+      // Arrange
+      start(builder());
+      String id = submitJob();
+
+      // Act
+      HttpResponse<String> status = send(get("/v1/jobs/" + id + "/extra"));
+      HttpResponse<String> events = send(get("/v1/jobs/extra/" + id + "/events"));
+
+      // Assert
+      assertThat(status.statusCode()).isEqualTo(404);
+      assertThat(events.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("responds with 405 to a method that the path doesn't take")
+    void respondsWith405ToOtherMethod() throws Exception {
+      // Arrange
+      start(builder());
+      String id = submitJob();
+
+      // Act
+      HttpResponse<String> list = send(get("/v1/jobs"));
+      HttpResponse<String> job = send(post("/v1/jobs/" + id, ""));
+
+      // Assert
+      assertThat(list.statusCode()).isEqualTo(405);
+      assertThat(job.statusCode()).isEqualTo(405);
+    }
+
+    @Test
+    @DisplayName("responds with 503 to a request that arrives while the server is stopping")
+    void respondsWith503WhileServerIsStopping() throws Exception {
+      // Arrange
+      CountDownLatch paused = new CountDownLatch(1);
+      CountDownLatch unpause = new CountDownLatch(1);
+      when(controller.pause(any(PauseRequest.class), any(), any()))
+          .thenAnswer(
+              invocation -> {
+                paused.countDown();
+                unpause.await();
+                return new PauseDurationDto(1000L, 6000L);
+              });
+      start(builder());
+      assertThat(send(post("/v1/jobs", pauseBody(NAMESPACE))).statusCode()).isEqualTo(202);
+      assertThat(paused.await(10, TimeUnit.SECONDS)).isTrue();
+      // The server keeps serving requests while it waits for the job in progress.
+      CompletableFuture<Void> stopped =
+          CompletableFuture.runAsync(() -> server.stop(Duration.ofSeconds(10)));
+
+      // Act
+      HttpResponse<String> response;
+      try {
+        // Each request pauses another release, so that none of them conflicts with a job.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        int attempt = 0;
+        do {
+          String body =
+              String.format(
+                  "{\"namespace\": \"%s\", \"helm_release_names\": [\"release-%d\"],"
+                      + " \"pause_duration\": 1}",
+                  NAMESPACE, attempt++);
+          response = send(post("/v1/jobs", body));
+        } while (response.statusCode() == 202 && System.nanoTime() < deadline);
+      } finally {
+        unpause.countDown();
+      }
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(503);
+      assertThat(mapper.readTree(response.body()).get("error").asText())
+          .isEqualTo("The server is shutting down.");
+      stopped.get(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Nested
+  @DisplayName("authentication")
+  class Authentication {
+
+    @Test
+    @DisplayName("responds with 401 to a request without the token")
+    void respondsWith401WithoutToken() throws Exception {
+      // Arrange
+      start(builder().authToken(TOKEN));
+
+      // Act
+      HttpResponse<String> response = send(post("/v1/pause", pauseBody(NAMESPACE)));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(401);
+      assertThat(response.headers().firstValue("WWW-Authenticate"))
+          .hasValueSatisfying(value -> assertThat(value).startsWith("Bearer"));
+      verify(controller, never()).pause(any(PauseRequest.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("responds with 401 to a request with a wrong token")
+    void respondsWith401WithWrongToken() throws Exception {
+      // Arrange
+      start(builder().authToken(TOKEN));
+
+      // Act
+      HttpResponse<String> response =
+          send(post("/v1/jobs", pauseBody(NAMESPACE)).header("Authorization", "Bearer wrong"));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("accepts a request with the token")
+    void acceptsRequestWithToken() throws Exception {
+      // Arrange
+      when(controller.pause(any(PauseRequest.class), any(), any()))
+          .thenReturn(new PauseDurationDto(1000L, 6000L));
+      start(builder().authToken(TOKEN));
+
+      // Act
+      HttpResponse<String> response =
+          send(post("/v1/pause", pauseBody(NAMESPACE)).header("Authorization", "Bearer " + TOKEN));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("doesn't require the token for the health check")
+    void doesNotRequireTokenForHealthCheck() throws Exception {
+      // Arrange
+      start(builder().authToken(TOKEN));
+
+      // Act
+      HttpResponse<String> response = send(get("/v1/health"));
+
+      // Assert
+      assertThat(response.statusCode()).isEqualTo(200);
+    }
+  }
+}
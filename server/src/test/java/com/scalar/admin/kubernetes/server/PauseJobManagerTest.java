@@ -0,0 +1,207 @@
+package com.scalar.admin.kubernetes.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.scalar.admin.kubernetes.application.dto.PauseDurationDto;
+import com.scalar.admin.kubernetes.domain.exception.PauserException;
+import com.scalar.admin.kubernetes.domain.service.PauseHandle;
+import com.scalar.admin.kubernetes.presentation.PauseController;
+import com.scalar.admin.kubernetes.presentation.dto.PauseRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PauseJobManagerTest {
+
+  private static final String NAMESPACE = "ns";
+
+  private final CountDownLatch unpause = new CountDownLatch(1);
+  private PauseController controller;
+  private PauseJobManager manager;
+
+  private static PauseHttpRequest request(String helmReleaseName) {
+    return new PauseHttpRequest(NAMESPACE, List.of(helmReleaseName), 1, null, false, null, null);
+  }
+
+  @BeforeEach
+  void setUp() {
+    controller = mock(PauseController.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    unpause.countDown();
+    if (manager != null) {
+      manager.shutdown(Duration.ofSeconds(10));
+    }
+  }
+
+  private void pauseUntilUnpaused() throws PauserException {
+    when(controller.pause(any(PauseRequest.class), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              unpause.await();
+              return new PauseDurationDto(1000L, 6000L);
+            });
+  }
+
+  @Nested
+  @DisplayName("submit")
+  class Submit {
+
+    @Test
+    @DisplayName("throws IllegalStateException if a release is already being paused")
+    void throwsIllegalStateExceptionIfReleaseIsBeingPaused() throws PauserException {
+      // Arrange
+      pauseUntilUnpaused();
+      manager = new PauseJobManager(() -> controller, 10);
+      manager.submit(request("scalardl-ledger"));
+
+      // Act & Assert
+      assertThatThrownBy(() -> manager.submit(request("scalardl-ledger")))
+          .isInstanceOf(IllegalStateException.class)
+          .hasMessage("Some of the Helm releases are already being paused.");
+    }
+
+    @Test
+    @DisplayName("accepts a job for another release while a release is being paused")
+    void acceptsJobForAnotherRelease() throws PauserException {
+      // Arrange
+      pauseUntilUnpaused();
+      manager = new PauseJobManager(() -> controller, 10);
+      manager.submit(request("scalardl-ledger"));
+
+      // Act
+      PauseJob job = manager.submit(request("scalardl-auditor"));
+
+      // Assert
+      assertThat(manager.get(job.id())).contains(job);
+    }
+
+    @Test
+    @DisplayName("accepts the same release again as soon as the job is seen done")
+    void acceptsSameReleaseAgainOnceJobIsDone() throws Exception {
+      // Arrange
+      unpause.countDown();
+      pauseUntilUnpaused();
+      manager = new PauseJobManager(() -> controller, 10);
+      PauseJob first = manager.submit(request("scalardl-ledger"));
+      first.awaitDone();
+
+      // Act
+      PauseJob second = manager.submit(request("scalardl-ledger"));
+
+      // Assert
+      second.awaitDone();
+      assertThat(second.result()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("throws IllegalArgumentException if the request is invalid")
+    void throwsIllegalArgumentExceptionIfRequestIsInvalid() {
+      // Arrange
+      manager = new PauseJobManager(() -> controller, 10);
+
+      // Act & Assert
+      assertThatThrownBy(
+              () ->
+                  manager.submit(
+                      new PauseHttpRequest(NAMESPACE, List.of(), 1, null, false, null, null)))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("helmReleaseNames is required");
+    }
+  }
+
+  @Nested
+  @DisplayName("get")
+  class Get {
+
+    @Test
+    @DisplayName("evicts the oldest finished jobs beyond the max")
+    void evictsOldestFinishedJobsBeyondMax() throws Exception {
+      // Arrange
+      unpause.countDown();
+      pauseUntilUnpaused();
+      manager = new PauseJobManager(() -> controller, 1);
+      PauseJob first = manager.submit(request("scalardl-ledger"));
+      first.awaitDone();
+      PauseJob second = manager.submit(request("scalardl-auditor"));
+      second.awaitDone();
+
+      // Act & Assert
+      assertThat(manager.get(first.id())).isEmpty();
+      assertThat(manager.get(second.id())).contains(second);
+    }
+
+    @Test
+    @DisplayName("keeps the jobs in progress regardless of the max")
+    void keepsJobsInProgress() throws PauserException {
+      // Arrange
+      pauseUntilUnpaused();
+      manager = new PauseJobManager(() -> controller, 0);
+      PauseJob first = manager.submit(request("scalardl-ledger"));
+      PauseJob second = manager.submit(request("scalardl-auditor"));
+
+      // Act & Assert
+      assertThat(manager.get(first.id())).contains(first);
+      assertThat(manager.get(second.id())).contains(second);
+    }
+  }
+
+  @Nested
+  @DisplayName("shutdown")
+  class Shutdown {
+
+    @Test
+    @DisplayName("cancels the jobs still in progress after the grace period")
+    void cancelsJobsInProgressAfterGracePeriod() throws Exception {
+      // Arrange
+      CountDownLatch started = new CountDownLatch(1);
+      when(controller.pause(any(PauseRequest.class), any(), any()))
+          .thenAnswer(
+              invocation -> {
+                PauseHandle handle = invocation.getArgument(2);
+                started.countDown();
+                while (!handle.isCancelled()) {
+                  TimeUnit.MILLISECONDS.sleep(10);
+                }
+                throw new PauserException("The pause was cut short.");
+              });
+      manager = new PauseJobManager(() -> controller, 10);
+      PauseJob job = manager.submit(request("scalardl-ledger"));
+      assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+      // Act
+      manager.shutdown(Duration.ofMillis(100));
+
+      // Assert
+      assertThat(job.handle().isCancelled()).isTrue();
+      assertThat(job.isDone()).isTrue();
+      assertThat(job.error()).isEqualTo("The pause was cut short.");
+    }
+
+    @Test
+    @DisplayName("rejects the jobs submitted after the shutdown")
+    void rejectsJobsAfterShutdown() {
+      // Arrange
+      manager = new PauseJobManager(() -> controller, 10);
+      manager.shutdown(Duration.ZERO);
+
+      // Act & Assert
+      assertThatThrownBy(() -> manager.submit(request("scalardl-ledger")))
+          .isInstanceOf(RejectedExecutionException.class)
+          .hasMessage("The server is shutting down.");
+    }
+  }
+}